@@ -82,6 +82,7 @@ public class SecurityConfig {
                 "/api/branches/**",
                 "/api/RecentProjects",
                 "/api/popularSkills",
+                "/api/trendingSkills",
                 "/api/graduation-years",
                 "/api/predefined-skills/**",
                 "/public/**"
@@ -128,6 +129,12 @@ public class SecurityConfig {
                                 "/images/**"
                         ).permitAll()
 
+                        // Actuator
+                        .requestMatchers("/actuator/health")
+                        .permitAll()
+                        .requestMatchers("/actuator/**")
+                        .hasRole("ADMIN")
+
                         // Admin
                         .requestMatchers("/api/admin/**")
                         .hasRole("ADMIN")
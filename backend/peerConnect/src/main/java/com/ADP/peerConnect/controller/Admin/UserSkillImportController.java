@@ -0,0 +1,53 @@
+package com.ADP.peerConnect.controller.Admin;
+
+import com.ADP.peerConnect.model.dto.response.ApiResponse;
+import com.ADP.peerConnect.model.dto.response.UserSkillImportResponse;
+import com.ADP.peerConnect.service.Interface.iUserSkillImportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.InputStream;
+
+/**
+ * Bulk onboarding of user skills. The request body is the import file itself and is
+ * streamed, so cohort-sized files are never held in memory or limited by multipart settings.
+ */
+@RestController
+@RequestMapping("/api/admin/user-skills")
+@PreAuthorize("hasRole('ADMIN')")
+@Tag(name = "User Skill Import", description = "Bulk user skill import APIs")
+public class UserSkillImportController {
+
+    @Autowired
+    private iUserSkillImportService userSkillImportService;
+
+    @PostMapping(value = "/import", consumes = "text/csv")
+    @Operation(summary = "Import user skills from CSV",
+            description = "Header row with user (id or email), skill, level and optional experience, category columns")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Import finished"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "Unreadable file or header")
+    })
+    public ResponseEntity<ApiResponse<UserSkillImportResponse>> importCsv(InputStream body) {
+        return ResponseEntity.ok(ApiResponse.success("Import finished", userSkillImportService.importCsv(body)));
+    }
+
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Import user skills from JSON",
+            description = "JSON array of {user, skill, level, experience, category} objects")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Import finished"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "Unreadable file")
+    })
+    public ResponseEntity<ApiResponse<UserSkillImportResponse>> importJson(InputStream body) {
+        return ResponseEntity.ok(ApiResponse.success("Import finished", userSkillImportService.importJson(body)));
+    }
+}
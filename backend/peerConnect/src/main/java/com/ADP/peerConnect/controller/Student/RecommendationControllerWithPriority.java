@@ -1,6 +1,7 @@
 package com.ADP.peerConnect.controller.Student;
 
 import com.ADP.peerConnect.model.dto.response.RecommendationResponseWithPriority;
+import com.ADP.peerConnect.model.dto.response.VectorMatchResponse;
 import com.ADP.peerConnect.model.entity.UserRecommendedProject;
 import com.ADP.peerConnect.service.Interface.RecommendationServiceWithPriority;
 import jakarta.validation.constraints.Max;
@@ -41,9 +42,29 @@ public class RecommendationControllerWithPriority {
     public ResponseEntity<RecommendationResponseWithPriority> getTopRecommendations(
             @PathVariable String userId,
             @RequestParam(defaultValue = "10") @Min(1) @Max(100) int limit) {
-        List<UserRecommendedProject> recommendations = recommendationService.getTopRecommendations(userId, limit);
-        RecommendationResponseWithPriority response = new RecommendationResponseWithPriority(userId, recommendations);
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok(recommendationService.getTopRecommendations(userId, limit));
+    }
+
+    /**
+     * GET /api/recommendations/user/{userId}/similar-projects
+     * Projects closest to the user's profile embedding, from the in-memory vector index
+     */
+    @GetMapping("/user/{userId}/similar-projects")
+    public ResponseEntity<List<VectorMatchResponse>> getSimilarProjects(
+            @PathVariable String userId,
+            @RequestParam(defaultValue = "10") @Min(1) @Max(100) int limit) {
+        return ResponseEntity.ok(recommendationService.findSimilarProjects(userId, limit));
+    }
+
+    /**
+     * GET /api/recommendations/project/{projectId}/similar-users
+     * Users closest to the project's requirements embedding, from the in-memory vector index
+     */
+    @GetMapping("/project/{projectId}/similar-users")
+    public ResponseEntity<List<VectorMatchResponse>> getSimilarUsers(
+            @PathVariable String projectId,
+            @RequestParam(defaultValue = "10") @Min(1) @Max(100) int limit) {
+        return ResponseEntity.ok(recommendationService.findSimilarUsers(projectId, limit));
     }
 
     /**
@@ -158,6 +158,26 @@ public class SkillController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Skills commonly held by users who share the current user's skills
+     */
+    @GetMapping("/recommended")
+    @Operation(summary = "Get recommended skills", description = "People with your skills also know these skills")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Recommended skills retrieved successfully")
+    })
+    public ResponseEntity<ApiResponse<List<SkillResponse>>> getRecommendedSkills(
+            @Parameter(description = "Maximum recommendations") @RequestParam(defaultValue = "10") int limit,
+            @Parameter(hidden = true) @AuthenticationPrincipal UserPrincipal currentUser) {
+
+        List<SkillResponse> skills = skillService.getRecommendedSkillsForUser(currentUser.getId(), Math.max(1, Math.min(limit, 50)))
+                .stream()
+                .map(SkillResponse::new)
+                .collect(Collectors.toList());
+
+        return ResponseEntity.ok(ApiResponse.success("Recommended skills retrieved successfully", skills));
+    }
+
     /**
      * Add skill to current user
      */
@@ -5,6 +5,7 @@ import com.ADP.peerConnect.model.dto.response.ApiResponse;
 import com.ADP.peerConnect.model.dto.response.PagedResponse;
 import com.ADP.peerConnect.model.dto.response.Project.ProjectInvitationResponse;
 import com.ADP.peerConnect.model.dto.response.Project.ProjectMemberResponse;
+import com.ADP.peerConnect.model.dto.response.TeammateMatchResponse;
 import com.ADP.peerConnect.model.dto.response.UserResponse;
 import com.ADP.peerConnect.model.entity.ProjectInvitation;
 import com.ADP.peerConnect.model.entity.ProjectMember;
@@ -179,6 +180,21 @@ public class TeamController {
                 return ResponseEntity.ok(response);
         }
 
+        @GetMapping("/projects/{projectId}/teammates")
+        @Operation(summary = "Suggest teammates", description = "Rank students by how well they cover the project's missing skills")
+        public ResponseEntity<ApiResponse<List<TeammateMatchResponse>>> suggestTeammates(
+                        @Parameter(description = "Project ID") @PathVariable String projectId,
+                        @Parameter(description = "Number of suggestions") @RequestParam(defaultValue = "10") int limit,
+                        @Parameter(hidden = true) @AuthenticationPrincipal UserPrincipal currentUser) {
+                List<TeammateMatchResponse> matches = teamService.findComplementaryTeammates(projectId,
+                                currentUser.getId(), Math.max(1, Math.min(limit, 50)));
+
+                ApiResponse<List<TeammateMatchResponse>> response = ApiResponse.success(
+                                "Teammates suggested successfully", matches);
+
+                return ResponseEntity.ok(response);
+        }
+
         @DeleteMapping("/projects/{projectId}/members/{memberId}")
         @Operation(summary = "Remove project member", description = "Remove member from project (Lead only)")
         @ApiResponses(value = {
@@ -1,6 +1,7 @@
 package com.ADP.peerConnect.controller.Student;
 
 import com.ADP.peerConnect.model.dto.response.ApiResponse;
+import com.ADP.peerConnect.model.dto.response.CursorPagedResponse;
 import com.ADP.peerConnect.model.dto.response.PagedResponse;
 import com.ADP.peerConnect.model.dto.response.UserCardResponse;
 import com.ADP.peerConnect.model.dto.response.UserResponse;
@@ -61,16 +62,8 @@ public class UserDiscovey {
                                 : Sort.by(sortBy).ascending();
                 Pageable pageable = PageRequest.of(page, size, sort);
 
-                Page<User> users = userService.searchUsers(name, branch, graduationYear,
-                                availabilityStatus, skills, pageable);
-
-                List<UserCardResponse> userResponses = users.getContent().stream()
-                                .map(UserCardResponse::new)
-                                .collect(Collectors.toList());
-
-                PagedResponse<UserCardResponse> pagedResponse = new PagedResponse<>(
-                                userResponses, users.getNumber(), users.getSize(),
-                                users.getTotalElements(), users.getTotalPages());
+                PagedResponse<UserCardResponse> pagedResponse = userService.searchUserCards(name, branch,
+                                graduationYear, availabilityStatus, skills, pageable);
 
                 ApiResponse<PagedResponse<UserCardResponse>> response = ApiResponse.success(
                                 "Users retrieved successfully", pagedResponse);
@@ -78,6 +71,33 @@ public class UserDiscovey {
                 return ResponseEntity.ok(response);
         }
 
+        /**
+         * Ranked search with cursor pagination
+         */
+        @GetMapping("/search/students/ranked")
+        @Operation(summary = "Ranked user search", description = "Fuzzy name search ranked by relevance, with filters and cursor pagination")
+        @ApiResponses(value = {
+                        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Users retrieved successfully")
+        })
+        public ResponseEntity<ApiResponse<CursorPagedResponse<UserCardResponse>>> searchUsersRanked(
+                        @Parameter(description = "Search by name") @RequestParam(required = false) String name,
+                        @Parameter(description = "Filter by branch") @RequestParam(required = false) String branch,
+                        @Parameter(description = "Filter by graduation year") @RequestParam(required = false) Integer graduationYear,
+                        @Parameter(description = "Filter by availability status") @RequestParam(required = false) AvailabilityStatus availabilityStatus,
+                        @Parameter(description = "Filter by skills (comma-separated)") @RequestParam(required = false) List<String> skills,
+                        @Parameter(description = "Cursor returned by the previous page") @RequestParam(required = false) String cursor,
+                        @Parameter(description = "Page size") @RequestParam(defaultValue = "10") int size) {
+
+                int limit = Math.max(1, Math.min(size, 100));
+                CursorPagedResponse<UserCardResponse> page = userService.searchUsersRanked(name, branch,
+                                graduationYear, availabilityStatus, skills, cursor, limit);
+
+                ApiResponse<CursorPagedResponse<UserCardResponse>> response = ApiResponse.success(
+                                "Users retrieved successfully", page);
+
+                return ResponseEntity.ok(response);
+        }
+
         @GetMapping("/all")
         @Operation(summary = "Get all users", description = "Get all users with pagination")
         @ApiResponses(value = {
@@ -93,15 +113,8 @@ public class UserDiscovey {
                                 : Sort.by(sortBy).ascending();
                 Pageable pageable = PageRequest.of(page, size, sort);
 
-                Page<User> users = userService.findAll(pageable);
-
-                List<UserCardResponse> userResponses = users.getContent().stream()
-                                .map(UserCardResponse::new)
-                                .collect(Collectors.toList());
-
-                PagedResponse<UserCardResponse> pagedResponse = new PagedResponse<>(
-                                userResponses, users.getNumber(), users.getSize(),
-                                users.getTotalElements(), users.getTotalPages());
+                PagedResponse<UserCardResponse> pagedResponse = userService.searchUserCards(null, null,
+                                null, null, null, pageable);
 
                 ApiResponse<PagedResponse<UserCardResponse>> response = ApiResponse.success(
                                 "Users retrieved successfully", pagedResponse);
@@ -18,6 +18,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 @RestController
@@ -41,6 +42,43 @@ public class skillDiscovery {
                 .collect(Collectors.toList());
         return ResponseEntity.ok(skillResponses);
     }
+    /**
+     * Autocomplete skill names from the in-memory skill trie
+     */
+    @GetMapping("/autocomplete")
+    @Operation(summary = "Autocomplete skills", description = "Skills whose name or one of its words starts with the prefix, most used first")
+    public ResponseEntity<ApiResponse<List<SkillResponse>>> autocomplete(
+            @Parameter(description = "Name prefix") @RequestParam String prefix,
+            @Parameter(description = "Maximum suggestions") @RequestParam(defaultValue = "10") int limit) {
+        List<SkillResponse> suggestions = skillService.autocomplete(prefix, Math.max(1, Math.min(limit, 50))).stream()
+                .map(SkillResponse::new)
+                .collect(Collectors.toList());
+        return ResponseEntity.ok(ApiResponse.success("Skills retrieved successfully", suggestions));
+    }
+
+    /**
+     * Skills that appear together with the given ones, among users or among projects
+     */
+    @GetMapping("/related")
+    @Operation(summary = "Related skills", description = "People with these skills also know / projects with these skills also need")
+    public ResponseEntity<ApiResponse<List<SkillResponse>>> related(
+            @Parameter(description = "Skill names") @RequestParam List<String> skills,
+            @Parameter(description = "users or projects") @RequestParam(defaultValue = "users") String source,
+            @Parameter(description = "Maximum suggestions") @RequestParam(defaultValue = "10") int limit) {
+        List<Long> skillIds = skills.stream()
+                .map(skillService::findIdByName)
+                .flatMap(Optional::stream)
+                .toList();
+        Pageable pageable = PageRequest.of(0, Math.max(1, Math.min(limit, 50)));
+        List<Skill> related = "projects".equalsIgnoreCase(source)
+                ? skillService.getComplementarySkillsForProject(skillIds, pageable)
+                : skillService.getRecommendedSkillsForUser(skillIds, pageable);
+        List<SkillResponse> responses = related.stream()
+                .map(SkillResponse::new)
+                .collect(Collectors.toList());
+        return ResponseEntity.ok(ApiResponse.success("Skills retrieved successfully", responses));
+    }
+
     /**
      * Search skills by name
      */
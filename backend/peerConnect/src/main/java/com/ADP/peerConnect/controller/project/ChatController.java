@@ -31,11 +31,16 @@ import java.util.stream.Collectors;
 @Tag(name = "Chat Management", description = "Chat and messaging APIs")
 public class ChatController {
 
+    // Method-level rules replace the class-level one, so the role check is repeated here
+    private static final String PROJECT_MEMBER =
+            "hasRole('STUDENT') and @projectAccess.isLeadOrMember(#projectId, principal.id)";
+
     @Autowired
     private iChatService chatService;
 
 
     @PostMapping("/projects/{projectId}/messages")
+    @PreAuthorize(PROJECT_MEMBER)
     public ResponseEntity<ApiResponse<ChatMessageResponse>> sendMessage(
             @PathVariable String projectId,
             @Valid @RequestBody SendMessageRequest messageRequest,
@@ -57,6 +62,7 @@ public class ChatController {
 
 
     @GetMapping("/projects/{projectId}/messages")
+    @PreAuthorize(PROJECT_MEMBER)
     public ResponseEntity<ApiResponse<PagedResponse<ChatMessageResponse>>> getProjectMessages(
             @PathVariable String projectId,
             @RequestParam(defaultValue = "0") int page,
@@ -88,6 +94,7 @@ public class ChatController {
 
 
     @GetMapping("/projects/{projectId}/messages/recent")
+    @PreAuthorize(PROJECT_MEMBER)
     public ResponseEntity<ApiResponse<List<ChatMessageResponse>>> getRecentMessages(
             @PathVariable String projectId,
             @AuthenticationPrincipal UserPrincipal currentUser) {
@@ -105,6 +112,7 @@ public class ChatController {
     }
 
     @GetMapping("/projects/{projectId}/messages/after")
+    @PreAuthorize(PROJECT_MEMBER)
     public ResponseEntity<ApiResponse<List<ChatMessageResponse>>> getMessagesAfter(
             @PathVariable String projectId,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime after,
@@ -6,6 +6,7 @@ import com.ADP.peerConnect.model.dto.response.Project.*;
 import com.ADP.peerConnect.model.entity.*;
 import com.ADP.peerConnect.model.entity.Project;
 import com.ADP.peerConnect.security.UserPrincipal;
+import com.ADP.peerConnect.service.Interface.iCandidateRecommendationService;
 import com.ADP.peerConnect.service.Interface.iProjectCategoryService;
 import com.ADP.peerConnect.service.Interface.iProjectInvitationService;
 import com.ADP.peerConnect.service.Interface.iProjectService;
@@ -44,6 +45,9 @@ public class ProjectController {
     @Autowired
     private iProjectCategoryService projectCategoryService;
 
+    @Autowired
+    private iCandidateRecommendationService candidateRecommendationService;
+
     public static final String DEFAULT_SIZE_STR = "20";
     public static final String DEFAULT_PAGE_NUMBER_STR = "0";
 
@@ -70,9 +74,9 @@ public class ProjectController {
             @PathVariable String projectId,
             @Parameter(hidden = true) @AuthenticationPrincipal UserPrincipal currentUser) {
         try {
-            Project project = projectService.findById(projectId);
+            ProjectResponse project = projectService.getProjectDetail(projectId);
             return ResponseEntity.ok(
-                    new ApiResponse(true, "Project retrieved successfully", new ProjectResponse(project))
+                    new ApiResponse(true, "Project retrieved successfully", project)
             );
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(new ApiResponse(false, e.getMessage()));
@@ -174,6 +178,26 @@ public class ProjectController {
         }
     }
 
+    // ===== CANDIDATE RECOMMENDATION ENDPOINTS =====
+
+    @Operation(summary = "Get recommended candidates",
+            description = "Ranked users to invite, excluding members and pending invitees. (Project Lead only)")
+    @GetMapping("/{projectId}/candidates")
+    public ResponseEntity<ApiResponse> getRecommendedCandidates(
+            @PathVariable String projectId,
+            @Parameter(description = "Cursor returned by the previous page") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size") @RequestParam(defaultValue = "10") int size,
+            @Parameter(hidden = true) @AuthenticationPrincipal UserPrincipal currentUser) {
+        try {
+            int limit = Math.max(1, Math.min(size, 100));
+            CursorPagedResponse<RecommendedCandidateResponse> page = candidateRecommendationService.getCandidates(
+                    projectId, currentUser.getId(), cursor, limit);
+            return ResponseEntity.ok(new ApiResponse(true, "Candidates retrieved successfully", page));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(new ApiResponse(false, e.getMessage()));
+        }
+    }
+
     // ===== TASK MANAGEMENT ENDPOINTS =====
 
     @Operation(summary = "Create task")
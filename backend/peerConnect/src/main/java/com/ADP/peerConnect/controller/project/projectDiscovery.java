@@ -2,6 +2,7 @@ package com.ADP.peerConnect.controller.project;
 
 import com.ADP.peerConnect.model.dto.response.PagedResponse;
 import com.ADP.peerConnect.model.dto.response.Project.ProjectCardResponse;
+import com.ADP.peerConnect.model.dto.response.Project.ProjectFacetedSearchResponse;
 import com.ADP.peerConnect.model.enums.ProjectStatus;
 import com.ADP.peerConnect.security.UserPrincipal;
 import com.ADP.peerConnect.service.Interface.iProjectService;
@@ -106,4 +107,23 @@ public class projectDiscovery {
         );
         return ResponseEntity.ok(response);
     }
-}
\ No newline at end of file
+
+    @Operation(summary = "Search projects with facet counts",
+            description = "Same filters as searchProjects; also returns the number of matching projects per skill, category and status")
+    @GetMapping("/searchProjects/facets")
+    public ResponseEntity<ProjectFacetedSearchResponse> searchProjectsWithFacets(
+            @Parameter(description = "Search query") @RequestParam(required = false) String query,
+            @Parameter(description = "Category filter") @RequestParam(required = false) String category,
+            @Parameter(description = "Status filter") @RequestParam(required = false) ProjectStatus status,
+            @Parameter(description = "Skills filter") @RequestParam(required = false) List<String> skills,
+            @Parameter(description = "Available only") @RequestParam(defaultValue = "false") boolean availableOnly,
+            @Parameter(description = "Page number") @RequestParam(defaultValue = DEFAULT_PAGE_NUMBER_STR) int page,
+            @Parameter(description = "Page size") @RequestParam(defaultValue = DEFAULT_SIZE_STR) int size,
+            @Parameter(hidden = true) @AuthenticationPrincipal UserPrincipal currentUser) {
+
+        Pageable pageable = PageRequest.of(page, size);
+        String currentUserId = currentUser != null ? currentUser.getId() : null;
+        return ResponseEntity.ok(projectService.searchProjectsWithFacets(
+                query, category, status, skills, availableOnly, pageable, currentUserId));
+    }
+}
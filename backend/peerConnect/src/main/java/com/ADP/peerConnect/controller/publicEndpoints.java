@@ -24,6 +24,7 @@ import org.springframework.data.domain.Sort;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.transaction.annotation.Transactional;
 import java.util.ArrayList;
@@ -126,6 +127,23 @@ public class publicEndpoints {
 
         return ResponseEntity.ok(response);
     }
+
+    @GetMapping("/trendingSkills")
+    @Operation(summary = "Get trending skills", description = "Skills most added to profiles and projects over the last days")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Trending skills retrieved successfully")
+    })
+    public ResponseEntity<ApiResponse<List<SkillResponse>>> getTrendingSkills(
+            @RequestParam(defaultValue = "7") int days,
+            @RequestParam(defaultValue = "10") int limit) {
+
+        List<SkillResponse> skillResponses = skillService.getTrendingSkills(Math.max(1, days), Math.max(1, Math.min(limit, 50)))
+                .stream()
+                .map(skill -> modelMapper.map(skill, SkillResponse.class))
+                .collect(Collectors.toList());
+
+        return ResponseEntity.ok(ApiResponse.success("Trending skills retrieved successfully", skillResponses));
+    }
     @GetMapping("/branches")
     @Operation(summary = "Get branches", description = "Get list of available academic branches")
     @ApiResponses(value = {
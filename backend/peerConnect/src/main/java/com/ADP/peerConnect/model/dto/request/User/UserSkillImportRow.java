@@ -0,0 +1,34 @@
+package com.ADP.peerConnect.model.dto.request.User;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * One row of a bulk user skill import (a CSV line or a JSON array element)
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Setter @Getter
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class UserSkillImportRow {
+
+    // user id or email
+    private String user;
+
+    private String skill;
+
+    // SkillLevel name, e.g. INTERMEDIATE
+    private String level;
+
+    private String experience;
+
+    private String category;
+
+    // CSV line number or JSON element index, for error reporting
+    @JsonIgnore
+    private long line;
+}
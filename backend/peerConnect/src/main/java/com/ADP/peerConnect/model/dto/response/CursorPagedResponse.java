@@ -0,0 +1,25 @@
+package com.ADP.peerConnect.model.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * Cursor-paginated response wrapper. Pass nextCursor back to fetch the following page;
+ * it is null on the last page.
+ */
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Setter
+@Getter
+public class CursorPagedResponse<T> {
+
+    private List<T> content;
+    private String nextCursor;
+    private boolean hasMore;
+    private int numberOfElements;
+}
@@ -0,0 +1,24 @@
+package com.ADP.peerConnect.model.dto.response.Project;
+
+import com.ADP.peerConnect.model.dto.response.PagedResponse;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.Map;
+
+/**
+ * Project search results together with facet counts (value -> number of matching projects)
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Setter
+@Getter
+public class ProjectFacetedSearchResponse {
+
+    private PagedResponse<ProjectCardResponse> results;
+    private Map<String, Integer> skillFacets;
+    private Map<String, Integer> categoryFacets;
+    private Map<String, Integer> statusFacets;
+}
@@ -2,6 +2,7 @@ package com.ADP.peerConnect.model.dto.response;
 
 import com.ADP.peerConnect.model.entity.Project;
 import com.ADP.peerConnect.model.entity.UserRecommendedProject;
+import com.ADP.peerConnect.model.enums.ProjectStatus;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -23,6 +24,18 @@ public class RecommendationResponseWithPriority {
         this.totalRecommendations = recommendations.size();
     }
 
+    /**
+     * Response from rows already projected by the query, without loading entities
+     */
+    public static RecommendationResponseWithPriority ofDetails(String userId,
+                                                               List<ProjectRecommendationDetailDTO> details) {
+        RecommendationResponseWithPriority response = new RecommendationResponseWithPriority();
+        response.userId = userId;
+        response.recommendedProjects = details;
+        response.totalRecommendations = details.size();
+        return response;
+    }
+
     public String getUserId() {
         return userId;
     }
@@ -69,6 +82,16 @@ public class RecommendationResponseWithPriority {
 //            this.recommendedAt = recommendation.getRecommendedAt();
         }
 
+        // JPQL constructor projection, see UserRecommendedProjectRepository.findTopDetailsByUserId
+        public ProjectRecommendationDetailDTO(String projectId, String title, String description,
+                                              ProjectStatus status, Integer priority) {
+            this.projectId = projectId;
+            this.title = title;
+            this.description = description;
+            this.status = status != null ? status.toString() : null;
+            this.priority = priority;
+        }
+
         public String getProjectId() {
             return projectId;
         }
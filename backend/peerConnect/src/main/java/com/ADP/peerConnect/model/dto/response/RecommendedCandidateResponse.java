@@ -0,0 +1,34 @@
+package com.ADP.peerConnect.model.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * A recommended candidate for a project, as shown to the project lead
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Setter
+@Getter
+public class RecommendedCandidateResponse {
+
+    private String userId;
+    private String firstName;
+    private String lastName;
+    private String profilePictureUrl;
+    private String branch;
+    private Double matchScore;
+    private Integer priority;
+    private List<String> missingSkills;
+
+    // JPQL constructor projection, see ProjectRecommendedCandidateRepository
+    public RecommendedCandidateResponse(String userId, String firstName, String lastName, String profilePictureUrl,
+                                        String branch, Double matchScore, Integer priority, String[] missingSkills) {
+        this(userId, firstName, lastName, profilePictureUrl, branch, matchScore, priority,
+                missingSkills == null ? List.of() : List.of(missingSkills));
+    }
+}
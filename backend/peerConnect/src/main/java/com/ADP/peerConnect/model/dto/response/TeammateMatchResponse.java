@@ -0,0 +1,28 @@
+package com.ADP.peerConnect.model.dto.response;
+
+import com.ADP.peerConnect.model.enums.AvailabilityStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * A suggested teammate and the missing project skills they would bring
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Setter
+@Getter
+public class TeammateMatchResponse {
+
+    private String userId;
+    private String firstName;
+    private String lastName;
+    private String profilePictureUrl;
+    private String branch;
+    private AvailabilityStatus availabilityStatus;
+    private double score;
+    private List<String> matchedSkills;
+}
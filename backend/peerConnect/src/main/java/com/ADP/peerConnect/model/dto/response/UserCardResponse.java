@@ -1,6 +1,9 @@
 package com.ADP.peerConnect.model.dto.response;
 
 import com.ADP.peerConnect.model.entity.User;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
 
 public class UserCardResponse {
 
@@ -10,6 +13,9 @@ public class UserCardResponse {
     private String profilePictureUrl;
     private String branch;
 
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private List<String> skills;
+
     public UserCardResponse(User user) {
         this.id = user.getId();
         this.firstName = user.getFirstName();
@@ -17,6 +23,15 @@ public class UserCardResponse {
         this.profilePictureUrl = user.getProfilePictureUrl();
         this.branch = user.getBranch();
     }
+
+    public UserCardResponse(String id, String firstName, String lastName, String profilePictureUrl, String branch) {
+        this.id = id;
+        this.firstName = firstName;
+        this.lastName = lastName;
+        this.profilePictureUrl = profilePictureUrl;
+        this.branch = branch;
+    }
+
     public String getId() {
         return id;
     }
@@ -36,4 +51,12 @@ public class UserCardResponse {
     public String getBranch() {
         return branch;
     }
-}
\ No newline at end of file
+
+    public List<String> getSkills() {
+        return skills;
+    }
+
+    public void setSkills(List<String> skills) {
+        this.skills = skills;
+    }
+}
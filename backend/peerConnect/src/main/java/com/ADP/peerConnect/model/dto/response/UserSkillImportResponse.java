@@ -0,0 +1,27 @@
+package com.ADP.peerConnect.model.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Outcome of a bulk user skill import
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Setter
+@Getter
+public class UserSkillImportResponse {
+
+    private long rowsRead;
+    private long inserted;
+    // rows for skills the user already had
+    private long skipped;
+    private long rejected;
+    // first rejected rows, with the reason
+    private List<String> errors = new ArrayList<>();
+}
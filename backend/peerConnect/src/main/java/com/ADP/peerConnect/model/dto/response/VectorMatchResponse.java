@@ -0,0 +1,19 @@
+package com.ADP.peerConnect.model.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * A project or user found by embedding similarity, with its cosine similarity (-1..1).
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Setter
+@Getter
+public class VectorMatchResponse {
+
+    private String id;
+    private double score;
+}
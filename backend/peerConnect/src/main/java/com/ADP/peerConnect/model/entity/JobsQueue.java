@@ -38,6 +38,16 @@ public class JobsQueue {
     @Column(name = "error_message")
     private String errorMessage;
 
+    // Delivery attempts so far; the job is dead-lettered as 'failed' after the configured maximum
+    @Column(name = "attempts", nullable = false)
+    private Integer attempts = 0;
+
+    @Column(name = "next_attempt_at")
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "locked_at")
+    private LocalDateTime lockedAt;
+
     @CreationTimestamp
     @Column(name = "created_at", updatable = false)
     private LocalDateTime createdAt;
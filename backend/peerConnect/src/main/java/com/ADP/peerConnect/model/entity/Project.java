@@ -12,6 +12,7 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.SQLRestriction;
 import org.hibernate.annotations.UpdateTimestamp;
 import java.time.LocalDateTime;
 import java.time.LocalDate;
@@ -29,8 +30,11 @@ import java.util.UUID;
         @Index(name = "idx_project_category", columnList = "category_id"),
         @Index(name = "idx_project_created", columnList = "created_at"),
         @Index(name = "idx_project_event", columnList = "event_id"),
-        @Index(name = "idx_project_status_created", columnList = "status, created_at")
+        @Index(name = "idx_project_status_created", columnList = "status, created_at"),
+        @Index(name = "idx_project_deleted", columnList = "is_deleted")
 })
+// Soft-deleted projects are hidden from every entity query; ProjectPurgeJob removes them later
+@SQLRestriction("is_deleted = false")
 public class Project {
 
     @Id
@@ -111,6 +115,12 @@ public class Project {
     @Column(name = "completed_tasks_count", nullable = false)
     private Integer completedTasksCount = 0;
 
+    @Column(name = "is_deleted", nullable = false)
+    private Boolean deleted = false;
+
+    @Column(name = "deleted_at")
+    private LocalDateTime deletedAt;
+
     @BatchSize(size = 25)
     @OneToMany(mappedBy = "project", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
     @JsonManagedReference
@@ -0,0 +1,50 @@
+package com.ADP.peerConnect.model.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.io.Serializable;
+
+/**
+ * A user recommended to a project lead as a possible team member.
+ * Rows are written by the embedding workers and the hybrid recommendation job; priority is
+ * the candidate's rank for the project, 1 being the best match.
+ */
+@Entity
+@NoArgsConstructor
+@AllArgsConstructor
+@Setter
+@Getter
+@Table(
+        name = "project_recommended_candidates",
+        indexes = {
+                @Index(name = "idx_candidate_project_priority", columnList = "project_id, priority")
+        }
+)
+public class ProjectRecommendedCandidate implements Serializable {
+
+    @EmbeddedId
+    private ProjectRecommendedCandidateId id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @MapsId("projectId")
+    @JoinColumn(name = "project_id")
+    private Project project;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @MapsId("userId")
+    @JoinColumn(name = "user_id")
+    private User user;
+
+    @Column(name = "match_score")
+    private Double matchScore;
+
+    @Column(name = "priority")
+    private Integer priority;
+
+    @Column(name = "missing_skills", columnDefinition = "TEXT[]")
+    private String[] missingSkills;
+}
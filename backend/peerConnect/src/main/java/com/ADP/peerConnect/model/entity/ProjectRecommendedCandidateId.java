@@ -0,0 +1,52 @@
+package com.ADP.peerConnect.model.entity;
+
+import jakarta.persistence.*;
+import java.io.Serializable;
+import java.util.Objects;
+
+@Embeddable
+public class ProjectRecommendedCandidateId implements Serializable {
+
+    @Column(name = "project_id")
+    private String projectId;
+
+    @Column(name = "user_id")
+    private String userId;
+
+    public ProjectRecommendedCandidateId() {
+    }
+
+    public ProjectRecommendedCandidateId(String projectId, String userId) {
+        this.projectId = projectId;
+        this.userId = userId;
+    }
+
+    public String getProjectId() {
+        return projectId;
+    }
+
+    public void setProjectId(String projectId) {
+        this.projectId = projectId;
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    public void setUserId(String userId) {
+        this.userId = userId;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ProjectRecommendedCandidateId that = (ProjectRecommendedCandidateId) o;
+        return Objects.equals(projectId, that.projectId) && Objects.equals(userId, that.userId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(projectId, userId);
+    }
+}
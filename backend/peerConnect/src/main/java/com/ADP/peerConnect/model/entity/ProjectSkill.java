@@ -24,7 +24,8 @@ import java.time.LocalDateTime;
 @Table(name = "project_skills", indexes = {
         @Index(name = "idx_project_skill_project", columnList = "project_id"),
         @Index(name = "idx_project_skill_skill", columnList = "skill_id"),
-        @Index(name = "idx_project_skill_required", columnList = "is_required")
+        @Index(name = "idx_project_skill_required", columnList = "is_required"),
+        @Index(name = "idx_project_skill_created", columnList = "created_at")
 }, uniqueConstraints = {
         @UniqueConstraint(name = "uk_project_skill", columnNames = { "project_id", "skill_id" })
 })
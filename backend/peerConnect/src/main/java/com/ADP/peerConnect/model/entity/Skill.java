@@ -8,12 +8,16 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
 
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
+import java.util.Set;
 @Entity
 @NoArgsConstructor
 @AllArgsConstructor
@@ -25,7 +29,8 @@ import java.util.List;
         @Index(name = "idx_skill_category", columnList = "category"),
         @Index(name = "idx_skill_predefined", columnList = "is_predefined"),
         @Index(name = "idx_skill_users_count", columnList = "users_count"),
-        @Index(name = "idx_skill_projects_count", columnList = "projects_count")
+        @Index(name = "idx_skill_projects_count", columnList = "projects_count"),
+        @Index(name = "idx_skill_updated_at", columnList = "updated_at")
 })
 public class Skill {
 
@@ -57,6 +62,13 @@ public class Skill {
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
+    /**
+     * Last write; doubles as the version other nodes poll to refresh their skill dictionary
+     */
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
     /**
      * Cached count of how many users have this skill
      * Updated when UserSkill is added/removed
@@ -94,25 +106,88 @@ public class Skill {
     public Skill(String name) {
         this(name, null, false);
     }
-    public static Long generateIdFromName(String normalizedName) {
+    /**
+     * MD5 digests reused per thread; MessageDigest.getInstance does a provider lookup on
+     * every call. digest() resets the instance, so reuse is safe.
+     */
+    private static final ThreadLocal<MessageDigest> MD5 = ThreadLocal.withInitial(() -> {
         try {
-            MessageDigest md = MessageDigest.getInstance("MD5");
-            byte[] hash = md.digest(normalizedName.getBytes(StandardCharsets.UTF_8));
-            long result = 0;
-            for (int i = 0; i < 8; i++) {
-                result = (result << 8) | (hash[i] & 0xFF);
-            }
-            return Math.abs(result);
-        } catch (Exception e) {
-            throw new RuntimeException("Failed to generate skill ID for: " + normalizedName, e);
+            return MessageDigest.getInstance("MD5");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("MD5 not available", e);
+        }
+    });
+
+    /**
+     * String.toLowerCase() uses the default locale, and only Turkish, Azerbaijani and
+     * Lithuanian lower-case ASCII letters specially ('I'). Elsewhere the ASCII fast path in
+     * normalizeName is equivalent to toLowerCase().
+     */
+    private static final boolean ASCII_LOWERCASE_SAFE =
+            !Set.of("tr", "az", "lt").contains(Locale.getDefault().getLanguage());
+
+    /**
+     * Deterministic id: first 8 bytes of MD5(normalizedName) as a non-negative long.
+     * Existing ids depend on this exact derivation; see SkillIdCompatibilityTest.
+     * The id is assigned once, from the name at creation, and stays stable across renames.
+     */
+    public static Long generateIdFromName(String normalizedName) {
+        byte[] hash = MD5.get().digest(normalizedName.getBytes(StandardCharsets.UTF_8));
+        long result = 0;
+        for (int i = 0; i < 8; i++) {
+            result = (result << 8) | (hash[i] & 0xFF);
         }
+        return Math.abs(result);
     }
 
+    /**
+     * Trim, lower-case and collapse whitespace runs to a single space, in one pass.
+     * Equivalent to {@code name.trim().toLowerCase().replaceAll("\\s+", " ")}.
+     */
     public static String normalizeName(String name) {
-        if (name == null || name.trim().isEmpty()) {
+        if (name == null) {
+            throw new IllegalArgumentException("Skill name cannot be null or empty");
+        }
+        int start = 0;
+        int end = name.length();
+        while (start < end && name.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && name.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        if (start == end) {
             throw new IllegalArgumentException("Skill name cannot be null or empty");
         }
-        return name.trim().toLowerCase().replaceAll("\\s+", " ");
+
+        StringBuilder sb = new StringBuilder(end - start);
+        boolean ascii = ASCII_LOWERCASE_SAFE;
+        boolean pendingSpace = false;
+        for (int i = start; i < end; i++) {
+            char c = name.charAt(i);
+            if (isRegexWhitespace(c)) {
+                pendingSpace = true;
+                continue;
+            }
+            if (pendingSpace) {
+                sb.append(' ');
+                pendingSpace = false;
+            }
+            if (ascii && c >= 'A' && c <= 'Z') {
+                c = (char) (c + ('a' - 'A'));
+            } else if (c >= 0x80) {
+                ascii = false;
+            }
+            sb.append(c);
+        }
+        // Lower-casing never turns a non-space into whitespace or back, so lower-casing
+        // the collapsed string gives the same result as the original order of operations.
+        return ascii ? sb.toString() : sb.toString().toLowerCase();
+    }
+
+    /** The characters matched by the regex class \s (without UNICODE_CHARACTER_CLASS). */
+    private static boolean isRegexWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == 0x0B || c == '\f' || c == '\r';
     }
 
 
@@ -21,7 +21,8 @@ import java.time.LocalDateTime;
 @Table(name = "user_skills", indexes = {
         @Index(name = "idx_user_skill_user", columnList = "user_id"),
         @Index(name = "idx_user_skill_skill", columnList = "skill_id"),
-        @Index(name = "idx_user_skill_level", columnList = "level")
+        @Index(name = "idx_user_skill_level", columnList = "level"),
+        @Index(name = "idx_user_skill_created", columnList = "created_at")
 }, uniqueConstraints = {
         @UniqueConstraint(name = "uk_user_skill", columnNames = { "user_id", "skill_id" })
 })
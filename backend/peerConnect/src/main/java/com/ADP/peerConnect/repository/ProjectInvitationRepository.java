@@ -21,9 +21,14 @@ public interface ProjectInvitationRepository extends JpaRepository<ProjectInvita
         JOIN FETCH p.lead
         JOIN FETCH pi.invitedUser
         JOIN FETCH pi.invitedBy
-        WHERE pi.id = :id
+        WHERE p.deleted = false AND pi.id = :id
         """)
     Optional<ProjectInvitation> findByIdWithAssociations(@Param("id") Long id);
+
+    @Query("SELECT pi.invitedUser.id FROM ProjectInvitation pi WHERE pi.project.id = :projectId AND pi.status = :status")
+    List<String> findInvitedUserIdsByProjectIdAndStatus(@Param("projectId") String projectId,
+                                                        @Param("status") InvitationStatus status);
+
     @Query(
             value = """
             SELECT DISTINCT pi FROM ProjectInvitation pi
@@ -34,10 +39,10 @@ public interface ProjectInvitationRepository extends JpaRepository<ProjectInvita
             LEFT JOIN FETCH ps.skill
             JOIN FETCH pi.invitedUser
             JOIN FETCH pi.invitedBy
-            WHERE pi.invitedUser.id = :uid
+            WHERE p.deleted = false AND pi.invitedUser.id = :uid
             ORDER BY pi.createdAt DESC
             """,
-            countQuery = "SELECT COUNT(pi) FROM ProjectInvitation pi WHERE pi.invitedUser.id = :uid"
+            countQuery = "SELECT COUNT(pi) FROM ProjectInvitation pi WHERE pi.project.deleted = false AND pi.invitedUser.id = :uid"
     )
     Page<ProjectInvitation> findByInvitedUserIdWithAssociations(
             @Param("uid") String uid,
@@ -56,12 +61,12 @@ public interface ProjectInvitationRepository extends JpaRepository<ProjectInvita
             LEFT JOIN FETCH ps.skill
             JOIN FETCH pi.invitedUser
             JOIN FETCH pi.invitedBy
-            WHERE pi.invitedUser.id = :uid AND pi.status = :status
+            WHERE p.deleted = false AND pi.invitedUser.id = :uid AND pi.status = :status
             ORDER BY pi.createdAt DESC
             """,
             countQuery = """
             SELECT COUNT(pi) FROM ProjectInvitation pi
-            WHERE pi.invitedUser.id = :uid AND pi.status = :status
+            WHERE pi.project.deleted = false AND pi.invitedUser.id = :uid AND pi.status = :status
             """
     )
     Page<ProjectInvitation> findByInvitedUserIdAndStatusWithAssociations(
@@ -78,12 +83,12 @@ public interface ProjectInvitationRepository extends JpaRepository<ProjectInvita
             LEFT JOIN FETCH ps.skill
             JOIN FETCH pi.invitedUser
             JOIN FETCH pi.invitedBy
-            WHERE pi.project.id = :projectId
+            WHERE p.deleted = false AND pi.project.id = :projectId
             ORDER BY pi.createdAt DESC
             """,
             countQuery = """
             SELECT COUNT(pi) FROM ProjectInvitation pi
-            WHERE pi.project.id = :projectId
+            WHERE pi.project.deleted = false AND pi.project.id = :projectId
             """
     )
     Page<ProjectInvitation> findByProjectIdWithAssociations(
@@ -93,12 +98,13 @@ public interface ProjectInvitationRepository extends JpaRepository<ProjectInvita
     boolean existsByProjectIdAndInvitedUserIdAndStatus(
             String projectId, String invitedUserId, InvitationStatus status);
 
-    Page<ProjectInvitation> findByInvitedUserIdAndStatusOrderByCreatedAtDesc(
+    // ProjectDeletedFalse: @SQLRestriction on Project does not reach the pi.project association
+    Page<ProjectInvitation> findByInvitedUserIdAndStatusAndProjectDeletedFalseOrderByCreatedAtDesc(
             String invitedUserId, InvitationStatus status, Pageable pageable);
 
-    Page<ProjectInvitation> findByProjectIdOrderByCreatedAtDesc(
+    Page<ProjectInvitation> findByProjectIdAndProjectDeletedFalseOrderByCreatedAtDesc(
             String projectId, Pageable pageable);
 
-    Page<ProjectInvitation> findByInvitedUserIdAndStatus(
+    Page<ProjectInvitation> findByInvitedUserIdAndStatusAndProjectDeletedFalse(
             String invitedUserId, InvitationStatus status, Pageable pageable);
 }
\ No newline at end of file
@@ -24,7 +24,7 @@ public interface ProjectJoinRequestRepository extends JpaRepository<ProjectJoinR
     LEFT JOIN FETCH p.projectSkills ps
     LEFT JOIN FETCH ps.skill
     JOIN FETCH r.user
-    WHERE r.project.id = :projectId
+    WHERE p.deleted = false AND r.project.id = :projectId
     ORDER BY r.createdAt DESC
     """)
     List<ProjectJoinRequest> findByProjectIdWithAssociations(
@@ -41,7 +41,7 @@ public interface ProjectJoinRequestRepository extends JpaRepository<ProjectJoinR
         LEFT JOIN FETCH p.projectSkills ps
         LEFT JOIN FETCH ps.skill
         JOIN FETCH r.user
-        WHERE r.user.id = :userId
+        WHERE p.deleted = false AND r.user.id = :userId
         ORDER BY r.createdAt DESC
         """)
     List<ProjectJoinRequest> findByUserIdWithAssociations(@Param("userId") String userId);
@@ -51,7 +51,7 @@ public interface ProjectJoinRequestRepository extends JpaRepository<ProjectJoinR
         JOIN FETCH r.project p
         JOIN FETCH p.lead
         JOIN FETCH r.user
-        WHERE r.id = :id
+        WHERE p.deleted = false AND r.id = :id
         """)
     Optional<ProjectJoinRequest> findByIdWithAssociations(@Param("id") Long id);
 
@@ -71,7 +71,7 @@ public interface ProjectJoinRequestRepository extends JpaRepository<ProjectJoinR
         LEFT JOIN FETCH p.projectSkills ps
         LEFT JOIN FETCH ps.skill
         JOIN FETCH r.user
-        WHERE r.user.id = :userId
+        WHERE p.deleted = false AND r.user.id = :userId
         ORDER BY r.createdAt DESC
         """)
     List<ProjectJoinRequest> findMyRequests(@Param("userId") String userId);
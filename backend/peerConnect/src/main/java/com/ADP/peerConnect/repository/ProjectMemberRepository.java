@@ -35,7 +35,17 @@ public interface ProjectMemberRepository extends JpaRepository<ProjectMember, Lo
     Optional<ProjectMember> findByProjectIdAndUserId(String projectId, String userId);
 
     boolean existsByProjectIdAndUserId(String projectId, String userId);
-    @Query("SELECT pm FROM ProjectMember pm WHERE pm.user.id = :userId ORDER BY pm.createdAt DESC")
+
+    @Query("SELECT pm.user.id FROM ProjectMember pm WHERE pm.project.id = :projectId")
+    List<String> findUserIdsByProjectId(@Param("projectId") String projectId);
+
+    // Facet index rows: project id, member user id
+    @Query("SELECT pm.project.id, pm.user.id FROM ProjectMember pm")
+    List<Object[]> findProjectIdAndUserIds();
+
+    // @SQLRestriction on Project does not reach pm.project, so soft-deleted projects are excluded here
+    @Query("SELECT pm FROM ProjectMember pm WHERE pm.user.id = :userId AND pm.project.deleted = false " +
+            "ORDER BY pm.createdAt DESC")
     List<ProjectMember> findByUserId(@Param("userId") String userId);
 
     long countByProjectId(String projectId);
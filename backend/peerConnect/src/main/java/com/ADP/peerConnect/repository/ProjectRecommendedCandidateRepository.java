@@ -0,0 +1,26 @@
+package com.ADP.peerConnect.repository;
+
+import com.ADP.peerConnect.model.dto.response.RecommendedCandidateResponse;
+import com.ADP.peerConnect.model.entity.ProjectRecommendedCandidate;
+import com.ADP.peerConnect.model.entity.ProjectRecommendedCandidateId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ProjectRecommendedCandidateRepository
+        extends JpaRepository<ProjectRecommendedCandidate, ProjectRecommendedCandidateId> {
+
+    /**
+     * A project's candidates with their user card columns, best rank first
+     */
+    @Query("SELECT new com.ADP.peerConnect.model.dto.response.RecommendedCandidateResponse("
+            + "u.id, u.firstName, u.lastName, u.profilePictureUrl, u.branch, c.matchScore, c.priority, c.missingSkills) "
+            + "FROM ProjectRecommendedCandidate c JOIN c.user u "
+            + "WHERE c.id.projectId = :projectId "
+            + "ORDER BY c.priority ASC, u.id ASC")
+    List<RecommendedCandidateResponse> findRankedByProjectId(@Param("projectId") String projectId);
+}
@@ -12,6 +12,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -25,6 +26,18 @@ public interface ProjectRepository extends JpaRepository<Project, String>, JpaSp
             "WHERE p.id = :id")
     Optional<Project> findByIdWithAssociations(@Param("id") String id);
 
+    @Query("SELECT p.lead.id FROM Project p WHERE p.id = :id")
+    Optional<String> findLeadIdById(@Param("id") String id);
+
+    // Which of the given ids exist, for validating bulk writes without loading entities
+    @Query("SELECT p.id FROM Project p WHERE p.id IN :ids")
+    List<String> findExistingIds(@Param("ids") Collection<String> ids);
+
+    // Facet index rows: id, category name, status, lead id, max team size, title, description
+    @Query("SELECT p.id, c.name, p.status, l.id, p.maxTeamSize, p.title, p.description " +
+            "FROM Project p LEFT JOIN p.category c LEFT JOIN p.lead l")
+    List<Object[]> findFacetRows();
+
     // Find projects by Event ID
     @Query("SELECT p FROM Project p " +
             "LEFT JOIN FETCH p.lead " +
@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -33,4 +34,17 @@ public interface ProjectSkillRepository extends JpaRepository<ProjectSkill, Long
             @Param("projectIds") List<String> projectIds
     );
 
+    @Query("SELECT ps.project.id, s.name FROM ProjectSkill ps JOIN ps.skill s")
+    List<Object[]> findProjectIdAndSkillNames();
+
+    @Query("SELECT p.id, ps.skill.id FROM ProjectSkill ps JOIN ps.project p WHERE p.deleted = false")
+    List<Object[]> findActiveProjectIdAndSkillIds();
+
+    @Query(value = """
+            SELECT skill_id, date_trunc('hour', created_at) AS hour, COUNT(*)
+            FROM project_skills
+            WHERE created_at >= :since
+            GROUP BY skill_id, hour
+            """, nativeQuery = true)
+    List<Object[]> countAdoptionsByHourSince(@Param("since") LocalDateTime since);
 }
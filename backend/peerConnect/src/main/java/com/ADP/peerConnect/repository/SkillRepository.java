@@ -9,11 +9,12 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface SkillRepository extends JpaRepository<Skill, Long> {
+public interface SkillRepository extends JpaRepository<Skill, Long>, SkillRepositoryCustom {
 
     /* ------------------------
        Basic lookups
@@ -29,6 +30,18 @@ public interface SkillRepository extends JpaRepository<Skill, Long> {
 
     boolean existsByNormalizedName(String normalizedName);
 
+    List<Skill> findByNormalizedNameIn(Collection<String> normalizedNames);
+
+
+    /* ------------------------
+       Dictionary refresh
+     ------------------------ */
+
+    @Query("SELECT MAX(s.updatedAt), COUNT(s) FROM Skill s")
+    List<Object[]> findDictionaryVersion();
+
+    List<Skill> findByUpdatedAtGreaterThanEqual(LocalDateTime since);
+
 
     /* ------------------------
        Predefined & category
@@ -64,33 +77,15 @@ public interface SkillRepository extends JpaRepository<Skill, Long> {
 
 
     /* ------------------------
-       Popular / top / trending
+       Top
      ------------------------ */
 
-    @Query("""
-        SELECT s FROM Skill s
-        JOIN s.userSkills us
-        GROUP BY s
-        ORDER BY COUNT(us) DESC
-    """)
-    Page<Skill> findPopularSkills(Pageable pageable);
-
     List<Skill> findTopByOrderByUsersCountDesc(Pageable pageable);
 
     List<Skill> findTopByOrderByProjectsCountDesc(Pageable pageable);
 
     List<Skill> findByIsPredefinedTrueOrderByUsersCountDesc(Pageable pageable);
 
-    @Query("""
-    SELECT s FROM Skill s
-    WHERE s.createdAt >= :cutoffDate
-    ORDER BY s.usersCount DESC, s.projectsCount DESC
-""")
-    List<Skill> findTrendingSkills(
-            @Param("cutoffDate") LocalDateTime cutoffDate,
-            Pageable pageable
-    );
-
 
     /* ------------------------
        Filters
@@ -103,41 +98,4 @@ public interface SkillRepository extends JpaRepository<Skill, Long> {
     List<Skill> findPopularSkillsByCategory(@Param("category") String category,
                                             @Param("minUsers") Integer minUsers);
 
-
-    /* ------------------------
-       Recommendation queries
-     ------------------------ */
-
-    @Query("""
-        SELECT s FROM Skill s 
-        WHERE s.id IN (
-            SELECT us2.skill.id FROM UserSkill us2 
-            WHERE us2.user.id IN (
-                SELECT us1.user.id FROM UserSkill us1 
-                WHERE us1.skill.id IN :skillIds
-            )
-            AND us2.skill.id NOT IN :skillIds
-            GROUP BY us2.skill.id
-            ORDER BY COUNT(us2.skill.id) DESC
-        )
-    """)
-    List<Skill> findRecommendedSkillsForUser(@Param("skillIds") List<Long> skillIds,
-                                             Pageable pageable);
-
-    @Query("""
-        SELECT s FROM Skill s 
-        WHERE s.id IN (
-            SELECT ps2.skill.id FROM ProjectSkill ps2 
-            WHERE ps2.project.id IN (
-                SELECT ps1.project.id FROM ProjectSkill ps1 
-                WHERE ps1.skill.id IN :skillIds
-            )
-            AND ps2.skill.id NOT IN :skillIds
-            GROUP BY ps2.skill.id
-            ORDER BY COUNT(ps2.skill.id) DESC
-        )
-    """)
-    List<Skill> findComplementarySkillsForProject(@Param("skillIds") List<Long> skillIds,
-                                                  Pageable pageable);
-
 }
@@ -0,0 +1,20 @@
+package com.ADP.peerConnect.repository;
+
+import com.ADP.peerConnect.model.entity.Skill;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Bulk operations on skills that Spring Data cannot derive
+ */
+public interface SkillRepositoryCustom {
+
+    /**
+     * Insert all given skills in one statement, silently skipping rows that already
+     * exist (by id, name or normalized name).
+     *
+     * @return ids of the rows actually inserted by this call
+     */
+    List<Long> insertIgnoringConflicts(Collection<Skill> skills);
+}
@@ -0,0 +1,58 @@
+package com.ADP.peerConnect.repository;
+
+import com.ADP.peerConnect.model.entity.Skill;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+public class SkillRepositoryCustomImpl implements SkillRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional
+    public List<Long> insertIgnoringConflicts(Collection<Skill> skills) {
+        if (skills.isEmpty()) {
+            return List.of();
+        }
+        StringBuilder sql = new StringBuilder(
+                "INSERT INTO skills (id, name, normalized_name, category, is_predefined, users_count, projects_count, created_at, updated_at) VALUES ");
+        int i = 0;
+        for (Skill ignored : skills) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append("(:id").append(i)
+                    .append(", :name").append(i)
+                    .append(", :norm").append(i)
+                    .append(", :cat").append(i)
+                    .append(", :pre").append(i)
+                    .append(", 0, 0, now(), now())");
+            i++;
+        }
+        sql.append(" ON CONFLICT DO NOTHING RETURNING id");
+
+        Query query = entityManager.createNativeQuery(sql.toString());
+        i = 0;
+        for (Skill skill : skills) {
+            query.setParameter("id" + i, skill.getId());
+            query.setParameter("name" + i, skill.getName());
+            query.setParameter("norm" + i, skill.getNormalizedName());
+            query.setParameter("cat" + i, skill.getCategory());
+            query.setParameter("pre" + i, Boolean.TRUE.equals(skill.getIsPredefined()));
+            i++;
+        }
+
+        List<Long> inserted = new ArrayList<>();
+        for (Object id : query.getResultList()) {
+            inserted.add(((Number) id).longValue());
+        }
+        return inserted;
+    }
+}
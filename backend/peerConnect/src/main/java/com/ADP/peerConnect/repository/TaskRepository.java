@@ -23,12 +23,13 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
             "LEFT JOIN FETCH t.assignedTo " +
             "JOIN FETCH t.createdBy " +
             "LEFT JOIN FETCH t.completedBy " +
-            "WHERE t.id = :id")
+            "WHERE p.deleted = false AND t.id = :id")
     Optional<Task> findByIdWithAssociations(@Param("id") Long id);
 
     // Step 1: paginate IDs only
-    @Query(value = "SELECT t.id FROM Task t WHERE t.project.id = :projectId ORDER BY t.createdAt ASC",
-            countQuery = "SELECT count(t) FROM Task t WHERE t.project.id = :projectId")
+    @Query(value = "SELECT t.id FROM Task t WHERE t.project.id = :projectId AND t.project.deleted = false " +
+            "ORDER BY t.createdAt ASC",
+            countQuery = "SELECT count(t) FROM Task t WHERE t.project.id = :projectId AND t.project.deleted = false")
     Page<String> findIdsByProjectId(@Param("projectId") String projectId, Pageable pageable);
 
     // Step 2: fetch full entities by IDs
@@ -38,7 +39,7 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
             "LEFT JOIN FETCH t.assignedTo " +
             "JOIN FETCH t.createdBy " +
             "LEFT JOIN FETCH t.completedBy " +
-            "WHERE t.id IN :ids " +
+            "WHERE p.deleted = false AND t.id IN :ids " +
             "ORDER BY t.createdAt ASC")
 
     List<Task> findByIdsWithAssociations(@Param("ids") List<String> ids);
@@ -48,7 +49,7 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
             "LEFT JOIN FETCH t.assignedTo " +
             "JOIN FETCH t.createdBy " +
             "LEFT JOIN FETCH t.completedBy " +
-            "WHERE t.project.id = :projectId " +
+            "WHERE p.deleted = false AND t.project.id = :projectId " +
             "ORDER BY t.createdAt ASC")
     List<Task> findByProjectIdWithAssociations(@Param("projectId") String projectId);
 
@@ -58,7 +59,7 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
             "LEFT JOIN FETCH t.assignedTo " +
             "JOIN FETCH t.createdBy " +
             "LEFT JOIN FETCH t.completedBy " +
-            "WHERE t.assignedTo.id = :assignedToId " +
+            "WHERE p.deleted = false AND t.assignedTo.id = :assignedToId " +
             "ORDER BY t.createdAt ASC")
     List<Task> findByAssignedToIdWithAssociations(@Param("assignedToId") String assignedToId);
 
@@ -68,7 +69,7 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
             "LEFT JOIN FETCH t.assignedTo " +
             "JOIN FETCH t.createdBy " +
             "LEFT JOIN FETCH t.completedBy " +
-            "WHERE t.project.id = :projectId AND t.status = :status " +
+            "WHERE p.deleted = false AND t.project.id = :projectId AND t.status = :status " +
             "ORDER BY t.createdAt ASC")
     List<Task> findByProjectIdAndStatusWithAssociations(@Param("projectId") String projectId,
                                                         @Param("status") TaskStatus status);
@@ -79,7 +80,7 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
             "LEFT JOIN FETCH t.assignedTo " +
             "JOIN FETCH t.createdBy " +
             "LEFT JOIN FETCH t.completedBy " +
-            "WHERE t.project.id = :projectId " +
+            "WHERE p.deleted = false AND t.project.id = :projectId " +
             "AND t.dueDate < CURRENT_DATE AND t.status != 'COMPLETED'")
     List<Task> findOverdueTasksByProjectWithAssociations(@Param("projectId") String projectId);
 
@@ -89,7 +90,7 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
             "LEFT JOIN FETCH t.assignedTo " +
             "JOIN FETCH t.createdBy " +
             "LEFT JOIN FETCH t.completedBy " +
-            "WHERE t.project.id = :projectId " +
+            "WHERE p.deleted = false AND t.project.id = :projectId " +
             "AND t.dueDate = CURRENT_DATE AND t.status != 'COMPLETED'")
     List<Task> findTasksDueTodayByProjectWithAssociations(@Param("projectId") String projectId);
 
@@ -99,7 +100,7 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
             "LEFT JOIN FETCH t.assignedTo " +
             "JOIN FETCH t.createdBy " +
             "LEFT JOIN FETCH t.completedBy " +
-            "WHERE t.project.id = :projectId " +
+            "WHERE p.deleted = false AND t.project.id = :projectId " +
             "AND t.dueDate BETWEEN CURRENT_DATE AND :endDate AND t.status != 'COMPLETED'")
     List<Task> findTasksDueWithinDaysWithAssociations(@Param("projectId") String projectId,
                                                       @Param("endDate") LocalDate endDate);
@@ -110,7 +111,7 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
             "LEFT JOIN FETCH t.assignedTo " +
             "JOIN FETCH t.createdBy " +
             "LEFT JOIN FETCH t.completedBy " +
-            "WHERE t.project.id = :projectId " +
+            "WHERE p.deleted = false AND t.project.id = :projectId " +
             "AND LOWER(t.title) LIKE LOWER(CONCAT('%', :query, '%')) " +
             "ORDER BY t.createdAt ASC")
     List<Task> searchTasksByTitleWithAssociations(@Param("projectId") String projectId,
@@ -122,7 +123,7 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
             "LEFT JOIN FETCH t.assignedTo " +
             "JOIN FETCH t.createdBy " +
             "LEFT JOIN FETCH t.completedBy " +
-            "WHERE t.project.id = :projectId " +
+            "WHERE p.deleted = false AND t.project.id = :projectId " +
             "AND (:status IS NULL OR t.status = :status) " +
             "AND (:priority IS NULL OR t.priority = :priority) " +
             "AND (:assignedToId IS NULL OR t.assignedTo.id = :assignedToId) " +
@@ -1,7 +1,9 @@
 package com.ADP.peerConnect.repository;
 
+import com.ADP.peerConnect.model.dto.response.RecommendationResponseWithPriority.ProjectRecommendationDetailDTO;
 import com.ADP.peerConnect.model.entity.UserRecommendedProject;
 import com.ADP.peerConnect.model.entity.UserRecommendedProjectId;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -10,7 +12,8 @@ import org.springframework.stereotype.Repository;
 import java.util.List;
 
 @Repository
-public interface UserRecommendedProjectRepository extends JpaRepository<UserRecommendedProject, UserRecommendedProjectId> {
+public interface UserRecommendedProjectRepository extends JpaRepository<UserRecommendedProject, UserRecommendedProjectId>,
+        UserRecommendedProjectRepositoryCustom {
 
     @Query("SELECT urp FROM UserRecommendedProject urp " +
             "JOIN FETCH urp.project p " +
@@ -23,6 +26,17 @@ public interface UserRecommendedProjectRepository extends JpaRepository<UserReco
             "ORDER BY urp.priority DESC")
     List<UserRecommendedProject> findByUserIdWithProjectOrderByPriorityDesc(@Param("userId") String userId);
 
+    /**
+     * First rows by priority, projected straight into response DTOs; the page size becomes
+     * the SQL LIMIT and is served by idx_user_priority
+     */
+    @Query("SELECT new com.ADP.peerConnect.model.dto.response.RecommendationResponseWithPriority$ProjectRecommendationDetailDTO("
+            + "p.id, p.title, p.description, p.status, urp.priority) "
+            + "FROM UserRecommendedProject urp JOIN urp.project p "
+            + "WHERE urp.id.userId = :userId "
+            + "ORDER BY urp.priority DESC")
+    List<ProjectRecommendationDetailDTO> findTopDetailsByUserId(@Param("userId") String userId, Pageable pageable);
+
     void deleteByUserId(String userId);
 
     void deleteByUserIdAndProjectId(String userId, String projectId);
@@ -0,0 +1,35 @@
+package com.ADP.peerConnect.repository;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Set-based writes on user_recommended_projects that Spring Data cannot derive
+ */
+public interface UserRecommendedProjectRepositoryCustom {
+
+    /**
+     * Insert a user's recommendations in one statement, leaving rows that already exist
+     * untouched.
+     *
+     * @param priorities project id -> priority
+     * @return number of rows inserted
+     */
+    int insertIgnoringExisting(String userId, Map<String, Integer> priorities);
+
+    /**
+     * Insert a user's recommendations in one statement, updating the priority of rows that
+     * already exist when it differs.
+     *
+     * @param priorities project id -> priority
+     * @return number of rows inserted or changed
+     */
+    int upsertPriorities(String userId, Map<String, Integer> priorities);
+
+    /**
+     * Delete the user's recommendations for every project not in the given set.
+     *
+     * @return number of rows deleted
+     */
+    int deleteAllExcept(String userId, Collection<String> keepProjectIds);
+}
@@ -0,0 +1,68 @@
+package com.ADP.peerConnect.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.Map;
+
+public class UserRecommendedProjectRepositoryCustomImpl implements UserRecommendedProjectRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional
+    public int insertIgnoringExisting(String userId, Map<String, Integer> priorities) {
+        return insert(userId, priorities, " ON CONFLICT (user_id, project_id) DO NOTHING");
+    }
+
+    @Override
+    @Transactional
+    public int upsertPriorities(String userId, Map<String, Integer> priorities) {
+        return insert(userId, priorities, " ON CONFLICT (user_id, project_id) DO UPDATE SET priority = EXCLUDED.priority "
+                + "WHERE user_recommended_projects.priority IS DISTINCT FROM EXCLUDED.priority");
+    }
+
+    @Override
+    @Transactional
+    public int deleteAllExcept(String userId, Collection<String> keepProjectIds) {
+        if (keepProjectIds.isEmpty()) {
+            return entityManager.createNativeQuery("DELETE FROM user_recommended_projects WHERE user_id = :userId")
+                    .setParameter("userId", userId)
+                    .executeUpdate();
+        }
+        return entityManager.createNativeQuery("DELETE FROM user_recommended_projects "
+                        + "WHERE user_id = :userId AND project_id NOT IN (:keep)")
+                .setParameter("userId", userId)
+                .setParameter("keep", keepProjectIds)
+                .executeUpdate();
+    }
+
+    private int insert(String userId, Map<String, Integer> priorities, String onConflict) {
+        if (priorities.isEmpty()) {
+            return 0;
+        }
+        StringBuilder sql = new StringBuilder(
+                "INSERT INTO user_recommended_projects (user_id, project_id, priority) VALUES ");
+        for (int i = 0; i < priorities.size(); i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append("(:userId, :project").append(i).append(", :priority").append(i).append(")");
+        }
+        sql.append(onConflict);
+
+        Query query = entityManager.createNativeQuery(sql.toString());
+        query.setParameter("userId", userId);
+        int i = 0;
+        for (Map.Entry<String, Integer> e : priorities.entrySet()) {
+            query.setParameter("project" + i, e.getKey());
+            query.setParameter("priority" + i, e.getValue());
+            i++;
+        }
+        return query.executeUpdate();
+    }
+}
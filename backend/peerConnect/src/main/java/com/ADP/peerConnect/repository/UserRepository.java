@@ -1,5 +1,6 @@
 package com.ADP.peerConnect.repository;
 
+import com.ADP.peerConnect.model.dto.response.UserCardResponse;
 import com.ADP.peerConnect.model.entity.User;
 import com.ADP.peerConnect.model.enums.AvailabilityStatus;
 import org.springframework.data.domain.Page;
@@ -9,14 +10,42 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, String> {
 
+       /**
+        * Filter shared by the user card page and count queries; same predicates as searchUsers
+        */
+       String CARD_FILTER = """
+        WHERE (:name IS NULL OR
+               LOWER(u.firstName) LIKE LOWER(CONCAT('%', :name, '%')) OR
+               LOWER(u.lastName) LIKE LOWER(CONCAT('%', :name, '%')) OR
+               LOWER(CONCAT(u.firstName, ' ', u.lastName)) LIKE LOWER(CONCAT('%', :name, '%')))
+        AND (:branch IS NULL OR u.branch = :branch)
+        AND (:graduationYear IS NULL OR u.graduationYear = :graduationYear)
+        AND (:availabilityStatus IS NULL OR u.availabilityStatus = :availabilityStatus)
+        AND (
+            :skillNames IS NULL OR EXISTS (
+                SELECT 1 FROM UserSkill us2
+                JOIN us2.skill s2
+                WHERE us2.user = u AND s2.name IN :skillNames
+            )
+        )
+        """;
+
        Optional<User> findByEmail(String email);
 
+       /**
+        * (id, lowercased email) of the users matching either an id or an email
+        */
+       @Query("SELECT u.id, LOWER(u.email) FROM User u WHERE u.id IN :ids OR LOWER(u.email) IN :emails")
+       List<Object[]> findIdAndEmailByIdInOrEmailIn(@Param("ids") Collection<String> ids,
+                                                    @Param("emails") Collection<String> emails);
+
        Optional<User> findByLinkedinId(String linkedinId);
 
        Optional<User> findByGithubId(String githubId);
@@ -112,4 +141,37 @@ public interface UserRepository extends JpaRepository<User, String> {
                @Param("availabilityStatus") AvailabilityStatus availabilityStatus,
                @Param("skillNames") List<String> skillNames,
                Pageable pageable);
-}
\ No newline at end of file
+
+       /**
+        * Rows for the in-memory people search index:
+        * id, firstName, lastName, profilePictureUrl, branch, graduationYear, availabilityStatus
+        */
+       @Query("SELECT u.id, u.firstName, u.lastName, u.profilePictureUrl, u.branch, u.graduationYear, u.availabilityStatus FROM User u")
+       List<Object[]> findSearchRows();
+
+       @Query("SELECT u.id, u.firstName, u.lastName, u.profilePictureUrl, u.branch, u.graduationYear, u.availabilityStatus FROM User u WHERE u.id IN :ids")
+       List<Object[]> findSearchRowsByIds(@Param("ids") Collection<String> ids);
+
+       /**
+        * (id, availabilityStatus) of every student, for teammate matching
+        */
+       @Query("SELECT u.id, u.availabilityStatus FROM User u WHERE u.role = com.ADP.peerConnect.model.enums.Role.STUDENT")
+       List<Object[]> findStudentAvailability();
+
+       @Query("SELECT u.id, u.availabilityStatus FROM User u WHERE u.role = com.ADP.peerConnect.model.enums.Role.STUDENT AND u.id IN :ids")
+       List<Object[]> findStudentAvailabilityByIds(@Param("ids") Collection<String> ids);
+
+       /**
+        * Page of user cards built directly from columns, without loading User entities
+        */
+       @Query(value = "SELECT new com.ADP.peerConnect.model.dto.response.UserCardResponse("
+               + "u.id, u.firstName, u.lastName, u.profilePictureUrl, u.branch) FROM User u " + CARD_FILTER,
+               countQuery = "SELECT COUNT(u) FROM User u " + CARD_FILTER)
+       Page<UserCardResponse> searchUserCards(
+               @Param("name") String name,
+               @Param("branch") String branch,
+               @Param("graduationYear") Integer graduationYear,
+               @Param("availabilityStatus") AvailabilityStatus availabilityStatus,
+               @Param("skillNames") List<String> skillNames,
+               Pageable pageable);
+}
@@ -6,6 +6,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -41,4 +43,38 @@ public interface UserSkillRepository extends JpaRepository<UserSkill, Long> {
     boolean existsByUserIdAndSkillNameIgnoreCase(@Param("userId") String userId, @Param("skillName") String skillName);
 
     long countByUserId(String userId);
+
+    boolean existsByUserIdAndSkillId(String userId, Long skillId);
+
+    @Query("SELECT us.skill.id FROM UserSkill us WHERE us.user.id = :userId")
+    List<Long> findSkillIdsByUserId(@Param("userId") String userId);
+
+    /**
+     * (userId, skillName) pairs, used to build the people search index
+     */
+    @Query("SELECT us.user.id, s.name FROM UserSkill us JOIN us.skill s")
+    List<Object[]> findUserIdAndSkillNames();
+
+    @Query("SELECT us.user.id, s.name FROM UserSkill us JOIN us.skill s WHERE us.user.id IN :userIds")
+    List<Object[]> findUserIdAndSkillNamesByUserIds(@Param("userIds") Collection<String> userIds);
+
+    /**
+     * (userId, skillId, level) triples, used to build the teammate matching index
+     */
+    @Query("SELECT us.user.id, us.skill.id, us.level FROM UserSkill us")
+    List<Object[]> findUserIdSkillIdAndLevel();
+
+    @Query("SELECT us.user.id, us.skill.id, us.level FROM UserSkill us WHERE us.user.id IN :userIds")
+    List<Object[]> findUserIdSkillIdAndLevelByUserIds(@Param("userIds") Collection<String> userIds);
+
+    /**
+     * (skillId, hour, count) of user skills added since the given time
+     */
+    @Query(value = """
+            SELECT skill_id, date_trunc('hour', created_at) AS hour, COUNT(*)
+            FROM user_skills
+            WHERE created_at >= :since
+            GROUP BY skill_id, hour
+            """, nativeQuery = true)
+    List<Object[]> countAdoptionsByHourSince(@Param("since") LocalDateTime since);
 }
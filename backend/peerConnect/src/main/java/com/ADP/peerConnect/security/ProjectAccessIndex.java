@@ -0,0 +1,242 @@
+package com.ADP.peerConnect.security;
+
+import com.ADP.peerConnect.exception.ResourceNotFoundException;
+import com.ADP.peerConnect.model.enums.InvitationStatus;
+import com.ADP.peerConnect.repository.ProjectInvitationRepository;
+import com.ADP.peerConnect.repository.ProjectMemberRepository;
+import com.ADP.peerConnect.repository.ProjectRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory index of project roles (projectId -> lead + member set + pending invitees) used
+ * for every project-scoped permission check and to keep the team out of candidate
+ * recommendations.
+ *
+ * An entry is loaded on first use with three narrow id-only queries and is then kept in
+ * sync by the membership and invitation write paths, which call {@link #memberAdded},
+ * {@link #memberRemoved}, {@link #invitationSent}, {@link #invitationClosed} and
+ * {@link #projectRemoved}. Those updates are applied after the surrounding transaction
+ * commits so a rollback never leaves a phantom member behind.
+ *
+ * Those notifications only reach this JVM. When several instances share the database the TTL
+ * is the only way a removal made on another node reaches this one, so it bounds how long a
+ * removed member keeps access here; keep it short (ttl-seconds, 120 by default). Expired
+ * entries are swept on a schedule and the index holds at most max-size projects, dropping
+ * the oldest loads first.
+ *
+ * Registered as "projectAccess" so it can be used directly in method security, e.g.
+ * {@code @PreAuthorize("@projectAccess.isLeadOrMember(#projectId, principal.id)")}.
+ */
+@Component("projectAccess")
+public class ProjectAccessIndex {
+
+    private final ProjectRepository projectRepository;
+    private final ProjectMemberRepository projectMemberRepository;
+    private final ProjectInvitationRepository projectInvitationRepository;
+    private final long ttlMillis;
+    private final int maxSize;
+
+    private final ConcurrentMap<String, Entry> entries = new ConcurrentHashMap<>();
+    // Bumped on every applied write; a load that raced with a write is not cached
+    private final AtomicLong modifications = new AtomicLong();
+
+    private final Counter hits;
+    private final Counter loads;
+
+    public ProjectAccessIndex(ProjectRepository projectRepository,
+                              ProjectMemberRepository projectMemberRepository,
+                              ProjectInvitationRepository projectInvitationRepository,
+                              MeterRegistry meterRegistry,
+                              @Value("${app.cache.project-access.ttl-seconds:120}") long ttlSeconds,
+                              @Value("${app.cache.project-access.max-size:20000}") int maxSize) {
+        this.projectRepository = projectRepository;
+        this.projectMemberRepository = projectMemberRepository;
+        this.projectInvitationRepository = projectInvitationRepository;
+        this.ttlMillis = ttlSeconds * 1000;
+        this.maxSize = maxSize;
+        this.hits = Counter.builder("peerconnect.project.access.lookups")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.loads = Counter.builder("peerconnect.project.access.lookups")
+                .tag("result", "load")
+                .register(meterRegistry);
+        meterRegistry.gauge("peerconnect.project.access.size", entries, ConcurrentMap::size);
+    }
+
+    // ===== ROLE CHECKS =====
+
+    public boolean isLead(String projectId, String userId) {
+        return userId != null && userId.equals(entry(projectId).leadId());
+    }
+
+    /**
+     * True when the user holds a membership row (the lead is not implicitly included).
+     */
+    public boolean isMember(String projectId, String userId) {
+        return userId != null && entry(projectId).memberIds().contains(userId);
+    }
+
+    public boolean isLeadOrMember(String projectId, String userId) {
+        if (userId == null) {
+            return false;
+        }
+        Entry entry = entry(projectId);
+        return userId.equals(entry.leadId()) || entry.memberIds().contains(userId);
+    }
+
+    /**
+     * True for the lead, a member or a user with a pending invitation: people a project lead
+     * should not be offered as new candidates.
+     */
+    public boolean isLeadMemberOrInvitee(String projectId, String userId) {
+        if (userId == null) {
+            return false;
+        }
+        Entry entry = entry(projectId);
+        return userId.equals(entry.leadId()) || entry.memberIds().contains(userId)
+                || entry.inviteeIds().contains(userId);
+    }
+
+    // ===== WRITE NOTIFICATIONS =====
+
+    public void memberAdded(String projectId, String userId) {
+        afterCommit(() -> entries.computeIfPresent(projectId, (id, e) -> e.withMember(userId)));
+    }
+
+    public void memberRemoved(String projectId, String userId) {
+        afterCommit(() -> entries.computeIfPresent(projectId, (id, e) -> e.withoutMember(userId)));
+    }
+
+    public void invitationSent(String projectId, String userId) {
+        afterCommit(() -> entries.computeIfPresent(projectId, (id, e) -> e.withInvitee(userId)));
+    }
+
+    /**
+     * The invitation was accepted, rejected or cancelled.
+     */
+    public void invitationClosed(String projectId, String userId) {
+        afterCommit(() -> entries.computeIfPresent(projectId, (id, e) -> e.withoutInvitee(userId)));
+    }
+
+    public void projectRemoved(String projectId) {
+        afterCommit(() -> entries.remove(projectId));
+    }
+
+    // ===== INTERNALS =====
+
+    private Entry entry(String projectId) {
+        Entry entry = entries.get(projectId);
+        if (entry != null && !entry.isExpired(ttlMillis)) {
+            hits.increment();
+            return entry;
+        }
+        loads.increment();
+        long seen = modifications.get();
+        String leadId = projectRepository.findLeadIdById(projectId)
+                .orElseThrow(() -> new ResourceNotFoundException("Project not found"));
+        Entry loaded = new Entry(leadId,
+                Set.copyOf(projectMemberRepository.findUserIdsByProjectId(projectId)),
+                Set.copyOf(projectInvitationRepository.findInvitedUserIdsByProjectIdAndStatus(
+                        projectId, InvitationStatus.PENDING)),
+                System.currentTimeMillis());
+        entries.put(projectId, loaded);
+        if (modifications.get() != seen) {
+            entries.remove(projectId, loaded);
+        }
+        if (entries.size() > maxSize) {
+            sweep();
+        }
+        return loaded;
+    }
+
+    /**
+     * Drop expired entries and, if the index is over max-size, the oldest loads down to 90%
+     * of it, so a full index does not sort on every load.
+     */
+    @Scheduled(initialDelayString = "${app.cache.project-access.sweep-interval-ms:60000}",
+            fixedDelayString = "${app.cache.project-access.sweep-interval-ms:60000}")
+    public synchronized void sweep() {
+        entries.entrySet().removeIf(e -> e.getValue().isExpired(ttlMillis));
+        if (entries.size() > maxSize) {
+            int excess = entries.size() - (maxSize - maxSize / 10);
+            entries.entrySet().stream()
+                    .sorted(Comparator.comparingLong(e -> e.getValue().loadedAt()))
+                    .limit(excess)
+                    .map(Map.Entry::getKey)
+                    .toList()
+                    .forEach(entries::remove);
+        }
+    }
+
+    private void afterCommit(Runnable change) {
+        Runnable apply = () -> {
+            modifications.incrementAndGet();
+            change.run();
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply.run();
+                }
+            });
+        } else {
+            apply.run();
+        }
+    }
+
+    private record Entry(String leadId, Set<String> memberIds, Set<String> inviteeIds, long loadedAt) {
+
+        boolean isExpired(long ttlMillis) {
+            return System.currentTimeMillis() - loadedAt > ttlMillis;
+        }
+
+        Entry withMember(String userId) {
+            return new Entry(leadId, with(memberIds, userId), inviteeIds, loadedAt);
+        }
+
+        Entry withoutMember(String userId) {
+            return new Entry(leadId, without(memberIds, userId), inviteeIds, loadedAt);
+        }
+
+        Entry withInvitee(String userId) {
+            return new Entry(leadId, memberIds, with(inviteeIds, userId), loadedAt);
+        }
+
+        Entry withoutInvitee(String userId) {
+            return new Entry(leadId, memberIds, without(inviteeIds, userId), loadedAt);
+        }
+
+        private static Set<String> with(Set<String> ids, String userId) {
+            if (ids.contains(userId)) {
+                return ids;
+            }
+            Set<String> copy = new HashSet<>(ids);
+            copy.add(userId);
+            return Set.copyOf(copy);
+        }
+
+        private static Set<String> without(Set<String> ids, String userId) {
+            if (!ids.contains(userId)) {
+                return ids;
+            }
+            Set<String> copy = new HashSet<>(ids);
+            copy.remove(userId);
+            return Set.copyOf(copy);
+        }
+    }
+}
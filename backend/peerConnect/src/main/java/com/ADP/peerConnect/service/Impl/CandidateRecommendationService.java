@@ -0,0 +1,114 @@
+package com.ADP.peerConnect.service.Impl;
+
+import com.ADP.peerConnect.exception.BadRequestException;
+import com.ADP.peerConnect.exception.UnauthorizedException;
+import com.ADP.peerConnect.model.dto.response.CursorPagedResponse;
+import com.ADP.peerConnect.model.dto.response.RecommendedCandidateResponse;
+import com.ADP.peerConnect.repository.ProjectRecommendedCandidateRepository;
+import com.ADP.peerConnect.security.ProjectAccessIndex;
+import com.ADP.peerConnect.service.Interface.iCandidateRecommendationService;
+import com.ADP.peerConnect.service.cache.CandidateRecommendationCache;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Recommended candidates for a project, shown to its lead.
+ *
+ * The ranking (project_recommended_candidates by priority, 1 = best) comes from
+ * {@link CandidateRecommendationCache}; the lead, members and users with a pending invitation
+ * are dropped on every read using {@link ProjectAccessIndex}, so an accepted or sent
+ * invitation shows up on the next page without touching the cache. Pages are keyed by a
+ * "priority|userId" cursor over the filtered ranking.
+ */
+@Service
+@Transactional(readOnly = true)
+public class CandidateRecommendationService implements iCandidateRecommendationService {
+
+    private final ProjectRecommendedCandidateRepository candidateRepository;
+    private final ProjectAccessIndex projectAccessIndex;
+    private final CandidateRecommendationCache candidateCache;
+
+    @Autowired
+    public CandidateRecommendationService(ProjectRecommendedCandidateRepository candidateRepository,
+                                          ProjectAccessIndex projectAccessIndex,
+                                          CandidateRecommendationCache candidateCache) {
+        this.candidateRepository = candidateRepository;
+        this.projectAccessIndex = projectAccessIndex;
+        this.candidateCache = candidateCache;
+    }
+
+    @Override
+    public CursorPagedResponse<RecommendedCandidateResponse> getCandidates(String projectId, String currentUserId,
+                                                                           String cursor, int limit) {
+        if (!projectAccessIndex.isLead(projectId, currentUserId)) {
+            throw new UnauthorizedException("Only the project lead can view recommended candidates");
+        }
+        Cursor after = cursor == null || cursor.isBlank() ? null : Cursor.decode(cursor);
+
+        List<RecommendedCandidateResponse> ranked = candidateCache.getRanked(projectId, () -> load(projectId));
+
+        List<RecommendedCandidateResponse> page = new ArrayList<>(limit);
+        boolean hasMore = false;
+        for (RecommendedCandidateResponse candidate : ranked) {
+            if (after != null && !after.isBefore(candidate)) {
+                continue;
+            }
+            if (projectAccessIndex.isLeadMemberOrInvitee(projectId, candidate.getUserId())) {
+                continue;
+            }
+            if (page.size() == limit) {
+                hasMore = true;
+                break;
+            }
+            page.add(candidate);
+        }
+
+        String nextCursor = hasMore ? Cursor.encode(page.get(page.size() - 1)) : null;
+        return new CursorPagedResponse<>(page, nextCursor, hasMore, page.size());
+    }
+
+    // Re-sorted here so the cursor comparison matches the list order whatever the database collation
+    private List<RecommendedCandidateResponse> load(String projectId) {
+        List<RecommendedCandidateResponse> ranked = new ArrayList<>(candidateRepository.findRankedByProjectId(projectId));
+        ranked.sort(Comparator.comparingInt(Cursor::rank).thenComparing(RecommendedCandidateResponse::getUserId));
+        return ranked;
+    }
+
+    // Position in the (priority, userId) order of the ranking
+    private record Cursor(int priority, String userId) {
+
+        boolean isBefore(RecommendedCandidateResponse candidate) {
+            int byPriority = Integer.compare(priority, rank(candidate));
+            return byPriority < 0 || (byPriority == 0 && userId.compareTo(candidate.getUserId()) < 0);
+        }
+
+        static String encode(RecommendedCandidateResponse candidate) {
+            String raw = rank(candidate) + "|" + candidate.getUserId();
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        static Cursor decode(String cursor) {
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                int sep = raw.indexOf('|');
+                if (sep < 0) {
+                    throw new IllegalArgumentException();
+                }
+                return new Cursor(Integer.parseInt(raw.substring(0, sep)), raw.substring(sep + 1));
+            } catch (IllegalArgumentException e) {
+                throw new BadRequestException("Invalid cursor");
+            }
+        }
+
+        static int rank(RecommendedCandidateResponse candidate) {
+            return candidate.getPriority() == null ? Integer.MAX_VALUE : candidate.getPriority();
+        }
+    }
+}
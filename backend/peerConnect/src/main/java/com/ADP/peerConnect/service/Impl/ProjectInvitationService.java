@@ -8,6 +8,9 @@ import com.ADP.peerConnect.model.entity.User;
 import com.ADP.peerConnect.model.enums.*;
 import com.ADP.peerConnect.repository.*;
 import com.ADP.peerConnect.service.Interface.iProjectInvitationService;
+import com.ADP.peerConnect.security.ProjectAccessIndex;
+import com.ADP.peerConnect.service.cache.ProjectFacetIndex;
+import com.ADP.peerConnect.service.cache.ProjectReadCache;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -36,6 +39,15 @@ public class ProjectInvitationService implements iProjectInvitationService {
     @Autowired
     private ProjectMemberRepository projectMemberRepository;
 
+    @Autowired
+    private ProjectReadCache projectReadCache;
+
+    @Autowired
+    private ProjectAccessIndex projectAccessIndex;
+
+    @Autowired
+    private ProjectFacetIndex projectFacetIndex;
+
     /**
      * Send project invitation
      */
@@ -51,7 +63,7 @@ public class ProjectInvitationService implements iProjectInvitationService {
         User inviter = userService.findById(inviterId);
         User invitedUser = userService.findById(invitedUserId);
 
-        if (projectMemberRepository.existsByProjectIdAndUserId(projectId, invitedUserId)) {
+        if (projectAccessIndex.isMember(projectId, invitedUserId)) {
             throw new ConflictException("User is already a project member");
         }
 
@@ -74,7 +86,9 @@ public class ProjectInvitationService implements iProjectInvitationService {
         invitation.setStatus(InvitationStatus.PENDING);
         invitation.setInvitedAt(LocalDateTime.now());
 
-        return projectInvitationRepository.save(invitation);
+        ProjectInvitation saved = projectInvitationRepository.save(invitation);
+        projectAccessIndex.invitationSent(projectId, invitedUserId);
+        return saved;
     }
 
     /**
@@ -106,6 +120,10 @@ public class ProjectInvitationService implements iProjectInvitationService {
         member.setUser(invitation.getInvitedUser());
         member.setRole(invitation.getRole());
         projectMemberRepository.save(member);
+        projectReadCache.evict(project.getId());
+        projectAccessIndex.memberAdded(project.getId(), userId);
+        projectFacetIndex.memberAdded(project.getId(), userId);
+        projectAccessIndex.invitationClosed(project.getId(), userId);
     }
 
     /**
@@ -124,6 +142,7 @@ public class ProjectInvitationService implements iProjectInvitationService {
 
         invitation.reject();
         projectInvitationRepository.save(invitation);
+        projectAccessIndex.invitationClosed(invitation.getProject().getId(), userId);
     }
 
     /**
@@ -186,5 +205,6 @@ public class ProjectInvitationService implements iProjectInvitationService {
         }
 
         projectInvitationRepository.delete(invitation);
+        projectAccessIndex.invitationClosed(invitation.getProject().getId(), invitation.getInvitedUser().getId());
     }
 }
\ No newline at end of file
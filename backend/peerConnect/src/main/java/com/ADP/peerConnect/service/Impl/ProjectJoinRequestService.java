@@ -11,6 +11,9 @@ import com.ADP.peerConnect.model.enums.ProjectStatus;
 import com.ADP.peerConnect.repository.ProjectJoinRequestRepository;
 import com.ADP.peerConnect.repository.ProjectMemberRepository;
 import com.ADP.peerConnect.service.Interface.iProjectJoinRequestService;
+import com.ADP.peerConnect.security.ProjectAccessIndex;
+import com.ADP.peerConnect.service.cache.ProjectFacetIndex;
+import com.ADP.peerConnect.service.cache.ProjectReadCache;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -36,6 +39,15 @@ public class ProjectJoinRequestService implements iProjectJoinRequestService {
     @Autowired
     private ProjectMemberRepository memberRepository;
 
+    @Autowired
+    private ProjectReadCache projectReadCache;
+
+    @Autowired
+    private ProjectAccessIndex projectAccessIndex;
+
+    @Autowired
+    private ProjectFacetIndex projectFacetIndex;
+
     /**
      * FIX: Return ProjectJoinRequestResponse (DTO) instead of the raw entity.
      * Mapping happens here, inside the @Transactional boundary, so accessing
@@ -98,6 +110,9 @@ public class ProjectJoinRequestService implements iProjectJoinRequestService {
 
         ProjectMember member = new ProjectMember(project, request.getUser(), ProjectRole.MEMBER);
         memberRepository.save(member);
+        projectReadCache.evict(project.getId());
+        projectAccessIndex.memberAdded(project.getId(), request.getUser().getId());
+        projectFacetIndex.memberAdded(project.getId(), request.getUser().getId());
 
         joinRequestRepository.save(request);
     }
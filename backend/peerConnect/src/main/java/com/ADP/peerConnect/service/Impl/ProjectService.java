@@ -7,7 +7,9 @@ import com.ADP.peerConnect.exception.UnauthorizedException;
 import com.ADP.peerConnect.model.dto.request.Project.CreateProjectRequest;
 import com.ADP.peerConnect.model.dto.request.Project.UpdateProjectRequest;
 import com.ADP.peerConnect.model.dto.request.Project.ProjectSkillRequest;
+import com.ADP.peerConnect.model.dto.response.PagedResponse;
 import com.ADP.peerConnect.model.dto.response.Project.ProjectCardResponse;
+import com.ADP.peerConnect.model.dto.response.Project.ProjectFacetedSearchResponse;
 import com.ADP.peerConnect.model.dto.response.Project.ProjectResponse;
 import com.ADP.peerConnect.model.entity.*;
 import com.ADP.peerConnect.model.entity.Project;
@@ -20,7 +22,16 @@ import com.ADP.peerConnect.repository.UserRepository;
 import com.ADP.peerConnect.repository.SkillRepository;
 import com.ADP.peerConnect.repository.ProjectSkillRepository;
 import com.ADP.peerConnect.repository.EventRepository;
+import com.ADP.peerConnect.security.ProjectAccessIndex;
 import com.ADP.peerConnect.service.Interface.iProjectService;
+import com.ADP.peerConnect.service.cache.ProjectFacetIndex;
+import com.ADP.peerConnect.service.cache.SkillCooccurrenceIndex;
+import com.ADP.peerConnect.service.cache.SkillTrends;
+import com.ADP.peerConnect.service.cache.ProjectReadCache;
+import com.ADP.peerConnect.service.cache.CandidateRecommendationCache;
+import com.ADP.peerConnect.service.cache.VectorIndex;
+import com.ADP.peerConnect.service.job.EmbeddingJobOutbox;
+import com.ADP.peerConnect.service.job.SkillUsageCounters;
 import jakarta.persistence.criteria.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
@@ -29,9 +40,11 @@ import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -59,6 +72,32 @@ public class ProjectService implements iProjectService {
     private EventRepository eventRepository;
     @Autowired
     private SkillService skillService;
+    @Autowired
+    private ProjectReadCache projectReadCache;
+    @Autowired
+    private ProjectAccessIndex projectAccessIndex;
+    @Autowired
+    private ProjectFacetIndex projectFacetIndex;
+
+    @Autowired
+    private SkillUsageCounters skillUsageCounters;
+
+    @Autowired
+    private SkillCooccurrenceIndex skillCooccurrenceIndex;
+
+    @Autowired
+    private SkillTrends skillTrends;
+
+    @Autowired
+    private EmbeddingJobOutbox embeddingJobOutbox;
+
+    @Autowired
+    private VectorIndex vectorIndex;
+
+    @Autowired
+    private CandidateRecommendationCache candidateRecommendationCache;
+
+    private static final int MAX_SKILL_FACETS = 25;
 
 
     @Override
@@ -98,7 +137,11 @@ public class ProjectService implements iProjectService {
             project.setCategory(cat);
         }
 
-        return projectRepository.save(project);
+        Project saved = projectRepository.save(project);
+        projectFacetIndex.upsert(saved);
+        skillCooccurrenceIndex.projectChanged(saved.getId(), skillIdsOf(saved));
+        embeddingJobOutbox.projectChanged(saved.getId());
+        return saved;
     }
 
     // Update an existing project
@@ -107,6 +150,9 @@ public class ProjectService implements iProjectService {
         if (!project.isLead(currentUserId)) {
             throw new UnauthorizedException("Only project Lead can update");
         }
+        // the project embedding is built from the description and skills
+        boolean reembed = request.getSkills() != null
+                || (request.getDescription() != null && !request.getDescription().equals(project.getDescription()));
         if (request.getTitle() != null)
             project.setTitle(request.getTitle());
         if (request.getDescription() != null)
@@ -143,25 +189,53 @@ public class ProjectService implements iProjectService {
             applySkillsToProject(project, request.getSkills());
         }
 
-        return projectRepository.save(project);
+        projectReadCache.evict(projectId);
+        Project saved = projectRepository.save(project);
+        projectFacetIndex.upsert(saved);
+        skillCooccurrenceIndex.projectChanged(saved.getId(), skillIdsOf(saved));
+        if (reembed) {
+            embeddingJobOutbox.projectChanged(saved.getId());
+        }
+        return saved;
     }
 
-    // Delete a project
+    // Delete a project: soft-delete now, ProjectPurgeJob removes the rows in the background
     public void deleteProject(String projectId, String currentUserId) {
         Project project = findById(projectId);
         if (!project.isLead(currentUserId)) {
             throw new UnauthorizedException("Only project Lead can delete");
         }
-        projectRepository.delete(project);
+        projectReadCache.evict(projectId);
+        projectAccessIndex.projectRemoved(projectId);
+        projectFacetIndex.remove(projectId);
+        skillCooccurrenceIndex.projectRemoved(projectId);
+        vectorIndex.projectRemoved(projectId);
+        candidateRecommendationCache.evict(projectId);
+        // The purge job removes the project_skills rows later; the project stops counting now.
+        for (ProjectSkill ps : project.getProjectSkills()) {
+            if (ps.getSkill() != null) {
+                skillUsageCounters.addProjects(ps.getSkill().getId(), -1);
+            }
+        }
+        project.setDeleted(true);
+        project.setDeletedAt(LocalDateTime.now());
+        projectRepository.save(project);
     }
 
-    // Get project by ID
+    // Get project by ID; repeated lookups within one transaction reuse the loaded entity
     @Transactional(readOnly = true)
     public Project findById(String projectId) {
-        return projectRepository.findByIdWithAssociations(projectId)
+        return projectReadCache.findInTransaction(projectId, projectRepository::findByIdWithAssociations)
                 .orElseThrow(() -> new ResourceNotFoundException("Project not found"));
     }
 
+    // Get the project detail view, served from the shared snapshot cache when possible
+    @Override
+    @Transactional(readOnly = true)
+    public ProjectResponse getProjectDetail(String projectId) {
+        return projectReadCache.getDetail(projectId, () -> new ProjectResponse(findById(projectId)));
+    }
+
     @Transactional(readOnly = true)
     public Page<ProjectResponse> getRecentProjects(Pageable pageable) {
         Page<Project> projects = projectRepository.findAllWithCategory(pageable);
@@ -245,7 +319,9 @@ public class ProjectService implements iProjectService {
                 // Use a separate join (not the fetch join) for filtering
                 Join<Object, Object> projectSkillsJoin = root.join("projectSkills", JoinType.LEFT);
                 Join<Object, Object> skillJoin = projectSkillsJoin.join("skill", JoinType.LEFT);
-                predicates.add(skillJoin.get("name").in(skills));
+                // case-insensitive, like the category filter and the facet counts
+                predicates.add(cb.lower(skillJoin.get("name")).in(
+                        skills.stream().map(String::toLowerCase).toList()));
             }
 
             if (currentUserId != null && !currentUserId.isBlank()) {
@@ -273,6 +349,41 @@ public class ProjectService implements iProjectService {
         return page.map(ProjectCardResponse::new);
     }
 
+    /**
+     * Same search as searchProjects, plus skill/category/status facet counts taken from the
+     * in-memory ProjectFacetIndex, which applies the same text, availability and current-user
+     * filters without another query.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public ProjectFacetedSearchResponse searchProjectsWithFacets(
+            String query,
+            String category,
+            ProjectStatus status,
+            List<String> skills,
+            boolean availableOnly,
+            Pageable pageable,
+            String currentUserId) {
+
+        Page<ProjectCardResponse> page =
+                searchProjects(query, category, status, skills, availableOnly, pageable, currentUserId);
+
+        ProjectFacetIndex.FacetCounts facets = projectFacetIndex.count(
+                query, category, status, skills, availableOnly, currentUserId, MAX_SKILL_FACETS);
+
+        PagedResponse<ProjectCardResponse> results = new PagedResponse<>(
+                page.getContent(),
+                page.getNumber(),
+                page.getSize(),
+                page.getTotalElements(),
+                page.getTotalPages()
+        );
+        results.setFirst(page.isFirst());
+        results.setLast(page.isLast());
+
+        return new ProjectFacetedSearchResponse(results, facets.skills(), facets.categories(), facets.statuses());
+    }
+
     /**
      * FIX: Return Page<ProjectCardResponse> so mapping happens inside the
      * transaction.  The updated findByLeadCollegeId query in ProjectRepository
@@ -296,23 +407,15 @@ public class ProjectService implements iProjectService {
 
     @Override
     public boolean isUserMemberOrLead(String projectId, String userId) {
-        Project project = findById(projectId);
-        if (project.getLead().getId().equals(userId)) {
-            return true;
-        }
-        return projectMemberRepository.existsByProjectIdAndUserId(projectId, userId);
+        return projectAccessIndex.isLeadOrMember(projectId, userId);
     }
 
     public boolean isProjectLead(String projectId, String userId) {
-        Project project = findById(projectId);
-        return project.getLead().getId().equals(userId);
+        return projectAccessIndex.isLead(projectId, userId);
     }
 
     public boolean isProjectMember(String projectId, String userId) {
-        if (isProjectLead(projectId, userId)) {
-            return true;
-        }
-        return projectMemberRepository.existsByProjectIdAndUserId(projectId, userId);
+        return projectAccessIndex.isLeadOrMember(projectId, userId);
     }
 
     public ProjectMember addMember(String projectId, String userId, ProjectRole role, String currentUserId) {
@@ -320,7 +423,7 @@ public class ProjectService implements iProjectService {
         if (!project.isLead(currentUserId)) {
             throw new UnauthorizedException("Only project Lead can add members");
         }
-        if (projectMemberRepository.existsByProjectIdAndUserId(projectId, userId)) {
+        if (projectAccessIndex.isMember(projectId, userId)) {
             throw new ConflictException("User is already a member");
         }
         User user = userService.findById(userId);
@@ -328,6 +431,9 @@ public class ProjectService implements iProjectService {
         member.setProject(project);
         member.setUser(user);
         member.setRole(role);
+        projectReadCache.evict(projectId);
+        projectAccessIndex.memberAdded(projectId, userId);
+        projectFacetIndex.memberAdded(projectId, userId);
         return projectMemberRepository.save(member);
     }
 
@@ -341,6 +447,9 @@ public class ProjectService implements iProjectService {
         if (!member.getProject().getId().equals(projectId)) {
             throw new BadRequestException("Member does not belong to project");
         }
+        projectReadCache.evict(projectId);
+        projectAccessIndex.memberRemoved(projectId, member.getUser().getId());
+        projectFacetIndex.memberRemoved(projectId, member.getUser().getId());
         projectMemberRepository.delete(member);
     }
 
@@ -355,10 +464,14 @@ public class ProjectService implements iProjectService {
             throw new BadRequestException("Member does not belong to project");
         }
         member.setRole(newRole);
+        projectReadCache.evict(projectId);
         return projectMemberRepository.save(member);
     }
 
     public void leaveProject(String projectId, String currentUserId) {
+        projectReadCache.evict(projectId);
+        projectAccessIndex.memberRemoved(projectId, currentUserId);
+        projectFacetIndex.memberRemoved(projectId, currentUserId);
         projectMemberRepository.findByProjectIdAndUserIdWithUser(projectId, currentUserId)
                 .ifPresentOrElse(
                         projectMemberRepository::delete,
@@ -448,6 +561,13 @@ public class ProjectService implements iProjectService {
                 ));
     }
 
+    private static Set<Long> skillIdsOf(Project project) {
+        return project.getProjectSkills().stream()
+                .filter(ps -> ps.getSkill() != null && ps.getSkill().getId() != null)
+                .map(ps -> ps.getSkill().getId())
+                .collect(Collectors.toSet());
+    }
+
     private void applySkillsToProject(Project project, List<ProjectSkillRequest> skillRequests) {
         if (skillRequests == null) return;
 
@@ -455,7 +575,7 @@ public class ProjectService implements iProjectService {
                 .collect(Collectors.toMap(
                         r -> (r.getSkillId() != null)
                                 ? String.valueOf(r.getSkillId())
-                                : r.getSkillName().toLowerCase(),
+                                : Skill.normalizeName(r.getSkillName()),
                         r -> r,
                         (a, b) -> a
                 ));
@@ -479,6 +599,13 @@ public class ProjectService implements iProjectService {
                 .stream()
                 .collect(Collectors.toMap(Skill::getId, s -> s));
 
+        // Skills referenced by name, resolved (and created if missing) in one batch
+        List<String> skillNames = dedup.values().stream()
+                .filter(r -> r.getSkillId() == null)
+                .map(ProjectSkillRequest::getSkillName)
+                .toList();
+        Map<String, Skill> skillsByName = skillService.findOrCreateSkills(skillNames);
+
         List<ProjectSkill> newProjectSkills = new ArrayList<>();
 
         for (ProjectSkillRequest req : dedup.values()) {
@@ -490,7 +617,7 @@ public class ProjectService implements iProjectService {
                     throw new ResourceNotFoundException("Skill not found: id=" + req.getSkillId());
                 }
             } else {
-                skill = skillService.findOrCreateSkill(req.getSkillName().trim());
+                skill = skillsByName.get(Skill.normalizeName(req.getSkillName()));
             }
 
             boolean requiredFlag = (req.getRequired() == null) || req.getRequired();
@@ -505,6 +632,21 @@ public class ProjectService implements iProjectService {
             newProjectSkills.add(ps);
         }
 
+        Set<Long> keptSkillIds = newProjectSkills.stream()
+                .map(ps -> ps.getSkill().getId())
+                .collect(Collectors.toSet());
+        for (Long skillId : keptSkillIds) {
+            if (!existingMap.containsKey(skillId)) {
+                skillUsageCounters.addProjects(skillId, 1);
+                skillTrends.projectAdopted(skillId);
+            }
+        }
+        for (Long skillId : existingMap.keySet()) {
+            if (!keptSkillIds.contains(skillId)) {
+                skillUsageCounters.addProjects(skillId, -1);
+            }
+        }
+
         project.getProjectSkills().clear();
         project.getProjectSkills().addAll(newProjectSkills);
     }
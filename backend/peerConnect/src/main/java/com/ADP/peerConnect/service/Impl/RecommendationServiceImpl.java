@@ -3,27 +3,41 @@ package com.ADP.peerConnect.service.Impl;
 import com.ADP.peerConnect.model.entity.Project;
 import com.ADP.peerConnect.model.entity.User;
 import com.ADP.peerConnect.repository.ProjectRepository;
+import com.ADP.peerConnect.repository.UserRecommendedProjectRepository;
 import com.ADP.peerConnect.repository.UserRepository;
 import com.ADP.peerConnect.service.Interface.iRecommendationService;
+import com.ADP.peerConnect.service.cache.RecommendationCache;
 import jakarta.persistence.EntityNotFoundException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Set;
 
 @Service
 @Transactional
 public class RecommendationServiceImpl implements iRecommendationService {
 
+    // Priority given to recommendations written through the plain project-set API
+    private static final int DEFAULT_PRIORITY = 50;
+
     private final UserRepository userRepository;
     private final ProjectRepository projectRepository;
+    private final UserRecommendedProjectRepository recommendationRepository;
+    private final RecommendationCache recommendationCache;
 
     @Autowired
-    public RecommendationServiceImpl(UserRepository userRepository, ProjectRepository projectRepository) {
+    public RecommendationServiceImpl(UserRepository userRepository,
+                                     ProjectRepository projectRepository,
+                                     UserRecommendedProjectRepository recommendationRepository,
+                                     RecommendationCache recommendationCache) {
         this.userRepository = userRepository;
         this.projectRepository = projectRepository;
+        this.recommendationRepository = recommendationRepository;
+        this.recommendationCache = recommendationCache;
     }
 
     @Override
@@ -45,6 +59,7 @@ public class RecommendationServiceImpl implements iRecommendationService {
 
         user.addRecommendedProject(project);
         userRepository.save(user);
+        recommendationCache.evict(userId);
 
         return new HashSet<>(user.getRecommendedProjects());
     }
@@ -54,16 +69,12 @@ public class RecommendationServiceImpl implements iRecommendationService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new EntityNotFoundException("User not found with id: " + userId));
 
-        Set<Project> projects = new HashSet<>();
-        for (String projectId : projectIds) {
-            Project project = projectRepository.findById(projectId)
-                    .orElseThrow(() -> new EntityNotFoundException("Project not found with id: " + projectId));
-            projects.add(project);
-        }
-
-        projects.forEach(user::addRecommendedProject);
-        userRepository.save(user);
+        findProjects(projectIds);
+        // One multi-row INSERT instead of a row per project through the collection
+        recommendationRepository.insertIgnoringExisting(userId, defaultPriorities(projectIds));
+        recommendationCache.evict(userId);
 
+        // Not initialized yet, so this loads the rows just written
         return new HashSet<>(user.getRecommendedProjects());
     }
 
@@ -77,6 +88,7 @@ public class RecommendationServiceImpl implements iRecommendationService {
 
         user.removeRecommendedProject(project);
         userRepository.save(user);
+        recommendationCache.evict(userId);
 
         return new HashSet<>(user.getRecommendedProjects());
     }
@@ -88,27 +100,49 @@ public class RecommendationServiceImpl implements iRecommendationService {
 
         user.getRecommendedProjects().clear();
         userRepository.save(user);
+        recommendationCache.evict(userId);
     }
 
     @Override
     public Set<Project> replaceAllRecommendations(String userId, Set<String> projectIds) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new EntityNotFoundException("User not found with id: " + userId));
+        if (!userRepository.existsById(userId)) {
+            throw new EntityNotFoundException("User not found with id: " + userId);
+        }
 
-        // Clear existing recommendations
-        user.getRecommendedProjects().clear();
+        Set<Project> projects = findProjects(projectIds);
+        // Diff against the current rows instead of clearing the collection and re-adding it:
+        // only dropped projects are deleted and only new ones inserted
+        recommendationRepository.deleteAllExcept(userId, projectIds);
+        recommendationRepository.insertIgnoringExisting(userId, defaultPriorities(projectIds));
+        recommendationCache.evict(userId);
 
-        // Add new recommendations
+        return projects;
+    }
+
+    // Load all projects with one findAllById, failing on the first id that does not exist
+    private Set<Project> findProjects(Set<String> projectIds) {
         Set<Project> projects = new HashSet<>();
-        for (String projectId : projectIds) {
-            Project project = projectRepository.findById(projectId)
-                    .orElseThrow(() -> new EntityNotFoundException("Project not found with id: " + projectId));
+        if (projectIds.isEmpty()) {
+            return projects;
+        }
+        Set<String> found = new HashSet<>();
+        for (Project project : projectRepository.findAllById(projectIds)) {
             projects.add(project);
+            found.add(project.getId());
         }
+        for (String projectId : projectIds) {
+            if (!found.contains(projectId)) {
+                throw new EntityNotFoundException("Project not found with id: " + projectId);
+            }
+        }
+        return projects;
+    }
 
-        projects.forEach(user::addRecommendedProject);
-        userRepository.save(user);
-
-        return new HashSet<>(user.getRecommendedProjects());
+    private static Map<String, Integer> defaultPriorities(Set<String> projectIds) {
+        Map<String, Integer> priorities = new LinkedHashMap<>();
+        for (String projectId : projectIds) {
+            priorities.put(projectId, DEFAULT_PRIORITY);
+        }
+        return priorities;
     }
-}
\ No newline at end of file
+}
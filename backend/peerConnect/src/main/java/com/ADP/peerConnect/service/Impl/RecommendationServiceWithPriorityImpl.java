@@ -1,6 +1,9 @@
 package com.ADP.peerConnect.service.Impl;
 
 import com.ADP.peerConnect.model.dto.ProjectRecommendationDTO;
+import com.ADP.peerConnect.model.dto.response.RecommendationResponseWithPriority;
+import com.ADP.peerConnect.model.dto.response.RecommendationResponseWithPriority.ProjectRecommendationDetailDTO;
+import com.ADP.peerConnect.model.dto.response.VectorMatchResponse;
 import com.ADP.peerConnect.model.entity.Project;
 import com.ADP.peerConnect.model.entity.User;
 import com.ADP.peerConnect.model.entity.UserRecommendedProject;
@@ -10,12 +13,20 @@ import com.ADP.peerConnect.repository.UserRecommendedProjectRepository;
 import com.ADP.peerConnect.repository.UserRepository;
 
 import com.ADP.peerConnect.service.Interface.RecommendationServiceWithPriority;
+import com.ADP.peerConnect.service.cache.RecommendationCache;
+import com.ADP.peerConnect.service.cache.VectorIndex;
 import jakarta.persistence.EntityNotFoundException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -25,15 +36,21 @@ public class RecommendationServiceWithPriorityImpl implements RecommendationServ
     private final UserRepository userRepository;
     private final ProjectRepository projectRepository;
     private final UserRecommendedProjectRepository recommendationRepository;
+    private final VectorIndex vectorIndex;
+    private final RecommendationCache recommendationCache;
 
     @Autowired
     public RecommendationServiceWithPriorityImpl(
             UserRepository userRepository,
             ProjectRepository projectRepository,
-            UserRecommendedProjectRepository recommendationRepository) {
+            UserRecommendedProjectRepository recommendationRepository,
+            VectorIndex vectorIndex,
+            RecommendationCache recommendationCache) {
         this.userRepository = userRepository;
         this.projectRepository = projectRepository;
         this.recommendationRepository = recommendationRepository;
+        this.vectorIndex = vectorIndex;
+        this.recommendationCache = recommendationCache;
     }
 
     @Override
@@ -52,13 +69,14 @@ public class RecommendationServiceWithPriorityImpl implements RecommendationServ
 
     @Override
     @Transactional(readOnly = true)
-    public List<UserRecommendedProject> getTopRecommendations(String userId, int limit) {
-        validateUserExists(userId);
-        List<UserRecommendedProject> allRecommendations =
-                recommendationRepository.findByUserIdWithProjectOrderByPriorityDesc(userId);
-        return allRecommendations.stream()
-                .limit(limit)
-                .collect(Collectors.toList());
+    public RecommendationResponseWithPriority getTopRecommendations(String userId, int limit) {
+        List<ProjectRecommendationDetailDTO> top = recommendationCache.getTop(userId, limit,
+                n -> recommendationRepository.findTopDetailsByUserId(userId, PageRequest.of(0, n)));
+        // Only an empty list can mean an unknown user, so existing users skip the existsById query
+        if (top.isEmpty()) {
+            validateUserExists(userId);
+        }
+        return RecommendationResponseWithPriority.ofDetails(userId, top);
     }
 
     @Override
@@ -77,6 +95,7 @@ public class RecommendationServiceWithPriorityImpl implements RecommendationServ
 
         UserRecommendedProject recommendation = new UserRecommendedProject(user, project, priority);
         recommendationRepository.save(recommendation);
+        recommendationCache.evict(userId);
 
         return recommendationRepository.findByUserIdWithProjectOrderByPriorityDesc(userId);
     }
@@ -84,21 +103,13 @@ public class RecommendationServiceWithPriorityImpl implements RecommendationServ
     @Override
     public List<UserRecommendedProject> addMultipleRecommendations(
             String userId, List<ProjectRecommendationDTO> recommendations) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new EntityNotFoundException("User not found with id: " + userId));
+        validateUserExists(userId);
+        Map<String, Integer> priorities = priorities(recommendations);
+        validateProjectsExist(priorities.keySet());
 
-        for (ProjectRecommendationDTO recDto : recommendations) {
-            Project project = projectRepository.findById(recDto.getProjectId())
-                    .orElseThrow(() -> new EntityNotFoundException(
-                            "Project not found with id: " + recDto.getProjectId()));
-
-            UserRecommendedProjectId id = new UserRecommendedProjectId(userId, recDto.getProjectId());
-            if (!recommendationRepository.existsById(id)) {
-                UserRecommendedProject recommendation = new UserRecommendedProject(
-                        user, project, recDto.getPriority());
-                recommendationRepository.save(recommendation);
-            }
-        }
+        // One multi-row INSERT; projects the user already has keep their priority
+        recommendationRepository.insertIgnoringExisting(userId, priorities);
+        recommendationCache.evict(userId);
 
         return recommendationRepository.findByUserIdWithProjectOrderByPriorityDesc(userId);
     }
@@ -112,6 +123,7 @@ public class RecommendationServiceWithPriorityImpl implements RecommendationServ
                         "Recommendation not found for user: " + userId + " and project: " + projectId));
 
         recommendation.setPriority(newPriority);
+        recommendationCache.evict(userId);
         return recommendationRepository.save(recommendation);
     }
 
@@ -121,35 +133,48 @@ public class RecommendationServiceWithPriorityImpl implements RecommendationServ
         validateProjectExists(projectId);
 
         recommendationRepository.deleteByUserIdAndProjectId(userId, projectId);
+        recommendationCache.evict(userId);
     }
 
     @Override
     public void clearAllRecommendations(String userId) {
         validateUserExists(userId);
         recommendationRepository.deleteByUserId(userId);
+        recommendationCache.evict(userId);
     }
 
     @Override
     public List<UserRecommendedProject> replaceAllRecommendations(
             String userId, List<ProjectRecommendationDTO> recommendations) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new EntityNotFoundException("User not found with id: " + userId));
+        validateUserExists(userId);
+        Map<String, Integer> priorities = priorities(recommendations);
+        validateProjectsExist(priorities.keySet());
 
-        // Clear existing recommendations
-        recommendationRepository.deleteByUserId(userId);
+        // Diff against the current rows: drop the projects no longer recommended, insert the
+        // new ones and rewrite only the priorities that changed
+        recommendationRepository.deleteAllExcept(userId, priorities.keySet());
+        recommendationRepository.upsertPriorities(userId, priorities);
+        recommendationCache.evict(userId);
 
-        // Add new recommendations
-        for (ProjectRecommendationDTO recDto : recommendations) {
-            Project project = projectRepository.findById(recDto.getProjectId())
-                    .orElseThrow(() -> new EntityNotFoundException(
-                            "Project not found with id: " + recDto.getProjectId()));
+        return recommendationRepository.findByUserIdWithProjectOrderByPriorityDesc(userId);
+    }
 
-            UserRecommendedProject recommendation = new UserRecommendedProject(
-                    user, project, recDto.getPriority());
-            recommendationRepository.save(recommendation);
-        }
+    @Override
+    @Transactional(readOnly = true)
+    public List<VectorMatchResponse> findSimilarProjects(String userId, int limit) {
+        validateUserExists(userId);
+        return vectorIndex.similarProjectsForUser(userId, limit).stream()
+                .map(m -> new VectorMatchResponse(m.id(), m.score()))
+                .collect(Collectors.toList());
+    }
 
-        return recommendationRepository.findByUserIdWithProjectOrderByPriorityDesc(userId);
+    @Override
+    @Transactional(readOnly = true)
+    public List<VectorMatchResponse> findSimilarUsers(String projectId, int limit) {
+        validateProjectExists(projectId);
+        return vectorIndex.similarUsersForProject(projectId, limit).stream()
+                .map(m -> new VectorMatchResponse(m.id(), m.score()))
+                .collect(Collectors.toList());
     }
 
     private void validateUserExists(String userId) {
@@ -158,6 +183,27 @@ public class RecommendationServiceWithPriorityImpl implements RecommendationServ
         }
     }
 
+    // Project id -> priority, keeping the first entry for a project listed twice
+    private static Map<String, Integer> priorities(List<ProjectRecommendationDTO> recommendations) {
+        Map<String, Integer> priorities = new LinkedHashMap<>();
+        for (ProjectRecommendationDTO recDto : recommendations) {
+            priorities.putIfAbsent(recDto.getProjectId(), recDto.getPriority());
+        }
+        return priorities;
+    }
+
+    private void validateProjectsExist(Collection<String> projectIds) {
+        if (projectIds.isEmpty()) {
+            return;
+        }
+        Set<String> existing = new HashSet<>(projectRepository.findExistingIds(projectIds));
+        for (String projectId : projectIds) {
+            if (!existing.contains(projectId)) {
+                throw new EntityNotFoundException("Project not found with id: " + projectId);
+            }
+        }
+    }
+
     private void validateProjectExists(String projectId) {
         if (!projectRepository.existsById(projectId)) {
             throw new EntityNotFoundException("Project not found with id: " + projectId);
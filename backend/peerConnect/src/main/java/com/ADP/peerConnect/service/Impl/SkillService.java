@@ -1,18 +1,29 @@
 package com.ADP.peerConnect.service.Impl;
 
+import com.ADP.peerConnect.exception.BadRequestException;
 import com.ADP.peerConnect.exception.ConflictException;
 import com.ADP.peerConnect.exception.ResourceNotFoundException;
 import com.ADP.peerConnect.model.entity.Skill;
 import com.ADP.peerConnect.repository.SkillRepository;
+import com.ADP.peerConnect.service.cache.SkillAutocomplete;
+import com.ADP.peerConnect.service.cache.SkillCooccurrenceIndex;
+import com.ADP.peerConnect.service.cache.SkillDictionary;
+import com.ADP.peerConnect.service.cache.SkillTrends;
+import com.ADP.peerConnect.service.job.SkillUsageCounters;
 import com.ADP.peerConnect.service.Interface.iSkillService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 
 /**
@@ -25,20 +36,37 @@ public class SkillService implements iSkillService {
     @Autowired
     private SkillRepository skillRepository;
 
+    @Autowired
+    private SkillDictionary skillDictionary;
+
+    @Autowired
+    private SkillUsageCounters skillUsageCounters;
+
+    @Autowired
+    private SkillCooccurrenceIndex skillCooccurrenceIndex;
+
+    @Autowired
+    private SkillTrends skillTrends;
+
+    @Autowired
+    private SkillAutocomplete skillAutocomplete;
+
     /**
      * Create a new skill
      */
     public Skill createSkill(String name, String category) {
         String normalized = Skill.normalizeName(name);
 
-        if (skillRepository.existsByNormalizedName(normalized)) {
+        if (existsByNormalizedName(normalized)) {
             throw new ConflictException("Skill with this name already exists");
         }
 
         String trimmedCategory = category != null ? category.trim() : null;
         Skill skill = new Skill(name.trim(), trimmedCategory, false);
 
-        return skillRepository.save(skill);
+        Skill saved = skillRepository.save(skill);
+        skillDictionary.put(saved);
+        return saved;
     }
 
     /**
@@ -57,18 +85,29 @@ public class SkillService implements iSkillService {
     public Skill findOrCreateSkill(String name, String category) {
         String normalized = Skill.normalizeName(name);
 
+        // Known skill whose category needs no upgrade: loaded by primary key instead of by
+        // name. Not a lazy reference: callers hand the skill to responses built after the
+        // transaction (open-in-view is off), where an uninitialized proxy cannot load.
+        Optional<SkillDictionary.Entry> known = skillDictionary.findByNormalizedName(normalized);
+        if (known.isPresent() && !shouldUpgradeCategory(known.get().category(), category)) {
+            Optional<Skill> skill = skillRepository.findById(known.get().id());
+            if (skill.isPresent()) {
+                return skill.get();
+            }
+        }
+
         Optional<Skill> existingSkill = skillRepository.findByNormalizedName(normalized);
 
         if (existingSkill.isPresent()) {
             Skill skill = existingSkill.get();
             // Update category if existing is null/empty/General and new one is valid
-            if (category != null && !category.trim().isEmpty() && !category.equalsIgnoreCase("General")) {
-                String currentCat = skill.getCategory();
-                if (currentCat == null || currentCat.trim().isEmpty() || currentCat.equalsIgnoreCase("General")) {
-                    skill.setCategory(category.trim());
-                    return skillRepository.save(skill);
-                }
+            if (shouldUpgradeCategory(skill.getCategory(), category)) {
+                skill.setCategory(category.trim());
+                Skill saved = skillRepository.save(skill);
+                skillDictionary.put(saved);
+                return saved;
             }
+            skillDictionary.put(skill);
             return skill;
         }
 
@@ -81,7 +120,9 @@ public class SkillService implements iSkillService {
         Skill skill = new Skill(name.trim(), resolvedCategory, false);
 
         try {
-            return skillRepository.save(skill);
+            Skill saved = skillRepository.save(skill);
+            skillDictionary.put(saved);
+            return saved;
         } catch (org.springframework.dao.DataIntegrityViolationException e) {
             // Skill.id is a deterministic hash of normalizedName, so two concurrent
             // requests creating the same brand-new skill name race on insert. Recover
@@ -92,12 +133,90 @@ public class SkillService implements iSkillService {
         }
     }
 
+    private static boolean shouldUpgradeCategory(String currentCategory, String newCategory) {
+        if (newCategory == null || newCategory.trim().isEmpty() || newCategory.equalsIgnoreCase("General")) {
+            return false;
+        }
+        return currentCategory == null || currentCategory.trim().isEmpty() || currentCategory.equalsIgnoreCase("General");
+    }
+
+    /**
+     * Resolve many skill names at once, creating the missing ones.
+     * Uses one IN query for the existing skills and a single INSERT ... ON CONFLICT DO NOTHING
+     * for the rest; rows inserted concurrently by another transaction are picked up by one
+     * final re-read. New skills get the "General" category, like findOrCreateSkill(name).
+     *
+     * @return skills keyed by normalized name
+     */
+    public Map<String, Skill> findOrCreateSkills(Collection<String> names) {
+        Map<String, String> categoriesByName = new LinkedHashMap<>();
+        for (String name : names) {
+            categoriesByName.putIfAbsent(name, null);
+        }
+        return findOrCreateSkills(categoriesByName);
+    }
+
+    /**
+     * Same as {@link #findOrCreateSkills(Collection)}, with a category per name: new skills get
+     * it, and existing skills without a real category are upgraded like findOrCreateSkill does.
+     *
+     * @param categoriesByName raw skill name -> category, which may be null
+     * @return skills keyed by normalized name
+     */
+    public Map<String, Skill> findOrCreateSkills(Map<String, String> categoriesByName) {
+        Map<String, String> requested = new LinkedHashMap<>();
+        Map<String, String> categories = new HashMap<>();
+        for (Map.Entry<String, String> e : categoriesByName.entrySet()) {
+            String trimmed = e.getKey().trim();
+            if (trimmed.length() < 2 || trimmed.length() > 100) {
+                throw new BadRequestException("Skill name must be between 2 and 100 characters: " + trimmed);
+            }
+            String normalized = Skill.normalizeName(trimmed);
+            requested.putIfAbsent(normalized, trimmed);
+            if (e.getValue() != null && !e.getValue().isBlank()) {
+                categories.putIfAbsent(normalized, e.getValue().trim());
+            }
+        }
+        if (requested.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<String, Skill> resolved = new HashMap<>();
+        for (Skill skill : skillRepository.findByNormalizedNameIn(requested.keySet())) {
+            resolved.put(skill.getNormalizedName(), skill);
+            String category = categories.get(skill.getNormalizedName());
+            if (shouldUpgradeCategory(skill.getCategory(), category)) {
+                skill.setCategory(category);
+                skillDictionary.put(skillRepository.save(skill));
+            }
+        }
+
+        List<Skill> missing = requested.entrySet().stream()
+                .filter(e -> !resolved.containsKey(e.getKey()))
+                .map(e -> new Skill(e.getValue(), categories.getOrDefault(e.getKey(), "General"), false))
+                .toList();
+        if (!missing.isEmpty()) {
+            skillRepository.insertIgnoringConflicts(missing);
+            List<String> missingNames = missing.stream().map(Skill::getNormalizedName).toList();
+            List<Skill> created = skillRepository.findByNormalizedNameIn(missingNames);
+            for (Skill skill : created) {
+                resolved.put(skill.getNormalizedName(), skill);
+            }
+            skillDictionary.putAll(created);
+        }
+        return resolved;
+    }
+
     public Skill findById(Long id) {
         return skillRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Skill not found"));
     }
 
     public List<Skill> findByName(String name) {
+        Optional<SkillDictionary.Entry> known = skillDictionary.findByName(name);
+        if (known.isPresent()) {
+            return List.of(known.get().toSkill());
+        }
 
         Optional<Skill> skills = skillRepository.findByNameIgnoreCase(name);
         if (skills.isPresent()) {
@@ -124,25 +243,39 @@ public class SkillService implements iSkillService {
     }
 
 
+    /**
+     * Skills by number of users, from the precomputed popularity snapshot
+     */
+    @Transactional(readOnly = true)
     public Page<Skill> getPopularSkills(Pageable pageable) {
-        return skillRepository.findPopularSkills(pageable);
+        List<Long> popular = skillTrends.popular();
+        List<Skill> content = popular.stream()
+                .skip(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .map(skillDictionary::findById)
+                .flatMap(Optional::stream)
+                .map(SkillDictionary.Entry::toSkill)
+                .toList();
+        return new PageImpl<>(content, pageable, popular.size());
     }
 
+    /**
+     * Count one more user for the skill. The change is applied by SkillUsageCounters'
+     * batched flush after commit, not by saving the entity.
+     */
     public Skill incrementUsers(Skill skill) {
         if (skill == null)
             throw new IllegalArgumentException("Skill cannot be null");
-        Integer current = skill.getUsersCount() == null ? 0 : skill.getUsersCount();
-        skill.setUsersCount(current + 1);
-        return skillRepository.save(skill);
+        skillUsageCounters.addUsers(skill.getId(), 1);
+        skillTrends.userAdopted(skill.getId());
+        return skill;
     }
 
     public Skill decrementUsers(Skill skill) {
         if (skill == null)
             throw new IllegalArgumentException("Skill cannot be null");
-        Integer current = skill.getUsersCount() == null ? 0 : skill.getUsersCount();
-        skill.setUsersCount(current - 1);
-
-        return skillRepository.save(skill);
+        skillUsageCounters.addUsers(skill.getId(), -1);
+        return skill;
     }
     public Skill updateSkill(Long id, String name, String category) {
         Skill skill = findById(id);
@@ -153,13 +286,16 @@ public class SkillService implements iSkillService {
                 throw new ConflictException("Skill with this name already exists");
             }
             skill.setName(name.trim());
+            skill.setNormalizedName(Skill.normalizeName(name));
         }
 
         if (category != null) {
             skill.setCategory(category.trim());
         }
 
-        return skillRepository.save(skill);
+        Skill saved = skillRepository.save(skill);
+        skillDictionary.put(saved);
+        return saved;
     }
 
     public void deleteSkill(Long id) {
@@ -171,6 +307,7 @@ public class SkillService implements iSkillService {
         }
 
         skillRepository.delete(skill);
+        skillDictionary.remove(id);
     }
 
     public boolean existsByName(String name) {
@@ -182,8 +319,39 @@ public class SkillService implements iSkillService {
         return skillRepository.findByNormalizedName(normalizedName);
     }
 
+    /**
+     * Served from the skill dictionary; only names it does not know yet (e.g. created on
+     * another node since the last refresh) go to the database.
+     */
     public boolean existsByNormalizedName(String normalizedName) {
-        return skillRepository.existsByNormalizedName(normalizedName);
+        return skillDictionary.contains(normalizedName) || skillRepository.existsByNormalizedName(normalizedName);
+    }
+
+    /**
+     * Id of the skill with this name (after normalization), from the dictionary when known
+     */
+    public Optional<Long> findIdByName(String name) {
+        if (name == null || name.trim().isEmpty()) {
+            return Optional.empty();
+        }
+        String normalized = Skill.normalizeName(name);
+        Optional<SkillDictionary.Entry> known = skillDictionary.findByNormalizedName(normalized);
+        if (known.isPresent()) {
+            return Optional.of(known.get().id());
+        }
+        Optional<Skill> skill = skillRepository.findByNormalizedName(normalized);
+        skill.ifPresent(skillDictionary::put);
+        return skill.map(Skill::getId);
+    }
+
+    /**
+     * Skills whose name, or a word of it, starts with the prefix, most used first; no database access
+     */
+    @Transactional(readOnly = true)
+    public List<Skill> autocomplete(String prefix, int limit) {
+        return skillAutocomplete.complete(prefix, limit).stream()
+                .map(SkillDictionary.Entry::toSkill)
+                .toList();
     }
 
     // advanced search
@@ -216,22 +384,66 @@ public class SkillService implements iSkillService {
         return skillRepository.findByUsersCountAndProjectsCount(users, projects);
     }
 
-    // trending
+    // trending: most added to users and projects over the last 30 days
+    @Transactional(readOnly = true)
     public List<Skill> getTrendingSkills(Pageable pageable) {
-        LocalDateTime cutoffDate = LocalDateTime.now().minusDays(30);
+        return getTrendingSkills(30, (int) pageable.getOffset() + pageable.getPageSize()).stream()
+                .skip(pageable.getOffset())
+                .toList();
+    }
 
-        return skillRepository.findTrendingSkills(cutoffDate, pageable);
+    @Transactional(readOnly = true)
+    public List<Skill> getTrendingSkills(int days, int limit) {
+        return skillTrends.trending(days).stream()
+                .limit(limit)
+                .map(t -> skillDictionary.findById(t.skillId()))
+                .flatMap(Optional::stream)
+                .map(SkillDictionary.Entry::toSkill)
+                .toList();
     }
 
-    // recommendations
+    // recommendations, served from the in-memory co-occurrence matrices
+    @Transactional(readOnly = true)
     public List<Skill> getRecommendedSkillsForUser(List<Long> skillIds,
                                                    Pageable pageable) {
-        return skillRepository.findRecommendedSkillsForUser(skillIds, pageable);
+        return toSkills(skillCooccurrenceIndex.related(SkillCooccurrenceIndex.Source.USERS, skillIds,
+                (int) pageable.getOffset() + pageable.getPageSize()), pageable);
     }
 
+    @Transactional(readOnly = true)
     public List<Skill> getComplementarySkillsForProject(List<Long> skillIds,
                                                         Pageable pageable) {
-        return skillRepository.findComplementarySkillsForProject(skillIds, pageable);
+        return toSkills(skillCooccurrenceIndex.related(SkillCooccurrenceIndex.Source.PROJECTS, skillIds,
+                (int) pageable.getOffset() + pageable.getPageSize()), pageable);
+    }
+
+    /**
+     * Skills that other users with the given user's skills also have
+     */
+    @Transactional(readOnly = true)
+    public List<Skill> getRecommendedSkillsForUser(String userId, int limit) {
+        return toSkills(skillCooccurrenceIndex.relatedForUser(userId, limit), Pageable.unpaged());
+    }
+
+    /**
+     * Resolve related skill ids through the dictionary. Ids the dictionary does not know yet
+     * (created on another node since its last refresh) are read from the table and published
+     * to it, instead of being dropped from the result.
+     */
+    private List<Skill> toSkills(List<SkillCooccurrenceIndex.Related> related, Pageable pageable) {
+        List<Long> ids = related.stream()
+                .skip(pageable.isPaged() ? pageable.getOffset() : 0)
+                .map(SkillCooccurrenceIndex.Related::skillId)
+                .toList();
+        Map<Long, Skill> skills = new HashMap<>();
+        skillDictionary.findAllById(ids).forEach((id, entry) -> skills.put(id, entry.toSkill()));
+        List<Long> missing = ids.stream().filter(id -> !skills.containsKey(id)).toList();
+        if (!missing.isEmpty()) {
+            List<Skill> loaded = skillRepository.findAllById(missing);
+            skillDictionary.putAll(loaded);
+            loaded.forEach(skill -> skills.put(skill.getId(), skill));
+        }
+        return ids.stream().map(skills::get).filter(Objects::nonNull).toList();
     }
 
     // popular by category + threshold
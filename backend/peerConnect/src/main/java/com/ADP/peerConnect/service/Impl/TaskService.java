@@ -6,6 +6,7 @@ import com.ADP.peerConnect.model.dto.request.Project.UpdateTaskRequest;
 import com.ADP.peerConnect.model.entity.*;
 import com.ADP.peerConnect.model.enums.*;
 import com.ADP.peerConnect.repository.*;
+import com.ADP.peerConnect.security.ProjectAccessIndex;
 import com.ADP.peerConnect.service.Interface.iTaskService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
@@ -31,10 +32,10 @@ public class TaskService implements iTaskService {
     private ProjectRepository projectRepository;
 
     @Autowired
-    private ProjectMemberRepository projectMemberRepository;
+    private UserService userService;
 
     @Autowired
-    private UserService userService;
+    private ProjectAccessIndex projectAccessIndex;
 
     // -------------------------------------------------------------------------
     // Private helpers
@@ -62,14 +63,10 @@ public class TaskService implements iTaskService {
 
     /**
      * Validate that a user can be assigned to a task (is the lead or a member).
-     * project.getLead() is already loaded by loadProject() / loadTask(), so no
-     * extra lazy hit here.
+     * Answered from the in-memory ProjectAccessIndex, so no query is issued.
      */
     private void validateUserCanBeAssigned(Project project, String userId) {
-        boolean isLead = project.getLead() != null && project.getLead().getId().equals(userId);
-        boolean isMember = projectMemberRepository.existsByProjectIdAndUserId(project.getId(), userId);
-
-        if (!isLead && !isMember) {
+        if (!projectAccessIndex.isLeadOrMember(project.getId(), userId)) {
             throw new BadRequestException("Cannot assign task to non-project member or non-lead user");
         }
     }
@@ -87,10 +84,7 @@ public class TaskService implements iTaskService {
     public Task createTask(String projectId, CreateTaskRequest request, String creatorId) {
         Project project = loadProject(projectId);
 
-        boolean isLead   = project.getLead() != null && project.getLead().getId().equals(creatorId);
-        boolean isMember = projectMemberRepository.existsByProjectIdAndUserId(projectId, creatorId);
-
-        if (!isMember && !isLead) {
+        if (!projectAccessIndex.isLeadOrMember(projectId, creatorId)) {
             throw new UnauthorizedException("Only project members or the project lead can create tasks");
         }
 
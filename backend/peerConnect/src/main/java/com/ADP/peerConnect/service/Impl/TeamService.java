@@ -13,7 +13,14 @@ import com.ADP.peerConnect.model.enums.ProjectRole;
 import com.ADP.peerConnect.model.enums.ProjectStatus;
 import com.ADP.peerConnect.repository.ProjectInvitationRepository;
 import com.ADP.peerConnect.repository.ProjectMemberRepository;
+import com.ADP.peerConnect.repository.ProjectSkillRepository;
+import com.ADP.peerConnect.repository.UserRepository;
+import com.ADP.peerConnect.model.dto.response.TeammateMatchResponse;
 import com.ADP.peerConnect.service.Interface.iTeamService;
+import com.ADP.peerConnect.security.ProjectAccessIndex;
+import com.ADP.peerConnect.service.cache.ProjectFacetIndex;
+import com.ADP.peerConnect.service.cache.ProjectReadCache;
+import com.ADP.peerConnect.service.cache.TeammateIndex;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -24,7 +31,11 @@ import org.modelmapper.ModelMapper;
 import java.util.stream.Collectors;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 
 /**
  * Service class for team management operations
@@ -48,6 +59,24 @@ public class TeamService implements iTeamService {
     @Autowired
     private ModelMapper modelMapper;
 
+    @Autowired
+    private ProjectReadCache projectReadCache;
+
+    @Autowired
+    private ProjectAccessIndex projectAccessIndex;
+
+    @Autowired
+    private ProjectFacetIndex projectFacetIndex;
+
+    @Autowired
+    private ProjectSkillRepository projectSkillRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TeammateIndex teammateIndex;
+
     /**
      * Invite user to project
      */
@@ -98,6 +127,7 @@ public class TeamService implements iTeamService {
         invitation.setInvitedAt(LocalDateTime.now());
 
         ProjectInvitation savedInvitation = invitationRepository.save(invitation);
+        projectAccessIndex.invitationSent(projectId, invitedUserId);
         return new ProjectInvitationResponse(savedInvitation);
     }
 
@@ -149,9 +179,13 @@ public class TeamService implements iTeamService {
             member.setCreatedAt(LocalDateTime.now());
 
             memberRepository.save(member);
+            projectReadCache.evict(project.getId());
+            projectAccessIndex.memberAdded(project.getId(), userId);
+            projectFacetIndex.memberAdded(project.getId(), userId);
         }
 
         ProjectInvitation savedInvitation = invitationRepository.save(invitation);
+        projectAccessIndex.invitationClosed(invitation.getProject().getId(), userId);
         return new ProjectInvitationResponse(savedInvitation);
     }
 
@@ -174,6 +208,9 @@ public class TeamService implements iTeamService {
         }
 
         memberRepository.delete(member);
+        projectReadCache.evict(projectId);
+        projectAccessIndex.memberRemoved(projectId, memberId);
+        projectFacetIndex.memberRemoved(projectId, memberId);
     }
 
     /**
@@ -190,6 +227,9 @@ public class TeamService implements iTeamService {
         }
 
         memberRepository.delete(member);
+        projectReadCache.evict(projectId);
+        projectAccessIndex.memberRemoved(projectId, userId);
+        projectFacetIndex.memberRemoved(projectId, userId);
     }
 
     /**
@@ -220,7 +260,7 @@ public class TeamService implements iTeamService {
      */
     public Page<ProjectInvitation> getProjectInvitations(String projectId, Pageable pageable) {
         // Corrected method name to use 'CreatedAt'
-        return invitationRepository.findByProjectIdOrderByCreatedAtDesc(projectId, pageable);
+        return invitationRepository.findByProjectIdAndProjectDeletedFalseOrderByCreatedAtDesc(projectId, pageable);
     }
 
     /**
@@ -229,7 +269,7 @@ public class TeamService implements iTeamService {
     public Page<ProjectInvitationResponse> getUserInvitations(String userId, InvitationStatus status, Pageable pageable) {
 
         // 2. Fetch the data from the repository as a Page of entities.
-        Page<ProjectInvitation> invitationsPage = invitationRepository.findByInvitedUserIdAndStatusOrderByCreatedAtDesc(userId, status, pageable);
+        Page<ProjectInvitation> invitationsPage = invitationRepository.findByInvitedUserIdAndStatusAndProjectDeletedFalseOrderByCreatedAtDesc(userId, status, pageable);
 
         // 3. Use the built-in .map() function of the Page object to convert entities to DTOs.
         // This is efficient and ensures the mapping happens within the transaction.
@@ -241,7 +281,7 @@ public class TeamService implements iTeamService {
      */
     public Page<ProjectInvitation> getPendingInvitationsForUser(String userId, Pageable pageable) {
         // Corrected method call to use the standard JPA method and pass the PENDING status
-        return invitationRepository.findByInvitedUserIdAndStatus(userId, InvitationStatus.PENDING, pageable);
+        return invitationRepository.findByInvitedUserIdAndStatusAndProjectDeletedFalse(userId, InvitationStatus.PENDING, pageable);
     }
 
     /**
@@ -266,6 +306,7 @@ public class TeamService implements iTeamService {
         invitation.setRespondedAt(LocalDateTime.now());
 
         invitationRepository.save(invitation);
+        projectAccessIndex.invitationClosed(invitation.getProject().getId(), invitation.getInvitedUser().getId());
     }
 
 
@@ -292,4 +333,44 @@ public class TeamService implements iTeamService {
     public List<ProjectMember> getUserProjectMemberships(String userId) {
         return memberRepository.findByUserId(userId);
     }
-}
\ No newline at end of file
+
+    /**
+     * Suggest students whose skills cover what the project team is still missing
+     */
+    @Transactional(readOnly = true)
+    public List<TeammateMatchResponse> findComplementaryTeammates(String projectId, String requesterId, int limit) {
+        Project project = projectService.findById(projectId);
+        if (!projectService.isUserMemberOrLead(projectId, requesterId)) {
+            throw new UnauthorizedException("Only project members can search for teammates");
+        }
+
+        Map<Long, String> requiredSkills = new HashMap<>();
+        for (ProjectSkill ps : projectSkillRepository.findByProjectIdWithSkill(projectId)) {
+            requiredSkills.put(ps.getSkill().getId(), ps.getSkill().getName());
+        }
+        if (requiredSkills.isEmpty()) {
+            return List.of();
+        }
+        List<String> team = new ArrayList<>(memberRepository.findUserIdsByProjectId(projectId));
+        team.add(project.getLead().getId());
+
+        List<TeammateIndex.Match> matches = teammateIndex.findTeammates(requiredSkills.keySet(), team, limit);
+        Map<String, User> users = userRepository.findAllById(matches.stream().map(TeammateIndex.Match::userId).toList())
+                .stream().collect(Collectors.toMap(User::getId, Function.identity()));
+
+        List<TeammateMatchResponse> result = new ArrayList<>(matches.size());
+        for (TeammateIndex.Match match : matches) {
+            User user = users.get(match.userId());
+            if (user == null) {
+                continue;
+            }
+            List<String> skills = match.coveredSkillIds().stream()
+                    .map(requiredSkills::get)
+                    .toList();
+            result.add(new TeammateMatchResponse(user.getId(), user.getFirstName(), user.getLastName(),
+                    user.getProfilePictureUrl(), user.getBranch(), user.getAvailabilityStatus(),
+                    match.score(), skills));
+        }
+        return result;
+    }
+}
@@ -2,12 +2,18 @@ package com.ADP.peerConnect.service.Impl;
 
 import com.ADP.peerConnect.exception.ResourceNotFoundException;
 import com.ADP.peerConnect.model.dto.request.User.UpdateUserRequest;
+import com.ADP.peerConnect.model.dto.response.CursorPagedResponse;
+import com.ADP.peerConnect.model.dto.response.PagedResponse;
+import com.ADP.peerConnect.model.dto.response.UserCardResponse;
 import com.ADP.peerConnect.model.dto.response.UserResponse;
 import com.ADP.peerConnect.model.entity.User; // Corrected import from previous turn
 import com.ADP.peerConnect.model.enums.AvailabilityStatus;
 import com.ADP.peerConnect.repository.UserRepository;
+import com.ADP.peerConnect.repository.UserSkillRepository;
 import com.ADP.peerConnect.security.UserPrincipal;
+import com.ADP.peerConnect.service.cache.UserSearchIndex;
 import com.ADP.peerConnect.service.Interface.iUserService;
+import com.ADP.peerConnect.service.job.EmbeddingJobOutbox;
 import com.ADP.peerConnect.util.Constants;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
@@ -18,7 +24,10 @@ import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -32,6 +41,15 @@ public class UserService implements iUserService, UserDetailsService {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private UserSkillRepository userSkillRepository;
+
+    @Autowired
+    private UserSearchIndex userSearchIndex;
+
+    @Autowired
+    private EmbeddingJobOutbox embeddingJobOutbox;
+
     // modelMapper removed; constructing DTOs directly where needed
 
     // This method is now correctly overriding the UserDetailsService interface
@@ -115,6 +133,7 @@ public class UserService implements iUserService, UserDetailsService {
 
         if (updateRequest.getFirstName() != null) user.setFirstName(updateRequest.getFirstName());
         if (updateRequest.getLastName() != null) user.setLastName(updateRequest.getLastName());
+        boolean bioChanged = updateRequest.getBio() != null && !updateRequest.getBio().equals(user.getBio());
         if (updateRequest.getBio() != null) user.setBio(updateRequest.getBio());
         if (updateRequest.getBranch() != null) user.setBranch(updateRequest.getBranch());
         if (updateRequest.getGraduationYear() != null) user.setGraduationYear(updateRequest.getGraduationYear());
@@ -126,6 +145,10 @@ public class UserService implements iUserService, UserDetailsService {
         if (updateRequest.getPortfolioUrl() != null) user.setPortfolioUrl(updateRequest.getPortfolioUrl());
 
         userRepository.save(user);
+        // the profile embedding is built from the bio and skills
+        if (bioChanged) {
+            embeddingJobOutbox.userChanged(userId);
+        }
 
         return new UserResponse(user);
     }
@@ -207,6 +230,47 @@ public class UserService implements iUserService, UserDetailsService {
         return userRepository.searchUsers(name, branch, graduationYear, availabilityStatus, skillNames, pageable);
     }
 
+    /**
+     * Search user cards: one page query projecting card columns plus one skills query for
+     * the whole page, so the number of statements does not grow with the page size
+     */
+    @Transactional(readOnly = true)
+    public PagedResponse<UserCardResponse> searchUserCards(String name, String branch, Integer graduationYear,
+                                                           AvailabilityStatus availabilityStatus, List<String> skillNames,
+                                                           Pageable pageable) {
+        Page<UserCardResponse> page = userRepository.searchUserCards(name, branch, graduationYear,
+                availabilityStatus, skillNames, pageable);
+        List<UserCardResponse> cards = page.getContent();
+        if (!cards.isEmpty()) {
+            Map<String, List<String>> skillsByUser = new HashMap<>();
+            List<String> ids = cards.stream().map(UserCardResponse::getId).toList();
+            for (Object[] row : userSkillRepository.findUserIdAndSkillNamesByUserIds(ids)) {
+                skillsByUser.computeIfAbsent((String) row[0], k -> new ArrayList<>()).add((String) row[1]);
+            }
+            for (UserCardResponse card : cards) {
+                List<String> skills = skillsByUser.getOrDefault(card.getId(), new ArrayList<>());
+                skills.sort(String.CASE_INSENSITIVE_ORDER);
+                card.setSkills(skills);
+            }
+        }
+        return new PagedResponse<>(cards, page.getNumber(), page.getTotalElements(), page.getTotalPages(),
+                page.isFirst(), page.isLast(), page.getNumberOfElements());
+    }
+
+    /**
+     * Ranked people search served from the in-memory index, with cursor pagination
+     */
+    public CursorPagedResponse<UserCardResponse> searchUsersRanked(String name, String branch, Integer graduationYear,
+                                                                  AvailabilityStatus availabilityStatus, List<String> skillNames,
+                                                                  String cursor, int limit) {
+        UserSearchIndex.SearchPage page = userSearchIndex.search(name, branch, graduationYear,
+                availabilityStatus, skillNames, cursor, limit);
+        List<UserCardResponse> cards = page.hits().stream()
+                .map(h -> new UserCardResponse(h.id(), h.firstName(), h.lastName(), h.profilePictureUrl(), h.branch()))
+                .toList();
+        return new CursorPagedResponse<>(cards, page.nextCursor(), page.nextCursor() != null, cards.size());
+    }
+
     /**
      * Update user availability status
      */
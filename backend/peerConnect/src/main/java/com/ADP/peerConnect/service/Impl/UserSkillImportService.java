@@ -0,0 +1,389 @@
+package com.ADP.peerConnect.service.Impl;
+
+import com.ADP.peerConnect.exception.BadRequestException;
+import com.ADP.peerConnect.model.dto.request.User.UserSkillImportRow;
+import com.ADP.peerConnect.model.dto.response.UserSkillImportResponse;
+import com.ADP.peerConnect.model.entity.Skill;
+import com.ADP.peerConnect.model.enums.SkillLevel;
+import com.ADP.peerConnect.repository.UserRepository;
+import com.ADP.peerConnect.repository.UserSkillRepository;
+import com.ADP.peerConnect.service.Interface.iSkillService;
+import com.ADP.peerConnect.service.Interface.iUserSkillImportService;
+import com.ADP.peerConnect.service.cache.SkillCooccurrenceIndex;
+import com.ADP.peerConnect.service.cache.SkillTrends;
+import com.ADP.peerConnect.service.cache.TeammateIndex;
+import com.ADP.peerConnect.service.cache.UserSearchIndex;
+import com.ADP.peerConnect.service.job.EmbeddingJobOutbox;
+import com.ADP.peerConnect.service.job.SkillUsageCounters;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Bulk import of user skills for whole cohorts, from CSV or a JSON array.
+ *
+ * The input is streamed and processed in chunks of {@value #CHUNK_SIZE} rows, each in its own
+ * transaction: one query resolves the chunk's users, one findOrCreateSkills call its skills,
+ * one query loads the skills those users already have, and the new rows go in with a single
+ * multi-row INSERT ... ON CONFLICT DO NOTHING RETURNING, which reports exactly the rows that
+ * were inserted (batch update counts may be SUCCESS_NO_INFO). Because the rows bypass JPA, usage
+ * counters, trends, the in-memory user indexes and embedding jobs are updated here, after each commit.
+ */
+@Service
+public class UserSkillImportService implements iUserSkillImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserSkillImportService.class);
+
+    private static final int CHUNK_SIZE = 1000;
+    private static final int MAX_REPORTED_ERRORS = 100;
+
+    private static final String INSERT_SQL = "INSERT INTO user_skills (id, user_id, skill_id, level, experience, created_at) VALUES ";
+    private static final String INSERT_ROW = "(nextval('user_skills_id_seq'), ?, ?, ?, ?, now())";
+    private static final String INSERT_CONFLICT = " ON CONFLICT (user_id, skill_id) DO NOTHING RETURNING user_id, skill_id";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserSkillRepository userSkillRepository;
+
+    @Autowired
+    private iSkillService skillService;
+
+    @Autowired
+    private SkillUsageCounters skillUsageCounters;
+
+    @Autowired
+    private SkillTrends skillTrends;
+
+    @Autowired
+    private UserSearchIndex userSearchIndex;
+
+    @Autowired
+    private TeammateIndex teammateIndex;
+
+    @Autowired
+    private SkillCooccurrenceIndex skillCooccurrenceIndex;
+
+    @Autowired
+    private EmbeddingJobOutbox embeddingJobOutbox;
+
+    /**
+     * CSV with a header row naming the columns user, skill, level and optionally
+     * experience and category; user is a user id or an email.
+     */
+    @Override
+    public UserSkillImportResponse importCsv(InputStream input) {
+        UserSkillImportResponse report = new UserSkillImportResponse();
+        List<UserSkillImportRow> chunk = new ArrayList<>(CHUNK_SIZE);
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            String header = reader.readLine();
+            if (header == null) {
+                throw new BadRequestException("Import file is empty");
+            }
+            Map<String, Integer> columns = new HashMap<>();
+            List<String> names = parseCsvLine(header.replace("\uFEFF", ""));
+            for (int i = 0; i < names.size(); i++) {
+                columns.put(names.get(i).trim().toLowerCase(Locale.ROOT), i);
+            }
+            for (String required : List.of("user", "skill", "level")) {
+                if (!columns.containsKey(required)) {
+                    throw new BadRequestException("CSV header must contain the column: " + required);
+                }
+            }
+
+            String line;
+            long lineNumber = 1;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                List<String> values = parseCsvLine(line);
+                UserSkillImportRow row = new UserSkillImportRow(
+                        column(values, columns, "user"), column(values, columns, "skill"),
+                        column(values, columns, "level"), column(values, columns, "experience"),
+                        column(values, columns, "category"), lineNumber);
+                add(row, chunk, report);
+            }
+        } catch (IOException e) {
+            throw new BadRequestException("Could not read import file: " + e.getMessage());
+        }
+        flush(chunk, report);
+        return report;
+    }
+
+    /**
+     * JSON array of objects with the fields user, skill, level, experience and category.
+     */
+    @Override
+    public UserSkillImportResponse importJson(InputStream input) {
+        UserSkillImportResponse report = new UserSkillImportResponse();
+        List<UserSkillImportRow> chunk = new ArrayList<>(CHUNK_SIZE);
+        try (JsonParser parser = objectMapper.getFactory().createParser(input)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new BadRequestException("Import must be a JSON array of rows");
+            }
+            long index = 0;
+            JsonToken token;
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                if (token == null) {
+                    throw new BadRequestException("Import JSON array is not closed");
+                }
+                index++;
+                if (token != JsonToken.START_OBJECT) {
+                    // a scalar or nested array where a row belongs: reject it and keep reading
+                    report.setRowsRead(report.getRowsRead() + 1);
+                    reject(report, index, "expected a JSON object, found "
+                            + (token.isScalarValue() ? parser.getText() : token.asString()));
+                    parser.skipChildren();
+                    continue;
+                }
+                UserSkillImportRow row = objectMapper.readValue(parser, UserSkillImportRow.class);
+                row.setLine(index);
+                add(row, chunk, report);
+            }
+        } catch (IOException e) {
+            throw new BadRequestException("Could not read import file: " + e.getMessage());
+        }
+        flush(chunk, report);
+        return report;
+    }
+
+    private void add(UserSkillImportRow row, List<UserSkillImportRow> chunk, UserSkillImportResponse report) {
+        report.setRowsRead(report.getRowsRead() + 1);
+        String problem = validate(row);
+        if (problem != null) {
+            reject(report, row.getLine(), problem);
+            return;
+        }
+        chunk.add(row);
+        if (chunk.size() >= CHUNK_SIZE) {
+            flush(chunk, report);
+        }
+    }
+
+    private static String validate(UserSkillImportRow row) {
+        if (row.getUser() == null || row.getUser().isBlank()) {
+            return "user is required";
+        }
+        String skill = row.getSkill() == null ? "" : row.getSkill().trim();
+        if (skill.length() < 2 || skill.length() > 100) {
+            return "skill name must be between 2 and 100 characters";
+        }
+        if (parseLevel(row.getLevel()) == null) {
+            return "unknown level: " + row.getLevel();
+        }
+        if (row.getExperience() != null && row.getExperience().length() > 500) {
+            return "experience must not exceed 500 characters";
+        }
+        return null;
+    }
+
+    private void flush(List<UserSkillImportRow> chunk, UserSkillImportResponse report) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        try {
+            // counted separately and merged only once the chunk has committed, so a rolled
+            // back chunk is reported once, as rejected
+            UserSkillImportResponse outcome = transactionTemplate.execute(status -> importChunk(chunk));
+            merge(report, outcome);
+        } catch (RuntimeException e) {
+            logger.warn("User skill import chunk starting at line {} failed: {}", chunk.get(0).getLine(), e.getMessage());
+            for (UserSkillImportRow row : chunk) {
+                reject(report, row.getLine(), "chunk failed: " + e.getMessage());
+            }
+        }
+        chunk.clear();
+    }
+
+    private UserSkillImportResponse importChunk(List<UserSkillImportRow> rows) {
+        UserSkillImportResponse report = new UserSkillImportResponse();
+        // Users, by id or by email, in one query
+        Set<String> keys = new HashSet<>();
+        for (UserSkillImportRow row : rows) {
+            keys.add(row.getUser().trim());
+        }
+        Set<String> emails = new HashSet<>();
+        keys.forEach(k -> emails.add(k.toLowerCase(Locale.ROOT)));
+        Map<String, String> userIds = new HashMap<>();
+        for (Object[] user : userRepository.findIdAndEmailByIdInOrEmailIn(keys, emails)) {
+            userIds.put((String) user[0], (String) user[0]);
+            if (user[1] != null) {
+                userIds.put((String) user[1], (String) user[0]);
+            }
+        }
+
+        // Skills, created when missing, in one call
+        Map<String, String> categoriesByName = new LinkedHashMap<>();
+        for (UserSkillImportRow row : rows) {
+            categoriesByName.putIfAbsent(row.getSkill().trim(), row.getCategory());
+        }
+        Map<String, Skill> skills = skillService.findOrCreateSkills(categoriesByName);
+
+        // Skills the chunk's users already have, in one query
+        Set<String> chunkUserIds = new HashSet<>(userIds.values());
+        Map<String, Set<Long>> owned = new HashMap<>();
+        for (Object[] us : userSkillRepository.findUserIdSkillIdAndLevelByUserIds(chunkUserIds)) {
+            owned.computeIfAbsent((String) us[0], k -> new HashSet<>()).add((Long) us[1]);
+        }
+
+        List<Object> args = new ArrayList<>();
+        List<Object[]> pending = new ArrayList<>();
+        for (UserSkillImportRow row : rows) {
+            String key = row.getUser().trim();
+            String userId = userIds.getOrDefault(key, userIds.get(key.toLowerCase(Locale.ROOT)));
+            if (userId == null) {
+                reject(report, row.getLine(), "unknown user: " + key);
+                continue;
+            }
+            Skill skill = skills.get(Skill.normalizeName(row.getSkill()));
+            if (skill == null) {
+                reject(report, row.getLine(), "skill could not be resolved: " + row.getSkill());
+                continue;
+            }
+            if (!owned.computeIfAbsent(userId, k -> new HashSet<>()).add(skill.getId())) {
+                report.setSkipped(report.getSkipped() + 1);
+                continue;
+            }
+            args.add(userId);
+            args.add(skill.getId());
+            args.add(parseLevel(row.getLevel()).name());
+            args.add(blankToNull(row.getExperience()));
+            pending.add(new Object[]{userId, skill.getId()});
+        }
+        if (pending.isEmpty()) {
+            return report;
+        }
+
+        String sql = INSERT_SQL + String.join(", ", Collections.nCopies(pending.size(), INSERT_ROW)) + INSERT_CONFLICT;
+        Set<String> inserted = new HashSet<>(jdbcTemplate.query(sql,
+                (rs, rowNum) -> rs.getString("user_id") + ":" + rs.getLong("skill_id"), args.toArray()));
+        Set<String> touchedUsers = new LinkedHashSet<>();
+        for (Object[] row : pending) {
+            String userId = (String) row[0];
+            Long skillId = (Long) row[1];
+            if (inserted.contains(userId + ":" + skillId)) {
+                report.setInserted(report.getInserted() + 1);
+                skillUsageCounters.addUsers(skillId, 1);
+                skillTrends.userAdopted(skillId);
+                touchedUsers.add(userId);
+            } else {
+                // inserted concurrently since the existence check
+                report.setSkipped(report.getSkipped() + 1);
+            }
+        }
+        for (String userId : touchedUsers) {
+            userSearchIndex.reindex(userId);
+            teammateIndex.reindex(userId);
+            skillCooccurrenceIndex.userChanged(userId);
+            embeddingJobOutbox.userChanged(userId);
+        }
+        return report;
+    }
+
+    private static void merge(UserSkillImportResponse report, UserSkillImportResponse chunk) {
+        if (chunk == null) {
+            return;
+        }
+        report.setInserted(report.getInserted() + chunk.getInserted());
+        report.setSkipped(report.getSkipped() + chunk.getSkipped());
+        report.setRejected(report.getRejected() + chunk.getRejected());
+        for (String error : chunk.getErrors()) {
+            if (report.getErrors().size() >= MAX_REPORTED_ERRORS) {
+                break;
+            }
+            report.getErrors().add(error);
+        }
+    }
+
+    private static void reject(UserSkillImportResponse report, long line, String reason) {
+        report.setRejected(report.getRejected() + 1);
+        if (report.getErrors().size() < MAX_REPORTED_ERRORS) {
+            report.getErrors().add("row " + line + ": " + reason);
+        }
+    }
+
+    private static SkillLevel parseLevel(String level) {
+        if (level == null || level.isBlank()) {
+            return null;
+        }
+        try {
+            return SkillLevel.valueOf(level.trim().toUpperCase(Locale.ROOT).replace(' ', '_').replace('-', '_'));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+
+    private static String column(List<String> values, Map<String, Integer> columns, String name) {
+        Integer index = columns.get(name);
+        return index == null || index >= values.size() ? null : values.get(index);
+    }
+
+    /**
+     * Split one CSV line; fields may be double-quoted, with "" for a literal quote.
+     */
+    private static List<String> parseCsvLine(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+}
@@ -11,12 +11,18 @@ import com.ADP.peerConnect.model.enums.SkillLevel;
 import com.ADP.peerConnect.repository.UserSkillRepository;
 import com.ADP.peerConnect.service.Interface.iUserSkillService;
 import com.ADP.peerConnect.model.dto.request.User.AddUserSkillRequest;
+import com.ADP.peerConnect.service.job.EmbeddingJobOutbox;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 /**
  * Service class for UserSkill entity operations
@@ -34,6 +40,9 @@ public class UserSkillService implements iUserSkillService {
     @Autowired
     private SkillService skillService;
 
+    @Autowired
+    private EmbeddingJobOutbox embeddingJobOutbox;
+
     public UserSkill addUserSkill(String userId, String skillName, SkillLevel level, String experience,
             String category) {
         // Validate input
@@ -46,7 +55,7 @@ public class UserSkillService implements iUserSkillService {
         }
 
         // Check if user already has this skill
-        if (userSkillRepository.existsByUserIdAndSkillNameIgnoreCase(userId, skillName)) {
+        if (userHasSkill(userId, skillName)) {
             throw new ConflictException("User already has this skill");
         }
 
@@ -67,6 +76,7 @@ public class UserSkillService implements iUserSkillService {
 
         // Increment the skill's users count
         skillService.incrementUsers(skill);
+        embeddingJobOutbox.userChanged(userId);
 
         return saved;
     }
@@ -82,36 +92,36 @@ public class UserSkillService implements iUserSkillService {
         }
 
         User user = userService.findById(userId);
-        List<UserSkill> toSave = new ArrayList<>();
-        List<UserSkill> added = new ArrayList<>();
+        Set<Long> ownedSkillIds = new HashSet<>(userSkillRepository.findSkillIdsByUserId(userId));
 
+        // One request per skill; the first one for a name wins, invalid ones are skipped
+        Map<String, AddUserSkillRequest> requests = new LinkedHashMap<>();
         for (AddUserSkillRequest req : skills) {
-            String skillName = req.getSkillName();
-            SkillLevel level = req.getLevel();
-            String experience = req.getExperience();
-            String category = req.getCategory();
-
-            if (skillName == null || skillName.trim().isEmpty()) {
-                continue;
-            }
-            if (level == null) {
+            if (req.getSkillName() == null || req.getSkillName().trim().isEmpty() || req.getLevel() == null) {
                 continue;
             }
+            requests.putIfAbsent(Skill.normalizeName(req.getSkillName()), req);
+        }
+        Map<String, String> categoriesByName = new LinkedHashMap<>();
+        for (AddUserSkillRequest req : requests.values()) {
+            categoriesByName.put(req.getSkillName(), req.getCategory());
+        }
+
+        // All skills resolved (and missing ones created) at once
+        Map<String, Skill> resolved = categoriesByName.isEmpty()
+                ? Map.of()
+                : skillService.findOrCreateSkills(categoriesByName);
 
+        List<UserSkill> toSave = new ArrayList<>();
+        List<UserSkill> added = new ArrayList<>();
+        for (Map.Entry<String, AddUserSkillRequest> e : requests.entrySet()) {
+            Skill skill = resolved.get(e.getKey());
             // If user already has the skill, skip
-            if (userSkillRepository.existsByUserIdAndSkillNameIgnoreCase(userId, skillName)) {
+            if (skill == null || ownedSkillIds.contains(skill.getId())) {
                 continue;
             }
-
-            Skill skill = skillService.findOrCreateSkill(skillName, category);
-
-            UserSkill userSkill = new UserSkill();
-            userSkill.setUser(user);
-            userSkill.setSkill(skill);
-            userSkill.setLevel(level);
-            userSkill.setExperience(experience);
-
-            toSave.add(userSkill);
+            AddUserSkillRequest req = e.getValue();
+            toSave.add(new UserSkill(user, skill, req.getLevel(), req.getExperience()));
         }
 
         if (!toSave.isEmpty()) {
@@ -120,6 +130,7 @@ public class UserSkillService implements iUserSkillService {
             for (UserSkill us : saved) {
                 skillService.incrementUsers(us.getSkill());
             }
+            embeddingJobOutbox.userChanged(userId);
             added.addAll(saved);
         }
 
@@ -157,6 +168,7 @@ public class UserSkillService implements iUserSkillService {
         if (skill != null) {
             skillService.decrementUsers(skill);
         }
+        embeddingJobOutbox.userChanged(userId);
     }
 
     public UserSkill updateUserSkill(String userId, Long userSkillId, SkillLevel level, String experience) {
@@ -182,10 +194,12 @@ public class UserSkillService implements iUserSkillService {
     }
 
     /**
-     * Check if user has skill
+     * Check if user has skill. The name is resolved through the skill dictionary, so a
+     * name no skill has costs no query at all.
      */
     public boolean userHasSkill(String userId, String skillName) {
-        return userSkillRepository.existsByUserIdAndSkillNameIgnoreCase(userId, skillName);
+        Optional<Long> skillId = skillService.findIdByName(skillName);
+        return skillId.isPresent() && userSkillRepository.existsByUserIdAndSkillId(userId, skillId.get());
     }
 
     /**
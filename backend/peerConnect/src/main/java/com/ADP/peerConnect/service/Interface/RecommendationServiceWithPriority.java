@@ -1,6 +1,8 @@
 package com.ADP.peerConnect.service.Interface;
 
 import com.ADP.peerConnect.model.dto.ProjectRecommendationDTO;
+import com.ADP.peerConnect.model.dto.response.RecommendationResponseWithPriority;
+import com.ADP.peerConnect.model.dto.response.VectorMatchResponse;
 import com.ADP.peerConnect.model.entity.UserRecommendedProject;
 import java.util.List;
 
@@ -21,12 +23,12 @@ public interface RecommendationServiceWithPriority {
     List<UserRecommendedProject> getRecommendedProjectsByPriority(String userId);
 
     /**
-     * Get top N recommended projects for a user by priority
+     * Get top N recommended projects for a user by priority, served from the per-user cache
      * @param userId - User ID
      * @param limit - Number of recommendations to return
-     * @return List of top N recommended projects
+     * @return Response with the top N recommended projects
      */
-    List<UserRecommendedProject> getTopRecommendations(String userId, int limit);
+    RecommendationResponseWithPriority getTopRecommendations(String userId, int limit);
 
     /**
      * Add a project recommendation for a user with priority
@@ -75,4 +77,20 @@ public interface RecommendationServiceWithPriority {
      * @return New list of recommended projects
      */
     List<UserRecommendedProject> replaceAllRecommendations(String userId, List<ProjectRecommendationDTO> recommendations);
-}
\ No newline at end of file
+
+    /**
+     * Projects whose requirements embedding is most similar to the user's profile embedding
+     * @param userId - User ID
+     * @param limit - Number of projects to return
+     * @return Projects ordered by similarity, best first; empty until the user has an embedding
+     */
+    List<VectorMatchResponse> findSimilarProjects(String userId, int limit);
+
+    /**
+     * Users whose profile embedding is most similar to the project's requirements embedding
+     * @param projectId - Project ID
+     * @param limit - Number of users to return
+     * @return Users ordered by similarity, best first; empty until the project has an embedding
+     */
+    List<VectorMatchResponse> findSimilarUsers(String projectId, int limit);
+}
@@ -0,0 +1,9 @@
+package com.ADP.peerConnect.service.Interface;
+
+import com.ADP.peerConnect.model.dto.response.CursorPagedResponse;
+import com.ADP.peerConnect.model.dto.response.RecommendedCandidateResponse;
+
+public interface iCandidateRecommendationService {
+    public CursorPagedResponse<RecommendedCandidateResponse> getCandidates(String projectId, String currentUserId,
+                                                                           String cursor, int limit);
+}
@@ -3,6 +3,7 @@ package com.ADP.peerConnect.service.Interface;
 import com.ADP.peerConnect.model.dto.request.Project.CreateProjectRequest;
 import com.ADP.peerConnect.model.dto.request.Project.UpdateProjectRequest;
 import com.ADP.peerConnect.model.dto.response.Project.ProjectCardResponse;
+import com.ADP.peerConnect.model.dto.response.Project.ProjectFacetedSearchResponse;
 import com.ADP.peerConnect.model.dto.response.Project.ProjectResponse;
 import com.ADP.peerConnect.model.entity.Project;
 import com.ADP.peerConnect.model.entity.ProjectMember;
@@ -23,6 +24,8 @@ public interface iProjectService {
 
     Project findById(String projectId);
 
+    ProjectResponse getProjectDetail(String projectId);
+
     Page<ProjectResponse> getRecentProjects(Pageable pageable);
 
     Page<Project> findByLead(String leadId, Pageable pageable);
@@ -45,6 +48,18 @@ public interface iProjectService {
             Pageable pageable,
             String currentUserId);
 
+    /**
+     * searchProjects plus per-skill, per-category and per-status counts.
+     */
+    ProjectFacetedSearchResponse searchProjectsWithFacets(
+            String query,
+            String category,
+            ProjectStatus status,
+            List<String> skills,
+            boolean availableOnly,
+            Pageable pageable,
+            String currentUserId);
+
     /**
      * FIX: Returns Page<ProjectCardResponse> instead of Page<Project>.
      */
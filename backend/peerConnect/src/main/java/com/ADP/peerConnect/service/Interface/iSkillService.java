@@ -4,12 +4,16 @@ import com.ADP.peerConnect.model.entity.Skill;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface iSkillService {
     public Skill createSkill(String name, String category) ;
     public Skill findOrCreateSkill(String name);
+    public Map<String, Skill> findOrCreateSkills(Collection<String> names);
+    public Map<String, Skill> findOrCreateSkills(Map<String, String> categoriesByName);
     public Skill findById(Long id) ;
     public Page<Skill> findAll(Pageable pageable);
 //    public List<Skill> getPredefinedSkills() ;
@@ -26,6 +30,8 @@ public interface iSkillService {
     public Optional<Skill> findByNormalizedName(String normalizedName);
 
     public boolean existsByNormalizedName(String normalizedName);
+    public Optional<Long> findIdByName(String name);
+    public List<Skill> autocomplete(String prefix, int limit);
 
     // advanced search
     public List<Skill> searchSkills(String search, Pageable pageable);
@@ -47,6 +53,8 @@ public interface iSkillService {
     // trending
     public List<Skill> getTrendingSkills(Pageable pageable);
 
+    public List<Skill> getTrendingSkills(int days, int limit);
+
     // recommendations
     public List<Skill> getRecommendedSkillsForUser(List<Long> skillIds,
                                                    Pageable pageable) ;
@@ -54,6 +62,8 @@ public interface iSkillService {
     public List<Skill> getComplementarySkillsForProject(List<Long> skillIds,
                                                         Pageable pageable);
 
+    public List<Skill> getRecommendedSkillsForUser(String userId, int limit);
+
 
 
     // popular by category + threshold
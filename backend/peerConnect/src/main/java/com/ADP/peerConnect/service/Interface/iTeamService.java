@@ -2,6 +2,7 @@ package com.ADP.peerConnect.service.Interface;
 
 import com.ADP.peerConnect.model.dto.response.Project.ProjectInvitationResponse;
 import com.ADP.peerConnect.model.dto.response.Project.ProjectMemberResponse;
+import com.ADP.peerConnect.model.dto.response.TeammateMatchResponse;
 import com.ADP.peerConnect.model.entity.ProjectInvitation;
 import com.ADP.peerConnect.model.entity.ProjectMember;
 import com.ADP.peerConnect.model.enums.InvitationStatus;
@@ -28,4 +29,5 @@ public interface iTeamService {
 
     public List<ProjectMember> getUserProjectMemberships(String userId) ;
     public Page<ProjectInvitationResponse> getUserInvitations(String userId, InvitationStatus status, Pageable pageable);
+    public List<TeammateMatchResponse> findComplementaryTeammates(String projectId, String requesterId, int limit);
 }
@@ -1,6 +1,9 @@
 package com.ADP.peerConnect.service.Interface;
 
 import com.ADP.peerConnect.model.dto.request.User.UpdateUserRequest;
+import com.ADP.peerConnect.model.dto.response.CursorPagedResponse;
+import com.ADP.peerConnect.model.dto.response.PagedResponse;
+import com.ADP.peerConnect.model.dto.response.UserCardResponse;
 import com.ADP.peerConnect.model.dto.response.UserResponse;
 import com.ADP.peerConnect.model.entity.User;
 import com.ADP.peerConnect.model.enums.AvailabilityStatus;
@@ -43,6 +46,12 @@ public interface iUserService  {
     public Page<User> searchUsers(String name, String branch, Integer graduationYear,
                                   AvailabilityStatus availabilityStatus, List<String> skillNames,
                                   Pageable pageable);
+    public PagedResponse<UserCardResponse> searchUserCards(String name, String branch, Integer graduationYear,
+                                                           AvailabilityStatus availabilityStatus, List<String> skillNames,
+                                                           Pageable pageable);
+    public CursorPagedResponse<UserCardResponse> searchUsersRanked(String name, String branch, Integer graduationYear,
+                                                                  AvailabilityStatus availabilityStatus, List<String> skillNames,
+                                                                  String cursor, int limit);
     public User updateAvailabilityStatus(String userId, AvailabilityStatus status);
 
     public Page<User> findByBranch(String branch, Pageable pageable);
@@ -0,0 +1,12 @@
+package com.ADP.peerConnect.service.Interface;
+
+import com.ADP.peerConnect.model.dto.response.UserSkillImportResponse;
+
+import java.io.InputStream;
+
+public interface iUserSkillImportService {
+
+    public UserSkillImportResponse importCsv(InputStream input);
+
+    public UserSkillImportResponse importJson(InputStream input);
+}
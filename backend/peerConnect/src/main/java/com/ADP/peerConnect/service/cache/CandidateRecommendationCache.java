@@ -0,0 +1,140 @@
+package com.ADP.peerConnect.service.cache;
+
+import com.ADP.peerConnect.model.dto.response.RecommendedCandidateResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Per-project cache of the ranked project_recommended_candidates rows behind the candidates
+ * endpoint.
+ *
+ * An entry is the project's full ranking, unfiltered, so every page of the cursor walk is
+ * served from one query. Members, the lead and pending invitees are filtered out on each read
+ * against {@link com.ADP.peerConnect.security.ProjectAccessIndex}, so membership and
+ * invitation changes need no eviction. The entry is evicted when the rows are rewritten (the
+ * embedding worker and the hybrid job) or the project is deleted, now and again after
+ * commit, and a load that started before an evict or clear does not store its result
+ * ({@link EvictionGenerations}); rows written outside this JVM are picked up when the entry
+ * expires.
+ */
+@Component
+public class CandidateRecommendationCache {
+
+    private final int maxSize;
+    private final long ttlMillis;
+    private final Map<String, Entry> entries;
+    private final EvictionGenerations generations = new EvictionGenerations();
+    // advanced by clear(), which drops every key at once; guarded by entries
+    private long clears;
+
+    private final Counter hits;
+    private final Counter misses;
+
+    public CandidateRecommendationCache(MeterRegistry meterRegistry,
+                                        @Value("${app.cache.candidates.max-size:2000}") int maxSize,
+                                        @Value("${app.cache.candidates.ttl-seconds:600}") long ttlSeconds) {
+        this.maxSize = maxSize;
+        this.ttlMillis = ttlSeconds * 1000;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > CandidateRecommendationCache.this.maxSize;
+            }
+        };
+        this.hits = Counter.builder("peerconnect.candidate.cache.hits")
+                .description("Candidate ranking lookups served from the cache")
+                .register(meterRegistry);
+        this.misses = Counter.builder("peerconnect.candidate.cache.misses")
+                .description("Candidate ranking lookups that had to query the database")
+                .register(meterRegistry);
+        meterRegistry.gauge("peerconnect.candidate.cache.size", this, c -> c.size());
+    }
+
+    /**
+     * The project's ranked candidates, best first. The returned rows are shared and must be
+     * treated as read-only.
+     */
+    public List<RecommendedCandidateResponse> getRanked(String projectId,
+                                                        Supplier<List<RecommendedCandidateResponse>> loader) {
+        Entry entry;
+        synchronized (entries) {
+            entry = entries.get(projectId);
+        }
+        if (entry != null && !entry.isExpired(ttlMillis)) {
+            hits.increment();
+            return entry.rows();
+        }
+        misses.increment();
+        long generation;
+        long cleared;
+        synchronized (entries) {
+            generation = generations.current(projectId);
+            cleared = clears;
+        }
+        entry = new Entry(List.copyOf(loader.get()), System.currentTimeMillis());
+        synchronized (entries) {
+            if (generations.isCurrent(projectId, generation) && clears == cleared) {
+                entries.put(projectId, entry);
+            }
+        }
+        return entry.rows();
+    }
+
+    /**
+     * Drop the project's cached ranking now and, when called inside a transaction, once more
+     * after it commits.
+     */
+    public void evict(String projectId) {
+        if (projectId == null) {
+            return;
+        }
+        remove(projectId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    remove(projectId);
+                }
+            });
+        }
+    }
+
+    /**
+     * Drop every cached ranking, after a batch job rewrote all rows.
+     */
+    public void clear() {
+        synchronized (entries) {
+            clears++;
+            entries.clear();
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private void remove(String projectId) {
+        synchronized (entries) {
+            generations.advance(projectId);
+            entries.remove(projectId);
+        }
+    }
+
+    private record Entry(List<RecommendedCandidateResponse> rows, long cachedAt) {
+
+        boolean isExpired(long ttlMillis) {
+            return System.currentTimeMillis() - cachedAt > ttlMillis;
+        }
+    }
+}
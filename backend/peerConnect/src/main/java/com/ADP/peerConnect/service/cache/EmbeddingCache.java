@@ -0,0 +1,305 @@
+package com.ADP.peerConnect.service.cache;
+
+import com.ADP.peerConnect.service.embedding.EmbeddingProvider;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Embeddings by content, so a job whose text did not change (an availability toggle
+ * re-queues the user with the same bio and skills) never reaches the model.
+ *
+ * The key is the SHA-256 of the model name and the normalised text (Unicode NFC, trimmed,
+ * whitespace runs collapsed to one space). Vectors are kept in an in-memory LRU in front of
+ * the embedding_cache table (key, model, float32 vector packed into a BYTEA, last use), which
+ * survives restarts and is shared by every instance; rows unused for retention-days are
+ * deleted by a daily sweep. {@link #prefetch} loads a whole batch of texts with one query.
+ * A lookup is a plain SELECT; last_used_at is only rewritten for rows it has not been bumped
+ * on for a day, which is all the retention sweep needs.
+ *
+ * The table is part of the schema (ddl-auto is none). When it cannot be reached the cache
+ * works from memory and tries the table again after a backoff that doubles on every failure,
+ * so an outage or a missing migration does not disable it until the next restart.
+ *
+ * peerconnect.embedding.cache.hits/misses and the hit-ratio gauge show how often the model
+ * is skipped; peerconnect.embedding.model.calls times the calls that were made, so the model
+ * time saved is roughly hits x the mean call time.
+ */
+@Component
+public class EmbeddingCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmbeddingCache.class);
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private static final String LOOKUP_SQL = "SELECT content_hash, embedding, "
+            + "last_used_at < now() - INTERVAL '1 day' FROM embedding_cache WHERE content_hash IN (:hashes)";
+
+    private static final String TOUCH_SQL = "UPDATE embedding_cache SET last_used_at = now() "
+            + "WHERE content_hash IN (:hashes) AND last_used_at < now() - INTERVAL '1 day'";
+
+    private static final String STORE_SQL = "INSERT INTO embedding_cache (content_hash, model, embedding) "
+            + "VALUES (?, ?, ?) ON CONFLICT (content_hash) DO UPDATE SET embedding = EXCLUDED.embedding, "
+            + "last_used_at = now()";
+
+    private static final String SWEEP_SQL = "DELETE FROM embedding_cache "
+            + "WHERE last_used_at < now() - make_interval(days => ?)";
+
+    private static final long MIN_RETRY_MILLIS = 30_000;
+    private static final long MAX_RETRY_MILLIS = 30 * 60_000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final int maxSize;
+    private final int retentionDays;
+    private final Map<String, float[]> entries;
+
+    private final boolean persistent;
+
+    // table backoff: no table access before retryAt; failures doubles the next wait
+    private volatile long retryAt;
+    private int failures;
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Timer modelCalls;
+
+    public EmbeddingCache(JdbcTemplate jdbcTemplate,
+                          MeterRegistry meterRegistry,
+                          @Value("${app.embedding.cache.table-enabled:true}") boolean persistent,
+                          @Value("${app.embedding.cache.max-size:5000}") int maxSize,
+                          @Value("${app.embedding.cache.retention-days:90}") int retentionDays) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = jdbcTemplate == null ? null : new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.persistent = persistent && jdbcTemplate != null;
+        this.maxSize = maxSize;
+        this.retentionDays = retentionDays;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, float[]> eldest) {
+                return size() > EmbeddingCache.this.maxSize;
+            }
+        };
+        this.hits = Counter.builder("peerconnect.embedding.cache.hits")
+                .description("Embeddings served from the cache instead of the model")
+                .register(meterRegistry);
+        this.misses = Counter.builder("peerconnect.embedding.cache.misses")
+                .description("Embeddings that had to be computed by the model")
+                .register(meterRegistry);
+        this.modelCalls = Timer.builder("peerconnect.embedding.model.calls")
+                .description("Embedding model calls made on cache misses")
+                .register(meterRegistry);
+        Gauge.builder("peerconnect.embedding.cache.hit.ratio", this, EmbeddingCache::hitRatio)
+                .description("Share of embedding requests served from the cache")
+                .register(meterRegistry);
+        meterRegistry.gauge("peerconnect.embedding.cache.size", this, c -> c.size());
+    }
+
+    /**
+     * The embedding of the text under the provider's model: from memory, then the table, and
+     * only then from the provider, whose result is stored in both. The array is the caller's.
+     */
+    public float[] embed(String text, EmbeddingProvider provider) {
+        String key = key(provider.model(), text);
+        float[] vector = get(key);
+        if (vector == null && persistent) {
+            vector = load(Set.of(key)).get(key);
+            if (vector != null) {
+                put(key, vector);
+            }
+        }
+        if (vector != null) {
+            hits.increment();
+            return vector.clone();
+        }
+
+        misses.increment();
+        vector = modelCalls.record(() -> provider.embed(text));
+        put(key, vector.clone());
+        if (persistent) {
+            store(key, provider.model(), vector);
+        }
+        return vector;
+    }
+
+    /**
+     * Load the stored embeddings of a batch of texts into memory with one query, so the
+     * following {@link #embed} calls do not query the table one by one.
+     */
+    public void prefetch(String model, Collection<String> texts) {
+        if (!persistent || texts.isEmpty()) {
+            return;
+        }
+        Set<String> keys = new LinkedHashSet<>();
+        for (String text : texts) {
+            String key = key(model, text);
+            if (!contains(key)) {
+                keys.add(key);
+            }
+        }
+        if (!keys.isEmpty()) {
+            load(keys).forEach(this::put);
+        }
+    }
+
+    @Scheduled(cron = "${app.embedding.cache.sweep-cron:0 30 4 * * *}")
+    public void sweep() {
+        if (!tableAvailable()) {
+            return;
+        }
+        try {
+            int removed = jdbcTemplate.update(SWEEP_SQL, retentionDays);
+            tableSucceeded();
+            logger.info("Embedding cache sweep removed {} rows unused for {} days", removed, retentionDays);
+        } catch (DataAccessException e) {
+            tableFailed("sweep", e);
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private double hitRatio() {
+        double total = hits.count() + misses.count();
+        return total == 0 ? 0 : hits.count() / total;
+    }
+
+    // ===== KEYS =====
+
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String composed = Normalizer.normalize(text, Normalizer.Form.NFC).strip();
+        return WHITESPACE.matcher(composed).replaceAll(" ");
+    }
+
+    static String key(String model, String text) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(model.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(normalize(text).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    // ===== MEMORY =====
+
+    private float[] get(String key) {
+        synchronized (entries) {
+            return entries.get(key);
+        }
+    }
+
+    private boolean contains(String key) {
+        synchronized (entries) {
+            return entries.containsKey(key);
+        }
+    }
+
+    private void put(String key, float[] vector) {
+        synchronized (entries) {
+            entries.put(key, vector);
+        }
+    }
+
+    // ===== TABLE =====
+
+    private Map<String, float[]> load(Set<String> keys) {
+        if (!tableAvailable()) {
+            return Map.of();
+        }
+        Map<String, float[]> found = new HashMap<>();
+        List<String> stale = new ArrayList<>();
+        try {
+            namedJdbcTemplate.query(LOOKUP_SQL, new MapSqlParameterSource("hashes", keys),
+                    rs -> {
+                        found.put(rs.getString(1), unpack(rs.getBytes(2)));
+                        if (rs.getBoolean(3)) {
+                            stale.add(rs.getString(1));
+                        }
+                    });
+            if (!stale.isEmpty()) {
+                namedJdbcTemplate.update(TOUCH_SQL, new MapSqlParameterSource("hashes", stale));
+            }
+            tableSucceeded();
+        } catch (DataAccessException e) {
+            // the model is still there; a cache outage must not fail the job
+            tableFailed("lookup", e);
+        }
+        return found;
+    }
+
+    private void store(String key, String model, float[] vector) {
+        if (!tableAvailable()) {
+            return;
+        }
+        try {
+            jdbcTemplate.update(STORE_SQL, key, model, pack(vector));
+            tableSucceeded();
+        } catch (DataAccessException e) {
+            tableFailed("write", e);
+        }
+    }
+
+    private boolean tableAvailable() {
+        return persistent && System.currentTimeMillis() >= retryAt;
+    }
+
+    private synchronized void tableSucceeded() {
+        failures = 0;
+    }
+
+    private synchronized void tableFailed(String operation, DataAccessException e) {
+        long wait = Math.min(MAX_RETRY_MILLIS, MIN_RETRY_MILLIS << Math.min(failures, 16));
+        failures++;
+        retryAt = System.currentTimeMillis() + wait;
+        logger.warn("Embedding cache {} failed, caching in memory only for {} s: {}",
+                operation, wait / 1000, e.getMessage());
+    }
+
+    static byte[] pack(float[] vector) {
+        ByteBuffer buffer = ByteBuffer.allocate(vector.length * Float.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.asFloatBuffer().put(vector);
+        return buffer.array();
+    }
+
+    static float[] unpack(byte[] bytes) {
+        float[] vector = new float[bytes.length / Float.BYTES];
+        ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN).asFloatBuffer().get(vector);
+        return vector;
+    }
+}
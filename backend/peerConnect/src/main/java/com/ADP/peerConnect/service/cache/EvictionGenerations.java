@@ -0,0 +1,36 @@
+package com.ADP.peerConnect.service.cache;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Eviction counters for caches filled from the database, so a loader that read before a
+ * commit cannot put its result back after the after-commit evict.
+ *
+ * A reader takes {@link #current} before it loads and may only store the result if
+ * {@link #isCurrent} still holds; every evict {@link #advance}s the key's counter. Keys are
+ * striped over a fixed array, so memory stays bounded and a collision only costs a skipped
+ * put (the next read loads again).
+ */
+final class EvictionGenerations {
+
+    private static final int STRIPES = 1024;
+
+    private final AtomicLongArray stripes = new AtomicLongArray(STRIPES);
+
+    long current(Object key) {
+        return stripes.get(stripe(key));
+    }
+
+    void advance(Object key) {
+        stripes.incrementAndGet(stripe(key));
+    }
+
+    boolean isCurrent(Object key, long generation) {
+        return stripes.get(stripe(key)) == generation;
+    }
+
+    private static int stripe(Object key) {
+        int h = key.hashCode();
+        return (h ^ (h >>> 16)) & (STRIPES - 1);
+    }
+}
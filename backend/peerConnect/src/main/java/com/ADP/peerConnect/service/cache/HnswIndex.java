@@ -0,0 +1,538 @@
+package com.ADP.peerConnect.service.cache;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Approximate nearest-neighbour index over embedding vectors by cosine similarity, using a
+ * hierarchical navigable small world graph (Malkov and Yashunin).
+ *
+ * Vectors are normalised on insert and stored off-heap in direct buffers of
+ * {@value #PAGE_SIZE} vectors each, so a few hundred thousand 768-dimension embeddings stay
+ * out of the Java heap; the graph itself is kept in int arrays. Searches run concurrently
+ * under a read lock, inserts and removals take the write lock. Replacing or removing a key
+ * leaves a tombstone that still routes searches but is never returned; owners rebuild the
+ * index periodically to drop them.
+ */
+public final class HnswIndex {
+
+    private static final int PAGE_SHIFT = 12;
+    private static final int PAGE_SIZE = 1 << PAGE_SHIFT;
+    private static final int PAGE_MASK = PAGE_SIZE - 1;
+
+    private final int dimensions;
+    private final int maxLinks;
+    private final int maxLinksLayer0;
+    private final int efConstruction;
+    private final double levelFactor;
+    private final SplittableRandom random = new SplittableRandom(42);
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final ThreadLocal<Visited> visited = ThreadLocal.withInitial(Visited::new);
+
+    private FloatBuffer[] pages = new FloatBuffer[0];
+    // links[node][layer] = {count, neighbour, neighbour, ...}
+    private int[][][] links = new int[PAGE_SIZE][][];
+    private String[] keys = new String[PAGE_SIZE];
+    private final BitSet deleted = new BitSet();
+    private final Map<String, Integer> nodeByKey = new HashMap<>();
+    private int nodeCount;
+    private int entryPoint = -1;
+    private int maxLevel = -1;
+
+    /**
+     * @param dimensions     vector length
+     * @param m              links per node on the upper layers (twice that on layer 0)
+     * @param efConstruction candidate list size while inserting
+     */
+    public HnswIndex(int dimensions, int m, int efConstruction) {
+        if (dimensions <= 0 || m < 2 || efConstruction < m) {
+            throw new IllegalArgumentException("Invalid HNSW parameters");
+        }
+        this.dimensions = dimensions;
+        this.maxLinks = m;
+        this.maxLinksLayer0 = 2 * m;
+        this.efConstruction = efConstruction;
+        this.levelFactor = 1 / Math.log(m);
+    }
+
+    public record Match(String key, float score) {
+    }
+
+    public int dimensions() {
+        return dimensions;
+    }
+
+    /**
+     * Number of live (not removed or replaced) vectors.
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return nodeByKey.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Nodes including tombstones; a rebuild is worthwhile once this is well above size().
+     */
+    public int nodeCount() {
+        lock.readLock().lock();
+        try {
+            return nodeCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public boolean contains(String key) {
+        lock.readLock().lock();
+        try {
+            return nodeByKey.containsKey(key);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * The stored (normalised) vector for a key, or null.
+     */
+    public float[] get(String key) {
+        lock.readLock().lock();
+        try {
+            Integer node = nodeByKey.get(key);
+            if (node == null) {
+                return null;
+            }
+            float[] vector = new float[dimensions];
+            copy(node, vector);
+            return vector;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // ===== WRITES =====
+
+    /**
+     * Insert a vector, replacing any previous vector for the key. Zero vectors are ignored.
+     */
+    public void put(String key, float[] vector) {
+        float[] normalized = normalize(vector);
+        lock.writeLock().lock();
+        try {
+            Integer previous = nodeByKey.remove(key);
+            if (previous != null) {
+                deleted.set(previous);
+            }
+            if (normalized != null) {
+                insert(key, normalized);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean remove(String key) {
+        lock.writeLock().lock();
+        try {
+            Integer node = nodeByKey.remove(key);
+            if (node == null) {
+                return false;
+            }
+            deleted.set(node);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void insert(String key, float[] vector) {
+        int node = allocate(key, vector);
+        int level = (int) (-Math.log(1 - random.nextDouble()) * levelFactor);
+        links[node] = new int[level + 1][];
+        for (int layer = 0; layer <= level; layer++) {
+            links[node][layer] = new int[1 + (layer == 0 ? maxLinksLayer0 : maxLinks)];
+        }
+        if (entryPoint < 0) {
+            entryPoint = node;
+            maxLevel = level;
+            return;
+        }
+
+        Visited v = visited.get();
+        int current = entryPoint;
+        float currentScore = dot(vector, current);
+        for (int layer = maxLevel; layer > level; layer--) {
+            current = greedy(vector, current, currentScore, layer);
+            currentScore = dot(vector, current);
+        }
+        Heap entries = new Heap(1, false);
+        entries.push(current, currentScore);
+        for (int layer = Math.min(level, maxLevel); layer >= 0; layer--) {
+            Heap found = searchLayer(vector, entries, efConstruction, layer, v);
+            int[] selected = selectNeighbours(vector, found, layer == 0 ? maxLinksLayer0 : maxLinks);
+            int[] own = links[node][layer];
+            for (int neighbour : selected) {
+                own[++own[0]] = neighbour;
+                link(neighbour, node, layer);
+            }
+            entries = found;
+        }
+        if (level > maxLevel) {
+            maxLevel = level;
+            entryPoint = node;
+        }
+    }
+
+    private int allocate(String key, float[] vector) {
+        int node = nodeCount++;
+        if (node >= keys.length) {
+            keys = Arrays.copyOf(keys, keys.length * 2);
+            links = Arrays.copyOf(links, links.length * 2);
+        }
+        int page = node >>> PAGE_SHIFT;
+        if (page >= pages.length) {
+            pages = Arrays.copyOf(pages, page + 1);
+            pages[page] = ByteBuffer.allocateDirect(PAGE_SIZE * dimensions * Float.BYTES)
+                    .order(ByteOrder.nativeOrder())
+                    .asFloatBuffer();
+        }
+        pages[page].put((node & PAGE_MASK) * dimensions, vector);
+        keys[node] = key;
+        nodeByKey.put(key, node);
+        return node;
+    }
+
+    /**
+     * Add a back link from an existing node, pruning its list with the heuristic when full.
+     */
+    private void link(int node, int neighbour, int layer) {
+        int[] list = links[node][layer];
+        int max = list.length - 1;
+        if (list[0] < max) {
+            list[++list[0]] = neighbour;
+            return;
+        }
+        float[] base = new float[dimensions];
+        copy(node, base);
+        Heap candidates = new Heap(max + 1, false);
+        for (int i = 1; i <= list[0]; i++) {
+            candidates.push(list[i], dot(base, list[i]));
+        }
+        candidates.push(neighbour, dot(base, neighbour));
+        int[] kept = selectNeighbours(base, candidates, max);
+        list[0] = kept.length;
+        System.arraycopy(kept, 0, list, 1, kept.length);
+    }
+
+    /**
+     * The neighbour selection heuristic: walking candidates from most to least similar, keep
+     * one only if it is closer to the base vector than to every neighbour kept so far. This
+     * spreads links across clusters instead of spending them all on the nearest one.
+     */
+    private int[] selectNeighbours(float[] base, Heap candidates, int max) {
+        int[] order = candidates.sortedNodesDescending();
+        float[] scores = candidates.sortedScoresDescending();
+        int[] selected = new int[Math.min(max, order.length)];
+        int count = 0;
+        float[] scratch = new float[dimensions];
+        for (int i = 0; i < order.length && count < selected.length; i++) {
+            int candidate = order[i];
+            copy(candidate, scratch);
+            boolean keep = true;
+            for (int j = 0; j < count; j++) {
+                if (dot(scratch, selected[j]) > scores[i]) {
+                    keep = false;
+                    break;
+                }
+            }
+            if (keep) {
+                selected[count++] = candidate;
+            }
+        }
+        return count == selected.length ? selected : Arrays.copyOf(selected, count);
+    }
+
+    // ===== SEARCH =====
+
+    /**
+     * The k stored vectors most similar to the query, best first. A larger ef trades speed for
+     * recall; it is raised to k when smaller.
+     */
+    public List<Match> search(float[] query, int k, int ef) {
+        float[] q = normalize(query);
+        if (q == null || k <= 0) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            if (entryPoint < 0 || nodeByKey.isEmpty()) {
+                return List.of();
+            }
+            int current = entryPoint;
+            float currentScore = dot(q, current);
+            for (int layer = maxLevel; layer > 0; layer--) {
+                current = greedy(q, current, currentScore, layer);
+                currentScore = dot(q, current);
+            }
+            Heap entries = new Heap(1, false);
+            entries.push(current, currentScore);
+            Heap found = searchLayer(q, entries, Math.max(ef, k), 0, visited.get());
+
+            int[] nodes = found.sortedNodesDescending();
+            float[] scores = found.sortedScoresDescending();
+            List<Match> matches = new ArrayList<>(k);
+            for (int i = 0; i < nodes.length && matches.size() < k; i++) {
+                if (!deleted.get(nodes[i])) {
+                    matches.add(new Match(keys[nodes[i]], scores[i]));
+                }
+            }
+            return matches;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private int greedy(float[] q, int start, float startScore, int layer) {
+        int current = start;
+        float best = startScore;
+        boolean improved = true;
+        while (improved) {
+            improved = false;
+            int[] list = links[current][layer];
+            for (int i = 1; i <= list[0]; i++) {
+                float s = dot(q, list[i]);
+                if (s > best) {
+                    best = s;
+                    current = list[i];
+                    improved = true;
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Best-first search of one layer from the entry points, returning up to ef nodes in a
+     * min-heap (worst on top).
+     */
+    private Heap searchLayer(float[] q, Heap entries, int ef, int layer, Visited v) {
+        v.reset(nodeCount);
+        Heap candidates = new Heap(ef * 2, true);
+        Heap results = new Heap(ef + 1, false);
+        for (int i = 0; i < entries.size; i++) {
+            int node = entries.nodes[i];
+            if (v.visit(node)) {
+                candidates.push(node, entries.scores[i]);
+                results.push(node, entries.scores[i]);
+            }
+        }
+        while (results.size > ef) {
+            results.pop();
+        }
+        while (candidates.size > 0) {
+            float candidateScore = candidates.topScore();
+            if (results.size >= ef && candidateScore < results.topScore()) {
+                break;
+            }
+            int candidate = candidates.pop();
+            int[][] nodeLinks = links[candidate];
+            if (layer >= nodeLinks.length) {
+                continue;
+            }
+            int[] list = nodeLinks[layer];
+            for (int i = 1; i <= list[0]; i++) {
+                int neighbour = list[i];
+                if (!v.visit(neighbour)) {
+                    continue;
+                }
+                float s = dot(q, neighbour);
+                if (results.size < ef || s > results.topScore()) {
+                    candidates.push(neighbour, s);
+                    results.push(neighbour, s);
+                    if (results.size > ef) {
+                        results.pop();
+                    }
+                }
+            }
+        }
+        return results;
+    }
+
+    // ===== VECTORS =====
+
+    private float dot(float[] q, int node) {
+        FloatBuffer page = pages[node >>> PAGE_SHIFT];
+        int base = (node & PAGE_MASK) * dimensions;
+        float sum = 0;
+        for (int i = 0; i < dimensions; i++) {
+            sum += q[i] * page.get(base + i);
+        }
+        return sum;
+    }
+
+    private void copy(int node, float[] target) {
+        pages[node >>> PAGE_SHIFT].get((node & PAGE_MASK) * dimensions, target);
+    }
+
+    private float[] normalize(float[] vector) {
+        if (vector == null || vector.length != dimensions) {
+            throw new IllegalArgumentException("Expected a vector of " + dimensions + " dimensions");
+        }
+        double norm = 0;
+        for (float x : vector) {
+            norm += (double) x * x;
+        }
+        if (norm == 0) {
+            return null;
+        }
+        float scale = (float) (1 / Math.sqrt(norm));
+        float[] normalized = new float[dimensions];
+        for (int i = 0; i < dimensions; i++) {
+            normalized[i] = vector[i] * scale;
+        }
+        return normalized;
+    }
+
+    // ===== PRIMITIVE HELPERS =====
+
+    /**
+     * Binary heap of (node, score) pairs; a max-heap keeps the best score on top, a min-heap
+     * the worst.
+     */
+    private static final class Heap {
+        int[] nodes;
+        float[] scores;
+        int size;
+        final boolean max;
+        private boolean sorted;
+
+        Heap(int capacity, boolean max) {
+            this.nodes = new int[Math.max(capacity, 2)];
+            this.scores = new float[nodes.length];
+            this.max = max;
+        }
+
+        float topScore() {
+            return scores[0];
+        }
+
+        void push(int node, float score) {
+            sorted = false;
+            if (size == nodes.length) {
+                nodes = Arrays.copyOf(nodes, size * 2);
+                scores = Arrays.copyOf(scores, size * 2);
+            }
+            int i = size++;
+            while (i > 0) {
+                int parent = (i - 1) >>> 1;
+                if (!above(score, scores[parent])) {
+                    break;
+                }
+                nodes[i] = nodes[parent];
+                scores[i] = scores[parent];
+                i = parent;
+            }
+            nodes[i] = node;
+            scores[i] = score;
+        }
+
+        int pop() {
+            int top = nodes[0];
+            int lastNode = nodes[--size];
+            float lastScore = scores[size];
+            int i = 0;
+            while (true) {
+                int child = 2 * i + 1;
+                if (child >= size) {
+                    break;
+                }
+                if (child + 1 < size && above(scores[child + 1], scores[child])) {
+                    child++;
+                }
+                if (!above(scores[child], lastScore)) {
+                    break;
+                }
+                nodes[i] = nodes[child];
+                scores[i] = scores[child];
+                i = child;
+            }
+            nodes[i] = lastNode;
+            scores[i] = lastScore;
+            return top;
+        }
+
+        private boolean above(float a, float b) {
+            return max ? a > b : a < b;
+        }
+
+        int[] sortedNodesDescending() {
+            sortDescending();
+            return Arrays.copyOf(nodes, size);
+        }
+
+        float[] sortedScoresDescending() {
+            sortDescending();
+            return Arrays.copyOf(scores, size);
+        }
+
+        // heap order is lost afterwards, which is fine: callers are done pushing
+        private void sortDescending() {
+            if (sorted) {
+                return;
+            }
+            Integer[] order = new Integer[size];
+            for (int i = 0; i < size; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, (a, b) -> Float.compare(scores[b], scores[a]));
+            int[] n = new int[size];
+            float[] s = new float[size];
+            for (int i = 0; i < size; i++) {
+                n[i] = nodes[order[i]];
+                s[i] = scores[order[i]];
+            }
+            System.arraycopy(n, 0, nodes, 0, size);
+            System.arraycopy(s, 0, scores, 0, size);
+            sorted = true;
+        }
+    }
+
+    /**
+     * Per-thread visited marks, reset in O(1) by bumping the generation.
+     */
+    private static final class Visited {
+        int[] marks = new int[0];
+        int generation;
+
+        void reset(int capacity) {
+            if (marks.length < capacity) {
+                marks = new int[Math.max(capacity, marks.length * 2)];
+                generation = 0;
+            }
+            if (++generation == Integer.MAX_VALUE) {
+                Arrays.fill(marks, 0);
+                generation = 1;
+            }
+        }
+
+        boolean visit(int node) {
+            if (marks[node] == generation) {
+                return false;
+            }
+            marks[node] = generation;
+            return true;
+        }
+    }
+}
@@ -0,0 +1,446 @@
+package com.ADP.peerConnect.service.cache;
+
+import com.ADP.peerConnect.model.entity.Project;
+import com.ADP.peerConnect.model.entity.ProjectSkill;
+import com.ADP.peerConnect.model.enums.ProjectStatus;
+import com.ADP.peerConnect.repository.ProjectMemberRepository;
+import com.ADP.peerConnect.repository.ProjectRepository;
+import com.ADP.peerConnect.repository.ProjectSkillRepository;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory facet index for project search.
+ *
+ * Every project gets a dense ordinal; per skill, category and status a BitSet marks the
+ * projects carrying that value. Facet counts are then bitmap intersections instead of
+ * GROUP BY scans. The index is built on first use, updated incrementally (after commit)
+ * when projects or their ProjectSkill rows change, and rebuilt periodically to pick up
+ * writes made by other instances and skill/category renames. Changes committed while a
+ * build is reading the tables are replayed onto the new index.
+ *
+ * The counts apply the same filters as ProjectService.searchProjects: the free-text match on
+ * title and description is done against the lower-cased text kept per project, availableOnly
+ * uses an "available" bitmap (RECRUITING with fewer members than maxTeamSize, kept current by
+ * {@link #memberAdded}/{@link #memberRemoved}), and the current user's own and member
+ * projects are cleared through a per-user bitmap.
+ *
+ * Skill, category and text matching is case-insensitive, as in searchProjects; the original
+ * spelling of skills and categories is kept for display.
+ */
+@Component
+public class ProjectFacetIndex {
+
+    private static final char FIELD_SEPARATOR = '\0';
+
+    private final ProjectRepository projectRepository;
+    private final ProjectSkillRepository projectSkillRepository;
+    private final ProjectMemberRepository projectMemberRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile boolean loaded;
+
+    // changes seen while a build is loading, replayed onto the new index
+    private final Object rebuildLock = new Object();
+    private List<Runnable> replay;
+
+    private final Map<String, Integer> ordinals = new HashMap<>();
+    private final List<Doc> docs = new ArrayList<>();
+    private final BitSet live = new BitSet();
+    private final Map<String, BitSet> bySkill = new HashMap<>();
+    private final Map<String, BitSet> byCategory = new HashMap<>();
+    private final Map<ProjectStatus, BitSet> byStatus = new EnumMap<>(ProjectStatus.class);
+    private final BitSet available = new BitSet();
+    private final Map<String, BitSet> byUser = new HashMap<>();
+    private final Map<String, String> displayNames = new HashMap<>();
+
+    public ProjectFacetIndex(ProjectRepository projectRepository,
+                             ProjectSkillRepository projectSkillRepository,
+                             ProjectMemberRepository projectMemberRepository) {
+        this.projectRepository = projectRepository;
+        this.projectSkillRepository = projectSkillRepository;
+        this.projectMemberRepository = projectMemberRepository;
+    }
+
+    // ===== QUERIES =====
+
+    /**
+     * Count projects per skill, category and status.
+     *
+     * Each dimension is counted against the filters of the other dimensions only, so a
+     * selected category still shows the sizes of its sibling categories.
+     *
+     * @param query         free text matched against title and description, or null
+     * @param excludeUserId user whose own and member projects are left out, or null
+     */
+    public FacetCounts count(String query, String category, ProjectStatus status, Collection<String> skills,
+                             boolean availableOnly, String excludeUserId, int maxSkillFacets) {
+        ensureLoaded();
+        lock.readLock().lock();
+        try {
+            BitSet base = (BitSet) live.clone();
+            if (query != null && !query.isBlank()) {
+                base.and(textMatches(base, query.toLowerCase()));
+            }
+            if (availableOnly) {
+                base.and(available);
+            }
+            if (excludeUserId != null && !excludeUserId.isBlank()) {
+                BitSet involved = byUser.get(excludeUserId);
+                if (involved != null) {
+                    base.andNot(involved);
+                }
+            }
+            BitSet categoryFilter = category == null || category.isBlank()
+                    ? null : lookup(byCategory, category.toLowerCase());
+            BitSet statusFilter = status == null ? null : byStatus.getOrDefault(status, new BitSet());
+            BitSet skillFilter = null;
+            if (skills != null && !skills.isEmpty()) {
+                skillFilter = new BitSet();
+                for (String skill : skills) {
+                    skillFilter.or(lookup(bySkill, skill.toLowerCase()));
+                }
+            }
+
+            Map<String, Integer> skillCounts = countValues(bySkill, base, categoryFilter, statusFilter);
+            Map<String, Integer> categoryCounts = countValues(byCategory, base, skillFilter, statusFilter);
+
+            Map<String, Integer> statusCounts = new LinkedHashMap<>();
+            BitSet statusBase = intersect(base, skillFilter, categoryFilter);
+            for (ProjectStatus s : ProjectStatus.values()) {
+                statusCounts.put(s.name(), cardinality(statusBase, byStatus.get(s)));
+            }
+
+            return new FacetCounts(top(skillCounts, maxSkillFacets), top(categoryCounts, Integer.MAX_VALUE), statusCounts);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // ===== INCREMENTAL UPDATES =====
+
+    /**
+     * Re-index a project after the current transaction commits. Values are captured now,
+     * while the project's associations are still reachable.
+     */
+    public void upsert(Project project) {
+        Set<String> skills = new HashSet<>();
+        for (ProjectSkill ps : project.getProjectSkills()) {
+            if (ps.getSkill() != null && ps.getSkill().getName() != null) {
+                skills.add(ps.getSkill().getName());
+            }
+        }
+        String category = project.getCategory() != null ? project.getCategory().getName() : null;
+        String leadId = project.getLead() != null ? project.getLead().getId() : null;
+        Row row = new Row(project.getId(), category, project.getStatus(), leadId, project.getMaxTeamSize(),
+                text(project.getTitle(), project.getDescription()));
+        afterCommit(() -> {
+            Integer ordinal = ordinals.get(row.id());
+            Doc previous = ordinal == null ? null : docs.get(ordinal);
+            // members are maintained by memberAdded/memberRemoved, not by project edits
+            index(row, skills, previous != null ? previous.members() : Set.of());
+        });
+    }
+
+    public void remove(String projectId) {
+        afterCommit(() -> unindex(projectId));
+    }
+
+    public void memberAdded(String projectId, String userId) {
+        changeMember(projectId, userId, true);
+    }
+
+    public void memberRemoved(String projectId, String userId) {
+        changeMember(projectId, userId, false);
+    }
+
+    private void changeMember(String projectId, String userId, boolean added) {
+        afterCommit(() -> {
+            Integer ordinal = ordinals.get(projectId);
+            Doc doc = ordinal == null ? null : docs.get(ordinal);
+            if (doc == null) {
+                return;
+            }
+            Set<String> members = new HashSet<>(doc.members());
+            if (added ? members.add(userId) : members.remove(userId)) {
+                index(doc.row(), doc.skillNames(), members);
+            }
+        });
+    }
+
+    // ===== LOADING =====
+
+    @Scheduled(initialDelayString = "${app.search.facets.rebuild-interval-ms:600000}",
+            fixedDelayString = "${app.search.facets.rebuild-interval-ms:600000}")
+    public void refresh() {
+        if (loaded) {
+            rebuild();
+        }
+    }
+
+    private void ensureLoaded() {
+        if (!loaded) {
+            synchronized (this) {
+                if (!loaded) {
+                    rebuild();
+                }
+            }
+        }
+    }
+
+    private synchronized void rebuild() {
+        synchronized (rebuildLock) {
+            replay = new ArrayList<>();
+        }
+        try {
+            load();
+        } finally {
+            synchronized (rebuildLock) {
+                replay = null;
+            }
+        }
+    }
+
+    private void load() {
+        Map<String, Set<String>> skillsByProject = new HashMap<>();
+        for (Object[] row : projectSkillRepository.findProjectIdAndSkillNames()) {
+            skillsByProject.computeIfAbsent((String) row[0], k -> new HashSet<>()).add((String) row[1]);
+        }
+        Map<String, Set<String>> membersByProject = new HashMap<>();
+        for (Object[] row : projectMemberRepository.findProjectIdAndUserIds()) {
+            membersByProject.computeIfAbsent((String) row[0], k -> new HashSet<>()).add((String) row[1]);
+        }
+        List<Object[]> projects = projectRepository.findFacetRows();
+
+        synchronized (rebuildLock) {
+            lock.writeLock().lock();
+            try {
+                swap(projects, skillsByProject, membersByProject);
+                // committed after the reads above started; the changes are idempotent
+                replay.forEach(Runnable::run);
+                loaded = true;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    private void swap(List<Object[]> projects, Map<String, Set<String>> skillsByProject,
+                      Map<String, Set<String>> membersByProject) {
+        ordinals.clear();
+        docs.clear();
+        live.clear();
+        bySkill.clear();
+        byCategory.clear();
+        byStatus.clear();
+        available.clear();
+        byUser.clear();
+        displayNames.clear();
+        for (Object[] r : projects) {
+            String id = (String) r[0];
+            Row row = new Row(id, (String) r[1], (ProjectStatus) r[2], (String) r[3], (Integer) r[4],
+                    text((String) r[5], (String) r[6]));
+            index(row, skillsByProject.getOrDefault(id, Set.of()), membersByProject.getOrDefault(id, Set.of()));
+        }
+    }
+
+    // ===== INTERNALS (callers hold the write lock) =====
+
+    private void index(Row row, Set<String> skills, Set<String> members) {
+        unindex(row.id());
+        Integer ordinal = ordinals.get(row.id());
+        if (ordinal == null) {
+            ordinal = docs.size();
+            ordinals.put(row.id(), ordinal);
+            docs.add(null);
+        }
+        Set<String> skillKeys = new HashSet<>();
+        for (String skill : skills) {
+            String key = skill.toLowerCase();
+            displayNames.put("s:" + key, skill);
+            bySkill.computeIfAbsent(key, k -> new BitSet()).set(ordinal);
+            skillKeys.add(key);
+        }
+        String categoryKey = null;
+        if (row.category() != null) {
+            categoryKey = row.category().toLowerCase();
+            displayNames.put("c:" + categoryKey, row.category());
+            byCategory.computeIfAbsent(categoryKey, k -> new BitSet()).set(ordinal);
+        }
+        if (row.status() != null) {
+            byStatus.computeIfAbsent(row.status(), k -> new BitSet()).set(ordinal);
+        }
+        if (row.status() == ProjectStatus.RECRUITING && row.maxTeamSize() != null
+                && members.size() < row.maxTeamSize()) {
+            available.set(ordinal);
+        }
+        if (row.leadId() != null) {
+            byUser.computeIfAbsent(row.leadId(), k -> new BitSet()).set(ordinal);
+        }
+        for (String member : members) {
+            byUser.computeIfAbsent(member, k -> new BitSet()).set(ordinal);
+        }
+        docs.set(ordinal, new Doc(row, categoryKey, skillKeys, Set.copyOf(skills), Set.copyOf(members)));
+        live.set(ordinal);
+    }
+
+    private void unindex(String projectId) {
+        Integer ordinal = ordinals.get(projectId);
+        if (ordinal == null || docs.get(ordinal) == null) {
+            return;
+        }
+        Doc doc = docs.get(ordinal);
+        for (String skill : doc.skills()) {
+            clear(bySkill, skill, ordinal);
+        }
+        if (doc.category() != null) {
+            clear(byCategory, doc.category(), ordinal);
+        }
+        ProjectStatus status = doc.row().status();
+        if (status != null && byStatus.containsKey(status)) {
+            byStatus.get(status).clear(ordinal);
+        }
+        available.clear(ordinal);
+        if (doc.row().leadId() != null) {
+            clear(byUser, doc.row().leadId(), ordinal);
+        }
+        for (String member : doc.members()) {
+            clear(byUser, member, ordinal);
+        }
+        docs.set(ordinal, null);
+        live.clear(ordinal);
+    }
+
+    private static void clear(Map<String, BitSet> bitmaps, String key, int ordinal) {
+        BitSet bits = bitmaps.get(key);
+        if (bits != null) {
+            bits.clear(ordinal);
+            if (bits.isEmpty()) {
+                bitmaps.remove(key);
+            }
+        }
+    }
+
+    private BitSet textMatches(BitSet scope, String needle) {
+        BitSet bits = new BitSet();
+        for (int i = scope.nextSetBit(0); i >= 0; i = scope.nextSetBit(i + 1)) {
+            if (docs.get(i).row().text().contains(needle)) {
+                bits.set(i);
+            }
+        }
+        return bits;
+    }
+
+    // title and description, lower-cased and separated so a match cannot span both
+    private static String text(String title, String description) {
+        return (title == null ? "" : title.toLowerCase()) + FIELD_SEPARATOR
+                + (description == null ? "" : description.toLowerCase());
+    }
+
+    private Map<String, Integer> countValues(Map<String, BitSet> bitmaps, BitSet base, BitSet filterA, BitSet filterB) {
+        String prefix = bitmaps == bySkill ? "s:" : "c:";
+        BitSet scope = intersect(base, filterA, filterB);
+        Map<String, Integer> counts = new HashMap<>();
+        for (Map.Entry<String, BitSet> e : bitmaps.entrySet()) {
+            int count = cardinality(scope, e.getValue());
+            if (count > 0) {
+                counts.put(displayNames.getOrDefault(prefix + e.getKey(), e.getKey()), count);
+            }
+        }
+        return counts;
+    }
+
+    private static BitSet intersect(BitSet base, BitSet filterA, BitSet filterB) {
+        BitSet scope = (BitSet) base.clone();
+        if (filterA != null) scope.and(filterA);
+        if (filterB != null) scope.and(filterB);
+        return scope;
+    }
+
+    private static int cardinality(BitSet scope, BitSet values) {
+        if (values == null) {
+            return 0;
+        }
+        BitSet bits = (BitSet) values.clone();
+        bits.and(scope);
+        return bits.cardinality();
+    }
+
+    private static BitSet lookup(Map<String, BitSet> bitmaps, String key) {
+        BitSet bits = bitmaps.get(key);
+        return bits != null ? bits : new BitSet();
+    }
+
+    private static Map<String, Integer> top(Map<String, Integer> counts, int limit) {
+        Map<String, Integer> result = new LinkedHashMap<>();
+        counts.entrySet().stream()
+                .sorted(Map.Entry.<String, Integer>comparingByValue(Comparator.reverseOrder())
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .limit(limit)
+                .forEach(e -> result.put(e.getKey(), e.getValue()));
+        return result;
+    }
+
+    /**
+     * Apply a change after commit under the write lock; while a build is loading it is also
+     * kept for replay, since the build may have read the tables before the commit. With no
+     * index and no build the change is dropped: the first build reads it from the tables.
+     */
+    private void afterCommit(Runnable change) {
+        Runnable apply = () -> {
+            synchronized (rebuildLock) {
+                if (replay != null) {
+                    replay.add(change);
+                }
+                if (!loaded) {
+                    return;
+                }
+                lock.writeLock().lock();
+                try {
+                    change.run();
+                } finally {
+                    lock.writeLock().unlock();
+                }
+            }
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply.run();
+                }
+            });
+        } else {
+            apply.run();
+        }
+    }
+
+    private record Row(String id, String category, ProjectStatus status, String leadId,
+                       Integer maxTeamSize, String text) {
+    }
+
+    private record Doc(Row row, String category, Set<String> skills, Set<String> skillNames,
+                       Set<String> members) {
+    }
+
+    public record FacetCounts(Map<String, Integer> skills,
+                              Map<String, Integer> categories,
+                              Map<String, Integer> statuses) {
+    }
+}
@@ -0,0 +1,205 @@
+package com.ADP.peerConnect.service.cache;
+
+import com.ADP.peerConnect.model.dto.response.Project.ProjectResponse;
+import com.ADP.peerConnect.model.entity.Project;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Two-level read cache for projects.
+ *
+ * Level 1 is a transaction-bound identity map: repeated findById calls inside the same
+ * transaction (e.g. isProjectMember -> isProjectLead -> findById) hand back the managed
+ * entity instead of re-running findByIdWithAssociations. Entities are only valid inside
+ * their persistence context, so this is bound to the transaction rather than the HTTP request.
+ *
+ * Level 2 is a shared, size-bounded LRU of project detail snapshots keyed by project id and
+ * versioned by updatedAt. An older version never replaces a newer one, and entries are
+ * evicted on update, delete and membership changes, now and again after commit. A loader
+ * that started before an evict does not store its result ({@link EvictionGenerations}), so a
+ * snapshot read before the commit cannot outlive it.
+ */
+@Component
+public class ProjectReadCache {
+
+    private static final String TX_RESOURCE_KEY = ProjectReadCache.class.getName() + ".projects";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final int maxSize;
+    private final long ttlMillis;
+    private final Map<String, Entry> snapshots;
+    private final EvictionGenerations generations = new EvictionGenerations();
+
+    private final Counter transactionHits;
+    private final Counter sharedHits;
+    private final Counter misses;
+
+    public ProjectReadCache(MeterRegistry meterRegistry,
+                            @Value("${app.cache.project.max-size:1000}") int maxSize,
+                            @Value("${app.cache.project.ttl-seconds:300}") long ttlSeconds) {
+        this.maxSize = maxSize;
+        this.ttlMillis = ttlSeconds * 1000;
+        this.snapshots = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > ProjectReadCache.this.maxSize;
+            }
+        };
+        this.transactionHits = Counter.builder("peerconnect.project.cache.avoided.queries")
+                .tag("level", "transaction")
+                .description("Project lookups served without a database query")
+                .register(meterRegistry);
+        this.sharedHits = Counter.builder("peerconnect.project.cache.avoided.queries")
+                .tag("level", "shared")
+                .description("Project lookups served without a database query")
+                .register(meterRegistry);
+        this.misses = Counter.builder("peerconnect.project.cache.misses")
+                .description("Project lookups that had to query the database")
+                .register(meterRegistry);
+        meterRegistry.gauge("peerconnect.project.cache.size", this, c -> c.size());
+    }
+
+    // ===== TRANSACTION-SCOPED IDENTITY MAP =====
+
+    /**
+     * Return the project already loaded in the current transaction, or load it once and
+     * remember it until the transaction completes.
+     */
+    public Optional<Project> findInTransaction(String projectId, Function<String, Optional<Project>> loader) {
+        Map<String, Project> loaded = transactionProjects();
+        if (loaded != null) {
+            Project cached = loaded.get(projectId);
+            // The entity must still belong to the active persistence context; a cleared
+            // context or a nested REQUIRES_NEW transaction falls through to a fresh load.
+            if (cached != null && entityManager.contains(cached)) {
+                transactionHits.increment();
+                return Optional.of(cached);
+            }
+        }
+        misses.increment();
+        Optional<Project> project = loader.apply(projectId);
+        if (loaded != null) {
+            project.ifPresent(p -> loaded.put(projectId, p));
+        }
+        return project;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Project> transactionProjects() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return null;
+        }
+        Map<String, Project> loaded = (Map<String, Project>) TransactionSynchronizationManager.getResource(TX_RESOURCE_KEY);
+        if (loaded == null) {
+            loaded = new HashMap<>();
+            TransactionSynchronizationManager.bindResource(TX_RESOURCE_KEY, loaded);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(TX_RESOURCE_KEY);
+                }
+            });
+        }
+        return loaded;
+    }
+
+    // ===== SHARED DETAIL SNAPSHOTS =====
+
+    /**
+     * Return the cached detail snapshot for a project, loading it on a miss.
+     * Snapshots are shared between callers and must be treated as read-only.
+     */
+    public ProjectResponse getDetail(String projectId, Supplier<ProjectResponse> loader) {
+        Entry entry;
+        synchronized (snapshots) {
+            entry = snapshots.get(projectId);
+        }
+        if (entry != null && !entry.isExpired(ttlMillis)) {
+            sharedHits.increment();
+            return entry.detail();
+        }
+        long generation = generations.current(projectId);
+        ProjectResponse detail = loader.get();
+        putDetail(projectId, detail, generation);
+        return detail;
+    }
+
+    /**
+     * Store a snapshot unless the project was evicted since the load started or a newer
+     * version is already cached.
+     */
+    private void putDetail(String projectId, ProjectResponse detail, long generation) {
+        if (detail == null || !projectId.equals(detail.getId())) {
+            return;
+        }
+        Entry candidate = new Entry(detail, detail.getUpdatedAt(), System.currentTimeMillis());
+        synchronized (snapshots) {
+            if (!generations.isCurrent(projectId, generation)) {
+                return;
+            }
+            Entry current = snapshots.get(detail.getId());
+            if (current == null || current.isExpired(ttlMillis) || !candidate.isOlderThan(current)) {
+                snapshots.put(detail.getId(), candidate);
+            }
+        }
+    }
+
+    /**
+     * Drop the snapshot for a project now and, when called inside a transaction,
+     * once more after it commits.
+     */
+    public void evict(String projectId) {
+        if (projectId == null) {
+            return;
+        }
+        remove(projectId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    remove(projectId);
+                }
+            });
+        }
+    }
+
+    public int size() {
+        synchronized (snapshots) {
+            return snapshots.size();
+        }
+    }
+
+    private void remove(String projectId) {
+        synchronized (snapshots) {
+            generations.advance(projectId);
+            snapshots.remove(projectId);
+        }
+    }
+
+    private record Entry(ProjectResponse detail, LocalDateTime version, long cachedAt) {
+
+        boolean isExpired(long ttlMillis) {
+            return System.currentTimeMillis() - cachedAt > ttlMillis;
+        }
+
+        boolean isOlderThan(Entry other) {
+            return version != null && other.version != null && version.isBefore(other.version);
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package com.ADP.peerConnect.service.cache;
+
+import com.ADP.peerConnect.model.dto.response.RecommendationResponseWithPriority.ProjectRecommendationDetailDTO;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntFunction;
+
+/**
+ * Per-user cache of the top recommended projects, the list behind the recommendations widget.
+ *
+ * Each entry holds the user's first top-n rows of user_recommended_projects by priority, so
+ * any request for up to top-n rows is a sublist of the cached list and costs no query. The
+ * entry is evicted whenever the user's rows are rewritten (the recommendation service and
+ * the embedding worker), now and again after commit, and a load that started before an
+ * evict or clear does not store its result ({@link EvictionGenerations}), so rows read
+ * before the commit cannot outlive it. Entries hold immutable rows and every read gets its
+ * own DTOs. Writers outside this JVM, such as the Python worker, and changes to the projects
+ * themselves are picked up when the entry expires.
+ */
+@Component
+public class RecommendationCache {
+
+    private final int topN;
+    private final int maxSize;
+    private final long ttlMillis;
+    private final Map<String, Entry> entries;
+    private final EvictionGenerations generations = new EvictionGenerations();
+    // advanced by clear(), which drops every key at once; guarded by entries
+    private long clears;
+
+    private final Counter hits;
+    private final Counter misses;
+
+    public RecommendationCache(MeterRegistry meterRegistry,
+                               @Value("${app.cache.recommendations.top-n:100}") int topN,
+                               @Value("${app.cache.recommendations.max-size:10000}") int maxSize,
+                               @Value("${app.cache.recommendations.ttl-seconds:600}") long ttlSeconds) {
+        this.topN = topN;
+        this.maxSize = maxSize;
+        this.ttlMillis = ttlSeconds * 1000;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > RecommendationCache.this.maxSize;
+            }
+        };
+        this.hits = Counter.builder("peerconnect.recommendation.cache.hits")
+                .description("Top recommendation lookups served from the cache")
+                .register(meterRegistry);
+        this.misses = Counter.builder("peerconnect.recommendation.cache.misses")
+                .description("Top recommendation lookups that had to query the database")
+                .register(meterRegistry);
+        meterRegistry.gauge("peerconnect.recommendation.cache.size", this, c -> c.size());
+    }
+
+    /**
+     * The user's first {@code limit} recommendations. On a miss the loader is asked for the
+     * first top-n rows, which are cached; limits above top-n go straight to the loader.
+     */
+    public List<ProjectRecommendationDetailDTO> getTop(String userId, int limit,
+                                                       IntFunction<List<ProjectRecommendationDetailDTO>> loader) {
+        if (limit > topN) {
+            misses.increment();
+            return loader.apply(limit);
+        }
+        Entry entry;
+        synchronized (entries) {
+            entry = entries.get(userId);
+        }
+        if (entry == null || entry.isExpired(ttlMillis)) {
+            misses.increment();
+            long generation;
+            long cleared;
+            synchronized (entries) {
+                generation = generations.current(userId);
+                cleared = clears;
+            }
+            entry = new Entry(Row.copyOf(loader.apply(topN)), System.currentTimeMillis());
+            synchronized (entries) {
+                if (generations.isCurrent(userId, generation) && clears == cleared) {
+                    entries.put(userId, entry);
+                }
+            }
+        } else {
+            hits.increment();
+        }
+        List<Row> rows = entry.rows();
+        int count = Math.min(limit, rows.size());
+        List<ProjectRecommendationDetailDTO> top = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            top.add(rows.get(i).toDto());
+        }
+        return top;
+    }
+
+    /**
+     * Drop the user's cached list now and, when called inside a transaction, once more after
+     * it commits.
+     */
+    public void evict(String userId) {
+        if (userId == null) {
+            return;
+        }
+        remove(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    remove(userId);
+                }
+            });
+        }
+    }
+
+    /**
+     * Drop every cached list, after a batch job rewrote all rows.
+     */
+    public void clear() {
+        synchronized (entries) {
+            clears++;
+            entries.clear();
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private void remove(String userId) {
+        synchronized (entries) {
+            generations.advance(userId);
+            entries.remove(userId);
+        }
+    }
+
+    private record Row(String projectId, String title, String description, String status, Integer priority,
+                       LocalDateTime recommendedAt) {
+
+        static List<Row> copyOf(List<ProjectRecommendationDetailDTO> dtos) {
+            List<Row> rows = new ArrayList<>(dtos.size());
+            for (ProjectRecommendationDetailDTO dto : dtos) {
+                rows.add(new Row(dto.getProjectId(), dto.getTitle(), dto.getDescription(), dto.getStatus(),
+                        dto.getPriority(), dto.getRecommendedAt()));
+            }
+            return List.copyOf(rows);
+        }
+
+        ProjectRecommendationDetailDTO toDto() {
+            ProjectRecommendationDetailDTO dto = new ProjectRecommendationDetailDTO();
+            dto.setProjectId(projectId);
+            dto.setTitle(title);
+            dto.setDescription(description);
+            dto.setStatus(status);
+            dto.setPriority(priority);
+            dto.setRecommendedAt(recommendedAt);
+            return dto;
+        }
+    }
+
+    private record Entry(List<Row> rows, long cachedAt) {
+
+        boolean isExpired(long ttlMillis) {
+            return System.currentTimeMillis() - cachedAt > ttlMillis;
+        }
+    }
+}
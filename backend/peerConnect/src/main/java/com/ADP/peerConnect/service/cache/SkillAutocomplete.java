@@ -0,0 +1,59 @@
+package com.ADP.peerConnect.service.cache;
+
+import org.springframework.context.annotation.Lazy;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Type-ahead over skill names, served from an immutable {@link SkillTrie}.
+ *
+ * The trie is built from the SkillDictionary on first use and rebuilt off the request path
+ * whenever the dictionary has published a new snapshot (new skills, renames, counter
+ * flushes); readers keep using the previous trie until the new one is swapped in.
+ */
+@Component
+@Lazy(false)
+public class SkillAutocomplete {
+
+    private final SkillDictionary skillDictionary;
+
+    private final AtomicReference<SkillTrie> trie = new AtomicReference<>();
+    private long builtGeneration = -1;
+
+    public SkillAutocomplete(SkillDictionary skillDictionary) {
+        this.skillDictionary = skillDictionary;
+    }
+
+    /**
+     * Skills with a name or word starting with the prefix, most used first.
+     */
+    public List<SkillDictionary.Entry> complete(String prefix, int limit) {
+        SkillTrie current = trie.get();
+        if (current == null) {
+            rebuild();
+            current = trie.get();
+        }
+        return current.complete(prefix, limit);
+    }
+
+    @Scheduled(initialDelayString = "${app.skills.autocomplete.rebuild-interval-ms:15000}",
+            fixedDelayString = "${app.skills.autocomplete.rebuild-interval-ms:15000}")
+    public void refresh() {
+        if (trie.get() != null) {
+            rebuild();
+        }
+    }
+
+    private synchronized void rebuild() {
+        long generation = skillDictionary.generation();
+        if (trie.get() != null && generation == builtGeneration) {
+            return;
+        }
+        List<SkillDictionary.Entry> entries = skillDictionary.all();
+        trie.set(SkillTrie.build(entries));
+        builtGeneration = generation;
+    }
+}
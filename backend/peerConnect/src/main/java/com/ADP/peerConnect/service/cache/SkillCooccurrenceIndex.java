@@ -0,0 +1,362 @@
+package com.ADP.peerConnect.service.cache;
+
+import com.ADP.peerConnect.repository.ProjectSkillRepository;
+import com.ADP.peerConnect.repository.UserSkillRepository;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collector;
+
+/**
+ * Sparse skill co-occurrence matrices: how many users (or projects) have both skill X and
+ * skill Y, plus how many have X at all.
+ *
+ * "People with X also know Y" / "projects with X also need Y" become in-memory lookups: a
+ * candidate Y is scored by the sum over the given skills X of P(Y | X) = co(X, Y) / count(X).
+ * The matrices are built on first use by folding every user's and project's skill set in
+ * parallel, kept current by applying the difference between a owner's old and new skill set
+ * after commit, and rebuilt periodically to absorb writes from other instances. Owners
+ * changed while a build is reading the tables are applied again onto the new matrices.
+ */
+@Component
+@Lazy(false)
+public class SkillCooccurrenceIndex {
+
+    public enum Source { USERS, PROJECTS }
+
+    private static final Object PENDING_KEY = new Object();
+
+    private final UserSkillRepository userSkillRepository;
+    private final ProjectSkillRepository projectSkillRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile boolean loaded;
+
+    // changes seen while a build is loading, applied again onto the new matrices
+    private final Object rebuildLock = new Object();
+    private List<Runnable> replay;
+    private Set<String> replayUsers;
+
+    private final Map<Source, Matrix> matrices = new EnumMap<>(Source.class);
+    private final Map<Source, Map<String, Set<Long>>> owners = new EnumMap<>(Source.class);
+
+    public SkillCooccurrenceIndex(UserSkillRepository userSkillRepository,
+                                  ProjectSkillRepository projectSkillRepository) {
+        this.userSkillRepository = userSkillRepository;
+        this.projectSkillRepository = projectSkillRepository;
+    }
+
+    // ===== QUERIES =====
+
+    /**
+     * Skills that most often appear together with the given ones, excluding the given ones.
+     */
+    public List<Related> related(Source source, Collection<Long> skillIds, int k) {
+        ensureLoaded();
+        lock.readLock().lock();
+        try {
+            return topK(matrices.get(source), new HashSet<>(skillIds), k);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Skills other users with this user's skills also have.
+     */
+    public List<Related> relatedForUser(String userId, int k) {
+        ensureLoaded();
+        lock.readLock().lock();
+        try {
+            Set<Long> skills = owners.get(Source.USERS).getOrDefault(userId, Set.of());
+            return topK(matrices.get(Source.USERS), skills, k);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static List<Related> topK(Matrix matrix, Set<Long> skillIds, int k) {
+        Map<Long, double[]> scores = new HashMap<>();
+        for (Long x : skillIds) {
+            Map<Long, Integer> row = matrix.pairs.get(x);
+            int count = matrix.counts.getOrDefault(x, 0);
+            if (row == null || count == 0) {
+                continue;
+            }
+            for (Map.Entry<Long, Integer> e : row.entrySet()) {
+                if (skillIds.contains(e.getKey())) {
+                    continue;
+                }
+                double[] s = scores.computeIfAbsent(e.getKey(), id -> new double[2]);
+                s[0] += (double) e.getValue() / count;
+                s[1] += e.getValue();
+            }
+        }
+        return scores.entrySet().stream()
+                .map(e -> new Related(e.getKey(), e.getValue()[0], (int) e.getValue()[1]))
+                .sorted(Comparator.comparingDouble(Related::score).reversed()
+                        .thenComparing(Comparator.comparingInt(Related::together).reversed())
+                        .thenComparing(Related::skillId))
+                .limit(k)
+                .toList();
+    }
+
+    // ===== INCREMENTAL UPDATES =====
+
+    /**
+     * Re-read a user's skills after commit and apply the difference; coalesced per transaction.
+     */
+    @SuppressWarnings("unchecked")
+    public void userChanged(String userId) {
+        if (userId == null) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            reloadUsers(Set.of(userId));
+            return;
+        }
+        Set<String> pending = (Set<String>) TransactionSynchronizationManager.getResource(PENDING_KEY);
+        if (pending == null) {
+            Set<String> ids = new LinkedHashSet<>();
+            TransactionSynchronizationManager.bindResource(PENDING_KEY, ids);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    reloadUsers(ids);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(PENDING_KEY);
+                }
+            });
+            pending = ids;
+        }
+        pending.add(userId);
+    }
+
+    /**
+     * Replace a project's skill set after commit.
+     */
+    public void projectChanged(String projectId, Set<Long> skillIds) {
+        Set<Long> skills = Set.copyOf(skillIds);
+        afterCommit(() -> replace(Source.PROJECTS, projectId, skills));
+    }
+
+    public void projectRemoved(String projectId) {
+        afterCommit(() -> replace(Source.PROJECTS, projectId, Set.of()));
+    }
+
+    private void reloadUsers(Set<String> userIds) {
+        synchronized (rebuildLock) {
+            if (replayUsers != null) {
+                replayUsers.addAll(userIds);
+            }
+            if (!loaded) {
+                return;
+            }
+        }
+        readUsers(userIds);
+    }
+
+    private void readUsers(Set<String> userIds) {
+        Map<String, Set<Long>> skills = new HashMap<>();
+        for (Object[] row : userSkillRepository.findUserIdSkillIdAndLevelByUserIds(userIds)) {
+            skills.computeIfAbsent((String) row[0], k -> new HashSet<>()).add((Long) row[1]);
+        }
+        for (String userId : userIds) {
+            replace(Source.USERS, userId, skills.getOrDefault(userId, Set.of()));
+        }
+    }
+
+    private void replace(Source source, String ownerId, Set<Long> skills) {
+        lock.writeLock().lock();
+        try {
+            Map<String, Set<Long>> current = owners.get(source);
+            Matrix matrix = matrices.get(source);
+            Set<Long> previous = current.get(ownerId);
+            if (previous != null) {
+                matrix.add(previous, -1);
+            }
+            if (skills.isEmpty()) {
+                current.remove(ownerId);
+            } else {
+                matrix.add(skills, 1);
+                current.put(ownerId, skills);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // ===== LOADING =====
+
+    @Scheduled(initialDelayString = "${app.skills.cooccurrence.rebuild-interval-ms:900000}",
+            fixedDelayString = "${app.skills.cooccurrence.rebuild-interval-ms:900000}")
+    public void refresh() {
+        if (loaded) {
+            rebuild();
+        }
+    }
+
+    private void ensureLoaded() {
+        if (!loaded) {
+            synchronized (this) {
+                if (!loaded) {
+                    rebuild();
+                }
+            }
+        }
+    }
+
+    private synchronized void rebuild() {
+        synchronized (rebuildLock) {
+            replay = new ArrayList<>();
+            replayUsers = new HashSet<>();
+        }
+        Set<String> changedUsers;
+        try {
+            load();
+        } finally {
+            synchronized (rebuildLock) {
+                changedUsers = replayUsers;
+                replay = null;
+                replayUsers = null;
+            }
+        }
+        // committed after the build read the tables; re-read, since the build may predate them
+        if (loaded && !changedUsers.isEmpty()) {
+            readUsers(changedUsers);
+        }
+    }
+
+    private void load() {
+        Map<String, Set<Long>> users = group(userSkillRepository.findUserIdSkillIdAndLevel());
+        Map<String, Set<Long>> projects = group(projectSkillRepository.findActiveProjectIdAndSkillIds());
+        Matrix userMatrix = users.values().parallelStream().collect(Matrix.COLLECTOR);
+        Matrix projectMatrix = projects.values().parallelStream().collect(Matrix.COLLECTOR);
+
+        synchronized (rebuildLock) {
+            lock.writeLock().lock();
+            try {
+                matrices.put(Source.USERS, userMatrix);
+                matrices.put(Source.PROJECTS, projectMatrix);
+                owners.put(Source.USERS, users);
+                owners.put(Source.PROJECTS, projects);
+                // project changes committed after the reads above started; they are idempotent
+                replay.forEach(Runnable::run);
+                loaded = true;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    private static Map<String, Set<Long>> group(List<Object[]> rows) {
+        Map<String, Set<Long>> byOwner = new HashMap<>();
+        for (Object[] row : rows) {
+            byOwner.computeIfAbsent((String) row[0], k -> new HashSet<>()).add((Long) row[1]);
+        }
+        return byOwner;
+    }
+
+    /**
+     * Apply a change after commit; while a build is loading it is also kept for replay, since
+     * the build may have read the tables before the commit. With no matrices and no build the
+     * change is dropped: the first build reads it from the tables.
+     */
+    private void afterCommit(Runnable change) {
+        Runnable apply = () -> {
+            synchronized (rebuildLock) {
+                if (replay != null) {
+                    replay.add(change);
+                }
+                if (loaded) {
+                    change.run();
+                }
+            }
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply.run();
+                }
+            });
+        } else {
+            apply.run();
+        }
+    }
+
+    /**
+     * Symmetric sparse counts; callers hold the write lock while mutating a published matrix.
+     */
+    private static final class Matrix {
+
+        static final Collector<Set<Long>, Matrix, Matrix> COLLECTOR =
+                Collector.of(Matrix::new, (m, skills) -> m.add(skills, 1), Matrix::merge);
+
+        final Map<Long, Map<Long, Integer>> pairs = new HashMap<>();
+        final Map<Long, Integer> counts = new HashMap<>();
+
+        void add(Set<Long> skills, int sign) {
+            List<Long> ids = new ArrayList<>(skills);
+            for (int i = 0; i < ids.size(); i++) {
+                Long x = ids.get(i);
+                counts.merge(x, sign, Integer::sum);
+                for (int j = i + 1; j < ids.size(); j++) {
+                    Long y = ids.get(j);
+                    increment(x, y, sign);
+                    increment(y, x, sign);
+                }
+            }
+            if (sign < 0) {
+                counts.values().removeIf(c -> c <= 0);
+            }
+        }
+
+        private void increment(Long x, Long y, int sign) {
+            Map<Long, Integer> row = pairs.computeIfAbsent(x, k -> new HashMap<>());
+            int value = row.getOrDefault(y, 0) + sign;
+            if (value <= 0) {
+                row.remove(y);
+                if (row.isEmpty()) {
+                    pairs.remove(x);
+                }
+            } else {
+                row.put(y, value);
+            }
+        }
+
+        Matrix merge(Matrix other) {
+            other.counts.forEach((id, c) -> counts.merge(id, c, Integer::sum));
+            other.pairs.forEach((x, row) -> {
+                Map<Long, Integer> target = pairs.computeIfAbsent(x, k -> new HashMap<>());
+                row.forEach((y, c) -> target.merge(y, c, Integer::sum));
+            });
+            return this;
+        }
+    }
+
+    /**
+     * @param score    sum of P(skill | given skill) over the given skills
+     * @param together co-occurrence counts with the given skills, summed
+     */
+    public record Related(Long skillId, double score, int together) {
+    }
+}
@@ -0,0 +1,388 @@
+package com.ADP.peerConnect.service.cache;
+
+import com.ADP.peerConnect.model.entity.Skill;
+import com.ADP.peerConnect.repository.SkillRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * In-memory skill vocabulary: normalized name -> id -> immutable skill snapshot.
+ *
+ * The whole dictionary is an immutable {@link Snapshot} swapped atomically, so lookups are
+ * lock-free and never touch the database. It is loaded at startup, updated write-through
+ * (after commit) by SkillService, and refreshed from other nodes' writes by polling the
+ * skills table: rows updated since shortly before the snapshot version are reloaded as a
+ * delta, and a row count that still disagrees afterwards (a delete elsewhere) triggers a
+ * full reload.
+ *
+ * Write-through changes are collected per transaction and published as one new snapshot
+ * after commit. A new snapshot reuses the previous one: the maps are copied, not rebuilt, and
+ * the sorted array is merged with the (few) changed entries in one linear pass instead of
+ * being sorted again.
+ *
+ * Ids are stable across renames: a skill keeps the id hashed from the name it was created
+ * with (see Skill.generateIdFromName), so an id cannot be derived from the current name.
+ * Look skills up by normalized name and use the id stored in the entry.
+ *
+ * Usage counters in the snapshot follow the flushes of this node's SkillUsageCounters and
+ * the last refresh; they are meant for ordering suggestions, not for exact numbers.
+ */
+@Component
+@Lazy(false)
+public class SkillDictionary {
+
+    private static final Logger log = LoggerFactory.getLogger(SkillDictionary.class);
+    private static final Object PENDING_KEY = new Object();
+
+    private final SkillRepository skillRepository;
+    private final Duration refreshWindow;
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+    private volatile boolean loaded;
+    // bumped on every published snapshot, so derived structures know when to rebuild
+    private volatile long generation;
+
+    public SkillDictionary(SkillRepository skillRepository,
+                           @Value("${app.skills.dictionary.refresh-window-seconds:300}") long refreshWindowSeconds) {
+        this.skillRepository = skillRepository;
+        this.refreshWindow = Duration.ofSeconds(refreshWindowSeconds);
+    }
+
+    // ===== LOOKUPS =====
+
+    public Optional<Entry> findByNormalizedName(String normalizedName) {
+        ensureLoaded();
+        return Optional.ofNullable(snapshot.byName().get(normalizedName));
+    }
+
+    /**
+     * Look up a raw (not yet normalized) skill name.
+     */
+    public Optional<Entry> findByName(String name) {
+        if (name == null || name.isBlank()) {
+            return Optional.empty();
+        }
+        return findByNormalizedName(Skill.normalizeName(name));
+    }
+
+    public Optional<Entry> findById(Long id) {
+        ensureLoaded();
+        return Optional.ofNullable(snapshot.byId().get(id));
+    }
+
+    /**
+     * Entries for the given ids from one snapshot, keyed by id; ids not in the dictionary
+     * are absent from the map.
+     */
+    public Map<Long, Entry> findAllById(Collection<Long> ids) {
+        ensureLoaded();
+        Map<Long, Entry> byId = snapshot.byId();
+        Map<Long, Entry> found = new HashMap<>(ids.size() * 2);
+        for (Long id : ids) {
+            Entry entry = byId.get(id);
+            if (entry != null) {
+                found.put(id, entry);
+            }
+        }
+        return found;
+    }
+
+    public boolean contains(String normalizedName) {
+        return findByNormalizedName(normalizedName).isPresent();
+    }
+
+    public List<Entry> all() {
+        ensureLoaded();
+        return List.of(snapshot.sorted());
+    }
+
+    public long generation() {
+        return generation;
+    }
+
+    // ===== WRITE-THROUGH =====
+
+    /**
+     * Publish a created or renamed skill once the current transaction commits.
+     */
+    public void put(Skill skill) {
+        if (skill == null || skill.getId() == null) {
+            return;
+        }
+        Entry entry = Entry.of(skill);
+        pending(p -> p.upsert(entry));
+    }
+
+    public void putAll(Collection<Skill> skills) {
+        if (skills.isEmpty()) {
+            return;
+        }
+        List<Entry> entries = skills.stream().map(Entry::of).toList();
+        pending(p -> entries.forEach(p::upsert));
+    }
+
+    public void remove(Long skillId) {
+        pending(p -> p.remove(skillId));
+    }
+
+    /**
+     * Apply flushed usage counter deltas (users, projects) keyed by skill id.
+     */
+    public synchronized void adjustCounts(Map<Long, long[]> deltas) {
+        if (!loaded) {
+            return;
+        }
+        List<Entry> adjusted = new ArrayList<>();
+        deltas.forEach((skillId, d) -> {
+            Entry e = snapshot.byId().get(skillId);
+            if (e != null) {
+                adjusted.add(new Entry(e.id(), e.name(), e.normalizedName(), e.category(), e.predefined(),
+                        (int) Math.max(0, e.usersCount() + d[0]), (int) Math.max(0, e.projectsCount() + d[1]),
+                        e.updatedAt()));
+            }
+        });
+        apply(adjusted, List.of());
+    }
+
+    // ===== LOADING =====
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        try {
+            ensureLoaded();
+        } catch (RuntimeException e) {
+            // Lookups retry on first use; a missing dictionary must not stop the application.
+            log.warn("Skill dictionary could not be loaded at startup: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Pull other nodes' writes. updated_at is stamped at flush, not at commit, so a row can
+     * become visible after rows with later timestamps were already seen; the delta therefore
+     * re-reads a window before the snapshot version and applies only the rows that differ.
+     */
+    @Scheduled(initialDelayString = "${app.skills.dictionary.refresh-interval-ms:30000}",
+            fixedDelayString = "${app.skills.dictionary.refresh-interval-ms:30000}")
+    public void refresh() {
+        if (!loaded) {
+            return;
+        }
+        Snapshot current = snapshot;
+        long count = ((Number) skillRepository.findDictionaryVersion().get(0)[1]).longValue();
+        if (current.version() != null) {
+            List<Entry> changed = skillRepository
+                    .findByUpdatedAtGreaterThanEqual(current.version().minus(refreshWindow))
+                    .stream().map(Entry::of)
+                    .filter(entry -> !entry.equals(current.byId().get(entry.id())))
+                    .toList();
+            apply(changed, List.of());
+            if (snapshot.byId().size() == count) {
+                return;
+            }
+        } else if (count == current.byId().size()) {
+            return;
+        }
+        reload();
+    }
+
+    private void ensureLoaded() {
+        if (!loaded) {
+            synchronized (this) {
+                if (!loaded) {
+                    reload();
+                }
+            }
+        }
+    }
+
+    private synchronized void reload() {
+        List<Entry> entries = skillRepository.findAll().stream().map(Entry::of).toList();
+        snapshot = Snapshot.of(entries);
+        generation++;
+        loaded = true;
+        log.debug("Skill dictionary loaded with {} skills", entries.size());
+    }
+
+    private synchronized void apply(Collection<Entry> upserts, Collection<Long> removals) {
+        if (!loaded || (upserts.isEmpty() && removals.isEmpty())) {
+            return;
+        }
+        snapshot = snapshot.with(upserts, removals);
+        generation++;
+    }
+
+    /**
+     * Record a change in the current transaction's batch, published once after commit, or
+     * apply it right away outside a transaction.
+     */
+    private void pending(Consumer<Pending> change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            Pending single = new Pending();
+            change.accept(single);
+            apply(single.upserts.values(), single.removals);
+            return;
+        }
+        Pending pending = (Pending) TransactionSynchronizationManager.getResource(PENDING_KEY);
+        if (pending == null) {
+            Pending batch = new Pending();
+            TransactionSynchronizationManager.bindResource(PENDING_KEY, batch);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(batch.upserts.values(), batch.removals);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(PENDING_KEY);
+                }
+            });
+            pending = batch;
+        }
+        change.accept(pending);
+    }
+
+    private static final class Pending {
+        final Map<Long, Entry> upserts = new LinkedHashMap<>();
+        final Set<Long> removals = new HashSet<>();
+
+        void upsert(Entry entry) {
+            removals.remove(entry.id());
+            upserts.put(entry.id(), entry);
+        }
+
+        void remove(Long id) {
+            upserts.remove(id);
+            removals.add(id);
+        }
+    }
+
+    /**
+     * Immutable copy of a skill row.
+     */
+    public record Entry(Long id, String name, String normalizedName, String category, boolean predefined,
+                        int usersCount, int projectsCount, LocalDateTime updatedAt) {
+
+        static final Comparator<Entry> BY_USAGE = Comparator.comparingInt(Entry::usersCount).reversed()
+                .thenComparing(Entry::normalizedName);
+
+        static Entry of(Skill skill) {
+            return new Entry(skill.getId(), skill.getName(), skill.getNormalizedName(), skill.getCategory(),
+                    Boolean.TRUE.equals(skill.getIsPredefined()),
+                    skill.getUsersCount() == null ? 0 : skill.getUsersCount(),
+                    skill.getProjectsCount() == null ? 0 : skill.getProjectsCount(),
+                    skill.getUpdatedAt());
+        }
+
+        /**
+         * Detached Skill carrying the snapshot values, for read-only responses.
+         */
+        public Skill toSkill() {
+            Skill skill = new Skill();
+            skill.setId(id);
+            skill.setName(name);
+            skill.setNormalizedName(normalizedName);
+            skill.setCategory(category);
+            skill.setIsPredefined(predefined);
+            skill.setUsersCount(usersCount);
+            skill.setProjectsCount(projectsCount);
+            skill.setUpdatedAt(updatedAt);
+            return skill;
+        }
+    }
+
+    private record Snapshot(Map<String, Entry> byName, Map<Long, Entry> byId,
+                            Entry[] sorted, LocalDateTime version) {
+
+        static final Snapshot EMPTY = new Snapshot(Map.of(), Map.of(), new Entry[0], null);
+        static final Comparator<Entry> BY_NAME = Comparator.comparing(Entry::normalizedName);
+
+        static Snapshot of(Collection<Entry> entries) {
+            Map<String, Entry> byName = new HashMap<>(entries.size() * 2);
+            Map<Long, Entry> byId = new HashMap<>(entries.size() * 2);
+            LocalDateTime version = null;
+            for (Entry entry : entries) {
+                byName.put(entry.normalizedName(), entry);
+                byId.put(entry.id(), entry);
+                version = later(version, entry.updatedAt());
+            }
+            Entry[] sorted = entries.toArray(new Entry[0]);
+            Arrays.sort(sorted, BY_NAME);
+            return new Snapshot(Collections.unmodifiableMap(byName), Collections.unmodifiableMap(byId),
+                    sorted, version);
+        }
+
+        /**
+         * This snapshot with the given entries replaced or added and ids removed: the maps
+         * are copied and patched, and the sorted array is merged with the sorted changes.
+         */
+        Snapshot with(Collection<Entry> upserts, Collection<Long> removals) {
+            Map<String, Entry> names = new HashMap<>(byName);
+            Map<Long, Entry> ids = new HashMap<>(byId);
+            Set<Long> replaced = new HashSet<>();
+            for (Long id : removals) {
+                Entry old = ids.remove(id);
+                if (old != null) {
+                    names.remove(old.normalizedName(), old);
+                    replaced.add(id);
+                }
+            }
+            LocalDateTime newVersion = version;
+            for (Entry entry : upserts) {
+                Entry old = ids.put(entry.id(), entry);
+                if (old != null) {
+                    names.remove(old.normalizedName(), old);
+                    replaced.add(old.id());
+                }
+                names.put(entry.normalizedName(), entry);
+                newVersion = later(newVersion, entry.updatedAt());
+            }
+
+            Entry[] added = upserts.toArray(new Entry[0]);
+            Arrays.sort(added, BY_NAME);
+            Entry[] merged = new Entry[ids.size()];
+            int i = 0;
+            int j = 0;
+            int k = 0;
+            while (i < sorted.length || j < added.length) {
+                if (i < sorted.length && replaced.contains(sorted[i].id())) {
+                    i++;
+                } else if (j >= added.length || (i < sorted.length && BY_NAME.compare(sorted[i], added[j]) <= 0)) {
+                    merged[k++] = sorted[i++];
+                } else {
+                    merged[k++] = added[j++];
+                }
+            }
+            return new Snapshot(Collections.unmodifiableMap(names), Collections.unmodifiableMap(ids),
+                    merged, newVersion);
+        }
+
+        private static LocalDateTime later(LocalDateTime a, LocalDateTime b) {
+            return b != null && (a == null || b.isAfter(a)) ? b : a;
+        }
+    }
+}
@@ -0,0 +1,308 @@
+package com.ADP.peerConnect.service.cache;
+
+import com.ADP.peerConnect.repository.ProjectSkillRepository;
+import com.ADP.peerConnect.repository.UserSkillRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Rolling skill adoption counts for the "popular" and "trending" lists.
+ *
+ * Every UserSkill / ProjectSkill insert committed on this node is counted in an hourly
+ * bucket. Hourly buckets cover today and yesterday; older hours are folded into daily
+ * buckets, kept for the longest trending window. Buckets are seeded from the created_at
+ * columns at startup and reloaded periodically to pick up other nodes' inserts. Adoptions
+ * recorded while a reload reads the tables are replayed into the reloaded buckets, so they
+ * are not lost with the old ones; one committed just before the read may be counted twice,
+ * which the ranking tolerates.
+ *
+ * Readers never aggregate: a scheduled job turns the buckets into an immutable
+ * {@link Snapshot} holding the popular ranking (from SkillDictionary usage counts) and the
+ * full trending ranking of each configured window, so every page of it can be served.
+ */
+@Component
+public class SkillTrends {
+
+    private static final Logger log = LoggerFactory.getLogger(SkillTrends.class);
+
+    private final UserSkillRepository userSkillRepository;
+    private final ProjectSkillRepository projectSkillRepository;
+    private final SkillDictionary skillDictionary;
+    private final int[] windows;
+
+    // epoch hour / epoch day -> counts of that bucket
+    private volatile NavigableMap<Long, Bucket> hourly = new ConcurrentSkipListMap<>();
+    private volatile NavigableMap<Long, Bucket> daily = new ConcurrentSkipListMap<>();
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+    private volatile boolean loaded;
+
+    // guards the bucket swap in reload against concurrent records; replay is non-null while
+    // a reload is reading the tables
+    private final Object recordLock = new Object();
+    private List<Adoption> replay;
+
+    public SkillTrends(UserSkillRepository userSkillRepository,
+                       ProjectSkillRepository projectSkillRepository,
+                       SkillDictionary skillDictionary,
+                       @Value("${app.skills.trends.windows-days:1,7,30}") int[] windows) {
+        this.userSkillRepository = userSkillRepository;
+        this.projectSkillRepository = projectSkillRepository;
+        this.skillDictionary = skillDictionary;
+        this.windows = Arrays.stream(windows).filter(d -> d > 0).sorted().distinct().toArray();
+    }
+
+    // ===== QUERIES =====
+
+    /**
+     * Skill ids ordered by the number of users having them, most used first.
+     */
+    public List<Long> popular() {
+        ensureLoaded();
+        return snapshot.popular();
+    }
+
+    /**
+     * Most adopted skills over the last {@code days} days, rounded up to the nearest
+     * configured window (or the largest one).
+     */
+    public List<Trend> trending(int days) {
+        ensureLoaded();
+        Snapshot current = snapshot;
+        for (int window : windows) {
+            if (window >= days) {
+                return current.trending().getOrDefault(window, List.of());
+            }
+        }
+        return windows.length == 0 ? List.of()
+                : current.trending().getOrDefault(windows[windows.length - 1], List.of());
+    }
+
+    // ===== RECORDING =====
+
+    /**
+     * Count a user adding the skill once the current transaction commits.
+     */
+    public void userAdopted(Long skillId) {
+        afterCommit(() -> record(skillId, 1, 0));
+    }
+
+    /**
+     * Count a project starting to require the skill once the current transaction commits.
+     */
+    public void projectAdopted(Long skillId) {
+        afterCommit(() -> record(skillId, 0, 1));
+    }
+
+    private void record(Long skillId, long users, long projects) {
+        if (skillId == null) {
+            return;
+        }
+        long hour = LocalDateTime.now().toEpochSecond(ZoneOffset.UTC) / 3600;
+        synchronized (recordLock) {
+            hourly.computeIfAbsent(hour, h -> new Bucket()).add(skillId, users, projects);
+            if (replay != null) {
+                replay.add(new Adoption(hour, skillId, users, projects));
+            }
+        }
+    }
+
+    // ===== SNAPSHOTS =====
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        try {
+            ensureLoaded();
+        } catch (RuntimeException e) {
+            log.warn("Skill trends could not be loaded at startup: {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(initialDelayString = "${app.skills.trends.reload-interval-ms:3600000}",
+            fixedDelayString = "${app.skills.trends.reload-interval-ms:3600000}")
+    public void refresh() {
+        if (loaded) {
+            reload();
+        }
+    }
+
+    private void ensureLoaded() {
+        if (!loaded) {
+            synchronized (this) {
+                if (!loaded) {
+                    reload();
+                }
+            }
+        }
+    }
+
+    private void reload() {
+        int maxWindow = windows.length == 0 ? 1 : windows[windows.length - 1];
+        LocalDateTime since = LocalDateTime.now().toLocalDate().minusDays(maxWindow).atStartOfDay();
+
+        // from here on, adoptions may commit after the queries below have read the tables
+        synchronized (recordLock) {
+            replay = new ArrayList<>();
+        }
+        NavigableMap<Long, Bucket> hours = new ConcurrentSkipListMap<>();
+        try {
+            for (Object[] row : userSkillRepository.countAdoptionsByHourSince(since)) {
+                hours.computeIfAbsent(epochHour(row[1]), h -> new Bucket())
+                        .add(((Number) row[0]).longValue(), ((Number) row[2]).longValue(), 0);
+            }
+            for (Object[] row : projectSkillRepository.countAdoptionsByHourSince(since)) {
+                hours.computeIfAbsent(epochHour(row[1]), h -> new Bucket())
+                        .add(((Number) row[0]).longValue(), 0, ((Number) row[2]).longValue());
+            }
+        } catch (RuntimeException e) {
+            synchronized (recordLock) {
+                replay = null;
+            }
+            throw e;
+        }
+        NavigableMap<Long, Bucket> days = new ConcurrentSkipListMap<>();
+
+        synchronized (this) {
+            synchronized (recordLock) {
+                for (Adoption a : replay) {
+                    hours.computeIfAbsent(a.hour(), h -> new Bucket()).add(a.skillId(), a.users(), a.projects());
+                }
+                replay = null;
+                roll(hours, days);
+                hourly = hours;
+                daily = days;
+            }
+            loaded = true;
+        }
+        refreshSnapshot();
+    }
+
+    @Scheduled(initialDelayString = "${app.skills.trends.snapshot-interval-ms:60000}",
+            fixedDelayString = "${app.skills.trends.snapshot-interval-ms:60000}")
+    public synchronized void refreshSnapshot() {
+        if (!loaded) {
+            return;
+        }
+        roll(hourly, daily);
+        long today = LocalDateTime.now().toLocalDate().toEpochDay();
+        int maxWindow = windows.length == 0 ? 1 : windows[windows.length - 1];
+        daily.headMap(today - maxWindow, false).clear();
+
+        long currentHour = LocalDateTime.now().toEpochSecond(ZoneOffset.UTC) / 3600;
+        Map<Integer, List<Trend>> trending = new HashMap<>();
+        for (int window : windows) {
+            Map<Long, long[]> totals = new HashMap<>();
+            if (window == 1) {
+                hourly.tailMap(currentHour - 23, true).values().forEach(b -> b.addTo(totals));
+            } else {
+                hourly.values().forEach(b -> b.addTo(totals));
+                daily.tailMap(today - (window - 1), true).values().forEach(b -> b.addTo(totals));
+            }
+            trending.put(window, totals.entrySet().stream()
+                    .map(e -> new Trend(e.getKey(), e.getValue()[0], e.getValue()[1]))
+                    .sorted(Trend.BY_ADOPTIONS)
+                    .toList());
+        }
+
+        List<Long> popular = skillDictionary.all().stream()
+                .filter(e -> e.usersCount() > 0)
+                .sorted(SkillDictionary.Entry.BY_USAGE)
+                .map(SkillDictionary.Entry::id)
+                .toList();
+        snapshot = new Snapshot(popular, Map.copyOf(trending));
+    }
+
+    /**
+     * Fold hourly buckets from before yesterday into their day.
+     */
+    private static void roll(NavigableMap<Long, Bucket> hours, NavigableMap<Long, Bucket> days) {
+        long yesterdayStartHour = LocalDateTime.now().toLocalDate().minusDays(1)
+                .atStartOfDay().toEpochSecond(ZoneOffset.UTC) / 3600;
+        NavigableMap<Long, Bucket> old = hours.headMap(yesterdayStartHour, false);
+        old.forEach((hour, bucket) -> days.computeIfAbsent(Math.floorDiv(hour, 24), d -> new Bucket()).merge(bucket));
+        old.clear();
+    }
+
+    private static long epochHour(Object value) {
+        LocalDateTime time = value instanceof Timestamp ts ? ts.toLocalDateTime() : (LocalDateTime) value;
+        return time.toEpochSecond(ZoneOffset.UTC) / 3600;
+    }
+
+    private static void afterCommit(Runnable change) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    change.run();
+                }
+            });
+        } else {
+            change.run();
+        }
+    }
+
+    private static final class Bucket {
+
+        final ConcurrentHashMap<Long, LongAdder> users = new ConcurrentHashMap<>();
+        final ConcurrentHashMap<Long, LongAdder> projects = new ConcurrentHashMap<>();
+
+        void add(Long skillId, long userCount, long projectCount) {
+            if (userCount != 0) {
+                users.computeIfAbsent(skillId, k -> new LongAdder()).add(userCount);
+            }
+            if (projectCount != 0) {
+                projects.computeIfAbsent(skillId, k -> new LongAdder()).add(projectCount);
+            }
+        }
+
+        void merge(Bucket other) {
+            other.users.forEach((id, c) -> add(id, c.sum(), 0));
+            other.projects.forEach((id, c) -> add(id, 0, c.sum()));
+        }
+
+        void addTo(Map<Long, long[]> totals) {
+            users.forEach((id, c) -> totals.computeIfAbsent(id, k -> new long[2])[0] += c.sum());
+            projects.forEach((id, c) -> totals.computeIfAbsent(id, k -> new long[2])[1] += c.sum());
+        }
+    }
+
+    /**
+     * Adoptions of a skill within a window.
+     */
+    public record Trend(Long skillId, long users, long projects) {
+
+        static final Comparator<Trend> BY_ADOPTIONS = Comparator.comparingLong((Trend t) -> t.users() + t.projects())
+                .reversed()
+                .thenComparing(Comparator.comparingLong(Trend::users).reversed())
+                .thenComparing(Trend::skillId);
+    }
+
+    private record Adoption(long hour, Long skillId, long users, long projects) {
+    }
+
+    private record Snapshot(List<Long> popular, Map<Integer, List<Trend>> trending) {
+
+        static final Snapshot EMPTY = new Snapshot(List.of(), Map.of());
+    }
+}
@@ -0,0 +1,246 @@
+package com.ADP.peerConnect.service.cache;
+
+import com.ADP.peerConnect.model.entity.Skill;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Immutable, usage-weighted radix trie over skill names for type-ahead.
+ *
+ * Every token start of a normalized name is a key ("spring boot" is stored as "spring boot"
+ * and "boot", "node.js" as "node.js" and "js"), so completions match a prefix of the name or
+ * of any word in it. Entries are ranked once by usage, and every node keeps the best
+ * {@value #TOP_PER_NODE} ranks of its subtree, so a lookup is a walk down the prefix plus an
+ * array copy. Larger limits scan the node's contiguous key range instead.
+ */
+public final class SkillTrie {
+
+    static final int TOP_PER_NODE = 16;
+
+    private static final int[] NO_INTS = new int[0];
+    private static final char[] NO_CHARS = new char[0];
+
+    // entries by rank: most used first
+    private final SkillDictionary.Entry[] ranked;
+    // rank of each key, keys in sorted order
+    private final int[] keyRanks;
+
+    // node arrays, root is node 0
+    private final String[] edges;
+    private final char[][] childChars;
+    private final int[][] children;
+    private final int[][] top;
+    private final int[] from;
+    private final int[] to;
+
+    private SkillTrie(SkillDictionary.Entry[] ranked, int[] keyRanks, Builder builder) {
+        this.ranked = ranked;
+        this.keyRanks = keyRanks;
+        this.edges = builder.edges.toArray(new String[0]);
+        this.childChars = builder.childChars.toArray(new char[0][]);
+        this.children = builder.children.toArray(new int[0][]);
+        this.top = builder.top.toArray(new int[0][]);
+        this.from = builder.from.stream().mapToInt(Integer::intValue).toArray();
+        this.to = builder.to.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    public static SkillTrie build(Collection<SkillDictionary.Entry> entries) {
+        SkillDictionary.Entry[] ranked = entries.toArray(new SkillDictionary.Entry[0]);
+        Arrays.sort(ranked, SkillDictionary.Entry.BY_USAGE);
+
+        List<Key> keys = new ArrayList<>(ranked.length * 2);
+        for (int rank = 0; rank < ranked.length; rank++) {
+            String name = ranked[rank].normalizedName();
+            for (int i = 0; i < name.length(); i++) {
+                if (isTokenStart(name, i)) {
+                    keys.add(new Key(name.substring(i), rank));
+                }
+            }
+        }
+        keys.sort((a, b) -> {
+            int c = a.text().compareTo(b.text());
+            return c != 0 ? c : Integer.compare(a.rank(), b.rank());
+        });
+
+        String[] texts = new String[keys.size()];
+        int[] keyRanks = new int[keys.size()];
+        for (int i = 0; i < texts.length; i++) {
+            texts[i] = keys.get(i).text();
+            keyRanks[i] = keys.get(i).rank();
+        }
+        Builder builder = new Builder(texts, keyRanks);
+        builder.node(0, texts.length, 0, 0);
+        return new SkillTrie(ranked, keyRanks, builder);
+    }
+
+    public int size() {
+        return ranked.length;
+    }
+
+    /**
+     * Up to {@code limit} skills having a name or word starting with the prefix, most used first.
+     */
+    public List<SkillDictionary.Entry> complete(String prefix, int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        String key = prefix == null || prefix.isBlank() ? "" : Skill.normalizeName(prefix);
+        int node = 0;
+        int i = 0;
+        while (i < key.length()) {
+            int child = child(node, key.charAt(i));
+            if (child < 0) {
+                return List.of();
+            }
+            String edge = edges[child];
+            int n = Math.min(edge.length(), key.length() - i);
+            if (!key.regionMatches(i, edge, 0, n)) {
+                return List.of();
+            }
+            i += n;
+            node = child;
+        }
+
+        int[] best = top[node];
+        if (limit <= best.length || best.length < TOP_PER_NODE) {
+            int n = Math.min(limit, best.length);
+            List<SkillDictionary.Entry> result = new ArrayList<>(n);
+            for (int r = 0; r < n; r++) {
+                result.add(ranked[best[r]]);
+            }
+            return result;
+        }
+        BitSet ranks = new BitSet(ranked.length);
+        for (int k = from[node]; k < to[node]; k++) {
+            ranks.set(keyRanks[k]);
+        }
+        List<SkillDictionary.Entry> result = new ArrayList<>(limit);
+        for (int r = ranks.nextSetBit(0); r >= 0 && result.size() < limit; r = ranks.nextSetBit(r + 1)) {
+            result.add(ranked[r]);
+        }
+        return result;
+    }
+
+    private int child(int node, char c) {
+        int index = Arrays.binarySearch(childChars[node], c);
+        return index < 0 ? -1 : children[node][index];
+    }
+
+    private static boolean isTokenStart(String name, int i) {
+        return Character.isLetterOrDigit(name.charAt(i))
+                && (i == 0 || !Character.isLetterOrDigit(name.charAt(i - 1)));
+    }
+
+    private record Key(String text, int rank) {
+    }
+
+    /**
+     * Builds the node arrays from the sorted keys; a node's subtree is a contiguous key range.
+     */
+    private static final class Builder {
+
+        final String[] texts;
+        final int[] keyRanks;
+        final List<String> edges = new ArrayList<>();
+        final List<char[]> childChars = new ArrayList<>();
+        final List<int[]> children = new ArrayList<>();
+        final List<int[]> top = new ArrayList<>();
+        final List<Integer> from = new ArrayList<>();
+        final List<Integer> to = new ArrayList<>();
+
+        Builder(String[] texts, int[] keyRanks) {
+            this.texts = texts;
+            this.keyRanks = keyRanks;
+        }
+
+        /**
+         * Node for keys [lo, hi), which all share their first {@code end} characters; the
+         * edge into it covers characters [edgeStart, end).
+         */
+        int node(int lo, int hi, int edgeStart, int end) {
+            int id = edges.size();
+            edges.add(lo < hi ? texts[lo].substring(edgeStart, end) : "");
+            childChars.add(NO_CHARS);
+            children.add(NO_INTS);
+            top.add(null);
+            from.add(lo);
+            to.add(hi);
+
+            int k = lo;
+            int[] terminal = NO_INTS;
+            while (k < hi && texts[k].length() == end) {
+                k++;
+            }
+            if (k > lo) {
+                terminal = Arrays.copyOfRange(keyRanks, lo, k);
+            }
+
+            List<Character> chars = new ArrayList<>();
+            List<Integer> ids = new ArrayList<>();
+            while (k < hi) {
+                char c = texts[k].charAt(end);
+                int groupEnd = k + 1;
+                while (groupEnd < hi && texts[groupEnd].charAt(end) == c) {
+                    groupEnd++;
+                }
+                chars.add(c);
+                ids.add(node(k, groupEnd, end, commonPrefix(k, groupEnd, end + 1)));
+                k = groupEnd;
+            }
+
+            char[] cs = new char[chars.size()];
+            int[] is = new int[ids.size()];
+            int[][] childTops = new int[ids.size() + 1][];
+            childTops[0] = terminal;
+            for (int i = 0; i < cs.length; i++) {
+                cs[i] = chars.get(i);
+                is[i] = ids.get(i);
+                childTops[i + 1] = top.get(is[i]);
+            }
+            childChars.set(id, cs);
+            children.set(id, is);
+            top.set(id, best(childTops));
+            return id;
+        }
+
+        /**
+         * Length of the prefix shared by keys [lo, hi), at least {@code depth}; sorted keys
+         * share what the first and last share.
+         */
+        private int commonPrefix(int lo, int hi, int depth) {
+            String first = texts[lo];
+            String last = texts[hi - 1];
+            int max = Math.min(first.length(), last.length());
+            int i = depth;
+            while (i < max && first.charAt(i) == last.charAt(i)) {
+                i++;
+            }
+            return i;
+        }
+
+        private static int[] best(int[][] lists) {
+            int total = 0;
+            for (int[] list : lists) {
+                total += list.length;
+            }
+            int[] all = new int[total];
+            int n = 0;
+            for (int[] list : lists) {
+                System.arraycopy(list, 0, all, n, list.length);
+                n += list.length;
+            }
+            Arrays.sort(all);
+            int distinct = 0;
+            for (int i = 0; i < all.length && distinct < TOP_PER_NODE; i++) {
+                if (distinct == 0 || all[i] != all[distinct - 1]) {
+                    all[distinct++] = all[i];
+                }
+            }
+            return Arrays.copyOf(all, distinct);
+        }
+    }
+}
@@ -0,0 +1,427 @@
+package com.ADP.peerConnect.service.cache;
+
+import com.ADP.peerConnect.model.enums.AvailabilityStatus;
+import com.ADP.peerConnect.model.enums.SkillLevel;
+import com.ADP.peerConnect.repository.UserRepository;
+import com.ADP.peerConnect.repository.UserSkillRepository;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.IntStream;
+
+/**
+ * Skill bitsets of every student, used to find teammates who complement a project team.
+ *
+ * Each skill id gets a dense ordinal and each user a long[] bitset over those ordinals.
+ * The user's level per skill is packed into two more bitsets (low and high bit of the
+ * SkillLevel ordinal), so coverage and level of a candidate are a handful of AND/bitCount
+ * operations per 64 skills. Candidates are scored in parallel chunks, each keeping its own
+ * top-k heap, and the heaps are merged at the end.
+ *
+ * Kept in sync the same way as {@link UserSearchIndex}: reloaded per user after commit via
+ * {@link UserIndexListener}, rebuilt periodically, and users changed while a build is
+ * reading the tables are re-read once the new index is in place.
+ */
+@Component
+@Lazy(false)
+public class TeammateIndex {
+
+    private static final double COVERAGE_WEIGHT = 0.6;
+    private static final double LEVEL_WEIGHT = 0.25;
+    private static final double AVAILABILITY_WEIGHT = 0.15;
+    private static final int MAX_LEVEL = SkillLevel.values().length - 1;
+    private static final int CHUNK_SIZE = 1024;
+    private static final Object PENDING_KEY = new Object();
+
+    /** Best first: score, then skills covered, then ordinal for a stable order. */
+    private static final Comparator<Scored> ORDER = Comparator.comparingDouble(Scored::score).reversed()
+            .thenComparing(Comparator.comparingInt(Scored::covered).reversed())
+            .thenComparingInt(Scored::ordinal);
+
+    private final UserRepository userRepository;
+    private final UserSkillRepository userSkillRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile boolean loaded;
+
+    // users changed while a build is loading, re-read once it is swapped in
+    private final Object rebuildLock = new Object();
+    private Set<String> replay;
+
+    private final Map<Long, Integer> skillOrdinals = new HashMap<>();
+    private final List<Long> skillIds = new ArrayList<>();
+    private final Map<String, Integer> userOrdinals = new HashMap<>();
+    private final List<Entry> entries = new ArrayList<>();
+
+    public TeammateIndex(UserRepository userRepository, UserSkillRepository userSkillRepository) {
+        this.userRepository = userRepository;
+        this.userSkillRepository = userSkillRepository;
+    }
+
+    // ===== QUERIES =====
+
+    /**
+     * Top-k students by how well they cover the skills the team is still missing.
+     *
+     * @param requiredSkillIds skills the project asks for
+     * @param teamUserIds      current lead and members; excluded from the results and used
+     *                         to work out which required skills are still missing
+     */
+    public List<Match> findTeammates(Collection<Long> requiredSkillIds, Collection<String> teamUserIds, int k) {
+        ensureLoaded();
+        lock.readLock().lock();
+        try {
+            long[] required = toBits(requiredSkillIds);
+            long[] missing = required.clone();
+            Set<Integer> excluded = new HashSet<>();
+            for (String userId : teamUserIds) {
+                Integer ordinal = userOrdinals.get(userId);
+                if (ordinal != null) {
+                    excluded.add(ordinal);
+                    if (entries.get(ordinal) != null) {
+                        andNot(missing, entries.get(ordinal).skills());
+                    }
+                }
+            }
+            if (isEmpty(missing)) {
+                // The team already covers everything; rank by the full requirement instead.
+                missing = required;
+            }
+            int missingCount = bitCount(missing);
+            if (missingCount == 0 || k <= 0) {
+                return List.of();
+            }
+
+            long[] target = missing;
+            int n = entries.size();
+            int chunks = (n + CHUNK_SIZE - 1) / CHUNK_SIZE;
+            IntStream range = IntStream.range(0, chunks);
+            if (chunks > 1) {
+                range = range.parallel();
+            }
+            List<Scored> top = range
+                    .mapToObj(c -> topK(c * CHUNK_SIZE, Math.min(n, (c + 1) * CHUNK_SIZE), target, missingCount, excluded, k))
+                    .reduce(new ArrayList<>(), (a, b) -> merge(a, b, k));
+
+            List<Match> matches = new ArrayList<>(top.size());
+            for (Scored s : top) {
+                Entry entry = entries.get(s.ordinal());
+                matches.add(new Match(entry.userId(), s.score(), s.covered(), covered(entry.skills(), target)));
+            }
+            return matches;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private List<Scored> topK(int from, int to, long[] missing, int missingCount, Set<Integer> excluded, int k) {
+        PriorityQueue<Scored> heap = new PriorityQueue<>(k + 1, ORDER.reversed());
+        for (int i = from; i < to; i++) {
+            Entry entry = entries.get(i);
+            if (entry == null || excluded.contains(i)) {
+                continue;
+            }
+            int covered = 0;
+            int levels = 0;
+            int words = Math.min(missing.length, entry.skills().length);
+            for (int w = 0; w < words; w++) {
+                long hit = entry.skills()[w] & missing[w];
+                if (hit != 0) {
+                    covered += Long.bitCount(hit);
+                    levels += Long.bitCount(hit & entry.levelLow()[w]) + 2 * Long.bitCount(hit & entry.levelHigh()[w]);
+                }
+            }
+            if (covered == 0) {
+                continue;
+            }
+            double score = COVERAGE_WEIGHT * covered / missingCount
+                    + LEVEL_WEIGHT * levels / ((double) MAX_LEVEL * missingCount)
+                    + AVAILABILITY_WEIGHT * availabilityScore(entry.availability());
+            heap.add(new Scored(i, score, covered));
+            if (heap.size() > k) {
+                heap.poll();
+            }
+        }
+        List<Scored> result = new ArrayList<>(heap);
+        result.sort(ORDER);
+        return result;
+    }
+
+    private static List<Scored> merge(List<Scored> a, List<Scored> b, int k) {
+        List<Scored> merged = new ArrayList<>(a.size() + b.size());
+        merged.addAll(a);
+        merged.addAll(b);
+        merged.sort(ORDER);
+        return merged.size() > k ? new ArrayList<>(merged.subList(0, k)) : merged;
+    }
+
+    private static double availabilityScore(AvailabilityStatus status) {
+        if (status == null) {
+            return 0;
+        }
+        return switch (status) {
+            case AVAILABLE -> 1.0;
+            case BUSY -> 0.3;
+            case OFFLINE -> 0.0;
+        };
+    }
+
+    private List<Long> covered(long[] skills, long[] missing) {
+        List<Long> ids = new ArrayList<>();
+        int words = Math.min(skills.length, missing.length);
+        for (int w = 0; w < words; w++) {
+            long hit = skills[w] & missing[w];
+            while (hit != 0) {
+                int bit = Long.numberOfTrailingZeros(hit);
+                ids.add(skillIds.get(w * 64 + bit));
+                hit &= hit - 1;
+            }
+        }
+        return ids;
+    }
+
+    private long[] toBits(Collection<Long> ids) {
+        long[] bits = new long[words(skillIds.size())];
+        for (Long id : ids) {
+            Integer ordinal = skillOrdinals.get(id);
+            if (ordinal != null) {
+                bits[ordinal >>> 6] |= 1L << ordinal;
+            }
+        }
+        return bits;
+    }
+
+    // ===== INCREMENTAL UPDATES =====
+
+    /**
+     * Reload a user's availability and skills once the current transaction commits.
+     */
+    @SuppressWarnings("unchecked")
+    public void reindex(String userId) {
+        if (userId == null) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            reload(Set.of(userId));
+            return;
+        }
+        Set<String> pending = (Set<String>) TransactionSynchronizationManager.getResource(PENDING_KEY);
+        if (pending == null) {
+            Set<String> ids = new LinkedHashSet<>();
+            TransactionSynchronizationManager.bindResource(PENDING_KEY, ids);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    reload(ids);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(PENDING_KEY);
+                }
+            });
+            pending = ids;
+        }
+        pending.add(userId);
+    }
+
+    private void reload(Set<String> userIds) {
+        synchronized (rebuildLock) {
+            if (replay != null) {
+                replay.addAll(userIds);
+            }
+            if (!loaded) {
+                return;
+            }
+        }
+        read(userIds);
+    }
+
+    private void read(Set<String> userIds) {
+        List<Object[]> skillRows = userSkillRepository.findUserIdSkillIdAndLevelByUserIds(userIds);
+        List<Object[]> userRows = userRepository.findStudentAvailabilityByIds(userIds);
+
+        lock.writeLock().lock();
+        try {
+            Set<String> missing = new HashSet<>(userIds);
+            Map<String, List<Object[]>> skillsByUser = groupByUser(skillRows);
+            for (Object[] row : userRows) {
+                String userId = (String) row[0];
+                missing.remove(userId);
+                put(userId, (AvailabilityStatus) row[1], skillsByUser.getOrDefault(userId, List.of()));
+            }
+            for (String userId : missing) {
+                Integer ordinal = userOrdinals.get(userId);
+                if (ordinal != null) {
+                    entries.set(ordinal, null);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // ===== LOADING =====
+
+    @Scheduled(initialDelayString = "${app.search.teammates.rebuild-interval-ms:600000}",
+            fixedDelayString = "${app.search.teammates.rebuild-interval-ms:600000}")
+    public void refresh() {
+        if (loaded) {
+            rebuild();
+        }
+    }
+
+    private void ensureLoaded() {
+        if (!loaded) {
+            synchronized (this) {
+                if (!loaded) {
+                    rebuild();
+                }
+            }
+        }
+    }
+
+    private synchronized void rebuild() {
+        synchronized (rebuildLock) {
+            replay = new LinkedHashSet<>();
+        }
+        Set<String> changed;
+        try {
+            load();
+        } finally {
+            synchronized (rebuildLock) {
+                changed = replay;
+                replay = null;
+            }
+        }
+        if (loaded && !changed.isEmpty()) {
+            read(changed);
+        }
+    }
+
+    private void load() {
+        Map<String, List<Object[]>> skillsByUser = groupByUser(userSkillRepository.findUserIdSkillIdAndLevel());
+        List<Object[]> userRows = userRepository.findStudentAvailability();
+
+        lock.writeLock().lock();
+        try {
+            skillOrdinals.clear();
+            skillIds.clear();
+            userOrdinals.clear();
+            entries.clear();
+            for (Object[] row : userRows) {
+                String userId = (String) row[0];
+                put(userId, (AvailabilityStatus) row[1], skillsByUser.getOrDefault(userId, List.of()));
+            }
+            loaded = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // ===== INTERNALS (callers hold the write lock) =====
+
+    private void put(String userId, AvailabilityStatus availability, List<Object[]> skillRows) {
+        int maxOrdinal = -1;
+        int[] ordinals = new int[skillRows.size()];
+        for (int i = 0; i < ordinals.length; i++) {
+            ordinals[i] = skillOrdinal((Long) skillRows.get(i)[1]);
+            maxOrdinal = Math.max(maxOrdinal, ordinals[i]);
+        }
+        int words = words(maxOrdinal + 1);
+        long[] skills = new long[words];
+        long[] low = new long[words];
+        long[] high = new long[words];
+        for (int i = 0; i < ordinals.length; i++) {
+            int ordinal = ordinals[i];
+            long bit = 1L << ordinal;
+            skills[ordinal >>> 6] |= bit;
+            SkillLevel level = (SkillLevel) skillRows.get(i)[2];
+            int value = level != null ? level.ordinal() : 0;
+            if ((value & 1) != 0) {
+                low[ordinal >>> 6] |= bit;
+            }
+            if ((value & 2) != 0) {
+                high[ordinal >>> 6] |= bit;
+            }
+        }
+        Entry entry = new Entry(userId, availability, skills, low, high);
+        Integer ordinal = userOrdinals.get(userId);
+        if (ordinal == null) {
+            userOrdinals.put(userId, entries.size());
+            entries.add(entry);
+        } else {
+            entries.set(ordinal, entry);
+        }
+    }
+
+    private int skillOrdinal(Long skillId) {
+        Integer ordinal = skillOrdinals.get(skillId);
+        if (ordinal == null) {
+            ordinal = skillIds.size();
+            skillOrdinals.put(skillId, ordinal);
+            skillIds.add(skillId);
+        }
+        return ordinal;
+    }
+
+    private static Map<String, List<Object[]>> groupByUser(List<Object[]> rows) {
+        Map<String, List<Object[]>> byUser = new HashMap<>();
+        for (Object[] row : rows) {
+            byUser.computeIfAbsent((String) row[0], k -> new ArrayList<>()).add(row);
+        }
+        return byUser;
+    }
+
+    private static int words(int bits) {
+        return (bits + 63) >>> 6;
+    }
+
+    private static void andNot(long[] target, long[] other) {
+        int words = Math.min(target.length, other.length);
+        for (int w = 0; w < words; w++) {
+            target[w] &= ~other[w];
+        }
+    }
+
+    private static boolean isEmpty(long[] bits) {
+        return Arrays.stream(bits).allMatch(w -> w == 0);
+    }
+
+    private static int bitCount(long[] bits) {
+        int count = 0;
+        for (long w : bits) {
+            count += Long.bitCount(w);
+        }
+        return count;
+    }
+
+    private record Entry(String userId, AvailabilityStatus availability,
+                         long[] skills, long[] levelLow, long[] levelHigh) {
+    }
+
+    private record Scored(int ordinal, double score, int covered) {
+    }
+
+    /**
+     * @param coveredSkillIds the missing skills this candidate brings
+     */
+    public record Match(String userId, double score, int coveredSkills, List<Long> coveredSkillIds) {
+    }
+}
@@ -0,0 +1,55 @@
+package com.ADP.peerConnect.service.cache;
+
+import com.ADP.peerConnect.model.entity.User;
+import com.ADP.peerConnect.model.entity.UserSkill;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * JPA entity listener keeping the in-memory user indexes ({@link UserSearchIndex},
+ * {@link TeammateIndex}, {@link SkillCooccurrenceIndex}) in sync with User and UserSkill
+ * writes, whichever service performs them. Registered on the entities in META-INF/orm.xml so
+ * the model layer does not depend on this package. Instantiated by Hibernate through Spring's
+ * bean container; the indexes are looked up lazily to avoid a cycle with the EntityManagerFactory.
+ */
+public class UserIndexListener {
+
+    @Autowired
+    private ObjectProvider<UserSearchIndex> userSearchIndex;
+
+    @Autowired
+    private ObjectProvider<TeammateIndex> teammateIndex;
+
+    @Autowired
+    private ObjectProvider<SkillCooccurrenceIndex> skillCooccurrenceIndex;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Object entity) {
+        String userId = null;
+        if (entity instanceof User user) {
+            userId = user.getId();
+        } else if (entity instanceof UserSkill userSkill && userSkill.getUser() != null) {
+            userId = userSkill.getUser().getId();
+        }
+        if (userId == null || userSearchIndex == null) {
+            return;
+        }
+        UserSearchIndex searchIndex = userSearchIndex.getIfAvailable();
+        if (searchIndex != null) {
+            searchIndex.reindex(userId);
+        }
+        TeammateIndex teammates = teammateIndex.getIfAvailable();
+        if (teammates != null) {
+            teammates.reindex(userId);
+        }
+        SkillCooccurrenceIndex cooccurrence = skillCooccurrenceIndex.getIfAvailable();
+        if (cooccurrence != null) {
+            cooccurrence.userChanged(userId);
+        }
+    }
+}
@@ -0,0 +1,591 @@
+package com.ADP.peerConnect.service.cache;
+
+import com.ADP.peerConnect.exception.BadRequestException;
+import com.ADP.peerConnect.model.enums.AvailabilityStatus;
+import com.ADP.peerConnect.repository.UserRepository;
+import com.ADP.peerConnect.repository.UserSkillRepository;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory people search index.
+ *
+ * Names are split into pg_trgm-style trigrams (each word padded with two leading blanks and
+ * one trailing blank) and every trigram keeps a sorted posting list of user ordinals, so a
+ * name query only touches users sharing at least one trigram with it. Branch, graduation
+ * year, availability and skills are kept as BitSets and applied before scoring.
+ *
+ * Results are ranked by trigram similarity plus a bonus for substring and word-prefix
+ * matches, and paged with an opaque cursor holding the sort key of the last returned row.
+ * Without a name the results are ordered by full name.
+ *
+ * The index is built on first use, re-indexes users after commit whenever a User or
+ * UserSkill row changes (see {@link UserIndexListener}) and is rebuilt periodically
+ * to pick up writes from other instances. Users changed while a build is reading the tables
+ * are re-read once the new index is in place.
+ */
+@Component
+@Lazy(false)
+public class UserSearchIndex {
+
+    /** Same default as pg_trgm's similarity_threshold. */
+    private static final double SIMILARITY_THRESHOLD = 0.3;
+    private static final double SUBSTRING_BONUS = 0.5;
+    private static final double PREFIX_BONUS = 0.25;
+    private static final Object PENDING_KEY = new Object();
+
+    private final UserRepository userRepository;
+    private final UserSkillRepository userSkillRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile boolean loaded;
+
+    // users changed while a build is loading, re-read once it is swapped in
+    private final Object rebuildLock = new Object();
+    private Set<String> replay;
+
+    private final Map<String, Integer> ordinals = new HashMap<>();
+    private final List<Doc> docs = new ArrayList<>();
+    private final BitSet live = new BitSet();
+    private final Map<String, Posting> postings = new HashMap<>();
+    private final Map<String, BitSet> byBranch = new HashMap<>();
+    private final Map<Integer, BitSet> byGraduationYear = new HashMap<>();
+    private final Map<AvailabilityStatus, BitSet> byAvailability = new EnumMap<>(AvailabilityStatus.class);
+    private final Map<String, BitSet> bySkill = new HashMap<>();
+
+    public UserSearchIndex(UserRepository userRepository, UserSkillRepository userSkillRepository) {
+        this.userRepository = userRepository;
+        this.userSkillRepository = userSkillRepository;
+    }
+
+    // ===== QUERIES =====
+
+    /**
+     * Search users. All filters are optional; skills match if the user has any of them.
+     *
+     * @param cursor value of {@link SearchPage#nextCursor()} from the previous page, or null
+     */
+    public SearchPage search(String name, String branch, Integer graduationYear,
+                             AvailabilityStatus availabilityStatus, Collection<String> skills,
+                             String cursor, int limit) {
+        ensureLoaded();
+        String query = name == null ? "" : normalize(name);
+        Cursor after = cursor == null || cursor.isBlank() ? null : Cursor.decode(cursor, !query.isEmpty());
+
+        List<Hit> hits = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            BitSet scope = filter(branch, graduationYear, availabilityStatus, skills);
+            if (query.isEmpty()) {
+                for (int i = scope.nextSetBit(0); i >= 0; i = scope.nextSetBit(i + 1)) {
+                    Doc doc = docs.get(i);
+                    if (after == null || compareByName(doc, after) > 0) {
+                        hits.add(new Hit(doc, 0));
+                    }
+                }
+                hits.sort(Comparator.comparing((Hit h) -> h.doc().fullName()).thenComparing(h -> h.doc().id()));
+            } else {
+                for (Hit hit : rank(query, scope)) {
+                    if (after == null || compareByScore(hit, after) > 0) {
+                        hits.add(hit);
+                    }
+                }
+                hits.sort(Comparator.comparingDouble(Hit::score).reversed().thenComparing(h -> h.doc().id()));
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        boolean hasMore = hits.size() > limit;
+        List<Hit> page = hasMore ? new ArrayList<>(hits.subList(0, limit)) : hits;
+        String nextCursor = null;
+        if (hasMore) {
+            Hit last = page.get(page.size() - 1);
+            nextCursor = query.isEmpty()
+                    ? Cursor.encode(last.doc().fullName(), last.doc().id())
+                    : Cursor.encode(Double.toString(last.score()), last.doc().id());
+        }
+        return new SearchPage(page, nextCursor);
+    }
+
+    private BitSet filter(String branch, Integer graduationYear, AvailabilityStatus availabilityStatus,
+                          Collection<String> skills) {
+        BitSet scope = (BitSet) live.clone();
+        if (branch != null && !branch.isBlank()) {
+            scope.and(byBranch.getOrDefault(branch.trim().toLowerCase(), new BitSet()));
+        }
+        if (graduationYear != null) {
+            scope.and(byGraduationYear.getOrDefault(graduationYear, new BitSet()));
+        }
+        if (availabilityStatus != null) {
+            scope.and(byAvailability.getOrDefault(availabilityStatus, new BitSet()));
+        }
+        if (skills != null && !skills.isEmpty()) {
+            BitSet any = new BitSet();
+            for (String skill : skills) {
+                BitSet bits = bySkill.get(skill.trim().toLowerCase());
+                if (bits != null) {
+                    any.or(bits);
+                }
+            }
+            scope.and(any);
+        }
+        return scope;
+    }
+
+    private List<Hit> rank(String query, BitSet scope) {
+        Set<String> queryGrams = trigrams(query);
+        List<Hit> hits = new ArrayList<>();
+
+        if (query.length() < 3) {
+            // Too short to share an interior trigram with a mid-word match; the filtered
+            // scope is scanned instead.
+            for (int i = scope.nextSetBit(0); i >= 0; i = scope.nextSetBit(i + 1)) {
+                Doc doc = docs.get(i);
+                double score = score(doc, query, shared(doc, queryGrams), queryGrams.size());
+                if (score > 0) {
+                    hits.add(new Hit(doc, score));
+                }
+            }
+            return hits;
+        }
+
+        // trigram hits per ordinal, in a per-thread buffer reset through the touched list, so a
+        // query costs O(postings read) instead of allocating and scanning an array of all users
+        Scratch scratch = SCRATCH.get();
+        scratch.ensureCapacity(docs.size());
+        try {
+            for (String gram : queryGrams) {
+                Posting posting = postings.get(gram);
+                if (posting != null) {
+                    for (int j = 0; j < posting.size; j++) {
+                        scratch.increment(posting.ordinals[j]);
+                    }
+                }
+            }
+            for (int k = 0; k < scratch.touchedSize; k++) {
+                int i = scratch.touched[k];
+                if (scope.get(i)) {
+                    Doc doc = docs.get(i);
+                    double score = score(doc, query, scratch.counts[i], queryGrams.size());
+                    if (score > 0) {
+                        hits.add(new Hit(doc, score));
+                    }
+                }
+            }
+        } finally {
+            scratch.reset();
+        }
+        return hits;
+    }
+
+    private static double score(Doc doc, String query, int shared, int queryGrams) {
+        double similarity = (double) shared / (queryGrams + doc.trigramCount() - shared);
+        boolean contains = doc.fullName().contains(query);
+        if (similarity < SIMILARITY_THRESHOLD && !contains) {
+            return 0;
+        }
+        double score = similarity;
+        if (contains) {
+            score += SUBSTRING_BONUS;
+            if (doc.fullName().startsWith(query) || doc.fullName().contains(" " + query)) {
+                score += PREFIX_BONUS;
+            }
+        }
+        return score;
+    }
+
+    private static int shared(Doc doc, Set<String> queryGrams) {
+        int shared = 0;
+        for (String gram : trigrams(doc.fullName())) {
+            if (queryGrams.contains(gram)) {
+                shared++;
+            }
+        }
+        return shared;
+    }
+
+    private static int compareByName(Doc doc, Cursor after) {
+        int c = doc.fullName().compareTo(after.key());
+        return c != 0 ? c : doc.id().compareTo(after.id());
+    }
+
+    private static int compareByScore(Hit hit, Cursor after) {
+        int c = Double.compare(after.score(), hit.score());
+        return c != 0 ? c : hit.doc().id().compareTo(after.id());
+    }
+
+    // ===== INCREMENTAL UPDATES =====
+
+    /**
+     * Re-read a user's row and skills once the current transaction commits. Several calls
+     * in one transaction are coalesced into a single reload.
+     */
+    @SuppressWarnings("unchecked")
+    public void reindex(String userId) {
+        if (userId == null) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            reload(Set.of(userId));
+            return;
+        }
+        Set<String> pending = (Set<String>) TransactionSynchronizationManager.getResource(PENDING_KEY);
+        if (pending == null) {
+            Set<String> ids = new LinkedHashSet<>();
+            TransactionSynchronizationManager.bindResource(PENDING_KEY, ids);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    reload(ids);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(PENDING_KEY);
+                }
+            });
+            pending = ids;
+        }
+        pending.add(userId);
+    }
+
+    /**
+     * Re-read committed changes; while a build is loading they are also kept for replay,
+     * since the build may have read the tables before the commit. With no index and no build
+     * there is nothing to update: the first build reads them.
+     */
+    private void reload(Set<String> userIds) {
+        synchronized (rebuildLock) {
+            if (replay != null) {
+                replay.addAll(userIds);
+            }
+            if (!loaded) {
+                return;
+            }
+        }
+        read(userIds);
+    }
+
+    private void read(Set<String> userIds) {
+        Map<String, Set<String>> skills = new HashMap<>();
+        for (Object[] row : userSkillRepository.findUserIdAndSkillNamesByUserIds(userIds)) {
+            skills.computeIfAbsent((String) row[0], k -> new HashSet<>()).add((String) row[1]);
+        }
+        List<Object[]> rows = userRepository.findSearchRowsByIds(userIds);
+
+        lock.writeLock().lock();
+        try {
+            Set<String> missing = new HashSet<>(userIds);
+            for (Object[] row : rows) {
+                missing.remove((String) row[0]);
+                index(row, skills.getOrDefault((String) row[0], Set.of()));
+            }
+            missing.forEach(this::unindex);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // ===== LOADING =====
+
+    @Scheduled(initialDelayString = "${app.search.users.rebuild-interval-ms:600000}",
+            fixedDelayString = "${app.search.users.rebuild-interval-ms:600000}")
+    public void refresh() {
+        if (loaded) {
+            rebuild();
+        }
+    }
+
+    private void ensureLoaded() {
+        if (!loaded) {
+            synchronized (this) {
+                if (!loaded) {
+                    rebuild();
+                }
+            }
+        }
+    }
+
+    private synchronized void rebuild() {
+        synchronized (rebuildLock) {
+            replay = new LinkedHashSet<>();
+        }
+        Set<String> changed;
+        try {
+            load();
+        } finally {
+            synchronized (rebuildLock) {
+                changed = replay;
+                replay = null;
+            }
+        }
+        if (loaded && !changed.isEmpty()) {
+            read(changed);
+        }
+    }
+
+    private void load() {
+        Map<String, Set<String>> skills = new HashMap<>();
+        for (Object[] row : userSkillRepository.findUserIdAndSkillNames()) {
+            skills.computeIfAbsent((String) row[0], k -> new HashSet<>()).add((String) row[1]);
+        }
+        List<Object[]> rows = userRepository.findSearchRows();
+
+        lock.writeLock().lock();
+        try {
+            ordinals.clear();
+            docs.clear();
+            live.clear();
+            postings.clear();
+            byBranch.clear();
+            byGraduationYear.clear();
+            byAvailability.clear();
+            bySkill.clear();
+            for (Object[] row : rows) {
+                index(row, skills.getOrDefault((String) row[0], Set.of()));
+            }
+            loaded = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // ===== INTERNALS (callers hold the write lock) =====
+
+    private void index(Object[] row, Set<String> skills) {
+        String id = (String) row[0];
+        unindex(id);
+        Integer ordinal = ordinals.get(id);
+        if (ordinal == null) {
+            ordinal = docs.size();
+            ordinals.put(id, ordinal);
+            docs.add(null);
+        }
+        String firstName = (String) row[1];
+        String lastName = (String) row[2];
+        String fullName = normalize((firstName == null ? "" : firstName) + " " + (lastName == null ? "" : lastName));
+        String branch = row[4] == null ? null : ((String) row[4]).trim().toLowerCase();
+        Integer graduationYear = (Integer) row[5];
+        AvailabilityStatus availability = (AvailabilityStatus) row[6];
+
+        Set<String> grams = trigrams(fullName);
+        for (String gram : grams) {
+            postings.computeIfAbsent(gram, k -> new Posting()).add(ordinal);
+        }
+        Set<String> skillKeys = new HashSet<>();
+        for (String skill : skills) {
+            String key = skill.toLowerCase();
+            bySkill.computeIfAbsent(key, k -> new BitSet()).set(ordinal);
+            skillKeys.add(key);
+        }
+        if (branch != null) {
+            byBranch.computeIfAbsent(branch, k -> new BitSet()).set(ordinal);
+        }
+        if (graduationYear != null) {
+            byGraduationYear.computeIfAbsent(graduationYear, k -> new BitSet()).set(ordinal);
+        }
+        if (availability != null) {
+            byAvailability.computeIfAbsent(availability, k -> new BitSet()).set(ordinal);
+        }
+        docs.set(ordinal, new Doc(id, firstName, lastName, (String) row[3], (String) row[4], fullName,
+                grams.size(), branch, graduationYear, availability, skillKeys));
+        live.set(ordinal);
+    }
+
+    private void unindex(String userId) {
+        Integer ordinal = ordinals.get(userId);
+        if (ordinal == null || docs.get(ordinal) == null) {
+            return;
+        }
+        Doc doc = docs.get(ordinal);
+        for (String gram : trigrams(doc.fullName())) {
+            Posting posting = postings.get(gram);
+            if (posting != null) {
+                posting.remove(ordinal);
+                if (posting.size == 0) {
+                    postings.remove(gram);
+                }
+            }
+        }
+        for (String skill : doc.skills()) {
+            clear(bySkill, skill, ordinal);
+        }
+        if (doc.branchKey() != null) {
+            clear(byBranch, doc.branchKey(), ordinal);
+        }
+        if (doc.graduationYear() != null) {
+            clear(byGraduationYear, doc.graduationYear(), ordinal);
+        }
+        if (doc.availability() != null && byAvailability.containsKey(doc.availability())) {
+            byAvailability.get(doc.availability()).clear(ordinal);
+        }
+        docs.set(ordinal, null);
+        live.clear(ordinal);
+    }
+
+    private static <K> void clear(Map<K, BitSet> bitmaps, K key, int ordinal) {
+        BitSet bits = bitmaps.get(key);
+        if (bits != null) {
+            bits.clear(ordinal);
+            if (bits.isEmpty()) {
+                bitmaps.remove(key);
+            }
+        }
+    }
+
+    static String normalize(String text) {
+        return text.trim().toLowerCase().replaceAll("\\s+", " ");
+    }
+
+    /**
+     * pg_trgm-style trigrams: each word is padded with two blanks in front and one behind.
+     */
+    static Set<String> trigrams(String normalized) {
+        Set<String> grams = new HashSet<>();
+        for (String word : normalized.split(" ")) {
+            if (word.isEmpty()) {
+                continue;
+            }
+            String padded = "  " + word + " ";
+            for (int i = 0; i + 3 <= padded.length(); i++) {
+                grams.add(padded.substring(i, i + 3));
+            }
+        }
+        return grams;
+    }
+
+    /**
+     * Sorted, growable int array of user ordinals.
+     */
+    private static final class Posting {
+        private int[] ordinals = new int[4];
+        private int size;
+
+        void add(int ordinal) {
+            int pos = Arrays.binarySearch(ordinals, 0, size, ordinal);
+            if (pos >= 0) {
+                return;
+            }
+            pos = -pos - 1;
+            if (size == ordinals.length) {
+                ordinals = Arrays.copyOf(ordinals, size * 2);
+            }
+            System.arraycopy(ordinals, pos, ordinals, pos + 1, size - pos);
+            ordinals[pos] = ordinal;
+            size++;
+        }
+
+        void remove(int ordinal) {
+            int pos = Arrays.binarySearch(ordinals, 0, size, ordinal);
+            if (pos < 0) {
+                return;
+            }
+            System.arraycopy(ordinals, pos + 1, ordinals, pos, size - pos - 1);
+            size--;
+        }
+    }
+
+    private record Cursor(String key, double score, String id) {
+
+        static String encode(String key, String id) {
+            return Base64.getUrlEncoder().withoutPadding()
+                    .encodeToString((key + "|" + id).getBytes(StandardCharsets.UTF_8));
+        }
+
+        static Cursor decode(String cursor, boolean ranked) {
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                int sep = raw.lastIndexOf('|');
+                if (sep < 0) {
+                    throw new IllegalArgumentException();
+                }
+                String key = raw.substring(0, sep);
+                return new Cursor(key, ranked ? Double.parseDouble(key) : 0, raw.substring(sep + 1));
+            } catch (IllegalArgumentException e) {
+                throw new BadRequestException("Invalid cursor");
+            }
+        }
+    }
+
+    record Doc(String id, String firstName, String lastName, String profilePictureUrl, String branch,
+                       String fullName, int trigramCount, String branchKey, Integer graduationYear,
+                       AvailabilityStatus availability, Set<String> skills) {
+    }
+
+    private static final ThreadLocal<Scratch> SCRATCH = ThreadLocal.withInitial(Scratch::new);
+
+    private static final class Scratch {
+        int[] counts = new int[0];
+        int[] touched = new int[16];
+        int touchedSize;
+
+        void ensureCapacity(int docs) {
+            if (counts.length < docs) {
+                counts = new int[Math.max(docs, counts.length * 2)];
+            }
+        }
+
+        void increment(int ordinal) {
+            if (counts[ordinal]++ == 0) {
+                if (touchedSize == touched.length) {
+                    touched = Arrays.copyOf(touched, touched.length * 2);
+                }
+                touched[touchedSize++] = ordinal;
+            }
+        }
+
+        void reset() {
+            for (int k = 0; k < touchedSize; k++) {
+                counts[touched[k]] = 0;
+            }
+            touchedSize = 0;
+        }
+    }
+
+    public record Hit(Doc doc, double score) {
+
+        public String id() {
+            return doc.id();
+        }
+
+        public String firstName() {
+            return doc.firstName();
+        }
+
+        public String lastName() {
+            return doc.lastName();
+        }
+
+        public String profilePictureUrl() {
+            return doc.profilePictureUrl();
+        }
+
+        public String branch() {
+            return doc.branch();
+        }
+    }
+
+    public record SearchPage(List<Hit> hits, String nextCursor) {
+    }
+}
@@ -0,0 +1,496 @@
+package com.ADP.peerConnect.service.cache;
+
+import com.ADP.peerConnect.service.embedding.EmbeddingMatrix;
+import com.ADP.peerConnect.service.embedding.ExactVectorScorer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * In-memory nearest-neighbour search over the project (requirements_vector) and user
+ * (skills_vector) embeddings, so "projects similar to this user" and "users similar to this
+ * project" no longer scan every row with pgvector's {@code <=>}.
+ *
+ * A side with at most exact-max-size vectors is an {@link EmbeddingMatrix} scanned exactly
+ * (SIMD dot products, parallel partitions), which at that size is as fast as a graph and
+ * never misses a neighbour; a larger side is an {@link HnswIndex} with its vectors off-heap.
+ * A side that outgrows the limit through incremental puts switches on the next rebuild. Both are built from the
+ * database on first use and rebuilt periodically, which also picks up vectors written by the
+ * Python worker and drops tombstones; vectors produced in this JVM are applied after commit.
+ * Changes arriving while a build is loading are replayed onto the new index.
+ *
+ * The first build runs in the background and queries never wait for it: until it is done
+ * they are answered by pgvector in the database, as before the index existed.
+ */
+@Component
+@Lazy(false)
+public class VectorIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(VectorIndex.class);
+
+    private static final String PROJECT_VECTORS_SQL = "SELECT id, CAST(requirements_vector AS text) FROM projects "
+            + "WHERE requirements_vector IS NOT NULL AND is_deleted = false";
+
+    private static final String USER_VECTORS_SQL = "SELECT id, CAST(skills_vector AS text) FROM users "
+            + "WHERE skills_vector IS NOT NULL";
+
+    // fallbacks while the index is not loaded; the score is the cosine similarity, as in the index
+    private static final String SIMILAR_PROJECTS_SQL = "SELECT id, 1 - (requirements_vector <=> CAST(? AS vector)) "
+            + "FROM projects WHERE requirements_vector IS NOT NULL AND is_deleted = false "
+            + "ORDER BY requirements_vector <=> CAST(? AS vector) LIMIT ?";
+
+    private static final String SIMILAR_USERS_SQL = "SELECT id, 1 - (skills_vector <=> CAST(? AS vector)) "
+            + "FROM users WHERE skills_vector IS NOT NULL "
+            + "ORDER BY skills_vector <=> CAST(? AS vector) LIMIT ?";
+
+    private static final String PROJECT_VECTOR_SQL = "SELECT CAST(requirements_vector AS text) FROM projects "
+            + "WHERE id = ? AND requirements_vector IS NOT NULL AND is_deleted = false";
+
+    private static final String USER_VECTOR_SQL = "SELECT CAST(skills_vector AS text) FROM users "
+            + "WHERE id = ? AND skills_vector IS NOT NULL";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final JdbcTemplate streamingJdbcTemplate;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+    private final int m;
+    private final int efConstruction;
+    private final int efSearch;
+    private final int exactMaxSize;
+    private final ExactVectorScorer scorer = new ExactVectorScorer();
+
+    private volatile boolean loaded;
+    private volatile Side projects;
+    private volatile Side users;
+    private final AtomicBoolean building = new AtomicBoolean();
+
+    // changes seen while a build is loading, replayed onto the new indexes
+    private final Object rebuildLock = new Object();
+    private List<Runnable> replay;
+
+    public VectorIndex(JdbcTemplate jdbcTemplate,
+                       TransactionTemplate transactionTemplate,
+                       @Value("${app.recommendations.vectors.m:16}") int m,
+                       @Value("${app.recommendations.vectors.ef-construction:100}") int efConstruction,
+                       @Value("${app.recommendations.vectors.ef-search:64}") int efSearch,
+                       @Value("${app.recommendations.vectors.exact-max-size:20000}") int exactMaxSize,
+                       @Value("${app.recommendations.vectors.fetch-size:1000}") int fetchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.streamingJdbcTemplate = new JdbcTemplate(jdbcTemplate.getDataSource());
+        this.streamingJdbcTemplate.setFetchSize(fetchSize);
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+        this.m = m;
+        this.efConstruction = efConstruction;
+        this.efSearch = efSearch;
+        this.exactMaxSize = exactMaxSize;
+    }
+
+    public record Match(String id, double score) {
+    }
+
+    // ===== QUERIES =====
+
+    /**
+     * Projects whose requirements embedding is closest to the user's profile embedding.
+     */
+    public List<Match> similarProjectsForUser(String userId, int k) {
+        float[] vector = userVector(userId);
+        return vector == null ? List.of() : similarProjects(vector, k);
+    }
+
+    /**
+     * Users whose profile embedding is closest to the project's requirements embedding.
+     */
+    public List<Match> similarUsersForProject(String projectId, int k) {
+        float[] vector = projectVector(projectId);
+        return vector == null ? List.of() : similarUsers(vector, k);
+    }
+
+    public List<Match> similarProjects(float[] vector, int k) {
+        if (!isLoaded()) {
+            return searchDatabase(SIMILAR_PROJECTS_SQL, vector, k);
+        }
+        return search(projects, vector, k);
+    }
+
+    public List<Match> similarUsers(float[] vector, int k) {
+        if (!isLoaded()) {
+            return searchDatabase(SIMILAR_USERS_SQL, vector, k);
+        }
+        return search(users, vector, k);
+    }
+
+    /**
+     * The user's stored (normalised) embedding, or null.
+     */
+    public float[] userVector(String userId) {
+        if (!isLoaded()) {
+            return readDatabase(USER_VECTOR_SQL, userId);
+        }
+        Side side = users;
+        return side == null ? null : side.get(userId);
+    }
+
+    /**
+     * The project's stored (normalised) embedding, or null.
+     */
+    public float[] projectVector(String projectId) {
+        if (!isLoaded()) {
+            return readDatabase(PROJECT_VECTOR_SQL, projectId);
+        }
+        Side side = projects;
+        return side == null ? null : side.get(projectId);
+    }
+
+    /**
+     * Whether queries are served from memory; when not, a background build is started and
+     * the query goes to the database.
+     */
+    public boolean isLoaded() {
+        if (!loaded) {
+            startBuild();
+        }
+        return loaded;
+    }
+
+    /**
+     * Block until the index is loaded, for batch jobs that query it once per row and would
+     * otherwise send every lookup to the database. Never call this inside a transaction.
+     */
+    public void awaitLoaded() {
+        if (!loaded) {
+            buildIfMissing();
+        }
+    }
+
+    /**
+     * Which search backs each side, for logs and diagnostics.
+     */
+    public String describe() {
+        if (!isLoaded()) {
+            return "loading";
+        }
+        return "projects=" + describe(projects) + ", users=" + describe(users);
+    }
+
+    private String describe(Side side) {
+        return side == null ? "empty" : side.size() + " " + side.kind();
+    }
+
+    private List<Match> search(Side side, float[] vector, int k) {
+        if (side == null || vector.length != side.dimensions()) {
+            return List.of();
+        }
+        return side.search(vector, k);
+    }
+
+    private List<Match> searchDatabase(String sql, float[] vector, int k) {
+        String text = toText(vector);
+        return jdbcTemplate.query(sql, (rs, rowNum) -> new Match(rs.getString(1), rs.getDouble(2)), text, text, k);
+    }
+
+    private float[] readDatabase(String sql, String id) {
+        List<String> rows = jdbcTemplate.queryForList(sql, String.class, id);
+        if (rows.isEmpty()) {
+            return null;
+        }
+        float[] vector = parseVector(rows.get(0));
+        return vector.length == 0 ? null : EmbeddingMatrix.normalize(vector, vector.length);
+    }
+
+    private static String toText(float[] vector) {
+        StringBuilder text = new StringBuilder(vector.length * 12).append('[');
+        for (int i = 0; i < vector.length; i++) {
+            if (i > 0) {
+                text.append(',');
+            }
+            text.append(vector[i]);
+        }
+        return text.append(']').toString();
+    }
+
+    // ===== INCREMENTAL UPDATES =====
+
+    public void userVectorChanged(String userId, float[] vector) {
+        afterCommit(() -> users = put(users, userId, vector));
+    }
+
+    public void projectVectorChanged(String projectId, float[] vector) {
+        afterCommit(() -> projects = put(projects, projectId, vector));
+    }
+
+    public void projectRemoved(String projectId) {
+        afterCommit(() -> {
+            Side side = projects;
+            if (side != null) {
+                side.remove(projectId);
+            }
+        });
+    }
+
+    private Side put(Side side, String id, float[] vector) {
+        if (side == null) {
+            side = new ExactSide(new EmbeddingMatrix(vector.length, scorer));
+        }
+        if (vector.length == side.dimensions()) {
+            side.put(id, vector);
+        } else {
+            logger.warn("Ignoring {}-dimension vector for {}, index has {}", vector.length, id, side.dimensions());
+        }
+        return side;
+    }
+
+    private void afterCommit(Runnable change) {
+        Runnable apply = () -> {
+            synchronized (rebuildLock) {
+                // a build in progress may have read the table before this commit
+                if (replay != null) {
+                    replay.add(change);
+                }
+                // with no index and no build, the next build reads the change from the table
+                if (loaded) {
+                    change.run();
+                }
+            }
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply.run();
+                }
+            });
+        } else {
+            apply.run();
+        }
+    }
+
+    // ===== LOADING =====
+
+    /**
+     * Build in the background at startup; a graph of 100k vectors takes a while to link and
+     * the first recommendation request should not pay for it.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        startBuild();
+    }
+
+    private void startBuild() {
+        if (loaded || !building.compareAndSet(false, true)) {
+            return;
+        }
+        Thread.ofVirtual().name("vector-index-load").start(() -> {
+            try {
+                buildIfMissing();
+            } catch (RuntimeException e) {
+                logger.warn("Vector index could not be built: {}", e.getMessage());
+            } finally {
+                building.set(false);
+            }
+        });
+    }
+
+    @Scheduled(initialDelayString = "${app.recommendations.vectors.rebuild-interval-ms:900000}",
+            fixedDelayString = "${app.recommendations.vectors.rebuild-interval-ms:900000}")
+    public void refresh() {
+        if (loaded) {
+            rebuild();
+        }
+    }
+
+    private synchronized void buildIfMissing() {
+        if (!loaded) {
+            rebuild();
+        }
+    }
+
+    private synchronized void rebuild() {
+        synchronized (rebuildLock) {
+            replay = new ArrayList<>();
+        }
+        try {
+            long start = System.currentTimeMillis();
+            Side newProjects = load(PROJECT_VECTORS_SQL);
+            Side newUsers = load(USER_VECTORS_SQL);
+            synchronized (rebuildLock) {
+                projects = newProjects;
+                users = newUsers;
+                for (Runnable change : replay) {
+                    change.run();
+                }
+                loaded = true;
+            }
+            logger.info("Vector index built: projects={}, users={} in {} ms (dot product: {})",
+                    describe(newProjects), describe(newUsers), System.currentTimeMillis() - start,
+                    scorer.implementation());
+        } finally {
+            synchronized (rebuildLock) {
+                replay = null;
+            }
+        }
+    }
+
+    /**
+     * Stream the rows into an exact matrix, moving to an HNSW graph once the count passes
+     * exact-max-size. The read-only transaction lets the driver honour the fetch size and
+     * use a cursor instead of buffering the whole table.
+     */
+    private Side load(String sql) {
+        Side[] side = new Side[1];
+        readOnlyTransactionTemplate.executeWithoutResult(status -> streamingJdbcTemplate.query(sql, rs -> {
+            float[] vector = parseVector(rs.getString(2));
+            if (vector.length == 0) {
+                return;
+            }
+            if (side[0] == null) {
+                side[0] = new ExactSide(new EmbeddingMatrix(vector.length, scorer));
+            }
+            if (vector.length != side[0].dimensions()) {
+                return;
+            }
+            side[0].put(rs.getString(1), vector);
+            if (side[0] instanceof ExactSide exact && exact.size() > exactMaxSize) {
+                side[0] = exact.toHnsw(m, efConstruction, efSearch);
+            }
+        }));
+        return side[0];
+    }
+
+    /**
+     * Parse pgvector's text form, e.g. "[0.1,-0.2,0.3]".
+     */
+    public static float[] parseVector(String text) {
+        if (text == null) {
+            return new float[0];
+        }
+        int start = text.indexOf('[') + 1;
+        int end = text.lastIndexOf(']');
+        if (end <= start) {
+            return new float[0];
+        }
+        int count = 1;
+        for (int i = start; i < end; i++) {
+            if (text.charAt(i) == ',') {
+                count++;
+            }
+        }
+        float[] vector = new float[count];
+        int from = start;
+        for (int i = 0; i < count; i++) {
+            int comma = text.indexOf(',', from);
+            int to = comma < 0 || comma > end ? end : comma;
+            vector[i] = Float.parseFloat(text.substring(from, to).trim());
+            from = to + 1;
+        }
+        return vector;
+    }
+
+    // ===== BACKENDS =====
+
+    private interface Side {
+
+        int dimensions();
+
+        int size();
+
+        String kind();
+
+        float[] get(String id);
+
+        void put(String id, float[] vector);
+
+        void remove(String id);
+
+        List<Match> search(float[] vector, int k);
+    }
+
+    private record ExactSide(EmbeddingMatrix matrix) implements Side {
+
+        public int dimensions() {
+            return matrix.dimensions();
+        }
+
+        public int size() {
+            return matrix.size();
+        }
+
+        public String kind() {
+            return "exact";
+        }
+
+        public float[] get(String id) {
+            return matrix.get(id);
+        }
+
+        public void put(String id, float[] vector) {
+            matrix.put(id, vector);
+        }
+
+        public void remove(String id) {
+            matrix.remove(id);
+        }
+
+        public List<Match> search(float[] vector, int k) {
+            List<Match> matches = new ArrayList<>(k);
+            for (EmbeddingMatrix.Match match : matrix.search(vector, k, null)) {
+                matches.add(new Match(match.id(), match.score()));
+            }
+            return matches;
+        }
+
+        HnswSide toHnsw(int m, int efConstruction, int efSearch) {
+            HnswIndex index = new HnswIndex(matrix.dimensions(), m, efConstruction);
+            matrix.forEach(index::put);
+            return new HnswSide(index, efSearch);
+        }
+    }
+
+    private record HnswSide(HnswIndex index, int efSearch) implements Side {
+
+        public int dimensions() {
+            return index.dimensions();
+        }
+
+        public int size() {
+            return index.size();
+        }
+
+        public String kind() {
+            return "hnsw";
+        }
+
+        public float[] get(String id) {
+            return index.get(id);
+        }
+
+        public void put(String id, float[] vector) {
+            index.put(id, vector);
+        }
+
+        public void remove(String id) {
+            index.remove(id);
+        }
+
+        public List<Match> search(float[] vector, int k) {
+            List<Match> matches = new ArrayList<>(k);
+            for (HnswIndex.Match match : index.search(vector, k, efSearch)) {
+                matches.add(new Match(match.key(), match.score()));
+            }
+            return matches;
+        }
+    }
+}
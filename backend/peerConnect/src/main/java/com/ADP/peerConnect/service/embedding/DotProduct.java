@@ -0,0 +1,46 @@
+package com.ADP.peerConnect.service.embedding;
+
+/**
+ * Dot product kernel for embedding scoring. {@link #best()} picks the SIMD implementation
+ * when the JVM was started with {@code --add-modules jdk.incubator.vector} and the scalar
+ * one otherwise, so the incubator module is never required at runtime.
+ */
+public interface DotProduct {
+
+    /**
+     * Dot product of {@code a[0..length)} with {@code b[offset..offset+length)}.
+     */
+    float dot(float[] a, float[] b, int offset, int length);
+
+    String name();
+
+    static DotProduct best() {
+        return Holder.BEST;
+    }
+
+    static DotProduct scalar() {
+        return Holder.SCALAR;
+    }
+
+    final class Holder {
+
+        private static final DotProduct SCALAR = new ScalarDotProduct();
+        private static final DotProduct BEST = load();
+
+        private Holder() {
+        }
+
+        private static DotProduct load() {
+            if (ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) {
+                return SCALAR;
+            }
+            try {
+                return (DotProduct) Class.forName("com.ADP.peerConnect.service.embedding.SimdDotProduct")
+                        .getDeclaredConstructor()
+                        .newInstance();
+            } catch (ReflectiveOperationException | LinkageError e) {
+                return SCALAR;
+            }
+        }
+    }
+}
@@ -0,0 +1,209 @@
+package com.ADP.peerConnect.service.embedding;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.function.BiConsumer;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Exact cosine search over a set of embeddings, for sets small enough that scanning every
+ * row beats maintaining a graph index.
+ *
+ * Vectors are L2-normalised on insert and packed row-major into one growable float[], so a
+ * scan walks memory sequentially and each row is a contiguous slice for the
+ * {@link ExactVectorScorer}. Removing a row moves the last row into its slot. Searches share
+ * a read lock; writes take the write lock.
+ */
+public final class EmbeddingMatrix {
+
+    private final int dimensions;
+    private final ExactVectorScorer scorer;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<String, Integer> rows = new HashMap<>();
+    private String[] ids = new String[16];
+    private float[] data;
+    private int size;
+
+    public EmbeddingMatrix(int dimensions, ExactVectorScorer scorer) {
+        if (dimensions <= 0) {
+            throw new IllegalArgumentException("dimensions must be positive");
+        }
+        this.dimensions = dimensions;
+        this.scorer = scorer;
+        this.data = new float[ids.length * dimensions];
+    }
+
+    public record Match(String id, float score) {
+    }
+
+    public int dimensions() {
+        return dimensions;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public boolean contains(String id) {
+        lock.readLock().lock();
+        try {
+            return rows.containsKey(id);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Copy of the stored (normalised) vector, or null.
+     */
+    public float[] get(String id) {
+        lock.readLock().lock();
+        try {
+            Integer row = rows.get(id);
+            return row == null ? null : Arrays.copyOfRange(data, row * dimensions, (row + 1) * dimensions);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Visit every stored (normalised) vector; the array passed is a fresh copy.
+     */
+    public void forEach(BiConsumer<String, float[]> action) {
+        lock.readLock().lock();
+        try {
+            for (int row = 0; row < size; row++) {
+                action.accept(ids[row], Arrays.copyOfRange(data, row * dimensions, (row + 1) * dimensions));
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Add or replace the vector for an id; an all-zero vector removes it.
+     */
+    public void put(String id, float[] vector) {
+        float[] normalized = normalize(vector, dimensions);
+        if (normalized == null) {
+            remove(id);
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            Integer row = rows.get(id);
+            if (row == null) {
+                if (size == ids.length) {
+                    ids = Arrays.copyOf(ids, size * 2);
+                    data = Arrays.copyOf(data, size * 2 * dimensions);
+                }
+                row = size++;
+                ids[row] = id;
+                rows.put(id, row);
+            }
+            System.arraycopy(normalized, 0, data, row * dimensions, dimensions);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(String id) {
+        lock.writeLock().lock();
+        try {
+            Integer row = rows.remove(id);
+            if (row == null) {
+                return;
+            }
+            int last = --size;
+            if (row != last) {
+                ids[row] = ids[last];
+                rows.put(ids[row], row);
+                System.arraycopy(data, last * dimensions, data, row * dimensions, dimensions);
+            }
+            ids[last] = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * The k stored vectors most similar to the query, best first, leaving out the id to
+     * exclude (if any).
+     */
+    public List<Match> search(float[] query, int k, String exclude) {
+        float[] q = normalize(query, dimensions);
+        if (q == null || k <= 0) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            Integer excluded = exclude == null ? null : rows.get(exclude);
+            ExactVectorScorer.Hit[] hits = scorer.topK(data, size, dimensions, q, k,
+                    excluded == null ? -1 : excluded);
+            List<Match> matches = new ArrayList<>(hits.length);
+            for (ExactVectorScorer.Hit hit : hits) {
+                matches.add(new Match(ids[hit.row()], hit.score()));
+            }
+            return matches;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * {@link #search} for a block of queries in one pass over the matrix (see
+     * {@link ExactVectorScorer#topKBlock}), on the calling thread. Result i belongs to
+     * queries.get(i); a null or all-zero query gets an empty list.
+     */
+    public List<List<Match>> searchBlock(List<float[]> queries, int k) {
+        float[][] normalized = new float[queries.size()][];
+        for (int i = 0; i < normalized.length; i++) {
+            float[] query = queries.get(i);
+            normalized[i] = query == null ? null : normalize(query, dimensions);
+        }
+        lock.readLock().lock();
+        try {
+            ExactVectorScorer.Hit[][] hits = scorer.topKBlock(data, size, dimensions, normalized, k);
+            List<List<Match>> results = new ArrayList<>(hits.length);
+            for (ExactVectorScorer.Hit[] queryHits : hits) {
+                List<Match> matches = new ArrayList<>(queryHits.length);
+                for (ExactVectorScorer.Hit hit : queryHits) {
+                    matches.add(new Match(ids[hit.row()], hit.score()));
+                }
+                results.add(matches);
+            }
+            return results;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public static float[] normalize(float[] vector, int dimensions) {
+        if (vector == null || vector.length != dimensions) {
+            throw new IllegalArgumentException("Expected a vector of " + dimensions + " dimensions");
+        }
+        double norm = 0;
+        for (float x : vector) {
+            norm += (double) x * x;
+        }
+        if (norm == 0) {
+            return null;
+        }
+        float scale = (float) (1 / Math.sqrt(norm));
+        float[] normalized = new float[dimensions];
+        for (int i = 0; i < dimensions; i++) {
+            normalized[i] = vector[i] * scale;
+        }
+        return normalized;
+    }
+}
@@ -0,0 +1,32 @@
+package com.ADP.peerConnect.service.embedding;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Turns profile and project text into embedding vectors for the recommendation pipeline.
+ *
+ * Selected with {@code app.embedding.provider}: "ollama" (default) calls a local Ollama
+ * server, "stub" is a deterministic offline implementation for tests and development.
+ */
+public interface EmbeddingProvider {
+
+    float[] embed(String text);
+
+    /**
+     * Name of the model behind the vectors; embeddings of different models are not
+     * comparable and are cached separately.
+     */
+    String model();
+
+    /**
+     * Embed several texts; providers with a batch API override this.
+     */
+    default List<float[]> embedAll(List<String> texts) {
+        List<float[]> vectors = new ArrayList<>(texts.size());
+        for (String text : texts) {
+            vectors.add(embed(text));
+        }
+        return vectors;
+    }
+}
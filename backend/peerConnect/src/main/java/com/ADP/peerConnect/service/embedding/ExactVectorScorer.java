@@ -0,0 +1,180 @@
+package com.ADP.peerConnect.service.embedding;
+
+import java.util.stream.IntStream;
+
+/**
+ * Exact top-k scan over a row-major float matrix, the kernel behind {@link EmbeddingMatrix}.
+ *
+ * The rows are split into partitions scored in parallel on the common fork-join pool; each
+ * partition keeps a bounded min-heap of its best k rows (the weakest on top, so most rows
+ * are rejected by a single comparison) and the partial heaps are merged at the end. Small
+ * matrices are scored on the calling thread. Dot products go through {@link DotProduct},
+ * SIMD when the Vector API is available.
+ */
+public final class ExactVectorScorer {
+
+    private static final int MIN_ROWS_PER_PARTITION = 4096;
+
+    // rows scored against every query of a block before moving on: 64 x 768 floats = 192 KB
+    private static final int ROWS_PER_TILE = 64;
+
+    private final DotProduct dotProduct;
+
+    public ExactVectorScorer(DotProduct dotProduct) {
+        this.dotProduct = dotProduct;
+    }
+
+    public ExactVectorScorer() {
+        this(DotProduct.best());
+    }
+
+    public record Hit(int row, float score) {
+    }
+
+    public String implementation() {
+        return dotProduct.name();
+    }
+
+    /**
+     * The k rows of a row-major matrix with the highest dot product against the query, best
+     * first, skipping excludedRow (pass -1 to keep every row). For cosine similarity both the
+     * rows and the query must already be normalised.
+     */
+    public Hit[] topK(float[] data, int rows, int dimensions, float[] query, int k, int excludedRow) {
+        if (k <= 0 || rows == 0) {
+            return new Hit[0];
+        }
+        int parallelism = Runtime.getRuntime().availableProcessors();
+        int partitions = Math.max(1, Math.min(parallelism * 4, rows / MIN_ROWS_PER_PARTITION));
+        int step = (rows + partitions - 1) / partitions;
+
+        IntStream range = IntStream.range(0, partitions);
+        if (partitions > 1) {
+            range = range.parallel();
+        }
+        TopK top = range
+                .mapToObj(p -> scan(data, dimensions, query, p * step, Math.min(rows, (p + 1) * step), k, excludedRow))
+                .reduce(TopK::merge)
+                .orElseGet(() -> new TopK(k));
+
+        int[] order = top.sortedDescending();
+        Hit[] hits = new Hit[order.length];
+        for (int i = 0; i < order.length; i++) {
+            hits[i] = new Hit(top.rows[order[i]], top.scores[order[i]]);
+        }
+        return hits;
+    }
+
+    /**
+     * Top-k for a block of (normalised) queries in one sequential pass over the matrix. Each
+     * tile of rows is scored against every query while it is still in cache, instead of
+     * streaming the whole matrix from memory once per query; batch jobs run blocks in
+     * parallel. hits[q] belongs to queries[q]; a null query gets no hits.
+     */
+    public Hit[][] topKBlock(float[] data, int rows, int dimensions, float[][] queries, int k) {
+        TopK[] tops = new TopK[queries.length];
+        for (int q = 0; q < queries.length; q++) {
+            tops[q] = new TopK(Math.max(k, 0));
+        }
+        if (k > 0) {
+            for (int tile = 0; tile < rows; tile += ROWS_PER_TILE) {
+                int end = Math.min(rows, tile + ROWS_PER_TILE);
+                for (int q = 0; q < queries.length; q++) {
+                    float[] query = queries[q];
+                    if (query == null) {
+                        continue;
+                    }
+                    TopK top = tops[q];
+                    for (int row = tile; row < end; row++) {
+                        top.offer(row, dotProduct.dot(query, data, row * dimensions, dimensions));
+                    }
+                }
+            }
+        }
+        Hit[][] hits = new Hit[queries.length][];
+        for (int q = 0; q < queries.length; q++) {
+            int[] order = tops[q].sortedDescending();
+            hits[q] = new Hit[order.length];
+            for (int i = 0; i < order.length; i++) {
+                hits[q][i] = new Hit(tops[q].rows[order[i]], tops[q].scores[order[i]]);
+            }
+        }
+        return hits;
+    }
+
+    private TopK scan(float[] data, int dimensions, float[] query, int from, int to, int k, int excludedRow) {
+        TopK top = new TopK(k);
+        for (int row = from; row < to; row++) {
+            if (row != excludedRow) {
+                top.offer(row, dotProduct.dot(query, data, row * dimensions, dimensions));
+            }
+        }
+        return top;
+    }
+
+    /**
+     * Bounded min-heap of (row, score): holds the k best rows seen, weakest at index 0.
+     */
+    private static final class TopK {
+        final int k;
+        final int[] rows;
+        final float[] scores;
+        int size;
+
+        TopK(int k) {
+            this.k = k;
+            this.rows = new int[k];
+            this.scores = new float[k];
+        }
+
+        void offer(int row, float score) {
+            if (size < k) {
+                int i = size++;
+                while (i > 0) {
+                    int parent = (i - 1) >>> 1;
+                    if (scores[parent] <= score) {
+                        break;
+                    }
+                    rows[i] = rows[parent];
+                    scores[i] = scores[parent];
+                    i = parent;
+                }
+                rows[i] = row;
+                scores[i] = score;
+            } else if (score > scores[0]) {
+                int i = 0;
+                while (true) {
+                    int child = 2 * i + 1;
+                    if (child >= size) {
+                        break;
+                    }
+                    if (child + 1 < size && scores[child + 1] < scores[child]) {
+                        child++;
+                    }
+                    if (scores[child] >= score) {
+                        break;
+                    }
+                    rows[i] = rows[child];
+                    scores[i] = scores[child];
+                    i = child;
+                }
+                rows[i] = row;
+                scores[i] = score;
+            }
+        }
+
+        TopK merge(TopK other) {
+            for (int i = 0; i < other.size; i++) {
+                offer(other.rows[i], other.scores[i]);
+            }
+            return this;
+        }
+
+        int[] sortedDescending() {
+            return IntStream.range(0, size).boxed()
+                    .sorted((a, b) -> Float.compare(scores[b], scores[a]))
+                    .mapToInt(Integer::intValue)
+                    .toArray();
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.ADP.peerConnect.service.embedding;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+
+/**
+ * Deterministic offline embeddings for tests and local development.
+ *
+ * Each lower-cased word is hashed into one of {@code dimensions} buckets with a +1/-1 sign
+ * (the hashing trick) and the result is L2-normalised, so texts sharing words have a
+ * positive cosine similarity and the same text always gives the same vector. There is no
+ * semantics beyond word overlap.
+ */
+@Component
+@ConditionalOnProperty(name = "app.embedding.provider", havingValue = "stub")
+public class HashingEmbeddingProvider implements EmbeddingProvider {
+
+    private final int dimensions;
+
+    public HashingEmbeddingProvider(@Value("${app.embedding.stub.dimensions:768}") int dimensions) {
+        if (dimensions <= 0) {
+            throw new IllegalArgumentException("dimensions must be positive");
+        }
+        this.dimensions = dimensions;
+    }
+
+    @Override
+    public float[] embed(String text) {
+        float[] vector = new float[dimensions];
+        if (text == null) {
+            return vector;
+        }
+        for (String token : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}+#]+")) {
+            if (token.isEmpty()) {
+                continue;
+            }
+            int h = mix(token.hashCode());
+            vector[Math.floorMod(h, dimensions)] += (h & 0x40000000) == 0 ? 1f : -1f;
+        }
+        double norm = 0;
+        for (float v : vector) {
+            norm += v * v;
+        }
+        if (norm > 0) {
+            float scale = (float) (1 / Math.sqrt(norm));
+            for (int i = 0; i < dimensions; i++) {
+                vector[i] *= scale;
+            }
+        }
+        return vector;
+    }
+
+    @Override
+    public String model() {
+        return "hashing-" + dimensions;
+    }
+
+    // murmur3 finalizer, spreads String.hashCode over all bits
+    private static int mix(int h) {
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        h ^= h >>> 16;
+        return h;
+    }
+}
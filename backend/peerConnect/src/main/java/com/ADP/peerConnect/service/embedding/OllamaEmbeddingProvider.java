@@ -0,0 +1,67 @@
+package com.ADP.peerConnect.service.embedding;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Embeddings from an Ollama server ({@code POST /api/embeddings}), the same model and
+ * endpoint the Python worker uses so vectors from both stay comparable.
+ */
+@Component
+@ConditionalOnProperty(name = "app.embedding.provider", havingValue = "ollama", matchIfMissing = true)
+public class OllamaEmbeddingProvider implements EmbeddingProvider {
+
+    private final RestClient restClient;
+    private final String model;
+
+    public OllamaEmbeddingProvider(@Value("${app.embedding.ollama.url:http://localhost:11434}") String baseUrl,
+                                   @Value("${app.embedding.ollama.model:nomic-embed-text}") String model,
+                                   @Value("${app.embedding.ollama.timeout-ms:30000}") long timeoutMs) {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofMillis(timeoutMs))
+                .build();
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(Duration.ofMillis(timeoutMs));
+        this.restClient = RestClient.builder()
+                .baseUrl(baseUrl)
+                .requestFactory(requestFactory)
+                .build();
+        this.model = model;
+    }
+
+    @Override
+    public float[] embed(String text) {
+        EmbeddingResponse response = restClient.post()
+                .uri("/api/embeddings")
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(Map.of("model", model, "prompt", text))
+                .retrieve()
+                .body(EmbeddingResponse.class);
+        if (response == null || response.embedding() == null || response.embedding().isEmpty()) {
+            throw new IllegalStateException("Ollama returned no embedding");
+        }
+        List<Double> values = response.embedding();
+        float[] vector = new float[values.size()];
+        for (int i = 0; i < vector.length; i++) {
+            vector[i] = values.get(i).floatValue();
+        }
+        return vector;
+    }
+
+    @Override
+    public String model() {
+        return model;
+    }
+
+    private record EmbeddingResponse(List<Double> embedding) {
+    }
+}
@@ -0,0 +1,29 @@
+package com.ADP.peerConnect.service.embedding;
+
+/**
+ * Plain Java dot product, unrolled over four independent accumulators so the JIT can keep
+ * several multiply-adds in flight.
+ */
+final class ScalarDotProduct implements DotProduct {
+
+    @Override
+    public float dot(float[] a, float[] b, int offset, int length) {
+        float s0 = 0, s1 = 0, s2 = 0, s3 = 0;
+        int i = 0;
+        for (int upper = length & ~3; i < upper; i += 4) {
+            s0 += a[i] * b[offset + i];
+            s1 += a[i + 1] * b[offset + i + 1];
+            s2 += a[i + 2] * b[offset + i + 2];
+            s3 += a[i + 3] * b[offset + i + 3];
+        }
+        for (; i < length; i++) {
+            s0 += a[i] * b[offset + i];
+        }
+        return (s0 + s1) + (s2 + s3);
+    }
+
+    @Override
+    public String name() {
+        return "scalar";
+    }
+}
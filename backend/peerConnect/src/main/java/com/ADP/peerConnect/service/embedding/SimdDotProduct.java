@@ -0,0 +1,43 @@
+package com.ADP.peerConnect.service.embedding;
+
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Dot product with the Vector API at the platform's preferred width (8 floats on AVX2, 16 on
+ * AVX-512), using fused multiply-add into two accumulators. Only loaded through
+ * {@link DotProduct#best()} when jdk.incubator.vector is available.
+ */
+final class SimdDotProduct implements DotProduct {
+
+    private static final VectorSpecies<Float> SPECIES = FloatVector.SPECIES_PREFERRED;
+
+    @Override
+    public float dot(float[] a, float[] b, int offset, int length) {
+        int width = SPECIES.length();
+        FloatVector acc0 = FloatVector.zero(SPECIES);
+        FloatVector acc1 = FloatVector.zero(SPECIES);
+        int i = 0;
+        for (int upper = length - 2 * width; i <= upper; i += 2 * width) {
+            acc0 = FloatVector.fromArray(SPECIES, a, i)
+                    .fma(FloatVector.fromArray(SPECIES, b, offset + i), acc0);
+            acc1 = FloatVector.fromArray(SPECIES, a, i + width)
+                    .fma(FloatVector.fromArray(SPECIES, b, offset + i + width), acc1);
+        }
+        for (int upper = SPECIES.loopBound(length); i < upper; i += width) {
+            acc0 = FloatVector.fromArray(SPECIES, a, i)
+                    .fma(FloatVector.fromArray(SPECIES, b, offset + i), acc0);
+        }
+        float sum = acc0.add(acc1).reduceLanes(VectorOperators.ADD);
+        for (; i < length; i++) {
+            sum += a[i] * b[offset + i];
+        }
+        return sum;
+    }
+
+    @Override
+    public String name() {
+        return "simd-" + SPECIES.length() * Float.SIZE;
+    }
+}
@@ -0,0 +1,120 @@
+package com.ADP.peerConnect.service.job;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Transactional outbox for the embedding pipeline: enqueues UPDATE_USER_VECTOR and
+ * UPDATE_PROJECT_VECTOR jobs in jobs_queue for the recommendation worker.
+ *
+ * Jobs requested during a transaction are collected per entity and written just before it
+ * commits, on the same connection, so a job exists if and only if the change it describes
+ * was committed. The insert skips entities that already have a pending job, so a burst of
+ * edits produces a single job; the partial unique index on (job_type, payload) WHERE
+ * status = 'pending' makes that hold across concurrent transactions too. A NOTIFY on
+ * {@value #NOTIFY_CHANNEL} wakes the EmbeddingJobWorker once the jobs are visible.
+ */
+@Component
+public class EmbeddingJobOutbox {
+
+    public static final String UPDATE_USER_VECTOR = "UPDATE_USER_VECTOR";
+    public static final String UPDATE_PROJECT_VECTOR = "UPDATE_PROJECT_VECTOR";
+
+    /**
+     * Channel notified when jobs are queued; Postgres delivers it only on commit.
+     */
+    public static final String NOTIFY_CHANNEL = "embedding_jobs";
+
+    private static final Object PENDING_KEY = new Object();
+
+    private static final String ENQUEUE_SQL = "INSERT INTO jobs_queue (id, job_type, payload, status, created_at) "
+            + "SELECT gen_random_uuid(), ?, CAST(? AS jsonb), 'pending', now() "
+            + "WHERE NOT EXISTS (SELECT 1 FROM jobs_queue "
+            + "WHERE job_type = ? AND status = 'pending' AND payload = CAST(? AS jsonb)) "
+            + "ON CONFLICT DO NOTHING";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    public EmbeddingJobOutbox(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Re-embed a user after their bio or skill set changed.
+     */
+    public void userChanged(String userId) {
+        enqueue(new Job(UPDATE_USER_VECTOR, "user_id", userId));
+    }
+
+    /**
+     * Re-embed a project after its description or required skills changed.
+     */
+    public void projectChanged(String projectId) {
+        enqueue(new Job(UPDATE_PROJECT_VECTOR, "project_id", projectId));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void enqueue(Job job) {
+        if (job.entityId() == null) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            write(Set.of(job));
+            return;
+        }
+        Set<Job> pending = (Set<Job>) TransactionSynchronizationManager.getResource(PENDING_KEY);
+        if (pending == null) {
+            Set<Job> jobs = new LinkedHashSet<>();
+            TransactionSynchronizationManager.bindResource(PENDING_KEY, jobs);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    write(jobs);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(PENDING_KEY);
+                }
+            });
+            pending = jobs;
+        }
+        pending.add(job);
+    }
+
+    private void write(Set<Job> jobs) {
+        if (jobs.isEmpty()) {
+            return;
+        }
+        List<Object[]> args = new ArrayList<>(jobs.size());
+        for (Job job : jobs) {
+            String payload = payload(job);
+            args.add(new Object[]{job.type(), payload, job.type(), payload});
+        }
+        jdbcTemplate.batchUpdate(ENQUEUE_SQL, args);
+        jdbcTemplate.execute("NOTIFY " + NOTIFY_CHANNEL);
+    }
+
+    private String payload(Job job) {
+        try {
+            return objectMapper.writeValueAsString(Map.of(job.key(), job.entityId()));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize job payload", e);
+        }
+    }
+
+    private record Job(String type, String key, String entityId) {
+    }
+}
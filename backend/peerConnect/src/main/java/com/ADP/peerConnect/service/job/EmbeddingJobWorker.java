@@ -0,0 +1,453 @@
+package com.ADP.peerConnect.service.job;
+
+import com.ADP.peerConnect.service.cache.CandidateRecommendationCache;
+import com.ADP.peerConnect.service.cache.EmbeddingCache;
+import com.ADP.peerConnect.service.cache.RecommendationCache;
+import com.ADP.peerConnect.service.cache.VectorIndex;
+import com.ADP.peerConnect.service.embedding.EmbeddingProvider;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import org.postgresql.PGConnection;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In-JVM consumer of the jobs_queue embedding pipeline, replacing the one-job-at-a-time
+ * polling loop of recommendation/worker.py.
+ *
+ * A listener thread keeps one connection LISTENing on the outbox channel and sleeps until a
+ * notification arrives (or idle-poll-ms passes, which picks up retries that became due and
+ * jobs queued by other producers). It then claims up to batch-size jobs in one
+ * UPDATE ... FOR UPDATE SKIP LOCKED, so several workers (including the Python one) never
+ * take the same job, loads the text of every claimed entity with one query per job type and
+ * runs the embeddings on virtual threads, at most parallelism at a time; texts the model has
+ * already embedded come from the {@link EmbeddingCache} without a call. Each result is
+ * written together with the job's completion in a short transaction; no connection is held
+ * while the provider is called. The recommendation rows for the entity are refreshed from the
+ * in-memory {@link VectorIndex} (an exact scan up to exact-max-size vectors) instead of a
+ * pgvector scan over the whole table; the matches are resolved before that transaction opens,
+ * so it holds its connection only for the writes. Until the index is loaded the ranking comes
+ * from pgvector, and vectors written by other processes reach the index on its next rebuild.
+ *
+ * A failed job goes back to pending with an exponential next_attempt_at; after max-attempts
+ * it is left as 'failed' with the last error in error_message (the dead letter). Jobs stuck
+ * in 'processing' for longer than lease-seconds, because a worker died, are claimed again.
+ *
+ * The LISTEN connection is opened with DriverManager from the datasource URL and credentials,
+ * outside the Hikari pool: it is held for the life of the worker, and taking it from the
+ * (small) pool would leave one connection fewer for requests and the job transactions.
+ *
+ * Off by default ({@code app.embedding.worker.enabled}) while the Python worker is deployed.
+ */
+@Component
+@Lazy(false)
+@ConditionalOnProperty(name = "app.embedding.worker.enabled", havingValue = "true")
+public class EmbeddingJobWorker {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmbeddingJobWorker.class);
+
+    private static final String CLAIM_SQL = "UPDATE jobs_queue SET status = 'processing', "
+            + "attempts = COALESCE(attempts, 0) + 1, locked_at = now() "
+            + "WHERE id IN (SELECT id FROM jobs_queue "
+            + "WHERE job_type IN ('" + EmbeddingJobOutbox.UPDATE_USER_VECTOR + "', '"
+            + EmbeddingJobOutbox.UPDATE_PROJECT_VECTOR + "') "
+            + "AND ((status = 'pending' AND (next_attempt_at IS NULL OR next_attempt_at <= now())) "
+            + "OR (status = 'processing' AND locked_at < now() - make_interval(secs => ?))) "
+            + "ORDER BY created_at LIMIT ? FOR UPDATE SKIP LOCKED) "
+            + "RETURNING id, job_type, payload, attempts";
+
+    private static final String USER_TEXT_SQL = "SELECT u.id, u.bio, COALESCE(STRING_AGG(s.name, ', '), '') "
+            + "FROM users u LEFT JOIN user_skills us ON u.id = us.user_id LEFT JOIN skills s ON us.skill_id = s.id "
+            + "WHERE u.id IN (:ids) GROUP BY u.id, u.bio";
+
+    private static final String PROJECT_TEXT_SQL = "SELECT p.id, p.description, COALESCE(STRING_AGG(s.name, ', '), '') "
+            + "FROM projects p LEFT JOIN project_skills ps ON p.id = ps.project_id LEFT JOIN skills s ON ps.skill_id = s.id "
+            + "WHERE p.id IN (:ids) AND p.is_deleted = false GROUP BY p.id, p.description";
+
+    private static final String COMPLETE_SQL = "UPDATE jobs_queue SET status = 'completed', "
+            + "error_message = NULL, locked_at = NULL WHERE id = ?";
+
+    private static final String DEAD_LETTER_SQL = "UPDATE jobs_queue SET status = 'failed', "
+            + "error_message = ?, locked_at = NULL WHERE id = ?";
+
+    // a newer pending job for the same entity makes the retry redundant (and would break
+    // the unique pending index)
+    private static final String RETRY_SQL = "UPDATE jobs_queue SET status = 'pending', error_message = ?, "
+            + "locked_at = NULL, next_attempt_at = now() + make_interval(secs => ?) "
+            + "WHERE id = ? AND NOT EXISTS (SELECT 1 FROM jobs_queue d WHERE d.status = 'pending' "
+            + "AND d.job_type = jobs_queue.job_type AND d.payload = jobs_queue.payload)";
+
+    private static final String SUPERSEDED_SQL = "UPDATE jobs_queue SET status = 'superseded', "
+            + "error_message = ?, locked_at = NULL WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DataSourceProperties dataSourceProperties;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final EmbeddingProvider embeddingProvider;
+    private final EmbeddingCache embeddingCache;
+    private final VectorIndex vectorIndex;
+    private final RecommendationCache recommendationCache;
+    private final CandidateRecommendationCache candidateCache;
+
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long backoffBaseSeconds;
+    private final long backoffMaxSeconds;
+    private final long leaseSeconds;
+    private final long idlePollMs;
+    private final int recommendations;
+
+    private final Semaphore permits;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private volatile boolean running;
+    private Thread listener;
+    private volatile Connection listenConnection;
+
+    public EmbeddingJobWorker(JdbcTemplate jdbcTemplate,
+                              DataSourceProperties dataSourceProperties,
+                              TransactionTemplate transactionTemplate,
+                              ObjectMapper objectMapper,
+                              EmbeddingProvider embeddingProvider,
+                              EmbeddingCache embeddingCache,
+                              VectorIndex vectorIndex,
+                              RecommendationCache recommendationCache,
+                              CandidateRecommendationCache candidateCache,
+                              @Value("${app.embedding.worker.batch-size:32}") int batchSize,
+                              @Value("${app.embedding.worker.parallelism:4}") int parallelism,
+                              @Value("${app.embedding.worker.max-attempts:5}") int maxAttempts,
+                              @Value("${app.embedding.worker.backoff-base-seconds:10}") long backoffBaseSeconds,
+                              @Value("${app.embedding.worker.backoff-max-seconds:3600}") long backoffMaxSeconds,
+                              @Value("${app.embedding.worker.lease-seconds:600}") long leaseSeconds,
+                              @Value("${app.embedding.worker.idle-poll-ms:30000}") long idlePollMs,
+                              @Value("${app.embedding.worker.recommendations:10}") int recommendations) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.dataSourceProperties = dataSourceProperties;
+        this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+        this.embeddingProvider = embeddingProvider;
+        this.embeddingCache = embeddingCache;
+        this.vectorIndex = vectorIndex;
+        this.recommendationCache = recommendationCache;
+        this.candidateCache = candidateCache;
+        this.batchSize = batchSize;
+        this.permits = new Semaphore(Math.max(1, parallelism));
+        this.maxAttempts = maxAttempts;
+        this.backoffBaseSeconds = backoffBaseSeconds;
+        this.backoffMaxSeconds = backoffMaxSeconds;
+        this.leaseSeconds = leaseSeconds;
+        this.idlePollMs = idlePollMs;
+        this.recommendations = recommendations;
+    }
+
+    // ===== LIFECYCLE =====
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        listener = Thread.ofPlatform().name("embedding-job-listener").daemon().start(this::listen);
+    }
+
+    @PreDestroy
+    public synchronized void stop() {
+        running = false;
+        if (listener != null) {
+            listener.interrupt();
+        }
+        closeQuietly(listenConnection);
+        executor.shutdown();
+        try {
+            executor.awaitTermination(30, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void listen() {
+        while (running) {
+            try (Connection connection = openListenConnection();
+                 Statement statement = connection.createStatement()) {
+                listenConnection = connection;
+                statement.execute("LISTEN " + EmbeddingJobOutbox.NOTIFY_CHANNEL);
+                PGConnection pg = connection.unwrap(PGConnection.class);
+                while (running) {
+                    drain();
+                    // returns on the first notification or after idlePollMs; the payload is
+                    // irrelevant, the queue itself is the source of truth
+                    pg.getNotifications((int) idlePollMs);
+                }
+            } catch (SQLException e) {
+                if (!running) {
+                    return;
+                }
+                logger.warn("Embedding job listener lost its connection, reconnecting: {}", e.getMessage());
+                sleep(5000);
+            } catch (RuntimeException e) {
+                logger.error("Embedding job worker failed, restarting", e);
+                sleep(5000);
+            }
+        }
+    }
+
+    // a dedicated connection outside the pool, for as long as the listener runs
+    private Connection openListenConnection() throws SQLException {
+        Properties properties = new Properties();
+        String username = dataSourceProperties.determineUsername();
+        String password = dataSourceProperties.determinePassword();
+        if (username != null) {
+            properties.setProperty("user", username);
+        }
+        if (password != null) {
+            properties.setProperty("password", password);
+        }
+        properties.setProperty("tcpKeepAlive", "true");
+        properties.setProperty("ApplicationName", "peerconnect-embedding-listener");
+        Connection connection = DriverManager.getConnection(dataSourceProperties.determineUrl(), properties);
+        connection.setAutoCommit(true);
+        return connection;
+    }
+
+    private static void closeQuietly(Connection connection) {
+        if (connection != null) {
+            try {
+                connection.close();
+            } catch (SQLException ignored) {
+                // the listener reconnects or is stopping anyway
+            }
+        }
+    }
+
+    // ===== PROCESSING =====
+
+    /**
+     * Claim and process batches until the queue has nothing due.
+     */
+    public void drain() {
+        int claimed;
+        do {
+            claimed = processBatch();
+        } while (running && claimed == batchSize);
+    }
+
+    private int processBatch() {
+        List<Job> jobs = jdbcTemplate.query(CLAIM_SQL, (rs, i) -> new Job(
+                rs.getObject("id").toString(),
+                rs.getString("job_type"),
+                rs.getString("payload"),
+                rs.getInt("attempts")), leaseSeconds, batchSize);
+        if (jobs.isEmpty()) {
+            return 0;
+        }
+
+        Map<String, String> userTexts = loadTexts(USER_TEXT_SQL, "Bio: %s. Skills: %s",
+                entityIds(jobs, EmbeddingJobOutbox.UPDATE_USER_VECTOR, "user_id"));
+        Map<String, String> projectTexts = loadTexts(PROJECT_TEXT_SQL, "Description: %s. Required Skills: %s",
+                entityIds(jobs, EmbeddingJobOutbox.UPDATE_PROJECT_VECTOR, "project_id"));
+        List<String> texts = new ArrayList<>(userTexts.values());
+        texts.addAll(projectTexts.values());
+        embeddingCache.prefetch(embeddingProvider.model(), texts);
+
+        List<Callable<Void>> tasks = new ArrayList<>(jobs.size());
+        for (Job job : jobs) {
+            tasks.add(() -> {
+                permits.acquire();
+                try {
+                    run(job, userTexts, projectTexts);
+                } finally {
+                    permits.release();
+                }
+                return null;
+            });
+        }
+        try {
+            executor.invokeAll(tasks);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return jobs.size();
+    }
+
+    private void run(Job job, Map<String, String> userTexts, Map<String, String> projectTexts) {
+        String entityId = job.entityId(objectMapper);
+        try {
+            if (EmbeddingJobOutbox.UPDATE_USER_VECTOR.equals(job.type())) {
+                String text = userTexts.get(entityId);
+                if (text == null) {
+                    deadLetter(job, "User not found: " + entityId);
+                    return;
+                }
+                float[] embedding = embeddingCache.embed(text, embeddingProvider);
+                String vector = toPgVector(embedding);
+                List<VectorIndex.Match> matches = vectorIndex.similarProjects(embedding, recommendations);
+                transactionTemplate.executeWithoutResult(status -> {
+                    writeUserVector(entityId, vector, matches);
+                    jdbcTemplate.update(COMPLETE_SQL, job.uuid());
+                    vectorIndex.userVectorChanged(entityId, embedding);
+                });
+            } else {
+                String text = projectTexts.get(entityId);
+                if (text == null) {
+                    deadLetter(job, "Project not found: " + entityId);
+                    return;
+                }
+                float[] embedding = embeddingCache.embed(text, embeddingProvider);
+                String vector = toPgVector(embedding);
+                List<VectorIndex.Match> matches = vectorIndex.similarUsers(embedding, recommendations);
+                transactionTemplate.executeWithoutResult(status -> {
+                    writeProjectVector(entityId, vector, matches);
+                    jdbcTemplate.update(COMPLETE_SQL, job.uuid());
+                    vectorIndex.projectVectorChanged(entityId, embedding);
+                });
+            }
+        } catch (RuntimeException e) {
+            fail(job, e);
+        }
+    }
+
+    private void writeUserVector(String userId, String vector, List<VectorIndex.Match> matches) {
+        jdbcTemplate.update("UPDATE users SET skills_vector = CAST(? AS vector) WHERE id = ?", vector, userId);
+        jdbcTemplate.update("DELETE FROM user_recommended_projects WHERE user_id = ?", userId);
+        List<Object[]> rows = new ArrayList<>();
+        // read by priority DESC: the best match gets the largest priority
+        for (VectorIndex.Match match : matches) {
+            rows.add(new Object[]{userId, match.id(), match.score(), recommendations - rows.size()});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO user_recommended_projects (user_id, project_id, match_score, priority) "
+                + "VALUES (?, ?, ?, ?)", rows);
+        recommendationCache.evict(userId);
+    }
+
+    private void writeProjectVector(String projectId, String vector, List<VectorIndex.Match> matches) {
+        jdbcTemplate.update("UPDATE projects SET requirements_vector = CAST(? AS vector) WHERE id = ?", vector, projectId);
+        jdbcTemplate.update("DELETE FROM project_recommended_candidates WHERE project_id = ?", projectId);
+        List<Object[]> rows = new ArrayList<>();
+        for (VectorIndex.Match match : matches) {
+            rows.add(new Object[]{projectId, match.id(), match.score(), rows.size() + 1});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO project_recommended_candidates "
+                + "(project_id, user_id, match_score, priority, missing_skills) "
+                + "VALUES (?, ?, ?, ?, CAST(ARRAY[] AS TEXT[]))", rows);
+        candidateCache.evict(projectId);
+    }
+
+    private void fail(Job job, RuntimeException e) {
+        String error = e.getClass().getSimpleName() + ": " + e.getMessage();
+        if (job.attempts() >= maxAttempts) {
+            logger.error("Embedding job {} failed {} times, giving up: {}", job.id(), job.attempts(), error);
+            deadLetter(job, error);
+            return;
+        }
+        logger.warn("Embedding job {} failed (attempt {}), retrying: {}", job.id(), job.attempts(), error);
+        int updated = jdbcTemplate.update(RETRY_SQL, error, backoffSeconds(job.attempts()), job.uuid());
+        if (updated == 0) {
+            jdbcTemplate.update(SUPERSEDED_SQL, error, job.uuid());
+        }
+    }
+
+    private void deadLetter(Job job, String error) {
+        jdbcTemplate.update(DEAD_LETTER_SQL, error, job.uuid());
+    }
+
+    /**
+     * Delay before the next attempt: base, 2 x base, 4 x base, ... capped at the maximum.
+     */
+    private long backoffSeconds(int attempts) {
+        int shift = Math.min(Math.max(attempts - 1, 0), 30);
+        return Math.min(backoffBaseSeconds << shift, backoffMaxSeconds);
+    }
+
+    // ===== HELPERS =====
+
+    private List<String> entityIds(List<Job> jobs, String type, String key) {
+        List<String> ids = new ArrayList<>();
+        for (Job job : jobs) {
+            if (type.equals(job.type())) {
+                String id = job.entityId(objectMapper);
+                if (id != null) {
+                    ids.add(id);
+                }
+            }
+        }
+        return ids;
+    }
+
+    private Map<String, String> loadTexts(String sql, String format, List<String> ids) {
+        Map<String, String> texts = new HashMap<>();
+        if (ids.isEmpty()) {
+            return texts;
+        }
+        namedJdbcTemplate.query(sql, Map.of("ids", ids), rs -> {
+            String body = rs.getString(2);
+            texts.put(rs.getString(1), String.format(format, body == null ? "" : body, rs.getString(3)));
+        });
+        return texts;
+    }
+
+    static String toPgVector(float[] vector) {
+        StringBuilder sb = new StringBuilder(vector.length * 10).append('[');
+        for (int i = 0; i < vector.length; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append(vector[i]);
+        }
+        return sb.append(']').toString();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private record Job(String id, String type, String payload, int attempts) {
+
+        UUID uuid() {
+            return UUID.fromString(id);
+        }
+
+        String entityId(ObjectMapper objectMapper) {
+            try {
+                JsonNode node = objectMapper.readTree(payload);
+                String key = EmbeddingJobOutbox.UPDATE_USER_VECTOR.equals(type) ? "user_id" : "project_id";
+                return node.hasNonNull(key) ? node.get(key).asText() : null;
+            } catch (Exception e) {
+                return null;
+            }
+        }
+    }
+}
@@ -0,0 +1,414 @@
+package com.ADP.peerConnect.service.job;
+
+import com.ADP.peerConnect.model.enums.ProjectStatus;
+import com.ADP.peerConnect.model.enums.SkillLevel;
+import com.ADP.peerConnect.service.cache.CandidateRecommendationCache;
+import com.ADP.peerConnect.service.cache.RecommendationCache;
+import com.ADP.peerConnect.service.cache.SkillDictionary;
+import com.ADP.peerConnect.service.cache.VectorIndex;
+import com.ADP.peerConnect.service.embedding.DotProduct;
+import com.ADP.peerConnect.service.recommendation.HybridScorer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Batch job that recomputes user_recommended_projects and project_recommended_candidates
+ * with the {@link HybridScorer}, instead of the embedding-only ranking written by the
+ * embedding workers.
+ *
+ * One pass loads a snapshot of the open projects, project and user skills and team
+ * memberships. For every user the candidates are the candidate-pool nearest projects from the
+ * {@link VectorIndex} plus every project that lists one of the user's skills; each candidate
+ * the user is not already in is scored and the best recommendations are kept. Projects are
+ * ranked against users the same way, with the names of the skills each candidate lacks in
+ * missing_skills. Users (and then projects) are scored in parallel on the common fork-join
+ * pool, chunk-size at a time, and each chunk is written in its own transaction with one
+ * DELETE and one JDBC batch per table; an owner left with no recommendations still has its
+ * old rows deleted. A final sweep deletes the rows of owners that are no longer in the
+ * snapshot: projects that were closed or deleted and users with neither skills nor a vector.
+ *
+ * Off by default ({@code app.recommendations.hybrid.enabled}).
+ */
+@Component
+@Lazy(false)
+public class HybridRecommendationJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(HybridRecommendationJob.class);
+
+    private static final String PROJECTS_SQL = "SELECT id, status, max_team_size, current_team_size, created_at, lead_id "
+            + "FROM projects WHERE is_deleted = false AND status IN ('RECRUITING', 'IN_PROGRESS')";
+
+    private static final String PROJECT_SKILLS_SQL = "SELECT ps.project_id, ps.skill_id, ps.is_required, ps.required_level "
+            + "FROM project_skills ps JOIN projects p ON p.id = ps.project_id "
+            + "WHERE p.is_deleted = false AND p.status IN ('RECRUITING', 'IN_PROGRESS')";
+
+    private static final String USER_SKILLS_SQL = "SELECT user_id, skill_id, level FROM user_skills";
+
+    private static final String MEMBERS_SQL = "SELECT project_id, user_id FROM project_members";
+
+    private static final String INSERT_USER_ROW_SQL = "INSERT INTO user_recommended_projects "
+            + "(user_id, project_id, match_score, priority) VALUES (?, ?, ?, ?)";
+
+    private static final String INSERT_PROJECT_ROW_SQL = "INSERT INTO project_recommended_candidates "
+            + "(project_id, user_id, match_score, priority, missing_skills) VALUES (?, ?, ?, ?, ?)";
+
+    // the sweep mirrors the snapshot queries above, evaluated when it runs
+    private static final String SWEEP_PROJECT_ROWS_SQL = "DELETE FROM project_recommended_candidates c "
+            + "WHERE NOT EXISTS (SELECT 1 FROM projects p WHERE p.id = c.project_id "
+            + "AND p.is_deleted = false AND p.status IN ('RECRUITING', 'IN_PROGRESS')) "
+            + "RETURNING c.project_id";
+
+    private static final String SWEEP_USER_ROWS_SQL = "DELETE FROM user_recommended_projects r "
+            + "WHERE NOT EXISTS (SELECT 1 FROM user_skills s WHERE s.user_id = r.user_id) "
+            + "AND NOT EXISTS (SELECT 1 FROM users u WHERE u.id = r.user_id AND u.skills_vector IS NOT NULL) "
+            + "RETURNING r.user_id";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final VectorIndex vectorIndex;
+    private final SkillDictionary skillDictionary;
+    private final RecommendationCache recommendationCache;
+    private final CandidateRecommendationCache candidateCache;
+    private final HybridScorer scorer;
+    private final DotProduct dotProduct = DotProduct.best();
+
+    private final boolean enabled;
+    private final int recommendations;
+    private final int candidatePool;
+    private final int chunkSize;
+
+    public HybridRecommendationJob(JdbcTemplate jdbcTemplate,
+                                   TransactionTemplate transactionTemplate,
+                                   VectorIndex vectorIndex,
+                                   SkillDictionary skillDictionary,
+                                   RecommendationCache recommendationCache,
+                                   CandidateRecommendationCache candidateCache,
+                                   @Value("${app.recommendations.hybrid.enabled:false}") boolean enabled,
+                                   @Value("${app.recommendations.hybrid.recommendations:10}") int recommendations,
+                                   @Value("${app.recommendations.hybrid.candidate-pool:200}") int candidatePool,
+                                   @Value("${app.recommendations.hybrid.chunk-size:500}") int chunkSize,
+                                   @Value("${app.recommendations.hybrid.weights.vector:0.45}") double vectorWeight,
+                                   @Value("${app.recommendations.hybrid.weights.skills:0.30}") double skillsWeight,
+                                   @Value("${app.recommendations.hybrid.weights.capacity:0.10}") double capacityWeight,
+                                   @Value("${app.recommendations.hybrid.weights.status:0.10}") double statusWeight,
+                                   @Value("${app.recommendations.hybrid.weights.recency:0.05}") double recencyWeight,
+                                   @Value("${app.recommendations.hybrid.recency-half-life-days:30}") double halfLifeDays) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.transactionTemplate = transactionTemplate;
+        this.vectorIndex = vectorIndex;
+        this.skillDictionary = skillDictionary;
+        this.recommendationCache = recommendationCache;
+        this.candidateCache = candidateCache;
+        this.enabled = enabled;
+        this.recommendations = recommendations;
+        this.candidatePool = candidatePool;
+        this.chunkSize = Math.max(1, chunkSize);
+        this.scorer = new HybridScorer(new HybridScorer.Weights(
+                vectorWeight, skillsWeight, capacityWeight, statusWeight, recencyWeight), halfLifeDays);
+    }
+
+    public record Summary(int users, int projects, long rows, long millis) {
+    }
+
+    @Scheduled(initialDelayString = "${app.recommendations.hybrid.interval-ms:21600000}",
+            fixedDelayString = "${app.recommendations.hybrid.interval-ms:21600000}")
+    public void scheduledRun() {
+        if (enabled) {
+            try {
+                run();
+            } catch (RuntimeException e) {
+                logger.error("Hybrid recommendation run failed: {}", e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * Recompute and rewrite the recommendations of every user and the candidates of every
+     * open project.
+     */
+    public synchronized Summary run() {
+        long start = System.currentTimeMillis();
+        // every candidate is scored against the index; do not send those lookups to the database
+        vectorIndex.awaitLoaded();
+        Snapshot snapshot = loadSnapshot();
+        LocalDateTime now = LocalDateTime.now();
+
+        long rows = 0;
+        List<String> userIds = new ArrayList<>(snapshot.userSkills.keySet());
+        userIds.addAll(snapshot.vectorOnlyUsers);
+        for (int from = 0; from < userIds.size(); from += chunkSize) {
+            List<String> chunk = userIds.subList(from, Math.min(userIds.size(), from + chunkSize));
+            List<List<Row>> ranked = chunk.parallelStream()
+                    .map(userId -> rankProjects(snapshot, userId, now))
+                    .toList();
+            rows += writeUserRows(chunk, ranked);
+        }
+
+        List<String> projectIds = new ArrayList<>(snapshot.projects.keySet());
+        for (int from = 0; from < projectIds.size(); from += chunkSize) {
+            List<String> chunk = projectIds.subList(from, Math.min(projectIds.size(), from + chunkSize));
+            List<List<Row>> ranked = chunk.parallelStream()
+                    .map(projectId -> rankCandidates(snapshot, projectId, now))
+                    .toList();
+            rows += writeProjectRows(chunk, ranked);
+        }
+        sweep();
+
+        Summary summary = new Summary(userIds.size(), projectIds.size(), rows, System.currentTimeMillis() - start);
+        logger.info("Hybrid recommendations rewritten: {} users, {} projects, {} rows in {} ms",
+                summary.users(), summary.projects(), summary.rows(), summary.millis());
+        return summary;
+    }
+
+    // ===== SCORING =====
+
+    private List<Row> rankProjects(Snapshot snapshot, String userId, LocalDateTime now) {
+        Map<Long, SkillLevel> skills = snapshot.userSkills.getOrDefault(userId, Map.of());
+        Set<String> memberOf = snapshot.projectsByMember.getOrDefault(userId, Set.of());
+        float[] userVector = vectorIndex.userVector(userId);
+
+        Map<String, Double> cosines = new HashMap<>();
+        if (userVector != null) {
+            for (VectorIndex.Match match : vectorIndex.similarProjects(userVector, candidatePool)) {
+                cosines.put(match.id(), match.score());
+            }
+        }
+        Set<String> candidates = new LinkedHashSet<>(cosines.keySet());
+        for (Long skillId : skills.keySet()) {
+            candidates.addAll(snapshot.projectsBySkill.getOrDefault(skillId, List.of()));
+        }
+
+        List<Row> rows = new ArrayList<>();
+        for (String projectId : candidates) {
+            HybridScorer.ProjectProfile project = snapshot.projects.get(projectId);
+            if (project == null || memberOf.contains(projectId)) {
+                continue;
+            }
+            Double cosine = cosines.get(projectId);
+            if (cosine == null) {
+                cosine = cosine(userVector, vectorIndex.projectVector(projectId));
+            }
+            HybridScorer.Score score = scorer.score(cosine, project, skills, now);
+            if (score != null) {
+                rows.add(new Row(userId, projectId, score.total(), score.missingSkillIds()));
+            }
+        }
+        return top(rows);
+    }
+
+    private List<Row> rankCandidates(Snapshot snapshot, String projectId, LocalDateTime now) {
+        HybridScorer.ProjectProfile project = snapshot.projects.get(projectId);
+        Set<String> members = snapshot.membersByProject.getOrDefault(projectId, Set.of());
+        float[] projectVector = vectorIndex.projectVector(projectId);
+
+        Map<String, Double> cosines = new HashMap<>();
+        if (projectVector != null) {
+            for (VectorIndex.Match match : vectorIndex.similarUsers(projectVector, candidatePool)) {
+                cosines.put(match.id(), match.score());
+            }
+        }
+        Set<String> candidates = new LinkedHashSet<>(cosines.keySet());
+        for (HybridScorer.RequiredSkill skill : project.skills()) {
+            candidates.addAll(snapshot.usersBySkill.getOrDefault(skill.skillId(), List.of()));
+        }
+
+        List<Row> rows = new ArrayList<>();
+        for (String userId : candidates) {
+            if (members.contains(userId)) {
+                continue;
+            }
+            Double cosine = cosines.get(userId);
+            if (cosine == null) {
+                cosine = cosine(projectVector, vectorIndex.userVector(userId));
+            }
+            HybridScorer.Score score = scorer.score(cosine, project,
+                    snapshot.userSkills.getOrDefault(userId, Map.of()), now);
+            if (score != null) {
+                rows.add(new Row(projectId, userId, score.total(), score.missingSkillIds()));
+            }
+        }
+        return top(rows);
+    }
+
+    private List<Row> top(List<Row> rows) {
+        return rows.stream()
+                .sorted(Comparator.comparingDouble(Row::score).reversed())
+                .limit(recommendations)
+                .toList();
+    }
+
+    // Both vectors are stored normalised, so the dot product is the cosine
+    private double cosine(float[] a, float[] b) {
+        if (a == null || b == null || a.length != b.length) {
+            return 0;
+        }
+        return dotProduct.dot(a, b, 0, a.length);
+    }
+
+    // ===== WRITES =====
+
+    // every user of the chunk is rewritten, so one whose list came out empty loses its old rows;
+    // user priorities are read highest first, so the best row gets the largest one
+    private long writeUserRows(List<String> userIds, List<List<Row>> ranked) {
+        List<Object[]> args = new ArrayList<>();
+        for (List<Row> rows : ranked) {
+            for (int rank = 0; rank < rows.size(); rank++) {
+                Row row = rows.get(rank);
+                args.add(new Object[]{row.owner(), row.target(), row.score(), recommendations - rank});
+            }
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            namedJdbcTemplate.update("DELETE FROM user_recommended_projects WHERE user_id IN (:ids)",
+                    new MapSqlParameterSource("ids", userIds));
+            if (!args.isEmpty()) {
+                jdbcTemplate.batchUpdate(INSERT_USER_ROW_SQL, args);
+            }
+            userIds.forEach(recommendationCache::evict);
+        });
+        return args.size();
+    }
+
+    private long writeProjectRows(List<String> projectIds, List<List<Row>> ranked) {
+        List<Row> rows = new ArrayList<>();
+        ranked.forEach(rows::addAll);
+        transactionTemplate.executeWithoutResult(status -> {
+            namedJdbcTemplate.update("DELETE FROM project_recommended_candidates WHERE project_id IN (:ids)",
+                    new MapSqlParameterSource("ids", projectIds));
+            if (rows.isEmpty()) {
+                projectIds.forEach(candidateCache::evict);
+                return;
+            }
+            jdbcTemplate.execute((Connection connection) -> {
+                try (PreparedStatement statement = connection.prepareStatement(INSERT_PROJECT_ROW_SQL)) {
+                    String owner = null;
+                    int rank = 0;
+                    for (Row row : rows) {
+                        rank = row.owner().equals(owner) ? rank + 1 : 1;
+                        owner = row.owner();
+                        statement.setString(1, row.owner());
+                        statement.setString(2, row.target());
+                        statement.setDouble(3, row.score());
+                        statement.setInt(4, rank);
+                        statement.setArray(5, connection.createArrayOf("text", skillNames(row.missingSkillIds())));
+                        statement.addBatch();
+                    }
+                    statement.executeBatch();
+                }
+                return null;
+            });
+            projectIds.forEach(candidateCache::evict);
+        });
+        return rows.size();
+    }
+
+    /**
+     * Delete the rows of owners the pass did not visit because they left the snapshot.
+     */
+    private void sweep() {
+        transactionTemplate.executeWithoutResult(status -> {
+            new HashSet<>(jdbcTemplate.queryForList(SWEEP_PROJECT_ROWS_SQL, String.class))
+                    .forEach(candidateCache::evict);
+            new HashSet<>(jdbcTemplate.queryForList(SWEEP_USER_ROWS_SQL, String.class))
+                    .forEach(recommendationCache::evict);
+        });
+    }
+
+    private String[] skillNames(List<Long> skillIds) {
+        List<String> names = new ArrayList<>(skillIds.size());
+        for (Long skillId : skillIds) {
+            skillDictionary.findById(skillId).ifPresent(entry -> names.add(entry.name()));
+        }
+        return names.toArray(new String[0]);
+    }
+
+    // ===== SNAPSHOT =====
+
+    private Snapshot loadSnapshot() {
+        Snapshot snapshot = new Snapshot();
+        Map<String, List<HybridScorer.RequiredSkill>> projectSkills = new HashMap<>();
+        jdbcTemplate.query(PROJECT_SKILLS_SQL, rs -> {
+            String level = rs.getString(4);
+            long skillId = rs.getLong(2);
+            projectSkills.computeIfAbsent(rs.getString(1), k -> new ArrayList<>())
+                    .add(new HybridScorer.RequiredSkill(skillId, rs.getBoolean(3),
+                            level == null ? null : SkillLevel.valueOf(level)));
+            snapshot.projectsBySkill.computeIfAbsent(skillId, k -> new ArrayList<>()).add(rs.getString(1));
+        });
+        jdbcTemplate.query(PROJECTS_SQL, rs -> {
+            String projectId = rs.getString(1);
+            Timestamp createdAt = rs.getTimestamp(5);
+            snapshot.projects.put(projectId, new HybridScorer.ProjectProfile(projectId,
+                    ProjectStatus.valueOf(rs.getString(2)), rs.getInt(3), rs.getInt(4),
+                    createdAt == null ? null : createdAt.toLocalDateTime(),
+                    projectSkills.getOrDefault(projectId, List.of())));
+            addMember(snapshot, projectId, rs.getString(6));
+        });
+        jdbcTemplate.query(MEMBERS_SQL, rs -> {
+            addMember(snapshot, rs.getString(1), rs.getString(2));
+        });
+        jdbcTemplate.query(USER_SKILLS_SQL, rs -> {
+            String userId = rs.getString(1);
+            long skillId = rs.getLong(2);
+            snapshot.userSkills.computeIfAbsent(userId, k -> new HashMap<>())
+                    .put(skillId, SkillLevel.valueOf(rs.getString(3)));
+            snapshot.usersBySkill.computeIfAbsent(skillId, k -> new ArrayList<>()).add(userId);
+        });
+        jdbcTemplate.query("SELECT id FROM users WHERE skills_vector IS NOT NULL", rs -> {
+            String userId = rs.getString(1);
+            if (!snapshot.userSkills.containsKey(userId)) {
+                snapshot.vectorOnlyUsers.add(userId);
+            }
+        });
+        return snapshot;
+    }
+
+    private static void addMember(Snapshot snapshot, String projectId, String userId) {
+        if (userId == null) {
+            return;
+        }
+        snapshot.membersByProject.computeIfAbsent(projectId, k -> new HashSet<>()).add(userId);
+        snapshot.projectsByMember.computeIfAbsent(userId, k -> new HashSet<>()).add(projectId);
+    }
+
+    /**
+     * Read-only after loading, so the scoring threads share it without locking.
+     */
+    private static final class Snapshot {
+        final Map<String, HybridScorer.ProjectProfile> projects = new HashMap<>();
+        final Map<Long, List<String>> projectsBySkill = new HashMap<>();
+        final Map<String, Map<Long, SkillLevel>> userSkills = new HashMap<>();
+        final Map<Long, List<String>> usersBySkill = new HashMap<>();
+        final Map<String, Set<String>> membersByProject = new HashMap<>();
+        final Map<String, Set<String>> projectsByMember = new HashMap<>();
+        final List<String> vectorOnlyUsers = new ArrayList<>();
+    }
+
+    /**
+     * One recommendation: owner is the user (or project) the list belongs to.
+     */
+    private record Row(String owner, String target, double score, List<Long> missingSkillIds) {
+    }
+}
@@ -0,0 +1,110 @@
+package com.ADP.peerConnect.service.job;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Background removal of soft-deleted projects.
+ *
+ * ProjectService.deleteProject only flags the project, so the request never walks the
+ * Project cascade graph. This job then removes everything that references the project with
+ * set-based DELETEs of at most batchSize rows each (every statement commits on its own,
+ * keeping locks and WAL bursts small), children first, and finally the project row itself.
+ * A project that fails half-way is simply picked up again on the next run.
+ */
+@Component
+@Lazy(false)
+public class ProjectPurgeJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProjectPurgeJob.class);
+
+    /**
+     * Tables referencing projects.project_id directly, in delete order.
+     */
+    private static final List<String> CHILD_TABLES = List.of(
+            "chat_messages",
+            "meeting_rooms",
+            "tasks",
+            "project_invitations",
+            "project_join_requests",
+            "project_members",
+            "project_skills",
+            "user_recommended_projects",
+            "project_recommended_candidates"
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+    private final int projectsPerRun;
+
+    public ProjectPurgeJob(JdbcTemplate jdbcTemplate,
+                           @Value("${app.projects.purge.batch-size:500}") int batchSize,
+                           @Value("${app.projects.purge.projects-per-run:20}") int projectsPerRun) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = batchSize;
+        this.projectsPerRun = projectsPerRun;
+    }
+
+    @Scheduled(initialDelayString = "${app.projects.purge.interval-ms:60000}",
+            fixedDelayString = "${app.projects.purge.interval-ms:60000}")
+    public void purgeDeletedProjects() {
+        List<String> projectIds = jdbcTemplate.queryForList(
+                "SELECT id FROM projects WHERE is_deleted = true ORDER BY deleted_at LIMIT ?",
+                String.class, projectsPerRun);
+        for (String projectId : projectIds) {
+            try {
+                purge(projectId);
+            } catch (Exception e) {
+                logger.error("Failed to purge deleted project {}: {}", projectId, e.getMessage());
+            }
+        }
+    }
+
+    private void purge(String projectId) {
+        long removed = 0;
+
+        // Notifications carry the project (or one of its chat messages) as a loose reference
+        removed += deleteInChunks(
+                "DELETE FROM notifications WHERE id IN (SELECT id FROM notifications " +
+                        "WHERE related_entity_type = 'PROJECT' AND related_entity_id = ? LIMIT ?)",
+                projectId);
+        removed += deleteInChunks(
+                "DELETE FROM notifications WHERE id IN (SELECT n.id FROM notifications n " +
+                        "JOIN chat_messages m ON n.related_entity_id = CAST(m.id AS VARCHAR) " +
+                        "WHERE n.related_entity_type = 'MESSAGE' AND m.project_id = ? LIMIT ?)",
+                projectId);
+
+        // Notes hang off meeting rooms, so they go before the rooms
+        removed += deleteInChunks(
+                "DELETE FROM notes WHERE id IN (SELECT n.id FROM notes n " +
+                        "JOIN meeting_rooms r ON n.meeting_room_id = r.id WHERE r.project_id = ? LIMIT ?)",
+                projectId);
+
+        for (String table : CHILD_TABLES) {
+            removed += deleteInChunks(
+                    "DELETE FROM " + table + " WHERE ctid IN (SELECT ctid FROM " + table +
+                            " WHERE project_id = ? LIMIT ?)",
+                    projectId);
+        }
+
+        jdbcTemplate.update("DELETE FROM projects WHERE id = ? AND is_deleted = true", projectId);
+        logger.info("Purged deleted project {} ({} dependent rows)", projectId, removed);
+    }
+
+    private long deleteInChunks(String sql, String projectId) {
+        long total = 0;
+        int deleted;
+        do {
+            deleted = jdbcTemplate.update(sql, projectId, batchSize);
+            total += deleted;
+        } while (deleted == batchSize);
+        return total;
+    }
+}
@@ -0,0 +1,424 @@
+package com.ADP.peerConnect.service.job;
+
+import com.ADP.peerConnect.service.cache.CandidateRecommendationCache;
+import com.ADP.peerConnect.service.cache.RecommendationCache;
+import com.ADP.peerConnect.service.cache.VectorIndex;
+import com.ADP.peerConnect.service.embedding.EmbeddingMatrix;
+import com.ADP.peerConnect.service.embedding.ExactVectorScorer;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.postgresql.PGConnection;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntUnaryOperator;
+import java.util.stream.IntStream;
+
+/**
+ * Full rebuild of the embedding-based recommendations: user_recommended_projects for every
+ * user with a skills_vector and project_recommended_candidates for every project with a
+ * requirements_vector. Meant for the night after an embedding model change or a bulk import,
+ * instead of enqueuing one job per entity.
+ *
+ * The vectors are streamed through a server-side cursor (fetch-size rows at a time; the
+ * Postgres driver only uses a cursor inside a transaction) into two {@link EmbeddingMatrix}
+ * instances. Queries are scored block-size at a time with {@link EmbeddingMatrix#searchBlock},
+ * blocks in parallel on the common fork-join pool, and each write-batch of results is COPYed
+ * into an unlogged staging table. The swap is one transaction that replaces the rows of every
+ * owner with staged rows, so readers see the old or the new recommendations, never a mix, and
+ * the live tables keep their constraints and indexes. Rows of users and projects without a
+ * vector, or whose vector matched nothing, are left alone.
+ *
+ * The staging tables are part of the schema (ddl-auto is none) and shared by every instance,
+ * so a pass runs under a Postgres advisory lock held on one connection for its duration; an
+ * instance that cannot take the lock skips the pass.
+ *
+ * Progress, throughput and ETA of a running pass are exported as peerconnect.recompute.*
+ * gauges and logged after every batch.
+ *
+ * Off by default ({@code app.recommendations.recompute.enabled}). It rewrites the same rows as
+ * the {@link HybridRecommendationJob}, so only one of the two should be enabled.
+ */
+@Component
+@Lazy(false)
+public class RecommendationRecomputeJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(RecommendationRecomputeJob.class);
+
+    private static final String USER_VECTORS_SQL = "SELECT id, CAST(skills_vector AS text) FROM users "
+            + "WHERE skills_vector IS NOT NULL";
+
+    private static final String PROJECT_VECTORS_SQL = "SELECT id, CAST(requirements_vector AS text) FROM projects "
+            + "WHERE requirements_vector IS NOT NULL AND is_deleted = false";
+
+    private static final String USER_STAGING = "user_recommended_projects_staging";
+    private static final String PROJECT_STAGING = "project_recommended_candidates_staging";
+
+    private static final String TRUNCATE_STAGING_SQL = "TRUNCATE " + USER_STAGING + ", " + PROJECT_STAGING;
+
+    // one key for the whole cluster; String.hashCode is the same in every JVM
+    private static final long LOCK_KEY = RecommendationRecomputeJob.class.getName().hashCode();
+
+    private static final String COPY_USER_ROWS_SQL = "COPY " + USER_STAGING
+            + " (user_id, project_id, match_score, priority) FROM STDIN";
+
+    private static final String COPY_PROJECT_ROWS_SQL = "COPY " + PROJECT_STAGING
+            + " (project_id, user_id, match_score, priority, missing_skills) FROM STDIN";
+
+    /*
+     * One transaction. For each table, the live rows of every owner that has staged rows are
+     * deleted and the staged rows inserted, skipping users and projects deleted since the
+     * vectors were loaded. Owners with no staged rows (no vector, or a query without matches)
+     * are not in the DELETE's subquery and keep their current rows.
+     */
+    private static final List<String> SWAP_SQL = List.of(
+            "DELETE FROM user_recommended_projects WHERE user_id IN (SELECT user_id FROM " + USER_STAGING + ")",
+            "INSERT INTO user_recommended_projects (user_id, project_id, match_score, priority) "
+                    + "SELECT s.user_id, s.project_id, s.match_score, s.priority FROM " + USER_STAGING + " s "
+                    + "WHERE EXISTS (SELECT 1 FROM users u WHERE u.id = s.user_id) "
+                    + "AND EXISTS (SELECT 1 FROM projects p WHERE p.id = s.project_id AND p.is_deleted = false)",
+            "DELETE FROM project_recommended_candidates WHERE project_id IN (SELECT project_id FROM "
+                    + PROJECT_STAGING + ")",
+            "INSERT INTO project_recommended_candidates (project_id, user_id, match_score, priority, missing_skills) "
+                    + "SELECT s.project_id, s.user_id, s.match_score, s.priority, s.missing_skills FROM "
+                    + PROJECT_STAGING + " s "
+                    + "WHERE EXISTS (SELECT 1 FROM projects p WHERE p.id = s.project_id AND p.is_deleted = false) "
+                    + "AND EXISTS (SELECT 1 FROM users u WHERE u.id = s.user_id)");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final JdbcTemplate streamingJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+    private final RecommendationCache recommendationCache;
+    private final CandidateRecommendationCache candidateCache;
+    private final ExactVectorScorer scorer = new ExactVectorScorer();
+
+    private final boolean enabled;
+    private final int recommendations;
+    private final int blockSize;
+    private final int writeBatch;
+
+    private final Progress progress = new Progress();
+    private final Counter rowsWritten;
+    private final Timer duration;
+
+    public RecommendationRecomputeJob(JdbcTemplate jdbcTemplate,
+                                      TransactionTemplate transactionTemplate,
+                                      RecommendationCache recommendationCache,
+                                      CandidateRecommendationCache candidateCache,
+                                      MeterRegistry meterRegistry,
+                                      @Value("${app.recommendations.recompute.enabled:false}") boolean enabled,
+                                      @Value("${app.recommendations.recompute.recommendations:10}") int recommendations,
+                                      @Value("${app.recommendations.recompute.fetch-size:1000}") int fetchSize,
+                                      @Value("${app.recommendations.recompute.block-size:32}") int blockSize,
+                                      @Value("${app.recommendations.recompute.write-batch:4096}") int writeBatch) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.streamingJdbcTemplate = new JdbcTemplate(jdbcTemplate.getDataSource());
+        this.streamingJdbcTemplate.setFetchSize(fetchSize);
+        this.transactionTemplate = transactionTemplate;
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+        this.recommendationCache = recommendationCache;
+        this.candidateCache = candidateCache;
+        this.enabled = enabled;
+        this.recommendations = recommendations;
+        this.blockSize = Math.max(1, blockSize);
+        this.writeBatch = Math.max(this.blockSize, writeBatch);
+
+        Gauge.builder("peerconnect.recompute.progress", progress, Progress::fraction)
+                .description("Share of users and projects recomputed in the running pass (0-1)")
+                .register(meterRegistry);
+        Gauge.builder("peerconnect.recompute.throughput", progress, Progress::perSecond)
+                .description("Users and projects recomputed per second in the running pass")
+                .register(meterRegistry);
+        Gauge.builder("peerconnect.recompute.eta", progress, Progress::etaSeconds)
+                .description("Estimated seconds until the running pass finishes")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        this.rowsWritten = Counter.builder("peerconnect.recompute.rows")
+                .description("Recommendation rows staged by full recomputes")
+                .register(meterRegistry);
+        this.duration = Timer.builder("peerconnect.recompute.duration")
+                .description("Duration of full recommendation recomputes")
+                .register(meterRegistry);
+    }
+
+    public record Summary(int users, int projects, long rows, long millis) {
+    }
+
+    @Scheduled(cron = "${app.recommendations.recompute.cron:0 0 3 * * *}")
+    public void scheduledRun() {
+        if (enabled) {
+            try {
+                run();
+            } catch (RuntimeException e) {
+                logger.error("Recommendation recompute failed: {}", e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * Recompute the recommendations of every user and the candidates of every project from
+     * the stored vectors and swap them in, unless another instance is already doing so.
+     */
+    public synchronized Summary run() {
+        return jdbcTemplate.execute((ConnectionCallback<Summary>) lockConnection -> {
+            if (!advisoryLock(lockConnection, "pg_try_advisory_lock")) {
+                logger.info("Recommendation recompute skipped: another instance is running it");
+                return new Summary(0, 0, 0, 0);
+            }
+            try {
+                return recomputeAll();
+            } finally {
+                advisoryLock(lockConnection, "pg_advisory_unlock");
+            }
+        });
+    }
+
+    private static boolean advisoryLock(Connection connection, String function) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("SELECT " + function + "(?)")) {
+            statement.setLong(1, LOCK_KEY);
+            try (ResultSet rs = statement.executeQuery()) {
+                return rs.next() && rs.getBoolean(1);
+            }
+        }
+    }
+
+    private Summary recomputeAll() {
+        long start = System.currentTimeMillis();
+        Vectors users = load(USER_VECTORS_SQL);
+        Vectors projects = load(PROJECT_VECTORS_SQL);
+        if (users.isEmpty() || projects.isEmpty()
+                || users.matrix().dimensions() != projects.matrix().dimensions()) {
+            logger.warn("Recommendation recompute skipped: {} user and {} project vectors of {} and {} dimensions",
+                    users.size(), projects.size(), users.dimensions(), projects.dimensions());
+            return new Summary(users.size(), projects.size(), 0, System.currentTimeMillis() - start);
+        }
+        logger.info("Recommendation recompute loaded {} user and {} project vectors in {} ms",
+                users.size(), projects.size(), System.currentTimeMillis() - start);
+
+        jdbcTemplate.execute(TRUNCATE_STAGING_SQL);
+        progress.start(users.size() + projects.size());
+        long rows;
+        try {
+            // user rows are read by priority DESC, project candidates by priority ASC; missing_skills
+            // is left an empty array, as the vector ranking does not know which skills are missing
+            rows = recompute(users, projects, COPY_USER_ROWS_SQL, rank -> recommendations - rank, "");
+            rows += recompute(projects, users, COPY_PROJECT_ROWS_SQL, rank -> rank + 1, "\t{}");
+        } finally {
+            progress.finish();
+        }
+
+        transactionTemplate.executeWithoutResult(status -> SWAP_SQL.forEach(jdbcTemplate::update));
+        recommendationCache.clear();
+        candidateCache.clear();
+
+        Summary summary = new Summary(users.size(), projects.size(), rows, System.currentTimeMillis() - start);
+        duration.record(summary.millis(), TimeUnit.MILLISECONDS);
+        logger.info("Recommendation recompute swapped in: {} users, {} projects, {} rows in {} ms",
+                summary.users(), summary.projects(), summary.rows(), summary.millis());
+        return summary;
+    }
+
+    // ===== LOADING =====
+
+    private Vectors load(String sql) {
+        return readOnlyTransactionTemplate.execute(status -> {
+            Vectors[] vectors = {Vectors.EMPTY};
+            streamingJdbcTemplate.query(sql, rs -> {
+                float[] vector = VectorIndex.parseVector(rs.getString(2));
+                if (vector.length == 0) {
+                    return;
+                }
+                if (vectors[0].matrix() == null) {
+                    vectors[0] = new Vectors(new EmbeddingMatrix(vector.length, scorer), new ArrayList<>());
+                }
+                vectors[0].add(rs.getString(1), vector);
+            });
+            return vectors[0];
+        });
+    }
+
+    // ===== SCORING =====
+
+    /**
+     * Top recommendations of every query vector among the targets, COPYed to staging one
+     * write batch at a time, with the priority given for each 0-based rank. Returns the number
+     * of rows staged.
+     */
+    private long recompute(Vectors queries, Vectors targets, String copySql, IntUnaryOperator priority,
+                           String rowSuffix) {
+        long rows = 0;
+        List<String> ids = queries.ids();
+        for (int from = 0; from < ids.size(); from += writeBatch) {
+            List<String> batch = ids.subList(from, Math.min(ids.size(), from + writeBatch));
+            int blocks = (batch.size() + blockSize - 1) / blockSize;
+            List<List<List<EmbeddingMatrix.Match>>> ranked = IntStream.range(0, blocks).parallel()
+                    .mapToObj(b -> {
+                        List<String> block = batch.subList(b * blockSize, Math.min(batch.size(), (b + 1) * blockSize));
+                        List<float[]> vectors = new ArrayList<>(block.size());
+                        for (String id : block) {
+                            vectors.add(queries.matrix().get(id));
+                        }
+                        return targets.matrix().searchBlock(vectors, recommendations);
+                    })
+                    .toList();
+
+            StringBuilder copy = new StringBuilder();
+            int i = 0;
+            for (List<List<EmbeddingMatrix.Match>> block : ranked) {
+                for (List<EmbeddingMatrix.Match> matches : block) {
+                    appendCopyRows(copy, batch.get(i++), matches, priority, rowSuffix);
+                }
+            }
+            long copied = copy(copySql, copy.toString());
+            rows += copied;
+            rowsWritten.increment(copied);
+            progress.advance(batch.size());
+            logger.info("Recommendation recompute: {}/{} done, {} per second, ETA {} s",
+                    progress.done(), progress.total(), Math.round(progress.perSecond()),
+                    Math.round(progress.etaSeconds()));
+        }
+        return rows;
+    }
+
+    private long copy(String sql, String rows) {
+        if (rows.isEmpty()) {
+            return 0;
+        }
+        Long copied = jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+            try {
+                return connection.unwrap(PGConnection.class).getCopyAPI().copyIn(sql, new StringReader(rows));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return copied == null ? 0 : copied;
+    }
+
+    /**
+     * Append one owner's ranked matches as COPY text rows: owner, target, score, priority and
+     * the row suffix (the remaining columns, tab-led and already escaped). An owner without
+     * matches adds no row, so the swap leaves its current rows alone.
+     */
+    public static void appendCopyRows(StringBuilder copy, String ownerId, List<EmbeddingMatrix.Match> matches,
+                                      IntUnaryOperator priority, String rowSuffix) {
+        String owner = copyText(ownerId);
+        for (int rank = 0; rank < matches.size(); rank++) {
+            EmbeddingMatrix.Match match = matches.get(rank);
+            copy.append(owner).append('\t').append(copyText(match.id())).append('\t')
+                    .append(match.score()).append('\t').append(priority.applyAsInt(rank))
+                    .append(rowSuffix).append('\n');
+        }
+    }
+
+    /**
+     * Escape a value for COPY's text format.
+     */
+    public static String copyText(String value) {
+        if (value.indexOf('\\') < 0 && value.indexOf('\t') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return value.replace("\\", "\\\\").replace("\t", "\\t").replace("\n", "\\n").replace("\r", "\\r");
+    }
+
+    // ===== STATE =====
+
+    private record Vectors(EmbeddingMatrix matrix, List<String> ids) {
+
+        static final Vectors EMPTY = new Vectors(null, List.of());
+
+        void add(String id, float[] vector) {
+            if (vector.length != matrix.dimensions()) {
+                return;
+            }
+            matrix.put(id, vector);
+            if (matrix.contains(id)) {
+                ids.add(id);
+            }
+        }
+
+        boolean isEmpty() {
+            return ids.isEmpty();
+        }
+
+        int size() {
+            return ids.size();
+        }
+
+        int dimensions() {
+            return matrix == null ? 0 : matrix.dimensions();
+        }
+    }
+
+    /**
+     * Counters of the running pass, read by the gauges.
+     */
+    private static final class Progress {
+
+        private final AtomicLong done = new AtomicLong();
+        private volatile long total;
+        private volatile long startedAt;
+        private volatile boolean running;
+
+        void start(long total) {
+            this.done.set(0);
+            this.total = total;
+            this.startedAt = System.currentTimeMillis();
+            this.running = true;
+        }
+
+        void advance(long count) {
+            done.addAndGet(count);
+        }
+
+        void finish() {
+            running = false;
+        }
+
+        long done() {
+            return done.get();
+        }
+
+        long total() {
+            return total;
+        }
+
+        double fraction() {
+            return total == 0 ? 0 : (double) done.get() / total;
+        }
+
+        double perSecond() {
+            if (!running) {
+                return 0;
+            }
+            long elapsed = System.currentTimeMillis() - startedAt;
+            return elapsed <= 0 ? 0 : done.get() * 1000.0 / elapsed;
+        }
+
+        double etaSeconds() {
+            double rate = perSecond();
+            return rate == 0 ? 0 : (total - done.get()) / rate;
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.ADP.peerConnect.service.job;
+
+import com.ADP.peerConnect.service.cache.SkillDictionary;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Write-behind usage counters for skills.users_count and skills.projects_count.
+ *
+ * Instead of a read-modify-write save of the Skill entity per change, committed deltas are
+ * accumulated in LongAdders keyed by skill id and flushed periodically with one batched
+ * {@code UPDATE skills SET users_count = users_count + ?} statement. The database applies
+ * the addition, so concurrent nodes never overwrite each other's counts. Deltas of a failed
+ * flush are put back and retried on the next run; pending deltas are flushed on shutdown.
+ */
+@Component
+@Lazy(false)
+public class SkillUsageCounters {
+
+    private static final Logger logger = LoggerFactory.getLogger(SkillUsageCounters.class);
+
+    private static final String FLUSH_SQL = "UPDATE skills SET "
+            + "users_count = GREATEST(users_count + ?, 0), "
+            + "projects_count = GREATEST(projects_count + ?, 0) "
+            + "WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SkillDictionary skillDictionary;
+
+    private final ConcurrentHashMap<Long, LongAdder> usersDeltas = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, LongAdder> projectsDeltas = new ConcurrentHashMap<>();
+
+    public SkillUsageCounters(JdbcTemplate jdbcTemplate, SkillDictionary skillDictionary) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.skillDictionary = skillDictionary;
+    }
+
+    /**
+     * Count a user gaining (+1) or losing (-1) a skill once the current transaction commits.
+     */
+    public void addUsers(Long skillId, int delta) {
+        record(usersDeltas, skillId, delta);
+    }
+
+    /**
+     * Count a project starting (+1) or stopping (-1) to require a skill once the current
+     * transaction commits.
+     */
+    public void addProjects(Long skillId, int delta) {
+        record(projectsDeltas, skillId, delta);
+    }
+
+    @Scheduled(initialDelayString = "${app.skills.counters.flush-interval-ms:5000}",
+            fixedDelayString = "${app.skills.counters.flush-interval-ms:5000}")
+    public void flush() {
+        Map<Long, long[]> pending = drain();
+        if (pending.isEmpty()) {
+            return;
+        }
+        List<Object[]> args = new ArrayList<>(pending.size());
+        pending.forEach((skillId, d) -> args.add(new Object[]{d[0], d[1], skillId}));
+        try {
+            jdbcTemplate.batchUpdate(FLUSH_SQL, args);
+            skillDictionary.adjustCounts(pending);
+        } catch (RuntimeException e) {
+            logger.warn("Flushing {} skill counters failed, retrying next run: {}", pending.size(), e.getMessage());
+            pending.forEach((skillId, d) -> {
+                adder(usersDeltas, skillId).add(d[0]);
+                adder(projectsDeltas, skillId).add(d[1]);
+            });
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private Map<Long, long[]> drain() {
+        Map<Long, long[]> pending = new HashMap<>();
+        usersDeltas.forEach((skillId, adder) -> {
+            long delta = adder.sumThenReset();
+            if (delta != 0) {
+                pending.computeIfAbsent(skillId, k -> new long[2])[0] = delta;
+            }
+        });
+        projectsDeltas.forEach((skillId, adder) -> {
+            long delta = adder.sumThenReset();
+            if (delta != 0) {
+                pending.computeIfAbsent(skillId, k -> new long[2])[1] = delta;
+            }
+        });
+        return pending;
+    }
+
+    private static void record(ConcurrentHashMap<Long, LongAdder> deltas, Long skillId, int delta) {
+        if (skillId == null || delta == 0) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    adder(deltas, skillId).add(delta);
+                }
+            });
+        } else {
+            adder(deltas, skillId).add(delta);
+        }
+    }
+
+    private static LongAdder adder(ConcurrentHashMap<Long, LongAdder> deltas, Long skillId) {
+        return deltas.computeIfAbsent(skillId, k -> new LongAdder());
+    }
+}
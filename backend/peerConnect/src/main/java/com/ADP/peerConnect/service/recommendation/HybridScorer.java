@@ -0,0 +1,108 @@
+package com.ADP.peerConnect.service.recommendation;
+
+import com.ADP.peerConnect.model.enums.ProjectStatus;
+import com.ADP.peerConnect.model.enums.SkillLevel;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Scores how well a user fits a project by blending five signals, each in [0, 1]:
+ * <ul>
+ *     <li>vector - cosine similarity of the two embeddings, negatives clamped to 0</li>
+ *     <li>skills - weighted share of the project's skills the user has, where a required skill
+ *     counts twice an optional one and a user below the required level gets partial credit</li>
+ *     <li>capacity - share of the team still open</li>
+ *     <li>status - 1 for RECRUITING, lower for IN_PROGRESS</li>
+ *     <li>recency - halves every recency-half-life days since the project was created</li>
+ * </ul>
+ * The total is the weighted mean of the signals. Finished projects are not scored at all.
+ * Alongside the total the scorer reports the project skills the user does not have.
+ */
+public final class HybridScorer {
+
+    private static final double OPTIONAL_SKILL_WEIGHT = 0.5;
+    private static final double IN_PROGRESS_STATUS_SCORE = 0.4;
+    // a project without listed skills neither helps nor hurts
+    private static final double NO_SKILLS_SCORE = 0.5;
+
+    private final Weights weights;
+    private final double weightSum;
+    private final double halfLifeDays;
+
+    public HybridScorer(Weights weights, double halfLifeDays) {
+        this.weights = weights;
+        this.weightSum = weights.vector() + weights.skills() + weights.capacity() + weights.status() + weights.recency();
+        if (weightSum <= 0) {
+            throw new IllegalArgumentException("At least one weight must be positive");
+        }
+        this.halfLifeDays = halfLifeDays;
+    }
+
+    public record Weights(double vector, double skills, double capacity, double status, double recency) {
+    }
+
+    public record RequiredSkill(long skillId, boolean required, SkillLevel level) {
+    }
+
+    public record ProjectProfile(String id, ProjectStatus status, int maxTeamSize, int currentTeamSize,
+                                 LocalDateTime createdAt, List<RequiredSkill> skills) {
+    }
+
+    public record Score(double total, List<Long> missingSkillIds) {
+    }
+
+    /**
+     * Score a user against a project, or null when the project is finished.
+     *
+     * @param cosine     cosine similarity of the user and project embeddings, 0 if either is missing
+     * @param userSkills the user's skills and levels
+     */
+    public Score score(double cosine, ProjectProfile project, Map<Long, SkillLevel> userSkills, LocalDateTime now) {
+        if (project.status() == null || project.status().isFinished()) {
+            return null;
+        }
+        List<Long> missing = new ArrayList<>();
+        double skills = NO_SKILLS_SCORE;
+        if (!project.skills().isEmpty()) {
+            double credit = 0;
+            double total = 0;
+            for (RequiredSkill skill : project.skills()) {
+                double weight = skill.required() ? 1 : OPTIONAL_SKILL_WEIGHT;
+                total += weight;
+                SkillLevel level = userSkills.get(skill.skillId());
+                if (level == null) {
+                    missing.add(skill.skillId());
+                } else {
+                    credit += weight * levelCredit(level, skill.level());
+                }
+            }
+            skills = credit / total;
+        }
+
+        double capacity = project.maxTeamSize() <= 0 ? 0
+                : Math.max(0, project.maxTeamSize() - project.currentTeamSize()) / (double) project.maxTeamSize();
+        double status = project.status() == ProjectStatus.RECRUITING ? 1 : IN_PROGRESS_STATUS_SCORE;
+        double recency = 1;
+        if (project.createdAt() != null && halfLifeDays > 0) {
+            double ageDays = Math.max(0, Duration.between(project.createdAt(), now).toHours() / 24.0);
+            recency = Math.pow(0.5, ageDays / halfLifeDays);
+        }
+
+        double total = weights.vector() * Math.max(0, cosine)
+                + weights.skills() * skills
+                + weights.capacity() * capacity
+                + weights.status() * status
+                + weights.recency() * recency;
+        return new Score(total / weightSum, missing);
+    }
+
+    // Full credit at or above the required level (BEGINNER when unspecified), partial below it
+    private static double levelCredit(SkillLevel level, SkillLevel required) {
+        int requiredRank = required == null ? SkillLevel.BEGINNER.ordinal() : required.ordinal();
+        return Math.min(1, (level.ordinal() + 1) / (double) (requiredRank + 1));
+    }
+}
@@ -0,0 +1,107 @@
+package com.ADP.peerConnect.benchmark;
+
+import com.ADP.peerConnect.service.embedding.DotProduct;
+import com.ADP.peerConnect.service.embedding.EmbeddingMatrix;
+import com.ADP.peerConnect.service.embedding.ExactVectorScorer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark of exact top-10 cosine search over 768-dimension (nomic-embed-text) vectors:
+ * the scalar and the Vector API dot product in the {@link EmbeddingMatrix} scan, and all 64
+ * queries one at a time against one tiled {@link EmbeddingMatrix#searchBlock} pass (the batch
+ * recompute path). The fork
+ * adds jdk.incubator.vector; without it "best" falls back to scalar. Run it like
+ * {@link SkillNameBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+public class ExactScorerBenchmark {
+
+    private static final int K = 10;
+    private static final int QUERIES = 64;
+
+    @Param({"10000", "100000"})
+    public int vectors;
+
+    @Param({"768"})
+    public int dimensions;
+
+    @Param({"scalar", "best"})
+    public String dotProduct;
+
+    private EmbeddingMatrix matrix;
+    private float[][] queries;
+    private int next;
+
+    @Setup
+    public void setup() {
+        DotProduct kernel = "scalar".equals(dotProduct) ? DotProduct.scalar() : DotProduct.best();
+        matrix = new EmbeddingMatrix(dimensions, new ExactVectorScorer(kernel));
+        Random random = new Random(42);
+        for (int i = 0; i < vectors; i++) {
+            matrix.put("v" + i, gaussian(random));
+        }
+        queries = new float[QUERIES][];
+        for (int i = 0; i < QUERIES; i++) {
+            queries[i] = gaussian(random);
+        }
+    }
+
+    private float[] gaussian(Random random) {
+        float[] v = new float[dimensions];
+        for (int i = 0; i < dimensions; i++) {
+            v[i] = (float) random.nextGaussian();
+        }
+        return v;
+    }
+
+    @Benchmark
+    public List<EmbeddingMatrix.Match> topK() {
+        next = (next + 1) % QUERIES;
+        return matrix.search(queries[next], K, null);
+    }
+
+    @Benchmark
+    public int queriesOneByOne() {
+        int found = 0;
+        for (float[] query : queries) {
+            found += matrix.search(query, K, null).size();
+        }
+        return found;
+    }
+
+    @Benchmark
+    public int queriesAsBlock() {
+        int found = 0;
+        for (List<EmbeddingMatrix.Match> matches : matrix.searchBlock(Arrays.asList(queries), K)) {
+            found += matches.size();
+        }
+        return found;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(ExactScorerBenchmark.class.getSimpleName()).build()).run();
+    }
+}
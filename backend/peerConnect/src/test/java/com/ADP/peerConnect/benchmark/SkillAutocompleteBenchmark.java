@@ -0,0 +1,86 @@
+package com.ADP.peerConnect.benchmark;
+
+import com.ADP.peerConnect.model.entity.Skill;
+import com.ADP.peerConnect.service.cache.SkillDictionary;
+import com.ADP.peerConnect.service.cache.SkillTrie;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark of skill autocomplete: the trie lookup against a linear "contains" scan like
+ * the LIKE '%search%' query, on synthetic dictionaries of 10k and 100k skills. Run it like
+ * {@link SkillNameBenchmark}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SkillAutocompleteBenchmark {
+
+    private static final String[] WORDS = {"java", "spring", "react", "data", "cloud", "machine", "learning",
+            "design", "web", "mobile", "security", "network", "graph", "vision", "api", "testing"};
+
+    private static final String[] PREFIXES = {"j", "spr", "data s", "lear", "cloud 12", "xyz"};
+
+    @Param({"10000", "100000"})
+    public int skills;
+
+    private SkillTrie trie;
+    private List<SkillDictionary.Entry> entries;
+    private int next;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        entries = new ArrayList<>(skills);
+        for (int i = 0; i < skills; i++) {
+            String name = WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)] + " " + i;
+            entries.add(new SkillDictionary.Entry(Skill.generateIdFromName(name), name, Skill.normalizeName(name),
+                    "General", false, random.nextInt(1000), 0, null));
+        }
+        trie = SkillTrie.build(entries);
+    }
+
+    private String prefix() {
+        next = (next + 1) % PREFIXES.length;
+        return PREFIXES[next];
+    }
+
+    @Benchmark
+    public List<SkillDictionary.Entry> trieComplete() {
+        return trie.complete(prefix(), 10);
+    }
+
+    @Benchmark
+    public List<SkillDictionary.Entry> linearScan() {
+        String key = prefix();
+        return entries.stream()
+                .filter(e -> e.normalizedName().contains(key))
+                .sorted((a, b) -> Integer.compare(b.usersCount(), a.usersCount()))
+                .limit(10)
+                .toList();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(SkillAutocompleteBenchmark.class.getSimpleName()).build()).run();
+    }
+}
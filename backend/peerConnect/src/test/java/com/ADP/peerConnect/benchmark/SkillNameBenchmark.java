@@ -0,0 +1,71 @@
+package com.ADP.peerConnect.benchmark;
+
+import com.ADP.peerConnect.model.entity.Skill;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark of skill name normalization and id hashing against the original
+ * implementations. Not part of the test run; start it from the IDE or with
+ * {@code mvn test-compile} followed by running this class's main method on the test classpath.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SkillNameBenchmark {
+
+    private final String[] names = {"Java", "  Spring   Boot ", "Machine\tLearning", "UI/UX Design", "Künstliche Intelligenz"};
+    private int next;
+
+    private String name() {
+        next = (next + 1) % names.length;
+        return names[next];
+    }
+
+    @Benchmark
+    public String normalizeOriginal() {
+        return name().trim().toLowerCase().replaceAll("\\s+", " ");
+    }
+
+    @Benchmark
+    public String normalizeSinglePass() {
+        return Skill.normalizeName(name());
+    }
+
+    @Benchmark
+    public long idOriginal() throws Exception {
+        MessageDigest md = MessageDigest.getInstance("MD5");
+        byte[] hash = md.digest(name().getBytes(StandardCharsets.UTF_8));
+        long result = 0;
+        for (int i = 0; i < 8; i++) {
+            result = (result << 8) | (hash[i] & 0xFF);
+        }
+        return Math.abs(result);
+    }
+
+    @Benchmark
+    public long idThreadLocalDigest() {
+        return Skill.generateIdFromName(name());
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(SkillNameBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,129 @@
+package com.ADP.peerConnect.benchmark;
+
+import com.ADP.peerConnect.service.cache.HnswIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark of top-10 similarity search: the HNSW index against a brute-force cosine
+ * scan over every vector, like the ORDER BY vector <=> ? query. Vectors are clustered
+ * around 500 random centres, closer to real embeddings than uniform noise. Building the
+ * 100k index takes a while in setup; pass -p dimensions=768 for nomic-embed-text sized
+ * vectors. Run it like {@link SkillNameBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class VectorSearchBenchmark {
+
+    private static final int K = 10;
+    private static final int QUERIES = 256;
+
+    @Param({"10000", "100000"})
+    public int vectors;
+
+    @Param({"256"})
+    public int dimensions;
+
+    private HnswIndex index;
+    private float[][] data;
+    private float[][] queries;
+    private int next;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        float[][] centres = new float[500][];
+        for (int c = 0; c < centres.length; c++) {
+            centres[c] = gaussian(random, null, 1f);
+        }
+        data = new float[vectors][];
+        index = new HnswIndex(dimensions, 16, 100);
+        for (int i = 0; i < vectors; i++) {
+            data[i] = normalize(gaussian(random, centres[random.nextInt(centres.length)], 0.5f));
+            index.put("v" + i, data[i]);
+        }
+        queries = new float[QUERIES][];
+        for (int i = 0; i < QUERIES; i++) {
+            queries[i] = gaussian(random, centres[random.nextInt(centres.length)], 0.5f);
+        }
+    }
+
+    private float[] gaussian(Random random, float[] centre, float sigma) {
+        float[] v = new float[dimensions];
+        for (int i = 0; i < dimensions; i++) {
+            v[i] = (centre == null ? 0 : centre[i]) + (float) random.nextGaussian() * sigma;
+        }
+        return v;
+    }
+
+    private static float[] normalize(float[] v) {
+        double norm = 0;
+        for (float x : v) {
+            norm += x * x;
+        }
+        float scale = (float) (1 / Math.sqrt(norm));
+        for (int i = 0; i < v.length; i++) {
+            v[i] *= scale;
+        }
+        return v;
+    }
+
+    private float[] query() {
+        next = (next + 1) % QUERIES;
+        return queries[next];
+    }
+
+    @Benchmark
+    public List<HnswIndex.Match> hnsw() {
+        return index.search(query(), K, 64);
+    }
+
+    @Benchmark
+    public int[] bruteForce() {
+        float[] q = normalize(query().clone());
+        PriorityQueue<float[]> top = new PriorityQueue<>(K + 1, (a, b) -> Float.compare(a[0], b[0]));
+        for (int i = 0; i < data.length; i++) {
+            float[] v = data[i];
+            float dot = 0;
+            for (int d = 0; d < dimensions; d++) {
+                dot += q[d] * v[d];
+            }
+            if (top.size() < K || dot > top.peek()[0]) {
+                top.add(new float[]{dot, i});
+                if (top.size() > K) {
+                    top.poll();
+                }
+            }
+        }
+        int[] result = new int[top.size()];
+        for (int i = result.length - 1; i >= 0; i--) {
+            result[i] = (int) top.poll()[1];
+        }
+        return result;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(VectorSearchBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,82 @@
+package com.ADP.peerConnect.model;
+
+import com.ADP.peerConnect.model.entity.Skill;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Skill ids are stored in the database and derived from the normalized name, so the
+ * optimized Skill.normalizeName / Skill.generateIdFromName must produce exactly what the
+ * original implementations produced.
+ */
+public class SkillIdCompatibilityTest {
+
+    /** The original implementations, kept verbatim as the reference. */
+    private static Long referenceId(String normalizedName) throws Exception {
+        MessageDigest md = MessageDigest.getInstance("MD5");
+        byte[] hash = md.digest(normalizedName.getBytes(StandardCharsets.UTF_8));
+        long result = 0;
+        for (int i = 0; i < 8; i++) {
+            result = (result << 8) | (hash[i] & 0xFF);
+        }
+        return Math.abs(result);
+    }
+
+    private static String referenceNormalize(String name) {
+        return name.trim().toLowerCase().replaceAll("\\s+", " ");
+    }
+
+    @Test
+    public void testKnownIdsUnchanged() {
+        assertEquals(7784712059813102052L, Skill.generateIdFromName(Skill.normalizeName("Java")));
+        assertEquals(7895259296771405256L, Skill.generateIdFromName(Skill.normalizeName("  Spring   Boot ")));
+        assertEquals(7847533254802455058L, Skill.generateIdFromName(Skill.normalizeName("C++")));
+        assertEquals(2928299201565329629L, Skill.generateIdFromName(Skill.normalizeName("Node.js")));
+        assertEquals(2284138860564205640L, Skill.generateIdFromName(Skill.normalizeName("Machine\tLearning")));
+        assertEquals(5419587924584259452L, Skill.generateIdFromName(Skill.normalizeName("UI/UX Design")));
+        assertEquals(6764233591510743689L, Skill.generateIdFromName(Skill.normalizeName("React Native")));
+    }
+
+    @Test
+    public void testNormalizeMatchesReference() {
+        String[] samples = {
+                "Java", "  Spring   Boot ", "\tDocker\n", "A\u000BB\fC\rD", "\u0001Rust\u0002",
+                "Künstliche Intelligenz", "İstanbul", "ΟΔΟΣ  X",
+                "Data Science", "x", "  MiXeD   CaSe\t\tTabs  "
+        };
+        for (String sample : samples) {
+            assertEquals(referenceNormalize(sample), Skill.normalizeName(sample), sample);
+        }
+    }
+
+    @Test
+    public void testRandomNamesMatchReference() throws Exception {
+        Random random = new Random(42);
+        String alphabet = "abcXYZ019 +#./\t\néÉßΣİ -";
+        for (int n = 0; n < 20_000; n++) {
+            StringBuilder sb = new StringBuilder();
+            int length = 1 + random.nextInt(24);
+            for (int i = 0; i < length; i++) {
+                sb.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            }
+            String raw = sb.toString();
+            if (raw.trim().isEmpty()) {
+                continue;
+            }
+            String normalized = Skill.normalizeName(raw);
+            assertEquals(referenceNormalize(raw), normalized, raw);
+            assertEquals(referenceId(normalized), Skill.generateIdFromName(normalized), raw);
+        }
+    }
+
+    @Test
+    public void testBlankNamesRejected() {
+        assertThrows(IllegalArgumentException.class, () -> Skill.normalizeName(null));
+        assertThrows(IllegalArgumentException.class, () -> Skill.normalizeName(" \t\n "));
+    }
+}
@@ -0,0 +1,149 @@
+package com.ADP.peerConnect.service;
+
+import com.ADP.peerConnect.exception.BadRequestException;
+import com.ADP.peerConnect.exception.UnauthorizedException;
+import com.ADP.peerConnect.model.dto.response.CursorPagedResponse;
+import com.ADP.peerConnect.model.dto.response.RecommendedCandidateResponse;
+import com.ADP.peerConnect.repository.ProjectRecommendedCandidateRepository;
+import com.ADP.peerConnect.security.ProjectAccessIndex;
+import com.ADP.peerConnect.service.Impl.CandidateRecommendationService;
+import com.ADP.peerConnect.service.cache.CandidateRecommendationCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Read path of the project candidates endpoint: the ranking is one query per project while
+ * cached, the team and pending invitees are filtered out per read, and the cursor walks the
+ * filtered ranking without gaps or repeats.
+ */
+public class CandidateRecommendationReadPathTest {
+
+    private static final String PROJECT = "project-1";
+    private static final String LEAD = "lead";
+
+    @Mock
+    private ProjectRecommendedCandidateRepository candidateRepository;
+
+    @Mock
+    private ProjectAccessIndex projectAccessIndex;
+
+    private CandidateRecommendationCache cache;
+    private CandidateRecommendationService candidateService;
+
+    private AutoCloseable mocks;
+
+    @BeforeEach
+    public void setup() {
+        mocks = MockitoAnnotations.openMocks(this);
+        cache = new CandidateRecommendationCache(new SimpleMeterRegistry(), 100, 600);
+        candidateService = new CandidateRecommendationService(candidateRepository, projectAccessIndex, cache);
+        when(projectAccessIndex.isLead(PROJECT, LEAD)).thenReturn(true);
+    }
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        mocks.close();
+    }
+
+    private static List<RecommendedCandidateResponse> candidates(int count) {
+        List<RecommendedCandidateResponse> candidates = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            candidates.add(new RecommendedCandidateResponse("u" + i, "First", "Last", null, "CSE",
+                    1.0 - i / 100.0, i + 1, new String[]{"Docker"}));
+        }
+        return candidates;
+    }
+
+    private void excluding(String... userIds) {
+        Set<String> excluded = Set.of(userIds);
+        when(projectAccessIndex.isLeadMemberOrInvitee(eq(PROJECT), anyString()))
+                .thenAnswer(invocation -> excluded.contains(invocation.<String>getArgument(1)));
+    }
+
+    private static List<String> ids(CursorPagedResponse<RecommendedCandidateResponse> page) {
+        return page.getContent().stream().map(RecommendedCandidateResponse::getUserId).toList();
+    }
+
+    @Test
+    public void testGetCandidates_pagesSkipTeamAndShareOneQuery() {
+        when(candidateRepository.findRankedByProjectId(PROJECT)).thenReturn(candidates(6));
+        excluding("u1", "u4");
+
+        CursorPagedResponse<RecommendedCandidateResponse> first = candidateService.getCandidates(PROJECT, LEAD, null, 2);
+        assertEquals(List.of("u0", "u2"), ids(first));
+        assertTrue(first.isHasMore());
+        assertEquals(List.of("Docker"), first.getContent().get(0).getMissingSkills());
+
+        CursorPagedResponse<RecommendedCandidateResponse> second =
+                candidateService.getCandidates(PROJECT, LEAD, first.getNextCursor(), 2);
+        assertEquals(List.of("u3", "u5"), ids(second));
+        assertFalse(second.isHasMore());
+        assertNull(second.getNextCursor());
+
+        verify(candidateRepository, times(1)).findRankedByProjectId(PROJECT);
+    }
+
+    @Test
+    public void testGetCandidates_membershipChangesApplyWithoutEviction() {
+        when(candidateRepository.findRankedByProjectId(PROJECT)).thenReturn(candidates(3));
+        excluding();
+        assertEquals(List.of("u0", "u1", "u2"), ids(candidateService.getCandidates(PROJECT, LEAD, null, 10)));
+
+        excluding("u0");
+        assertEquals(List.of("u1", "u2"), ids(candidateService.getCandidates(PROJECT, LEAD, null, 10)));
+        verify(candidateRepository, times(1)).findRankedByProjectId(PROJECT);
+    }
+
+    @Test
+    public void testGetCandidates_evictReloadsRanking() {
+        when(candidateRepository.findRankedByProjectId(PROJECT)).thenReturn(candidates(2));
+        excluding();
+        candidateService.getCandidates(PROJECT, LEAD, null, 10);
+
+        cache.evict(PROJECT);
+        candidateService.getCandidates(PROJECT, LEAD, null, 10);
+
+        verify(candidateRepository, times(2)).findRankedByProjectId(PROJECT);
+    }
+
+    @Test
+    public void testGetCandidates_evictDuringLoadIsNotCached() {
+        when(candidateRepository.findRankedByProjectId(PROJECT)).thenAnswer(invocation -> {
+            // the ranking is rewritten and committed while this read is loading
+            cache.evict(PROJECT);
+            return candidates(2);
+        });
+        excluding();
+
+        candidateService.getCandidates(PROJECT, LEAD, null, 10);
+        candidateService.getCandidates(PROJECT, LEAD, null, 10);
+
+        verify(candidateRepository, times(2)).findRankedByProjectId(PROJECT);
+    }
+
+    @Test
+    public void testGetCandidates_notLead() {
+        assertThrows(UnauthorizedException.class,
+                () -> candidateService.getCandidates(PROJECT, "member", null, 10));
+        verifyNoInteractions(candidateRepository);
+    }
+
+    @Test
+    public void testGetCandidates_malformedCursor() {
+        assertThrows(BadRequestException.class,
+                () -> candidateService.getCandidates(PROJECT, LEAD, "not-a-cursor", 10));
+    }
+}
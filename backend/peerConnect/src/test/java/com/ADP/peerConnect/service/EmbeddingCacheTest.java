@@ -0,0 +1,109 @@
+package com.ADP.peerConnect.service;
+
+import com.ADP.peerConnect.service.cache.EmbeddingCache;
+import com.ADP.peerConnect.service.embedding.EmbeddingProvider;
+import com.ADP.peerConnect.service.embedding.HashingEmbeddingProvider;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Memory tier of the embedding cache: unchanged texts never reach the model, and the key
+ * separates models. A table outage backs off instead of hitting the database on every job.
+ */
+public class EmbeddingCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private EmbeddingCache cache;
+
+    @BeforeEach
+    public void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new EmbeddingCache(null, meterRegistry, false, 100, 90);
+    }
+
+    private static final class CountingProvider implements EmbeddingProvider {
+
+        private final HashingEmbeddingProvider delegate = new HashingEmbeddingProvider(16);
+        private final String model;
+        private final AtomicInteger calls = new AtomicInteger();
+
+        CountingProvider(String model) {
+            this.model = model;
+        }
+
+        @Override
+        public float[] embed(String text) {
+            calls.incrementAndGet();
+            return delegate.embed(text);
+        }
+
+        @Override
+        public String model() {
+            return model;
+        }
+    }
+
+    @Test
+    public void testEmbed_unchangedTextSkipsModel() {
+        CountingProvider provider = new CountingProvider("nomic-embed-text");
+        float[] first = cache.embed("Bio: backend developer. Skills: Java, Spring Boot", provider);
+        // whitespace differences normalise to the same key
+        float[] second = cache.embed("  Bio: backend developer.\n Skills:  Java, Spring Boot ", provider);
+
+        assertEquals(1, provider.calls.get());
+        assertArrayEquals(first, second);
+        assertEquals(1.0, meterRegistry.get("peerconnect.embedding.cache.hits").counter().count());
+        assertEquals(1.0, meterRegistry.get("peerconnect.embedding.cache.misses").counter().count());
+        assertEquals(0.5, meterRegistry.get("peerconnect.embedding.cache.hit.ratio").gauge().value(), 1e-9);
+    }
+
+    @Test
+    public void testEmbed_changedTextOrModelEmbeddedAgain() {
+        CountingProvider provider = new CountingProvider("nomic-embed-text");
+        CountingProvider otherModel = new CountingProvider("mxbai-embed-large");
+        cache.embed("Bio: backend developer. Skills: Java", provider);
+        cache.embed("Bio: backend developer. Skills: Java, Docker", provider);
+        cache.embed("Bio: backend developer. Skills: Java", otherModel);
+
+        assertEquals(2, provider.calls.get());
+        assertEquals(1, otherModel.calls.get());
+    }
+
+    @Test
+    public void testEmbed_returnsCopies() {
+        CountingProvider provider = new CountingProvider("nomic-embed-text");
+        float[] first = cache.embed("Skills: Python", provider);
+        float expected = first[0];
+        first[0] = 42f;
+
+        assertEquals(expected, cache.embed("Skills: Python", provider)[0]);
+    }
+
+    @Test
+    public void testEmbed_tableFailureBacksOff() {
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        doThrow(new DataAccessResourceFailureException("connection refused"))
+                .when(jdbcTemplate).query(any(PreparedStatementCreator.class), any(RowCallbackHandler.class));
+        EmbeddingCache tableCache = new EmbeddingCache(jdbcTemplate, meterRegistry, true, 100, 90);
+        CountingProvider provider = new CountingProvider("nomic-embed-text");
+
+        tableCache.embed("Skills: Go", provider);
+        tableCache.embed("Skills: Rust", provider);
+
+        // the failed lookup falls back to the model; the next job does not touch the table
+        assertEquals(2, provider.calls.get());
+        verify(jdbcTemplate, times(1)).query(any(PreparedStatementCreator.class), any(RowCallbackHandler.class));
+        verify(jdbcTemplate, never()).update(anyString(), any(Object[].class));
+    }
+}
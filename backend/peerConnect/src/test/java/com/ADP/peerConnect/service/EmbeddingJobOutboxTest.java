@@ -0,0 +1,59 @@
+package com.ADP.peerConnect.service;
+
+import com.ADP.peerConnect.service.job.EmbeddingJobOutbox;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+public class EmbeddingJobOutboxTest {
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final EmbeddingJobOutbox outbox = new EmbeddingJobOutbox(jdbcTemplate, new ObjectMapper());
+
+    @AfterEach
+    public void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.getSynchronizations().forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testBurstInTransaction_writesOneJobPerEntityBeforeCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        for (int i = 0; i < 10; i++) {
+            outbox.userChanged("u1");
+        }
+        outbox.projectChanged("p1");
+        outbox.userChanged("u2");
+
+        verifyNoInteractions(jdbcTemplate);
+        TransactionSynchronizationManager.getSynchronizations().forEach(s -> s.beforeCommit(false));
+
+        ArgumentCaptor<List<Object[]>> args = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate, times(1)).batchUpdate(anyString(), args.capture());
+        assertEquals(3, args.getValue().size());
+        assertArrayEquals(new Object[]{EmbeddingJobOutbox.UPDATE_USER_VECTOR, "{\"user_id\":\"u1\"}",
+                EmbeddingJobOutbox.UPDATE_USER_VECTOR, "{\"user_id\":\"u1\"}"}, args.getValue().get(0));
+        assertEquals("{\"project_id\":\"p1\"}", args.getValue().get(1)[1]);
+    }
+
+    @Test
+    public void testOutsideTransaction_writesImmediately() {
+        outbox.projectChanged("p1");
+        outbox.projectChanged(null);
+
+        verify(jdbcTemplate, times(1)).batchUpdate(anyString(), anyList());
+    }
+}
@@ -0,0 +1,114 @@
+package com.ADP.peerConnect.service;
+
+import com.ADP.peerConnect.service.embedding.DotProduct;
+import com.ADP.peerConnect.service.embedding.EmbeddingMatrix;
+import com.ADP.peerConnect.service.embedding.ExactVectorScorer;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EmbeddingMatrixTest {
+
+    private static float[] randomVector(Random random, int dimensions) {
+        float[] v = new float[dimensions];
+        for (int i = 0; i < dimensions; i++) {
+            v[i] = (float) random.nextGaussian();
+        }
+        return v;
+    }
+
+    private static double cosine(float[] a, float[] b) {
+        double dot = 0, na = 0, nb = 0;
+        for (int i = 0; i < a.length; i++) {
+            dot += a[i] * b[i];
+            na += a[i] * a[i];
+            nb += b[i] * b[i];
+        }
+        return dot / Math.sqrt(na * nb);
+    }
+
+    @Test
+    public void testSearch_matchesNaiveTopKForScalarAndBest() {
+        Random random = new Random(11);
+        int dimensions = 77;
+        List<float[]> vectors = new ArrayList<>();
+        EmbeddingMatrix scalar = new EmbeddingMatrix(dimensions, new ExactVectorScorer(DotProduct.scalar()));
+        EmbeddingMatrix best = new EmbeddingMatrix(dimensions, new ExactVectorScorer(DotProduct.best()));
+        // enough rows to be split into parallel partitions
+        for (int i = 0; i < 20000; i++) {
+            float[] v = randomVector(random, dimensions);
+            vectors.add(v);
+            scalar.put("v" + i, v);
+            best.put("v" + i, v);
+        }
+
+        for (int q = 0; q < 20; q++) {
+            float[] query = randomVector(random, dimensions);
+            List<String> expected = IntStream.range(0, vectors.size()).boxed()
+                    .sorted(Comparator.comparingDouble(i -> -cosine(query, vectors.get(i))))
+                    .filter(i -> i != 0)
+                    .limit(10)
+                    .map(i -> "v" + i)
+                    .toList();
+            for (EmbeddingMatrix matrix : List.of(scalar, best)) {
+                List<EmbeddingMatrix.Match> matches = matrix.search(query, 10, "v0");
+                assertEquals(expected, matches.stream().map(EmbeddingMatrix.Match::id).toList());
+                assertEquals(cosine(query, vectors.get(Integer.parseInt(expected.get(0).substring(1)))),
+                        matches.get(0).score(), 1e-4);
+            }
+        }
+    }
+
+    @Test
+    public void testPutReplaceAndRemove() {
+        EmbeddingMatrix matrix = new EmbeddingMatrix(3, new ExactVectorScorer());
+        matrix.put("a", new float[]{1, 0, 0});
+        matrix.put("b", new float[]{0, 1, 0});
+        matrix.put("c", new float[]{0, 0, 2});
+        assertEquals(1.0f, matrix.get("c")[2], 1e-6);
+
+        matrix.put("c", new float[]{1, 0, 0.1f});
+        assertEquals(3, matrix.size());
+        assertEquals("c", matrix.search(new float[]{1, 0, 1}, 1, null).get(0).id());
+
+        matrix.remove("a");
+        assertFalse(matrix.contains("a"));
+        assertEquals(2, matrix.size());
+        assertEquals(List.of("c", "b"), matrix.search(new float[]{1, 0, 0}, 5, null).stream()
+                .map(EmbeddingMatrix.Match::id).toList());
+
+        // a zero vector cannot be compared, so it removes the row
+        matrix.put("b", new float[]{0, 0, 0});
+        assertFalse(matrix.contains("b"));
+    }
+
+    @Test
+    public void testSearchBlock_matchesSearchPerQuery() {
+        Random random = new Random(5);
+        int dimensions = 48;
+        EmbeddingMatrix matrix = new EmbeddingMatrix(dimensions, new ExactVectorScorer());
+        // not a multiple of the tile size
+        for (int i = 0; i < 1000; i++) {
+            matrix.put("v" + i, randomVector(random, dimensions));
+        }
+
+        List<float[]> queries = new ArrayList<>();
+        for (int q = 0; q < 7; q++) {
+            queries.add(randomVector(random, dimensions));
+        }
+        queries.add(null);
+        List<List<EmbeddingMatrix.Match>> block = matrix.searchBlock(queries, 10);
+
+        assertEquals(queries.size(), block.size());
+        for (int q = 0; q < 7; q++) {
+            assertEquals(matrix.search(queries.get(q), 10, null), block.get(q));
+        }
+        assertTrue(block.get(7).isEmpty());
+    }
+}
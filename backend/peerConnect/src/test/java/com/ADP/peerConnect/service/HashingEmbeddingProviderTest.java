@@ -0,0 +1,44 @@
+package com.ADP.peerConnect.service;
+
+import com.ADP.peerConnect.service.embedding.HashingEmbeddingProvider;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class HashingEmbeddingProviderTest {
+
+    private final HashingEmbeddingProvider provider = new HashingEmbeddingProvider(64);
+
+    private static double cosine(float[] a, float[] b) {
+        double dot = 0;
+        for (int i = 0; i < a.length; i++) {
+            dot += a[i] * b[i];
+        }
+        return dot;
+    }
+
+    @Test
+    public void testEmbed_deterministicAndNormalised() {
+        float[] first = provider.embed("Bio: backend developer. Skills: Java, Spring Boot");
+        float[] second = new HashingEmbeddingProvider(64).embed("Bio: backend developer. Skills: Java, Spring Boot");
+
+        assertEquals(64, first.length);
+        assertArrayEquals(first, second);
+        assertEquals(1.0, cosine(first, first), 1e-5);
+    }
+
+    @Test
+    public void testEmbed_sharedWordsAreCloser() {
+        float[] user = provider.embed("Skills: Java, Spring Boot, PostgreSQL");
+        float[] close = provider.embed("Required Skills: Java, Spring");
+        float[] far = provider.embed("Required Skills: Figma, Illustrator");
+
+        assertTrue(cosine(user, close) > cosine(user, far));
+    }
+
+    @Test
+    public void testEmbed_emptyTextIsZeroVector() {
+        assertEquals(0.0, cosine(provider.embed(""), provider.embed("")), 0.0);
+        assertEquals(64, provider.embed(null).length);
+    }
+}
@@ -0,0 +1,90 @@
+package com.ADP.peerConnect.service;
+
+import com.ADP.peerConnect.service.cache.HnswIndex;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class HnswIndexTest {
+
+    private static float[] randomVector(Random random, int dimensions) {
+        float[] v = new float[dimensions];
+        for (int i = 0; i < dimensions; i++) {
+            v[i] = (float) random.nextGaussian();
+        }
+        return v;
+    }
+
+    private static double cosine(float[] a, float[] b) {
+        double dot = 0, na = 0, nb = 0;
+        for (int i = 0; i < a.length; i++) {
+            dot += a[i] * b[i];
+            na += a[i] * a[i];
+            nb += b[i] * b[i];
+        }
+        return dot / Math.sqrt(na * nb);
+    }
+
+    @Test
+    public void testSearch_recallAgainstBruteForce() {
+        Random random = new Random(7);
+        int dimensions = 32;
+        List<float[]> vectors = new ArrayList<>();
+        HnswIndex index = new HnswIndex(dimensions, 16, 100);
+        for (int i = 0; i < 3000; i++) {
+            float[] v = randomVector(random, dimensions);
+            vectors.add(v);
+            index.put("v" + i, v);
+        }
+
+        int hits = 0;
+        int queries = 50;
+        for (int q = 0; q < queries; q++) {
+            float[] query = randomVector(random, dimensions);
+            Set<String> exact = new HashSet<>();
+            IntStream.range(0, vectors.size()).boxed()
+                    .sorted(Comparator.comparingDouble(i -> -cosine(query, vectors.get(i))))
+                    .limit(10)
+                    .forEach(i -> exact.add("v" + i));
+            for (HnswIndex.Match match : index.search(query, 10, 64)) {
+                if (exact.contains(match.key())) {
+                    hits++;
+                }
+            }
+        }
+        assertTrue(hits >= queries * 10 * 0.9, "recall@10 was " + hits / (queries * 10.0));
+    }
+
+    @Test
+    public void testPutReplaceAndRemove() {
+        HnswIndex index = new HnswIndex(3, 4, 16);
+        index.put("a", new float[]{1, 0, 0});
+        index.put("b", new float[]{0, 1, 0});
+        index.put("c", new float[]{0, 0, 2});
+
+        List<HnswIndex.Match> matches = index.search(new float[]{0, 0, 1}, 1, 10);
+        assertEquals("c", matches.get(0).key());
+        assertEquals(1.0f, matches.get(0).score(), 1e-6);
+
+        index.put("c", new float[]{1, 0, 0.1f});
+        assertEquals("b", index.search(new float[]{0, 1, 0.2f}, 1, 10).get(0).key());
+        // only the replacement vector of c is found, not the old one
+        List<HnswIndex.Match> replaced = index.search(new float[]{0, 0, 1}, 3, 10);
+        assertEquals(3, replaced.size());
+        assertTrue(replaced.stream().filter(m -> m.key().equals("c")).allMatch(m -> m.score() < 0.2f));
+
+        assertTrue(index.remove("a"));
+        assertFalse(index.contains("a"));
+        assertEquals(2, index.size());
+        assertEquals(4, index.nodeCount());
+        assertTrue(index.search(new float[]{1, 0, 0}, 3, 10).stream().noneMatch(m -> m.key().equals("a")));
+    }
+}
@@ -0,0 +1,58 @@
+package com.ADP.peerConnect.service;
+
+import com.ADP.peerConnect.model.enums.ProjectStatus;
+import com.ADP.peerConnect.model.enums.SkillLevel;
+import com.ADP.peerConnect.service.recommendation.HybridScorer;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class HybridScorerTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 1, 1, 12, 0);
+
+    private final HybridScorer scorer = new HybridScorer(new HybridScorer.Weights(0.45, 0.30, 0.10, 0.10, 0.05), 30);
+
+    private static HybridScorer.ProjectProfile project(ProjectStatus status, int openSeats, int ageDays) {
+        return new HybridScorer.ProjectProfile("p1", status, 5, 5 - openSeats, NOW.minusDays(ageDays), List.of(
+                new HybridScorer.RequiredSkill(1L, true, SkillLevel.ADVANCED),
+                new HybridScorer.RequiredSkill(2L, true, null),
+                new HybridScorer.RequiredSkill(3L, false, null)));
+    }
+
+    @Test
+    public void testScore_skillOverlapLevelsAndMissingSkills() {
+        Map<Long, SkillLevel> expert = Map.of(1L, SkillLevel.ADVANCED, 2L, SkillLevel.BEGINNER, 3L, SkillLevel.BEGINNER);
+        Map<Long, SkillLevel> junior = Map.of(1L, SkillLevel.BEGINNER);
+
+        HybridScorer.Score full = scorer.score(0.5, project(ProjectStatus.RECRUITING, 5, 0), expert, NOW);
+        HybridScorer.Score partial = scorer.score(0.5, project(ProjectStatus.RECRUITING, 5, 0), junior, NOW);
+
+        assertEquals(List.of(), full.missingSkillIds());
+        assertEquals(List.of(2L, 3L), partial.missingSkillIds());
+        // every signal at its maximum except the vector
+        assertEquals(0.45 * 0.5 + 0.30 + 0.10 + 0.10 + 0.05, full.total(), 1e-9);
+        // beginner on an advanced requirement earns half of skill 1 only: 0.5 / 2.5
+        assertEquals(0.45 * 0.5 + 0.30 * 0.2 + 0.10 + 0.10 + 0.05, partial.total(), 1e-9);
+    }
+
+    @Test
+    public void testScore_statusCapacityAndRecency() {
+        Map<Long, SkillLevel> skills = Map.of(1L, SkillLevel.ADVANCED);
+
+        double fresh = scorer.score(0.8, project(ProjectStatus.RECRUITING, 4, 0), skills, NOW).total();
+        double old = scorer.score(0.8, project(ProjectStatus.RECRUITING, 4, 30), skills, NOW).total();
+        double full = scorer.score(0.8, project(ProjectStatus.RECRUITING, 0, 0), skills, NOW).total();
+        double running = scorer.score(0.8, project(ProjectStatus.IN_PROGRESS, 4, 0), skills, NOW).total();
+
+        assertEquals(0.05 * 0.5, fresh - old, 1e-9);
+        assertTrue(full < fresh);
+        assertTrue(running < fresh);
+        assertNull(scorer.score(0.8, project(ProjectStatus.COMPLETED, 4, 0), skills, NOW));
+        assertNull(scorer.score(0.8, project(ProjectStatus.CANCELLED, 4, 0), skills, NOW));
+    }
+}
@@ -0,0 +1,101 @@
+package com.ADP.peerConnect.service;
+
+import com.ADP.peerConnect.model.enums.ProjectStatus;
+import com.ADP.peerConnect.repository.ProjectMemberRepository;
+import com.ADP.peerConnect.repository.ProjectRepository;
+import com.ADP.peerConnect.repository.ProjectSkillRepository;
+import com.ADP.peerConnect.service.cache.ProjectFacetIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * The facet counts must apply the same filters as ProjectService.searchProjects.
+ */
+public class ProjectFacetIndexTest {
+
+    private ProjectRepository projectRepository;
+    private ProjectFacetIndex index;
+
+    @BeforeEach
+    public void setup() {
+        projectRepository = mock(ProjectRepository.class);
+        ProjectSkillRepository projectSkillRepository = mock(ProjectSkillRepository.class);
+        ProjectMemberRepository projectMemberRepository = mock(ProjectMemberRepository.class);
+        when(projectRepository.findFacetRows()).thenReturn(List.of(
+                new Object[]{"p1", "Web", ProjectStatus.RECRUITING, "lead1", 2, "Campus Market", "Buy and sell"},
+                new Object[]{"p2", "Web", ProjectStatus.RECRUITING, "lead2", 1, "Study Planner", "Plan exams"},
+                new Object[]{"p3", "AI", ProjectStatus.IN_PROGRESS, "lead1", 4, "Tutor Bot", "A market of tutors"}));
+        when(projectSkillRepository.findProjectIdAndSkillNames()).thenReturn(List.of(
+                new Object[]{"p1", "Java"},
+                new Object[]{"p2", "React"},
+                new Object[]{"p3", "Python"}));
+        when(projectMemberRepository.findProjectIdAndUserIds()).thenReturn(List.<Object[]>of(
+                new Object[]{"p2", "u1"}));
+        index = new ProjectFacetIndex(projectRepository, projectSkillRepository, projectMemberRepository);
+    }
+
+    @Test
+    public void testCount_textMatchesTitleOrDescriptionIgnoringCase() {
+        ProjectFacetIndex.FacetCounts facets = index.count("MARKET", null, null, null, false, null, 10);
+
+        assertEquals(2, facets.categories().values().stream().mapToInt(Integer::intValue).sum());
+    }
+
+    @Test
+    public void testCount_availableOnlySkipsFullAndNonRecruitingProjects() {
+        ProjectFacetIndex.FacetCounts facets = index.count(null, null, null, null, true, null, 10);
+
+        assertEquals(1, facets.skills().get("Java"));
+        assertNull(facets.skills().get("React"));
+        assertNull(facets.skills().get("Python"));
+    }
+
+    @Test
+    public void testCount_excludesOwnAndMemberProjectsOfCurrentUser() {
+        ProjectFacetIndex.FacetCounts asLead = index.count(null, null, null, null, false, "lead1", 10);
+        ProjectFacetIndex.FacetCounts asMember = index.count(null, null, null, null, false, "u1", 10);
+
+        assertEquals(1, asLead.statuses().get("RECRUITING"));
+        assertEquals(0, asLead.statuses().get("IN_PROGRESS"));
+        assertEquals(1, asMember.statuses().get("RECRUITING"));
+        assertEquals(1, asMember.statuses().get("IN_PROGRESS"));
+    }
+
+    @Test
+    public void testCount_skillFilterIgnoresCase() {
+        ProjectFacetIndex.FacetCounts facets = index.count(null, null, null, List.of("java"), false, null, 10);
+
+        assertEquals(1, facets.categories().get("Web"));
+        assertNull(facets.categories().get("AI"));
+    }
+
+    @Test
+    public void testMemberRemoved_freesSeatForAvailableOnly() {
+        index.count(null, null, null, null, true, null, 10);
+        index.memberRemoved("p2", "u1");
+
+        ProjectFacetIndex.FacetCounts facets = index.count(null, null, null, null, true, null, 10);
+
+        assertEquals(1, facets.skills().get("React"));
+    }
+
+    @Test
+    public void testCount_keepsChangesCommittedDuringBuild() {
+        List<Object[]> rows = projectRepository.findFacetRows();
+        when(projectRepository.findFacetRows()).thenAnswer(invocation -> {
+            // deleted after the skill and member reads, before the project read returns
+            index.remove("p1");
+            return rows;
+        });
+
+        ProjectFacetIndex.FacetCounts facets = index.count(null, null, null, null, false, null, 10);
+
+        assertNull(facets.skills().get("Java"));
+        assertEquals(1, facets.skills().get("React"));
+    }
+}
@@ -0,0 +1,56 @@
+package com.ADP.peerConnect.service;
+
+import com.ADP.peerConnect.model.dto.response.Project.ProjectResponse;
+import com.ADP.peerConnect.service.cache.ProjectReadCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ProjectReadCacheTest {
+
+    private ProjectReadCache cache;
+
+    @BeforeEach
+    public void setup() {
+        cache = new ProjectReadCache(new SimpleMeterRegistry(), 100, 300);
+    }
+
+    private static ProjectResponse detail(String id, String title) {
+        ProjectResponse detail = new ProjectResponse();
+        detail.setId(id);
+        detail.setTitle(title);
+        return detail;
+    }
+
+    @Test
+    public void testGetDetail_servesSecondReadFromCache() {
+        AtomicInteger loads = new AtomicInteger();
+        cache.getDetail("p1", () -> {
+            loads.incrementAndGet();
+            return detail("p1", "Old");
+        });
+        cache.getDetail("p1", () -> {
+            loads.incrementAndGet();
+            return detail("p1", "Old");
+        });
+
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    public void testGetDetail_loadOverlappingEvictIsNotCached() {
+        // the loader read pre-commit state, then the writer's after-commit evict ran
+        ProjectResponse stale = cache.getDetail("p1", () -> {
+            cache.evict("p1");
+            return detail("p1", "Old");
+        });
+        ProjectResponse fresh = cache.getDetail("p1", () -> detail("p1", "New"));
+
+        assertEquals("Old", stale.getTitle());
+        assertEquals("New", fresh.getTitle());
+    }
+}
@@ -0,0 +1,113 @@
+package com.ADP.peerConnect.service;
+
+import com.ADP.peerConnect.model.dto.ProjectRecommendationDTO;
+import com.ADP.peerConnect.repository.ProjectRepository;
+import com.ADP.peerConnect.repository.UserRecommendedProjectRepository;
+import com.ADP.peerConnect.repository.UserRepository;
+import com.ADP.peerConnect.service.Impl.RecommendationServiceWithPriorityImpl;
+import com.ADP.peerConnect.service.cache.RecommendationCache;
+import com.ADP.peerConnect.service.cache.VectorIndex;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Statement-count harness for bulk recommendation writes: replacing a top-100 list must be a
+ * fixed handful of statements, never a lookup or save per project.
+ */
+public class RecommendationBulkWriteTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    @Mock
+    private UserRecommendedProjectRepository recommendationRepository;
+
+    @Mock
+    private VectorIndex vectorIndex;
+
+    private RecommendationServiceWithPriorityImpl recommendationService;
+
+    private AutoCloseable mocks;
+
+    @BeforeEach
+    public void setup() {
+        mocks = MockitoAnnotations.openMocks(this);
+        RecommendationCache cache = new RecommendationCache(new SimpleMeterRegistry(), 20, 100, 600);
+        recommendationService = new RecommendationServiceWithPriorityImpl(
+                userRepository, projectRepository, recommendationRepository, vectorIndex, cache);
+        when(userRepository.existsById("user1")).thenReturn(true);
+    }
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        mocks.close();
+    }
+
+    private static List<ProjectRecommendationDTO> topList(int count) {
+        List<ProjectRecommendationDTO> recommendations = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            recommendations.add(new ProjectRecommendationDTO("p" + i, 100 - i));
+        }
+        return recommendations;
+    }
+
+    private static List<String> ids(int count) {
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            ids.add("p" + i);
+        }
+        return ids;
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testReplaceAllRecommendations_constantStatements() {
+        when(projectRepository.findExistingIds(anyCollection())).thenReturn(ids(100));
+
+        List<ProjectRecommendationDTO> recommendations = topList(100);
+        // a project listed twice keeps its first priority
+        recommendations.add(new ProjectRecommendationDTO("p0", 1));
+        recommendationService.replaceAllRecommendations("user1", recommendations);
+
+        ArgumentCaptor<Map<String, Integer>> priorities = ArgumentCaptor.forClass(Map.class);
+        verify(recommendationRepository).deleteAllExcept(eq("user1"), eq(Set.copyOf(ids(100))));
+        verify(recommendationRepository).upsertPriorities(eq("user1"), priorities.capture());
+        verify(recommendationRepository).findByUserIdWithProjectOrderByPriorityDesc("user1");
+        verifyNoMoreInteractions(recommendationRepository);
+        verify(projectRepository, times(1)).findExistingIds(anyCollection());
+        verifyNoMoreInteractions(projectRepository);
+        assertEquals(100, priorities.getValue().size());
+        assertEquals(100, priorities.getValue().get("p0"));
+    }
+
+    @Test
+    public void testAddMultipleRecommendations_unknownProjectWritesNothing() {
+        when(projectRepository.findExistingIds(anyCollection())).thenReturn(List.of("p0", "p2"));
+
+        EntityNotFoundException e = assertThrows(EntityNotFoundException.class,
+                () -> recommendationService.addMultipleRecommendations("user1", topList(3)));
+
+        assertTrue(e.getMessage().contains("p1"));
+        verify(recommendationRepository, never()).insertIgnoringExisting(any(), any());
+    }
+}
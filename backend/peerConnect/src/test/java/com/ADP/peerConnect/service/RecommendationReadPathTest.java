@@ -0,0 +1,134 @@
+package com.ADP.peerConnect.service;
+
+import com.ADP.peerConnect.model.dto.response.RecommendationResponseWithPriority;
+import com.ADP.peerConnect.model.dto.response.RecommendationResponseWithPriority.ProjectRecommendationDetailDTO;
+import com.ADP.peerConnect.model.enums.ProjectStatus;
+import com.ADP.peerConnect.repository.ProjectRepository;
+import com.ADP.peerConnect.repository.UserRecommendedProjectRepository;
+import com.ADP.peerConnect.repository.UserRepository;
+import com.ADP.peerConnect.service.Impl.RecommendationServiceWithPriorityImpl;
+import com.ADP.peerConnect.service.cache.RecommendationCache;
+import com.ADP.peerConnect.service.cache.VectorIndex;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Query-count harness for the recommendations widget: the top-N list is one limited
+ * projection query on a miss and no query at all while the user's cached list is valid.
+ */
+public class RecommendationReadPathTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    @Mock
+    private UserRecommendedProjectRepository recommendationRepository;
+
+    @Mock
+    private VectorIndex vectorIndex;
+
+    private RecommendationCache cache;
+
+    private RecommendationServiceWithPriorityImpl recommendationService;
+
+    private AutoCloseable mocks;
+
+    @BeforeEach
+    public void setup() {
+        mocks = MockitoAnnotations.openMocks(this);
+        cache = new RecommendationCache(new SimpleMeterRegistry(), 20, 100, 600);
+        recommendationService = new RecommendationServiceWithPriorityImpl(
+                userRepository, projectRepository, recommendationRepository, vectorIndex, cache);
+    }
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        mocks.close();
+    }
+
+    private static List<ProjectRecommendationDetailDTO> details(int count) {
+        List<ProjectRecommendationDetailDTO> details = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            details.add(new ProjectRecommendationDetailDTO("p" + i, "Project " + i, "desc", ProjectStatus.RECRUITING, 100 - i));
+        }
+        return details;
+    }
+
+    @Test
+    public void testGetTopRecommendations_limitPushedDownAndCached() {
+        when(recommendationRepository.findTopDetailsByUserId(eq("user1"), any())).thenReturn(details(20));
+
+        RecommendationResponseWithPriority first = recommendationService.getTopRecommendations("user1", 5);
+        RecommendationResponseWithPriority second = recommendationService.getTopRecommendations("user1", 10);
+
+        assertEquals(5, first.getTotalRecommendations());
+        assertEquals("p0", first.getRecommendedProjects().get(0).getProjectId());
+        assertEquals("RECRUITING", first.getRecommendedProjects().get(0).getStatus());
+        assertEquals(10, second.getRecommendedProjects().size());
+        // one limited projection query for both calls, no entity load and no existsById
+        verify(recommendationRepository, times(1)).findTopDetailsByUserId("user1", PageRequest.of(0, 20));
+        verifyNoMoreInteractions(recommendationRepository);
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    public void testGetTopRecommendations_rewriteEvictsCachedList() {
+        when(recommendationRepository.findTopDetailsByUserId(eq("user1"), any())).thenReturn(details(3));
+        when(userRepository.existsById("user1")).thenReturn(true);
+
+        recommendationService.getTopRecommendations("user1", 10);
+        recommendationService.clearAllRecommendations("user1");
+        recommendationService.getTopRecommendations("user1", 10);
+
+        verify(recommendationRepository, times(2)).findTopDetailsByUserId(eq("user1"), any());
+    }
+
+    @Test
+    public void testGetTopRecommendations_evictDuringLoadIsNotCached() {
+        when(recommendationRepository.findTopDetailsByUserId(eq("user1"), any())).thenAnswer(invocation -> {
+            // the user's rows are rewritten and committed while this read is loading
+            cache.evict("user1");
+            return details(3);
+        });
+
+        recommendationService.getTopRecommendations("user1", 10);
+        recommendationService.getTopRecommendations("user1", 10);
+
+        verify(recommendationRepository, times(2)).findTopDetailsByUserId(eq("user1"), any());
+    }
+
+    @Test
+    public void testGetTopRecommendations_callersCannotChangeCachedRows() {
+        when(recommendationRepository.findTopDetailsByUserId(eq("user1"), any())).thenReturn(details(3));
+
+        recommendationService.getTopRecommendations("user1", 10).getRecommendedProjects().get(0).setPriority(-1);
+        RecommendationResponseWithPriority second = recommendationService.getTopRecommendations("user1", 10);
+
+        assertEquals(100, second.getRecommendedProjects().get(0).getPriority());
+    }
+
+    @Test
+    public void testGetTopRecommendations_unknownUser() {
+        when(recommendationRepository.findTopDetailsByUserId(eq("ghost"), any())).thenReturn(List.of());
+        when(userRepository.existsById("ghost")).thenReturn(false);
+
+        assertThrows(EntityNotFoundException.class, () -> recommendationService.getTopRecommendations("ghost", 10));
+    }
+}
@@ -0,0 +1,62 @@
+package com.ADP.peerConnect.service;
+
+import com.ADP.peerConnect.service.embedding.EmbeddingMatrix;
+import com.ADP.peerConnect.service.job.RecommendationRecomputeJob;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * COPY text rows staged by the full recompute.
+ */
+public class RecommendationRecomputeJobTest {
+
+    private static final List<EmbeddingMatrix.Match> MATCHES = List.of(
+            new EmbeddingMatrix.Match("p1", 0.5f),
+            new EmbeddingMatrix.Match("p2", 0.25f));
+
+    @Test
+    public void testCopyText_plainValueUnchanged() {
+        String id = "550e8400-e29b-41d4-a716-446655440000";
+
+        assertSame(id, RecommendationRecomputeJob.copyText(id));
+    }
+
+    @Test
+    public void testCopyText_escapesBackslashTabAndLineBreaks() {
+        assertEquals("a\\\\b\\tc\\nd\\re", RecommendationRecomputeJob.copyText("a\\b\tc\nd\re"));
+    }
+
+    @Test
+    public void testAppendCopyRows_userRowsHighestPriorityFirst() {
+        StringBuilder copy = new StringBuilder();
+
+        RecommendationRecomputeJob.appendCopyRows(copy, "u1", MATCHES, rank -> 10 - rank, "");
+
+        assertEquals("u1\tp1\t0.5\t10\n"
+                + "u1\tp2\t0.25\t9\n", copy.toString());
+    }
+
+    @Test
+    public void testAppendCopyRows_projectRowsWithEmptyMissingSkills() {
+        StringBuilder copy = new StringBuilder();
+
+        RecommendationRecomputeJob.appendCopyRows(copy, "p\t1", List.of(new EmbeddingMatrix.Match("u\\1", 1.0f)),
+                rank -> rank + 1, "\t{}");
+
+        assertEquals("p\\t1\tu\\\\1\t1.0\t1\t{}\n", copy.toString());
+        assertEquals(5, copy.toString().stripTrailing().split("\t", -1).length);
+    }
+
+    @Test
+    public void testAppendCopyRows_ownerWithoutMatchesStagesNothing() {
+        StringBuilder copy = new StringBuilder("u0\tp9\t0.1\t10\n");
+
+        RecommendationRecomputeJob.appendCopyRows(copy, "u1", List.of(), rank -> 10 - rank, "");
+
+        // not staged, so the swap's DELETE ... IN (staging owners) keeps u1's current rows
+        assertEquals("u0\tp9\t0.1\t10\n", copy.toString());
+    }
+}
@@ -0,0 +1,147 @@
+package com.ADP.peerConnect.service;
+
+import com.ADP.peerConnect.model.enums.SkillLevel;
+import com.ADP.peerConnect.repository.ProjectSkillRepository;
+import com.ADP.peerConnect.repository.UserSkillRepository;
+import com.ADP.peerConnect.service.cache.SkillCooccurrenceIndex;
+import com.ADP.peerConnect.service.cache.SkillCooccurrenceIndex.Related;
+import com.ADP.peerConnect.service.cache.SkillCooccurrenceIndex.Source;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+public class SkillCooccurrenceIndexTest {
+
+    private static final long JAVA = 1L;
+    private static final long SPRING = 2L;
+    private static final long DOCKER = 3L;
+    private static final long REACT = 4L;
+
+    private UserSkillRepository userSkillRepository;
+    private ProjectSkillRepository projectSkillRepository;
+    private SkillCooccurrenceIndex index;
+
+    @BeforeEach
+    public void setup() {
+        userSkillRepository = mock(UserSkillRepository.class);
+        projectSkillRepository = mock(ProjectSkillRepository.class);
+        // JAVA: 3 users, SPRING: 2 (both with JAVA), DOCKER: 2 (one with JAVA), REACT: 1 (alone)
+        when(userSkillRepository.findUserIdSkillIdAndLevel()).thenReturn(List.<Object[]>of(
+                new Object[]{"u1", JAVA, SkillLevel.ADVANCED},
+                new Object[]{"u1", SPRING, SkillLevel.ADVANCED},
+                new Object[]{"u2", JAVA, SkillLevel.BEGINNER},
+                new Object[]{"u2", SPRING, SkillLevel.BEGINNER},
+                new Object[]{"u2", DOCKER, SkillLevel.BEGINNER},
+                new Object[]{"u3", JAVA, SkillLevel.INTERMEDIATE},
+                new Object[]{"u4", DOCKER, SkillLevel.ADVANCED},
+                new Object[]{"u5", REACT, SkillLevel.ADVANCED}));
+        when(projectSkillRepository.findActiveProjectIdAndSkillIds()).thenReturn(List.<Object[]>of(
+                new Object[]{"p1", JAVA},
+                new Object[]{"p1", DOCKER}));
+        index = new SkillCooccurrenceIndex(userSkillRepository, projectSkillRepository);
+    }
+
+    private static List<Long> ids(List<Related> related) {
+        return related.stream().map(Related::skillId).toList();
+    }
+
+    @Test
+    public void testRelated_scoresByConditionalProbability() {
+        List<Related> related = index.related(Source.USERS, List.of(JAVA), 10);
+
+        // P(SPRING | JAVA) = 2/3, P(DOCKER | JAVA) = 1/3; REACT never appears with JAVA
+        assertEquals(List.of(SPRING, DOCKER), ids(related));
+        assertEquals(2.0 / 3, related.get(0).score(), 1e-9);
+        assertEquals(2, related.get(0).together());
+        assertEquals(1.0 / 3, related.get(1).score(), 1e-9);
+    }
+
+    @Test
+    public void testRelated_sumsOverGivenSkillsAndLimitsToK() {
+        List<Related> related = index.related(Source.USERS, List.of(SPRING, DOCKER), 1);
+
+        // JAVA: P(JAVA | SPRING) + P(JAVA | DOCKER) = 1 + 1/2; the given skills are excluded
+        assertEquals(List.of(JAVA), ids(related));
+        assertEquals(1.5, related.get(0).score(), 1e-9);
+        assertEquals(3, related.get(0).together());
+    }
+
+    @Test
+    public void testRelatedForUser_usesTheUsersSkills() {
+        assertEquals(List.of(DOCKER), ids(index.relatedForUser("u1", 10)));
+        assertEquals(List.of(), index.relatedForUser("unknown", 10));
+    }
+
+    @Test
+    public void testProjectChanged_movesCountsBetweenPairs() {
+        assertEquals(List.of(DOCKER), ids(index.related(Source.PROJECTS, List.of(JAVA), 10)));
+
+        index.projectChanged("p1", Set.of(JAVA, REACT));
+        index.projectChanged("p2", Set.of(JAVA, REACT, SPRING));
+
+        List<Related> related = index.related(Source.PROJECTS, List.of(JAVA), 10);
+        assertEquals(List.of(REACT, SPRING), ids(related));
+        assertEquals(1.0, related.get(0).score(), 1e-9);
+        assertEquals(0.5, related.get(1).score(), 1e-9);
+        assertEquals(List.of(), index.related(Source.PROJECTS, List.of(DOCKER), 10));
+    }
+
+    @Test
+    public void testProjectRemoved_dropsEmptyRowsAndCounts() {
+        index.related(Source.PROJECTS, List.of(JAVA), 10);
+
+        index.projectRemoved("p1");
+
+        assertEquals(List.of(), index.related(Source.PROJECTS, List.of(JAVA), 10));
+        assertEquals(List.of(), index.related(Source.PROJECTS, List.of(DOCKER), 10));
+    }
+
+    @Test
+    public void testRelated_parallelBuildMergesLikeSequentialAdds() {
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            rows.add(new Object[]{"p" + i, JAVA});
+            rows.add(new Object[]{"p" + i, i % 2 == 0 ? SPRING : DOCKER});
+            if (i % 4 == 0) {
+                rows.add(new Object[]{"p" + i, REACT});
+            }
+        }
+        when(projectSkillRepository.findActiveProjectIdAndSkillIds()).thenReturn(rows);
+
+        List<Related> related = index.related(Source.PROJECTS, List.of(JAVA), 10);
+
+        assertEquals(List.of(SPRING, DOCKER, REACT), ids(related));
+        assertEquals(500, related.get(0).together());
+        assertEquals(500, related.get(1).together());
+        assertEquals(250, related.get(2).together());
+        assertEquals(0.25, related.get(2).score(), 1e-9);
+        assertEquals(1.0, index.related(Source.PROJECTS, List.of(REACT), 10).get(0).score(), 1e-9);
+    }
+
+    @Test
+    public void testRefresh_replaysOwnersChangedDuringBuild() {
+        index.related(Source.USERS, List.of(JAVA), 10);
+        List<Object[]> rows = userSkillRepository.findUserIdSkillIdAndLevel();
+        when(userSkillRepository.findUserIdSkillIdAndLevel()).thenAnswer(invocation -> {
+            // committed while the build is reading
+            index.userChanged("u5");
+            index.projectRemoved("p1");
+            return rows;
+        });
+        when(userSkillRepository.findUserIdSkillIdAndLevelByUserIds(anyCollection())).thenReturn(List.<Object[]>of(
+                new Object[]{"u5", REACT, SkillLevel.ADVANCED},
+                new Object[]{"u5", JAVA, SkillLevel.BEGINNER}));
+
+        index.refresh();
+
+        assertEquals(List.of(JAVA), ids(index.related(Source.USERS, List.of(REACT), 10)));
+        assertEquals(List.of(), index.related(Source.PROJECTS, List.of(JAVA), 10));
+    }
+}
@@ -0,0 +1,131 @@
+package com.ADP.peerConnect.service;
+
+import com.ADP.peerConnect.model.entity.Skill;
+import com.ADP.peerConnect.repository.SkillRepository;
+import com.ADP.peerConnect.service.cache.SkillDictionary;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class SkillDictionaryTest {
+
+    private static final LocalDateTime T0 = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+    private SkillRepository skillRepository;
+    private SkillDictionary dictionary;
+
+    @BeforeEach
+    public void setup() {
+        skillRepository = mock(SkillRepository.class);
+        when(skillRepository.findAll()).thenReturn(List.of(skill("Java", T0), skill("Docker", T0), skill("React", T0)));
+        dictionary = new SkillDictionary(skillRepository, 300);
+        dictionary.loadOnStartup();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private static Skill skill(String name, LocalDateTime updatedAt) {
+        Skill skill = new Skill(name);
+        skill.setUpdatedAt(updatedAt);
+        return skill;
+    }
+
+    private List<String> names() {
+        return dictionary.all().stream().map(SkillDictionary.Entry::normalizedName).toList();
+    }
+
+    @Test
+    public void testPut_mergesIntoSortedOrder() {
+        dictionary.put(new Skill("Angular"));
+        dictionary.put(new Skill("Kotlin"));
+
+        assertEquals(List.of("angular", "docker", "java", "kotlin", "react"), names());
+    }
+
+    @Test
+    public void testPut_renameKeepsIdAndMovesEntry() {
+        Skill renamed = new Skill("React");
+        Long id = renamed.getId();
+        renamed.setName("Preact");
+        renamed.setNormalizedName(Skill.normalizeName("Preact"));
+
+        dictionary.put(renamed);
+
+        assertEquals(List.of("docker", "java", "preact"), names());
+        assertEquals(id, dictionary.findByNormalizedName("preact").orElseThrow().id());
+        assertTrue(dictionary.findByNormalizedName("react").isEmpty());
+    }
+
+    @Test
+    public void testRemove_dropsEntryFromAllViews() {
+        Long id = dictionary.findByNormalizedName("java").orElseThrow().id();
+
+        dictionary.remove(id);
+
+        assertEquals(List.of("docker", "react"), names());
+        assertTrue(dictionary.findById(id).isEmpty());
+    }
+
+    @Test
+    public void testPut_batchedUntilCommitAndPublishedOnce() {
+        long before = dictionary.generation();
+        TransactionSynchronizationManager.initSynchronization();
+
+        dictionary.put(new Skill("Go"));
+        dictionary.put(new Skill("Rust"));
+        assertTrue(dictionary.findByNormalizedName("go").isEmpty());
+
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        assertEquals(1, synchronizations.size());
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+        synchronizations.forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+        assertEquals(before + 1, dictionary.generation());
+        assertEquals(List.of("docker", "go", "java", "react", "rust"), names());
+    }
+
+    @Test
+    public void testRefresh_picksUpRowCommittedAfterLaterVersion() {
+        // Go was flushed before Rust but committed after it: the first refresh only sees Rust
+        Skill go = skill("Go", T0.plusSeconds(10));
+        Skill rust = skill("Rust", T0.plusSeconds(20));
+        when(skillRepository.findDictionaryVersion()).thenReturn(List.<Object[]>of(new Object[]{rust.getUpdatedAt(), 4L}));
+        when(skillRepository.findByUpdatedAtGreaterThanEqual(any())).thenReturn(List.of(rust));
+        dictionary.refresh();
+        assertEquals(List.of("docker", "java", "react", "rust"), names());
+
+        when(skillRepository.findDictionaryVersion()).thenReturn(List.<Object[]>of(new Object[]{rust.getUpdatedAt(), 5L}));
+        when(skillRepository.findByUpdatedAtGreaterThanEqual(T0.plusSeconds(20).minusSeconds(300)))
+                .thenReturn(List.of(go, rust));
+        dictionary.refresh();
+
+        assertEquals(List.of("docker", "go", "java", "react", "rust"), names());
+        verify(skillRepository, times(1)).findAll();
+    }
+
+    @Test
+    public void testRefresh_unchangedWindowKeepsGeneration() {
+        long before = dictionary.generation();
+        List<Skill> rows = skillRepository.findAll();
+        when(skillRepository.findDictionaryVersion()).thenReturn(List.<Object[]>of(new Object[]{T0, 3L}));
+        when(skillRepository.findByUpdatedAtGreaterThanEqual(any())).thenReturn(rows);
+
+        dictionary.refresh();
+
+        assertEquals(before, dictionary.generation());
+    }
+}
@@ -0,0 +1,63 @@
+package com.ADP.peerConnect.service;
+
+import com.ADP.peerConnect.repository.ProjectSkillRepository;
+import com.ADP.peerConnect.repository.UserSkillRepository;
+import com.ADP.peerConnect.service.cache.SkillDictionary;
+import com.ADP.peerConnect.service.cache.SkillTrends;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class SkillTrendsTest {
+
+    private UserSkillRepository userSkillRepository;
+    private SkillTrends trends;
+
+    @BeforeEach
+    public void setup() {
+        userSkillRepository = mock(UserSkillRepository.class);
+        ProjectSkillRepository projectSkillRepository = mock(ProjectSkillRepository.class);
+        SkillDictionary skillDictionary = mock(SkillDictionary.class);
+        when(skillDictionary.all()).thenReturn(List.of());
+        when(projectSkillRepository.countAdoptionsByHourSince(any())).thenReturn(List.of());
+        trends = new SkillTrends(userSkillRepository, projectSkillRepository, skillDictionary, new int[]{1, 7, 30});
+    }
+
+    @Test
+    public void testTrending_keepsRankingBeyondFirstHundred() {
+        List<Object[]> rows = new ArrayList<>();
+        LocalDateTime hour = LocalDateTime.now().withMinute(0).withSecond(0).withNano(0);
+        for (long skill = 1; skill <= 150; skill++) {
+            rows.add(new Object[]{skill, hour, 1000 - skill});
+        }
+        when(userSkillRepository.countAdoptionsByHourSince(any())).thenReturn(rows);
+
+        List<SkillTrends.Trend> ranking = trends.trending(30);
+
+        assertEquals(150, ranking.size());
+        assertEquals(1L, ranking.get(0).skillId());
+        assertEquals(150L, ranking.get(149).skillId());
+    }
+
+    @Test
+    public void testReload_keepsAdoptionsRecordedDuringTheRead() {
+        when(userSkillRepository.countAdoptionsByHourSince(any())).thenAnswer(invocation -> {
+            // commits while the reload is reading; the table read did not see it
+            trends.userAdopted(7L);
+            return List.of();
+        });
+
+        List<SkillTrends.Trend> ranking = trends.trending(1);
+
+        assertEquals(1, ranking.size());
+        assertEquals(7L, ranking.get(0).skillId());
+        assertEquals(1, ranking.get(0).users());
+    }
+}
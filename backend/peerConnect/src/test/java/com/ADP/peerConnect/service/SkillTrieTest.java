@@ -0,0 +1,66 @@
+package com.ADP.peerConnect.service;
+
+import com.ADP.peerConnect.model.entity.Skill;
+import com.ADP.peerConnect.service.cache.SkillDictionary;
+import com.ADP.peerConnect.service.cache.SkillTrie;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SkillTrieTest {
+
+    private static SkillDictionary.Entry entry(String name, int usersCount) {
+        return new SkillDictionary.Entry(Skill.generateIdFromName(name), name, Skill.normalizeName(name),
+                "General", false, usersCount, 0, null);
+    }
+
+    private static List<String> names(List<SkillDictionary.Entry> entries) {
+        return entries.stream().map(SkillDictionary.Entry::name).toList();
+    }
+
+    private final SkillTrie trie = SkillTrie.build(List.of(
+            entry("Java", 50),
+            entry("JavaScript", 80),
+            entry("Spring Boot", 40),
+            entry("Spring", 45),
+            entry("Node.js", 30),
+            entry("Docker", 60)));
+
+    @Test
+    public void testComplete_prefixOrderedByUsage() {
+        assertEquals(List.of("JavaScript", "Java"), names(trie.complete("ja", 10)));
+        assertEquals(List.of("JavaScript"), names(trie.complete("javas", 10)));
+        assertEquals(List.of("JavaScript"), names(trie.complete("ja", 1)));
+    }
+
+    @Test
+    public void testComplete_matchesWordStarts() {
+        assertEquals(List.of("Spring Boot"), names(trie.complete("boo", 10)));
+        assertEquals(List.of("Node.js"), names(trie.complete("JS", 10)));
+        assertEquals(List.of("Spring", "Spring Boot"), names(trie.complete("  Spring ", 10)));
+        assertTrue(trie.complete("script", 10).isEmpty());
+    }
+
+    @Test
+    public void testComplete_noMatchOrEmptyPrefix() {
+        assertTrue(trie.complete("python", 10).isEmpty());
+        assertTrue(trie.complete("javax", 10).isEmpty());
+        assertEquals(List.of("JavaScript", "Docker", "Java"), names(trie.complete("", 3)));
+    }
+
+    @Test
+    public void testComplete_limitAboveNodeTopScansRange() {
+        List<SkillDictionary.Entry> entries = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            entries.add(entry("Skill " + i, i));
+        }
+        List<SkillDictionary.Entry> result = SkillTrie.build(entries).complete("skill", 30);
+
+        assertEquals(30, result.size());
+        assertEquals("Skill 39", result.get(0).name());
+        assertEquals("Skill 10", result.get(29).name());
+    }
+}
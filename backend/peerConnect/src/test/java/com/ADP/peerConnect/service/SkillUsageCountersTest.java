@@ -0,0 +1,136 @@
+package com.ADP.peerConnect.service;
+
+import com.ADP.peerConnect.service.cache.SkillDictionary;
+import com.ADP.peerConnect.service.job.SkillUsageCounters;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+public class SkillUsageCountersTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private SkillDictionary skillDictionary;
+    private SkillUsageCounters counters;
+
+    @BeforeEach
+    public void setup() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        skillDictionary = mock(SkillDictionary.class);
+        counters = new SkillUsageCounters(jdbcTemplate, skillDictionary);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    /**
+     * Flushed deltas as skill id -> (users, projects), from the batch arguments.
+     */
+    @SuppressWarnings("unchecked")
+    private Map<Long, List<Long>> flushed(int times) {
+        ArgumentCaptor<List<Object[]>> args = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate, times(times)).batchUpdate(anyString(), args.capture());
+        Map<Long, List<Long>> deltas = new HashMap<>();
+        for (Object[] row : args.getValue()) {
+            deltas.put((Long) row[2], List.of((Long) row[0], (Long) row[1]));
+        }
+        return deltas;
+    }
+
+    private static void complete(int status) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        if (status == TransactionSynchronization.STATUS_COMMITTED) {
+            synchronizations.forEach(TransactionSynchronization::afterCommit);
+        }
+        synchronizations.forEach(s -> s.afterCompletion(status));
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    public void testFlush_appliesDeltasOnlyAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        counters.addUsers(1L, 1);
+
+        counters.flush();
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+        counters.flush();
+
+        assertEquals(Map.of(1L, List.of(1L, 0L)), flushed(1));
+    }
+
+    @Test
+    public void testFlush_rollbackDropsDeltas() {
+        TransactionSynchronizationManager.initSynchronization();
+        counters.addUsers(1L, 1);
+        counters.addProjects(2L, 1);
+
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+        counters.flush();
+
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+        verify(skillDictionary, never()).adjustCounts(anyMap());
+    }
+
+    @Test
+    public void testFlush_sumsPerSkillInOneBatch() {
+        counters.addUsers(1L, 1);
+        counters.addUsers(1L, 1);
+        counters.addUsers(1L, -1);
+        counters.addUsers(2L, -1);
+        counters.addProjects(1L, 1);
+        counters.addProjects(3L, 1);
+        counters.addProjects(3L, 1);
+        counters.addUsers(4L, 1);
+        counters.addUsers(4L, -1);
+
+        counters.flush();
+
+        Map<Long, List<Long>> deltas = flushed(1);
+        assertEquals(Map.of(
+                1L, List.of(1L, 1L),
+                2L, List.of(-1L, 0L),
+                3L, List.of(0L, 2L)), deltas);
+        verify(skillDictionary).adjustCounts(anyMap());
+
+        counters.flush();
+        verifyNoMoreInteractions(jdbcTemplate);
+    }
+
+    @Test
+    public void testFlush_failedBatchPutsDeltasBack() {
+        when(jdbcTemplate.batchUpdate(anyString(), anyList()))
+                .thenThrow(new DataAccessResourceFailureException("connection lost"))
+                .thenReturn(new int[]{1, 1});
+        counters.addUsers(1L, 2);
+        counters.addProjects(2L, 1);
+
+        counters.flush();
+        verify(skillDictionary, never()).adjustCounts(anyMap());
+
+        counters.addUsers(1L, 1);
+        counters.flush();
+
+        assertEquals(Map.of(1L, List.of(3L, 0L), 2L, List.of(0L, 1L)), flushed(2));
+        verify(skillDictionary, times(1)).adjustCounts(anyMap());
+    }
+}
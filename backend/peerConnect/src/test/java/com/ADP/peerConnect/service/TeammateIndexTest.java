@@ -0,0 +1,113 @@
+package com.ADP.peerConnect.service;
+
+import com.ADP.peerConnect.model.enums.AvailabilityStatus;
+import com.ADP.peerConnect.model.enums.SkillLevel;
+import com.ADP.peerConnect.repository.UserRepository;
+import com.ADP.peerConnect.repository.UserSkillRepository;
+import com.ADP.peerConnect.service.cache.TeammateIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+public class TeammateIndexTest {
+
+    private static final long JAVA = 1L;
+    private static final long DOCKER = 2L;
+    private static final long REACT = 3L;
+
+    private UserRepository userRepository;
+    private UserSkillRepository userSkillRepository;
+    private TeammateIndex index;
+
+    @BeforeEach
+    public void setup() {
+        userRepository = mock(UserRepository.class);
+        userSkillRepository = mock(UserSkillRepository.class);
+        when(userRepository.findStudentAvailability()).thenReturn(List.<Object[]>of(
+                new Object[]{"lead", AvailabilityStatus.AVAILABLE},
+                new Object[]{"expert", AvailabilityStatus.AVAILABLE},
+                new Object[]{"beginner", AvailabilityStatus.AVAILABLE},
+                new Object[]{"partial", AvailabilityStatus.AVAILABLE},
+                new Object[]{"offline", AvailabilityStatus.OFFLINE}));
+        when(userSkillRepository.findUserIdSkillIdAndLevel()).thenReturn(List.<Object[]>of(
+                new Object[]{"lead", JAVA, SkillLevel.ADVANCED},
+                new Object[]{"expert", DOCKER, SkillLevel.ADVANCED},
+                new Object[]{"expert", REACT, SkillLevel.ADVANCED},
+                new Object[]{"beginner", DOCKER, SkillLevel.BEGINNER},
+                new Object[]{"beginner", REACT, SkillLevel.BEGINNER},
+                new Object[]{"partial", DOCKER, SkillLevel.ADVANCED},
+                new Object[]{"offline", DOCKER, SkillLevel.ADVANCED},
+                new Object[]{"offline", REACT, SkillLevel.ADVANCED}));
+        index = new TeammateIndex(userRepository, userSkillRepository);
+    }
+
+    private static List<String> ids(List<TeammateIndex.Match> matches) {
+        return matches.stream().map(TeammateIndex.Match::userId).toList();
+    }
+
+    @Test
+    public void testFindTeammates_ranksByCoverageLevelAndAvailability() {
+        List<TeammateIndex.Match> matches = index.findTeammates(List.of(JAVA, DOCKER, REACT), List.of("lead"), 10);
+
+        // full coverage at the top level and available: 0.6 + 0.25 + 0.15
+        assertEquals(List.of("expert", "offline", "beginner", "partial"), ids(matches));
+        assertEquals(1.0, matches.get(0).score(), 1e-9);
+        assertEquals(0.85, matches.get(1).score(), 1e-9);
+        assertEquals(0.6 + 0.25 * 2 / 6 + 0.15, matches.get(2).score(), 1e-9);
+        assertEquals(0.3 + 0.25 * 3 / 6 + 0.15, matches.get(3).score(), 1e-9);
+        assertEquals(2, matches.get(0).coveredSkills());
+        assertEquals(List.of(DOCKER, REACT), matches.get(0).coveredSkillIds());
+        assertEquals(List.of(DOCKER), matches.get(3).coveredSkillIds());
+    }
+
+    @Test
+    public void testFindTeammates_excludesTeam() {
+        List<TeammateIndex.Match> matches =
+                index.findTeammates(List.of(DOCKER, REACT), List.of("lead", "offline"), 10);
+
+        assertEquals(List.of("expert", "beginner", "partial"), ids(matches));
+    }
+
+    @Test
+    public void testFindTeammates_teamCoversEverythingRanksByFullRequirement() {
+        List<TeammateIndex.Match> matches = index.findTeammates(List.of(DOCKER, REACT), List.of("expert"), 2);
+
+        assertEquals(List.of("offline", "beginner"), ids(matches));
+        assertEquals(List.of(DOCKER, REACT), matches.get(0).coveredSkillIds());
+    }
+
+    @Test
+    public void testReindex_removesUser() {
+        index.findTeammates(List.of(DOCKER), List.of(), 10);
+        when(userSkillRepository.findUserIdSkillIdAndLevelByUserIds(anyCollection())).thenReturn(List.of());
+        when(userRepository.findStudentAvailabilityByIds(anyCollection())).thenReturn(List.of());
+
+        index.reindex("expert");
+
+        assertFalse(ids(index.findTeammates(List.of(DOCKER, REACT), List.of(), 10)).contains("expert"));
+    }
+
+    @Test
+    public void testReindex_replaysUsersChangedDuringBuild() {
+        List<Object[]> rows = userRepository.findStudentAvailability();
+        when(userRepository.findStudentAvailability()).thenAnswer(invocation -> {
+            // went offline and committed while the build is reading
+            index.reindex("expert");
+            return rows;
+        });
+        when(userSkillRepository.findUserIdSkillIdAndLevelByUserIds(anyCollection())).thenReturn(List.<Object[]>of(
+                new Object[]{"expert", DOCKER, SkillLevel.ADVANCED},
+                new Object[]{"expert", REACT, SkillLevel.ADVANCED}));
+        when(userRepository.findStudentAvailabilityByIds(anyCollection())).thenReturn(List.<Object[]>of(
+                new Object[]{"expert", AvailabilityStatus.OFFLINE}));
+
+        List<TeammateIndex.Match> matches = index.findTeammates(List.of(DOCKER, REACT), List.of(), 10);
+
+        assertEquals(0.85, matches.get(0).score(), 1e-9);
+    }
+}
@@ -0,0 +1,126 @@
+package com.ADP.peerConnect.service;
+
+import com.ADP.peerConnect.model.dto.response.PagedResponse;
+import com.ADP.peerConnect.model.dto.response.UserCardResponse;
+import com.ADP.peerConnect.model.entity.Skill;
+import com.ADP.peerConnect.model.entity.User;
+import com.ADP.peerConnect.model.entity.UserSkill;
+import com.ADP.peerConnect.model.enums.AvailabilityStatus;
+import com.ADP.peerConnect.model.enums.SkillLevel;
+import com.ADP.peerConnect.service.Impl.UserService;
+import com.ADP.peerConnect.service.cache.UserSearchIndex;
+import com.ADP.peerConnect.service.job.EmbeddingJobOutbox;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * Statement-count harness for the user card read path, against a real JPA stack: whatever
+ * the page size, building a page of cards must cost the page query, the count query and one
+ * skills query. Any per-user lazy load (an N+1 regression) shows up in Hibernate's
+ * prepared-statement count.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Import(UserService.class)
+public class UserCardReadPathTest {
+
+    private static final int USERS = 60;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @MockitoBean
+    private UserSearchIndex userSearchIndex;
+
+    @MockitoBean
+    private EmbeddingJobOutbox embeddingJobOutbox;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    public void setup() {
+        Skill java = entityManager.persist(new Skill("Java"));
+        Skill docker = entityManager.persist(new Skill("Docker"));
+        for (int i = 0; i < USERS; i++) {
+            User user = new User();
+            user.setId("u" + i);
+            user.setEmail("user" + i + "@example.com");
+            user.setPassword("password" + i);
+            user.setFirstName("First" + i);
+            user.setLastName("Last" + i);
+            user.setBranch("CSE");
+            user.setAvailabilityStatus(AvailabilityStatus.AVAILABLE);
+            user.setCreatedAt(LocalDateTime.now());
+            entityManager.persist(user);
+            entityManager.persist(new UserSkill(user, java, SkillLevel.INTERMEDIATE));
+            entityManager.persist(new UserSkill(user, docker, SkillLevel.BEGINNER));
+        }
+        entityManager.flush();
+        entityManager.clear();
+        // the inserts above reach the index through UserIndexListener
+        clearInvocations(userSearchIndex);
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    private long statementsFor(int page, int size) {
+        statistics.clear();
+        PagedResponse<UserCardResponse> cards =
+                userService.searchUserCards("first", null, null, null, null, PageRequest.of(page, size));
+        assertEquals(USERS, cards.getTotalElements());
+        entityManager.clear();
+        return statistics.getPrepareStatementCount();
+    }
+
+    @Test
+    public void testSearchUserCards_constantStatementsForAnyPageSize() {
+        assertEquals(3, statementsFor(0, 5));
+        assertEquals(3, statementsFor(0, 50));
+        verifyNoInteractions(userSearchIndex);
+    }
+
+    @Test
+    public void testSearchUserCards_fillsSkillsFromOneQuery() {
+        PagedResponse<UserCardResponse> page =
+                userService.searchUserCards("first7", null, null, null, null, PageRequest.of(0, 10));
+
+        assertEquals(List.of("Docker", "Java"), page.getContent().get(0).getSkills());
+    }
+
+    @Test
+    public void testSearchUserCards_emptyPageSkipsSkillsQuery() {
+        statistics.clear();
+        PagedResponse<UserCardResponse> page =
+                userService.searchUserCards("nobody", null, null, null, null, PageRequest.of(3, 10));
+
+        assertTrue(page.getContent().isEmpty());
+        // page query and count query only
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+}
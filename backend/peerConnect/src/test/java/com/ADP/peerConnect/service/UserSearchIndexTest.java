@@ -0,0 +1,114 @@
+package com.ADP.peerConnect.service;
+
+import com.ADP.peerConnect.model.enums.AvailabilityStatus;
+import com.ADP.peerConnect.repository.UserRepository;
+import com.ADP.peerConnect.repository.UserSkillRepository;
+import com.ADP.peerConnect.service.cache.UserSearchIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+public class UserSearchIndexTest {
+
+    private UserRepository userRepository;
+    private UserSkillRepository userSkillRepository;
+    private UserSearchIndex index;
+
+    // id, first name, last name, picture, branch, graduation year, availability
+    private static Object[] user(String id, String firstName, String lastName, String branch) {
+        return new Object[]{id, firstName, lastName, null, branch, 2026, AvailabilityStatus.AVAILABLE};
+    }
+
+    @BeforeEach
+    public void setup() {
+        userRepository = mock(UserRepository.class);
+        userSkillRepository = mock(UserSkillRepository.class);
+        when(userRepository.findSearchRows()).thenReturn(List.of(
+                user("u1", "Maria", "Lopez", "CSE"),
+                user("u2", "Mario", "Rossi", "ECE"),
+                user("u3", "Anand", "Kumar", "CSE")));
+        when(userSkillRepository.findUserIdAndSkillNames()).thenReturn(List.<Object[]>of(
+                new Object[]{"u1", "Java"},
+                new Object[]{"u3", "Java"}));
+        index = new UserSearchIndex(userRepository, userSkillRepository);
+    }
+
+    private List<String> ids(UserSearchIndex.SearchPage page) {
+        return page.hits().stream().map(UserSearchIndex.Hit::id).toList();
+    }
+
+    @Test
+    public void testSearch_matchesNameThroughTrigrams() {
+        List<String> ids = ids(index.search("kumar", null, null, null, null, null, 10));
+
+        assertEquals(List.of("u3"), ids);
+    }
+
+    @Test
+    public void testSearch_ranksExactPrefixAboveSimilarName() {
+        List<String> ids = ids(index.search("maria", null, null, null, null, null, 10));
+
+        assertEquals("u1", ids.get(0));
+        assertFalse(ids.contains("u3"));
+    }
+
+    @Test
+    public void testSearch_appliesFiltersBeforeScoring() {
+        List<String> ids = ids(index.search("mari", "cse", null, null, List.of("JAVA"), null, 10));
+
+        assertEquals(List.of("u1"), ids);
+    }
+
+    @Test
+    public void testSearch_repeatedQueriesDoNotCarryCounts() {
+        List<String> first = ids(index.search("mario", null, null, null, null, null, 10));
+        List<String> second = ids(index.search("mario", null, null, null, null, null, 10));
+
+        assertEquals(first, second);
+    }
+
+    @Test
+    public void testReindex_picksUpRenamedUser() {
+        index.search("anand", null, null, null, null, null, 10);
+        when(userSkillRepository.findUserIdAndSkillNamesByUserIds(anyCollection())).thenReturn(List.of());
+        when(userRepository.findSearchRowsByIds(anyCollection())).thenReturn(List.<Object[]>of(
+                user("u3", "Priya", "Kumar", "CSE")));
+
+        index.reindex("u3");
+
+        assertTrue(ids(index.search("anand", null, null, null, null, null, 10)).isEmpty());
+        assertEquals(List.of("u3"), ids(index.search("priya", null, null, null, null, null, 10)));
+    }
+
+    @Test
+    public void testReindex_removesDeletedUser() {
+        index.search("kumar", null, null, null, null, null, 10);
+        when(userSkillRepository.findUserIdAndSkillNamesByUserIds(anyCollection())).thenReturn(List.of());
+        when(userRepository.findSearchRowsByIds(anyCollection())).thenReturn(List.of());
+
+        index.reindex("u3");
+
+        assertTrue(ids(index.search("kumar", null, null, null, null, null, 10)).isEmpty());
+    }
+
+    @Test
+    public void testReindex_replaysUsersChangedDuringBuild() {
+        List<Object[]> rows = userRepository.findSearchRows();
+        when(userRepository.findSearchRows()).thenAnswer(invocation -> {
+            // renamed and committed while the build is reading
+            index.reindex("u3");
+            return rows;
+        });
+        when(userSkillRepository.findUserIdAndSkillNamesByUserIds(anyCollection())).thenReturn(List.of());
+        when(userRepository.findSearchRowsByIds(anyCollection())).thenReturn(List.<Object[]>of(
+                user("u3", "Priya", "Kumar", "CSE")));
+
+        assertEquals(List.of("u3"), ids(index.search("priya", null, null, null, null, null, 10)));
+        assertTrue(ids(index.search("anand", null, null, null, null, null, 10)).isEmpty());
+    }
+}
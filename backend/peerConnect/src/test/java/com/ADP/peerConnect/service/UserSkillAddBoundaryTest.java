@@ -0,0 +1,120 @@
+package com.ADP.peerConnect.service;
+
+import com.ADP.peerConnect.model.dto.response.UserSkillResponse;
+import com.ADP.peerConnect.model.entity.Skill;
+import com.ADP.peerConnect.model.entity.User;
+import com.ADP.peerConnect.model.entity.UserSkill;
+import com.ADP.peerConnect.model.enums.AvailabilityStatus;
+import com.ADP.peerConnect.model.enums.SkillLevel;
+import com.ADP.peerConnect.repository.SkillRepository;
+import com.ADP.peerConnect.repository.UserRepository;
+import com.ADP.peerConnect.repository.UserSkillRepository;
+import com.ADP.peerConnect.service.Impl.SkillService;
+import com.ADP.peerConnect.service.Impl.UserService;
+import com.ADP.peerConnect.service.Impl.UserSkillService;
+import com.ADP.peerConnect.service.cache.SkillAutocomplete;
+import com.ADP.peerConnect.service.cache.SkillCooccurrenceIndex;
+import com.ADP.peerConnect.service.cache.SkillDictionary;
+import com.ADP.peerConnect.service.cache.SkillTrends;
+import com.ADP.peerConnect.service.cache.UserSearchIndex;
+import com.ADP.peerConnect.service.job.EmbeddingJobOutbox;
+import com.ADP.peerConnect.service.job.SkillUsageCounters;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+/**
+ * Adding a skill the dictionary already knows, the way SkillController does it: the service
+ * transaction commits and the response is built afterwards, with no open session
+ * (open-in-view is off). The returned skill must therefore be loaded, not a lazy reference.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+})
+@Import({UserSkillService.class, SkillService.class, UserService.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class UserSkillAddBoundaryTest {
+
+    @Autowired
+    private UserSkillService userSkillService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private SkillRepository skillRepository;
+
+    @Autowired
+    private UserSkillRepository userSkillRepository;
+
+    @MockitoBean
+    private SkillDictionary skillDictionary;
+
+    @MockitoBean
+    private SkillUsageCounters skillUsageCounters;
+
+    @MockitoBean
+    private SkillCooccurrenceIndex skillCooccurrenceIndex;
+
+    @MockitoBean
+    private SkillTrends skillTrends;
+
+    @MockitoBean
+    private SkillAutocomplete skillAutocomplete;
+
+    @MockitoBean
+    private UserSearchIndex userSearchIndex;
+
+    @MockitoBean
+    private EmbeddingJobOutbox embeddingJobOutbox;
+
+    private Skill java;
+
+    @BeforeEach
+    public void setup() {
+        User user = new User();
+        user.setId("u1");
+        user.setEmail("u1@example.com");
+        user.setPassword("password");
+        user.setFirstName("First");
+        user.setLastName("Last");
+        user.setBranch("CSE");
+        user.setAvailabilityStatus(AvailabilityStatus.AVAILABLE);
+        user.setCreatedAt(LocalDateTime.now());
+        userRepository.save(user);
+        java = skillRepository.save(new Skill("Java", "Programming", false));
+        when(skillDictionary.findByNormalizedName("java"))
+                .thenReturn(Optional.of(new SkillDictionary.Entry(java.getId(), "Java", "java", "Programming",
+                        false, 0, 0, null)));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        userSkillRepository.deleteAll();
+        skillRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    public void testAddUserSkill_knownSkillResponseBuiltAfterCommit() {
+        UserSkill userSkill = userSkillService.addUserSkill("u1", "Java", SkillLevel.ADVANCED, null, null);
+
+        UserSkillResponse response = new UserSkillResponse(userSkill);
+
+        assertEquals("Java", response.getSkill().getName());
+        assertEquals("Programming", response.getSkill().getCategory());
+    }
+}
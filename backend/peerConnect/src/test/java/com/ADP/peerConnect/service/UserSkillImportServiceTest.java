@@ -0,0 +1,221 @@
+package com.ADP.peerConnect.service;
+
+import com.ADP.peerConnect.model.dto.response.UserSkillImportResponse;
+import com.ADP.peerConnect.model.entity.Skill;
+import com.ADP.peerConnect.repository.UserRepository;
+import com.ADP.peerConnect.repository.UserSkillRepository;
+import com.ADP.peerConnect.service.Impl.SkillService;
+import com.ADP.peerConnect.service.Impl.UserSkillImportService;
+import com.ADP.peerConnect.service.cache.SkillCooccurrenceIndex;
+import com.ADP.peerConnect.service.cache.SkillTrends;
+import com.ADP.peerConnect.service.cache.TeammateIndex;
+import com.ADP.peerConnect.service.cache.UserSearchIndex;
+import com.ADP.peerConnect.service.job.EmbeddingJobOutbox;
+import com.ADP.peerConnect.service.job.SkillUsageCounters;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+public class UserSkillImportServiceTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Spy
+    private TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private UserSkillRepository userSkillRepository;
+
+    @Mock
+    private SkillService skillService;
+
+    @Mock
+    private SkillUsageCounters skillUsageCounters;
+
+    @Mock
+    private SkillTrends skillTrends;
+
+    @Mock
+    private UserSearchIndex userSearchIndex;
+
+    @Mock
+    private TeammateIndex teammateIndex;
+
+    @Mock
+    private SkillCooccurrenceIndex skillCooccurrenceIndex;
+
+    @Mock
+    private EmbeddingJobOutbox embeddingJobOutbox;
+
+    @InjectMocks
+    private UserSkillImportService importService;
+
+    private AutoCloseable mocks;
+
+    // parameters of each INSERT statement, and the (user, skill) pairs that already exist
+    private final List<Object[]> inserts = new ArrayList<>();
+    private final Set<List<Object>> conflicting = new HashSet<>();
+
+    private final Skill javaSkill = new Skill("Java", "General", false);
+    private final Skill dockerSkill = new Skill("Docker", "General", false);
+
+    @BeforeEach
+    public void setup() {
+        mocks = MockitoAnnotations.openMocks(this);
+        List<Object[]> users = new ArrayList<>();
+        users.add(new Object[]{"u1", "ada@example.com"});
+        users.add(new Object[]{"u2", "linus@example.com"});
+        when(userRepository.findIdAndEmailByIdInOrEmailIn(anyCollection(), anyCollection())).thenReturn(users);
+        when(skillService.findOrCreateSkills(anyMap())).thenReturn(Map.of("java", javaSkill, "docker", dockerSkill));
+        List<Object[]> owned = new ArrayList<>();
+        owned.add(new Object[]{"u2", javaSkill.getId(), null});
+        when(userSkillRepository.findUserIdSkillIdAndLevelByUserIds(anyCollection())).thenReturn(owned);
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), any(Object[].class))).thenAnswer(inv -> {
+            RowMapper<?> mapper = inv.getArgument(1);
+            Object[] args = (Object[]) inv.getRawArguments()[2];
+            inserts.add(args);
+            List<Object> returned = new ArrayList<>();
+            for (int i = 0; i < args.length; i += 4) {
+                if (conflicting.contains(List.of(args[i], args[i + 1]))) {
+                    continue;
+                }
+                ResultSet rs = mock(ResultSet.class);
+                when(rs.getString("user_id")).thenReturn((String) args[i]);
+                when(rs.getLong("skill_id")).thenReturn((Long) args[i + 1]);
+                returned.add(mapper.mapRow(rs, returned.size()));
+            }
+            return returned;
+        });
+    }
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        if (mocks != null) {
+            mocks.close();
+        }
+    }
+
+    @Test
+    public void testImportCsv_insertsNewRowsInOneStatement() {
+        String csv = "user,skill,level,experience\n"
+                + "ADA@example.com,Java,advanced,\"Built a compiler, twice\"\n"
+                + "u1,  docker ,Intermediate,\n"
+                + "u2,java,BEGINNER,\n"
+                + "u1,Docker,BEGINNER,\n"
+                + "nobody@example.com,Java,BEGINNER,\n"
+                + "u2,Java,EXPERT,\n";
+
+        UserSkillImportResponse report = importService.importCsv(
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals(6, report.getRowsRead());
+        assertEquals(2, report.getInserted());
+        assertEquals(2, report.getSkipped());
+        assertEquals(2, report.getRejected());
+
+        assertEquals(1, inserts.size());
+        assertArrayEquals(new Object[]{
+                "u1", javaSkill.getId(), "ADVANCED", "Built a compiler, twice",
+                "u1", dockerSkill.getId(), "INTERMEDIATE", null}, inserts.get(0));
+
+        verify(userRepository, times(1)).findIdAndEmailByIdInOrEmailIn(anyCollection(), anyCollection());
+        verify(skillService, times(1)).findOrCreateSkills(anyMap());
+        verify(skillUsageCounters).addUsers(javaSkill.getId(), 1);
+        verify(skillUsageCounters).addUsers(dockerSkill.getId(), 1);
+        verify(userSearchIndex, times(1)).reindex("u1");
+        verify(teammateIndex, times(1)).reindex("u1");
+    }
+
+    @Test
+    public void testImportCsv_rowInsertedConcurrentlyCountedAsSkipped() {
+        conflicting.add(List.of("u1", dockerSkill.getId()));
+        String csv = "user,skill,level\n"
+                + "u1,Java,BEGINNER\n"
+                + "u1,Docker,BEGINNER\n";
+
+        UserSkillImportResponse report = importService.importCsv(
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals(1, report.getInserted());
+        assertEquals(1, report.getSkipped());
+        verify(skillUsageCounters).addUsers(javaSkill.getId(), 1);
+        verify(skillUsageCounters, never()).addUsers(eq(dockerSkill.getId()), anyInt());
+        verify(skillTrends, never()).userAdopted(dockerSkill.getId());
+    }
+
+    @Test
+    public void testImportJson_streamsArray() {
+        String json = "[{\"user\":\"u1\",\"skill\":\"Java\",\"level\":\"VIBE_CODING\",\"extra\":1},"
+                + "{\"user\":\"\",\"skill\":\"Java\",\"level\":\"BEGINNER\"}]";
+
+        UserSkillImportResponse report = importService.importJson(
+                new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals(2, report.getRowsRead());
+        assertEquals(1, report.getInserted());
+        assertEquals(1, report.getRejected());
+        assertEquals("row 2: user is required", report.getErrors().get(0));
+    }
+
+    @Test
+    public void testImportJson_rejectsNonObjectElements() {
+        String json = "[{\"user\":\"u1\",\"skill\":\"Java\",\"level\":\"BEGINNER\"}, 42, [\"u1\", \"Java\"],"
+                + "{\"user\":\"u1\",\"skill\":\"Docker\",\"level\":\"BEGINNER\"}]";
+
+        UserSkillImportResponse report = importService.importJson(
+                new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals(4, report.getRowsRead());
+        assertEquals(2, report.getInserted());
+        assertEquals(2, report.getRejected());
+        assertEquals("row 2: expected a JSON object, found 42", report.getErrors().get(0));
+        assertEquals("row 3: expected a JSON object, found [", report.getErrors().get(1));
+    }
+
+    @Test
+    public void testImportCsv_rolledBackChunkCountedOnce() {
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), any(Object[].class)))
+                .thenThrow(new IllegalStateException("deadlock"));
+        String csv = "user,skill,level\n"
+                + "nobody@example.com,Java,BEGINNER\n"
+                + "u1,Docker,BEGINNER\n";
+
+        UserSkillImportResponse report = importService.importCsv(
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals(2, report.getRowsRead());
+        assertEquals(0, report.getInserted());
+        assertEquals(2, report.getRejected());
+        assertEquals(2, report.getErrors().size());
+        assertTrue(report.getErrors().get(0).startsWith("row 2: chunk failed"));
+    }
+}
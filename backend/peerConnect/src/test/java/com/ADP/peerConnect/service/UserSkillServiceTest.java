@@ -10,6 +10,7 @@ import com.ADP.peerConnect.repository.UserSkillRepository;
 import com.ADP.peerConnect.service.Impl.UserSkillService;
 import com.ADP.peerConnect.service.Impl.UserService;
 import com.ADP.peerConnect.service.Impl.SkillService;
+import com.ADP.peerConnect.service.job.EmbeddingJobOutbox;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -19,6 +20,7 @@ import org.mockito.MockitoAnnotations;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
@@ -35,6 +37,9 @@ public class UserSkillServiceTest {
     @Mock
     private SkillService skillService;
 
+    @Mock
+    private EmbeddingJobOutbox embeddingJobOutbox;
+
     @InjectMocks
     private UserSkillService userSkillService;
 
@@ -71,13 +76,10 @@ public class UserSkillServiceTest {
         r2.setSkillName("Python");
         r2.setLevel(SkillLevel.INTERMEDIATE);
 
-        when(userSkillRepository.existsByUserIdAndSkillNameIgnoreCase(any(), any())).thenReturn(false);
-
         Skill s1 = new Skill(); s1.setName("Java");
         Skill s2 = new Skill(); s2.setName("Python");
 
-        when(skillService.findOrCreateSkill("Java")).thenReturn(s1);
-        when(skillService.findOrCreateSkill("Python")).thenReturn(s2);
+        when(skillService.findOrCreateSkills(anyMap())).thenReturn(Map.of("java", s1, "python", s2));
 
         when(userSkillRepository.saveAll(any())).thenAnswer(invocation -> invocation.getArgument(0));
 
@@ -85,5 +87,6 @@ public class UserSkillServiceTest {
 
         assertEquals(2, added.size());
         verify(skillService, times(2)).incrementUsers(any());
+        verify(embeddingJobOutbox, times(1)).userChanged("user1");
     }
 }
@@ -69,6 +69,7 @@ def process_job():
             cur.execute("""
                 SELECT id, payload, job_type FROM jobs_queue 
                 WHERE status = 'pending' 
+                  AND (next_attempt_at IS NULL OR next_attempt_at <= now())
                 LIMIT 1 FOR UPDATE SKIP LOCKED
             """)
             job = cur.fetchone()
@@ -138,6 +139,7 @@ def process_job():
                                         (1 - (p.requirements_vector <=> %s::vector)) as score
                                     FROM projects p
                                     WHERE p.requirements_vector IS NOT NULL
+                                      AND NOT p.is_deleted
                                 ) sub
                                 ORDER BY sub.score DESC
                                 LIMIT 10;
@@ -165,7 +167,7 @@ def process_job():
                         FROM projects p
                         LEFT JOIN project_skills ps ON p.id = ps.project_id
                         LEFT JOIN skills s ON ps.skill_id = s.id
-                        WHERE p.id = %s
+                        WHERE p.id = %s AND NOT p.is_deleted
                         GROUP BY p.id, p.description
                     """, (project_id,))
 